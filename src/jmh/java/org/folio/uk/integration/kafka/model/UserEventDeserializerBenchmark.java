@@ -0,0 +1,59 @@
+package org.folio.uk.integration.kafka.model;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures deserialization of {@code users.users} events.
+ *
+ * <p>Run with the {@code gc} profiler to compare allocation per event ({@code gc.alloc.rate.norm}):</p>
+ * <pre>
+ *   mvn -Pbenchmarks -DskipTests test-compile exec:exec -Djmh.args="UserEventDeserializerBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+public class UserEventDeserializerBenchmark {
+
+  private static final String TOPIC = "folio.testtenant.users.users";
+
+  @Param({"SMALL", "MEDIUM", "LARGE"})
+  private UserEventPayload payload;
+
+  private byte[] data;
+  private UserEventDeserializer treeDeserializer;
+  private StreamingUserEventDeserializer streamingDeserializer;
+
+  @Setup
+  public void setUp() {
+    var jsonMapper = new JsonMapper();
+    data = payload.toBytes(jsonMapper);
+    treeDeserializer = new UserEventDeserializer(jsonMapper);
+    streamingDeserializer = new StreamingUserEventDeserializer(jsonMapper);
+  }
+
+  @Benchmark
+  public UserEvent treeDeserializer() {
+    return treeDeserializer.deserialize(TOPIC, data);
+  }
+
+  @Benchmark
+  public UserEvent streamingDeserializer() {
+    return streamingDeserializer.deserialize(TOPIC, data);
+  }
+}
@@ -0,0 +1,107 @@
+package org.folio.uk.integration.kafka.model;
+
+import java.util.UUID;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Generates {@code users.users} event payloads of different sizes for deserialization benchmarks.
+ */
+public enum UserEventPayload {
+
+  /**
+   * User with personal data and without addresses and custom fields.
+   */
+  SMALL(0, 0),
+
+  /**
+   * User with a typical number of addresses and custom fields.
+   */
+  MEDIUM(3, 20),
+
+  /**
+   * User with many addresses and large custom fields, as produced by bulk patron imports with extended profiles.
+   */
+  LARGE(25, 200);
+
+  private static final String USER_ID = "d3958402-2f80-421b-a527-9933245a3556";
+  private static final String CUSTOM_FIELD_VALUE = "x".repeat(256);
+
+  private final int addressesCount;
+  private final int customFieldsCount;
+
+  UserEventPayload(int addressesCount, int customFieldsCount) {
+    this.addressesCount = addressesCount;
+    this.customFieldsCount = customFieldsCount;
+  }
+
+  /**
+   * Creates update event payload, which changes {@code active} flag of the user.
+   *
+   * @param jsonMapper - json mapper to serialize the payload
+   * @return serialized event payload
+   */
+  public byte[] toBytes(JsonMapper jsonMapper) {
+    var event = jsonMapper.createObjectNode()
+      .put("id", UUID.randomUUID().toString())
+      .put("type", "UPDATED")
+      .put("tenant", "testtenant")
+      .put("timestamp", 1778587321611L);
+
+    var data = event.putObject("data");
+    data.set("old", user(jsonMapper, false));
+    data.set("new", user(jsonMapper, true));
+    return jsonMapper.writeValueAsBytes(event);
+  }
+
+  private ObjectNode user(JsonMapper jsonMapper, boolean active) {
+    var user = jsonMapper.createObjectNode()
+      .put("username", "ZakirBailey")
+      .put("id", USER_ID)
+      .put("barcode", "1778587321611")
+      .put("active", active)
+      .put("type", "patron")
+      .put("patronGroup", "3684a786-6671-4268-8ed0-9db82ebca60b")
+      .put("enrollmentDate", "2026-05-01T00:00:00.000+00:00")
+      .put("expirationDate", "2027-05-11T23:59:59.999+00:00")
+      .put("createdDate", "2026-05-12T12:01:38.613+00:00")
+      .put("updatedDate", "2026-05-12T12:01:38.613+00:00");
+    user.putArray("departments").add(UUID.randomUUID().toString());
+    user.putArray("proxyFor");
+    user.putArray("preferredEmailCommunication").add("Programs");
+
+    var personal = user.putObject("personal")
+      .put("lastName", "Bailey")
+      .put("firstName", "Zakir")
+      .put("email", "ZakirBailey@example.com")
+      .put("phone", "+1 555 0100")
+      .put("dateOfBirth", "2002-05-16T00:00:00.000+00:00")
+      .put("preferredContactTypeId", "002");
+
+    var addresses = personal.putArray("addresses");
+    for (int i = 0; i < addressesCount; i++) {
+      addresses.addObject()
+        .put("id", UUID.randomUUID().toString())
+        .put("countryId", "US")
+        .put("addressLine1", i + " Main Street")
+        .put("addressLine2", "Apartment " + i)
+        .put("city", "Springfield")
+        .put("region", "IL")
+        .put("postalCode", "62701")
+        .put("addressTypeId", UUID.randomUUID().toString())
+        .put("primaryAddress", i == 0);
+    }
+
+    var customFields = user.putObject("customFields");
+    for (int i = 0; i < customFieldsCount; i++) {
+      customFields.put("customField" + i, CUSTOM_FIELD_VALUE);
+    }
+
+    user.putObject("metadata")
+      .put("createdDate", "2026-05-12T12:01:38.606+00:00")
+      .put("createdByUserId", "8c7aea55-6e09-4c9a-8b1a-326abd06bd46")
+      .put("updatedDate", "2026-05-12T12:01:38.606+00:00")
+      .put("updatedByUserId", "8c7aea55-6e09-4c9a-8b1a-326abd06bd46");
+    return user;
+  }
+}
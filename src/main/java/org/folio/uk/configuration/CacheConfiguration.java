@@ -1,7 +1,10 @@
 package org.folio.uk.configuration;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.ArrayList;
 import java.util.List;
+import org.folio.uk.integration.configuration.ModuleConfigurationCache;
+import org.folio.uk.service.CompositeUserCache;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
@@ -18,14 +21,31 @@ public class CacheConfiguration {
   private static final String KEYCLOAK_CONFIGURATION = "keycloak-configuration";
   private static final String KEYCLOAK_CLIENT_CONFIGURATION = "keycloak-client-configuration";
   private static final String TOKEN = "token";
+  private static final String KEYCLOAK_USER_ID = "keycloak-user-id";
 
   @Bean
   public CacheManager cacheManager(CacheProperties cacheProperties) {
-    var cacheManager = new SimpleCacheManager();
-    cacheManager.setCaches(List.of(
+    var caches = new ArrayList<>(List.of(
       buildCache(KEYCLOAK_CONFIGURATION, cacheProperties.keycloakConfiguration()),
       buildCache(KEYCLOAK_CLIENT_CONFIGURATION, cacheProperties.keycloakClientConfiguration()),
-      buildCache(TOKEN, cacheProperties.token())));
+      buildCache(TOKEN, cacheProperties.token()),
+      buildCache(KEYCLOAK_USER_ID, cacheProperties.keycloakUserId())));
+
+    var compositeUser = cacheProperties.compositeUser();
+    if (compositeUser != null && compositeUser.enabled()) {
+      caches.add(buildCache(CompositeUserCache.USER_CACHE, compositeUser.user()));
+      caches.add(buildCache(CompositeUserCache.PERMISSIONS_CACHE, compositeUser.permissions()));
+      caches.add(buildCache(CompositeUserCache.SERVICE_POINTS_CACHE, compositeUser.servicePoints()));
+    }
+
+    var moduleConfiguration = cacheProperties.moduleConfiguration();
+    if (moduleConfiguration != null && moduleConfiguration.enabled()) {
+      var spec = new CacheProperties.CacheSpec(moduleConfiguration.ttl(), moduleConfiguration.maxSize());
+      caches.add(buildCache(ModuleConfigurationCache.CACHE_NAME, spec));
+    }
+
+    var cacheManager = new SimpleCacheManager();
+    cacheManager.setCaches(caches);
     return cacheManager;
   }
 
@@ -33,6 +53,7 @@ public class CacheConfiguration {
     return new CaffeineCache(name, Caffeine.newBuilder()
       .maximumSize(spec.maxSize())
       .expireAfterWrite(spec.ttl())
+      .recordStats()
       .build());
   }
 }
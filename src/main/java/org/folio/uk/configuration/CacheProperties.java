@@ -7,8 +7,16 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 public record CacheProperties(
   CacheSpec keycloakConfiguration,
   CacheSpec keycloakClientConfiguration,
-  CacheSpec token
+  CacheSpec token,
+  CacheSpec keycloakUserId,
+  CompositeUserCacheSpec compositeUser,
+  RefreshingCacheSpec moduleConfiguration
 ) {
 
   public record CacheSpec(Duration ttl, long maxSize) {}
+
+  public record CompositeUserCacheSpec(boolean enabled, CacheSpec user, CacheSpec permissions,
+    CacheSpec servicePoints) {}
+
+  public record RefreshingCacheSpec(boolean enabled, Duration ttl, Duration refreshAfterWrite, long maxSize) {}
 }
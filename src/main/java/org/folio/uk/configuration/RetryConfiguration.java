@@ -1,16 +1,23 @@
 package org.folio.uk.configuration;
 
+import java.net.ConnectException;
 import java.util.List;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.folio.uk.integration.notify.NotificationProperties;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.classify.BinaryExceptionClassifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.retry.RetryCallback;
 import org.springframework.retry.RetryContext;
 import org.springframework.retry.RetryListener;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.retry.support.RetryTemplateBuilder;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
 
 @Log4j2
@@ -42,4 +49,33 @@ public class RetryConfiguration {
       .retryOn(List.of(RestClientResponseException.class))
       .build();
   }
+
+  /**
+   * Retries sending a notification only if mod-notify has certainly not received it, because a notification is not
+   * idempotent: if the connection cannot be established or mod-notify responds with {@code 503}. Read timeouts and
+   * other server errors are not retried, the notification could have been sent already.
+   */
+  @Bean(name = "notificationRetryTemplate")
+  public RetryTemplate notificationRetryTemplate(NotificationProperties properties) {
+    var initialDelay = properties.getRetryDelay().toMillis();
+    var retryableClassifier = new BinaryExceptionClassifier(false) {
+      @Override
+      public Boolean classify(Throwable throwable) {
+        return isNotificationNotReceived(throwable);
+      }
+    };
+    return new RetryTemplateBuilder()
+      .customPolicy(new SimpleRetryPolicy(properties.getRetryAttempts(), retryableClassifier))
+      .exponentialBackoff(initialDelay, 2, initialDelay * 10)
+      .build();
+  }
+
+  private static boolean isNotificationNotReceived(Throwable throwable) {
+    if (throwable instanceof ResourceAccessException) {
+      return ExceptionUtils.indexOfType(throwable, ConnectException.class) >= 0;
+    }
+
+    return throwable instanceof RestClientResponseException responseException
+      && responseException.getStatusCode().value() == HttpStatus.SERVICE_UNAVAILABLE.value();
+  }
 }
@@ -1,11 +1,14 @@
 package org.folio.uk.configuration;
 
 import lombok.extern.log4j.Log4j2;
+import org.folio.spring.scope.FolioExecutionScopeExecutionContextManager;
+import org.folio.uk.integration.notify.NotificationProperties;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
 import org.springframework.aop.interceptor.SimpleAsyncUncaughtExceptionHandler;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -26,6 +29,42 @@ public class SpringAsyncConfig implements AsyncConfigurer {
     return executor;
   }
 
+  /**
+   * Bounded executor for notifications sent without blocking the request, tasks are run in the folio execution
+   * context they were submitted from.
+   */
+  @Bean("notificationTaskExecutor")
+  public ThreadPoolTaskExecutor notificationTaskExecutor(NotificationProperties properties) {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(properties.getPoolSize());
+    executor.setMaxPoolSize(properties.getPoolSize());
+    executor.setQueueCapacity(properties.getQueueCapacity());
+    executor.setThreadNamePrefix("UsersKeycloakNotify-");
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.setWaitForTasksToCompleteOnShutdown(true);
+    executor.setAwaitTerminationSeconds(30);
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Virtual thread executor shared by the module components that call other modules or Keycloak concurrently, tasks
+   * are run in the folio execution context they were submitted from.
+   *
+   * <p>The executor has no concurrency limit: tasks submit nested tasks to the same executor and wait for them, e.g.
+   * migration jobs and their batches, so a limit held by the waiting tasks could block the nested ones forever.
+   * Concurrency is limited by the callers instead, with per-tenant, per-batch and per-listener permits, and Keycloak
+   * calls are limited by {@link org.folio.uk.integration.keycloak.KeycloakCallGuard}.</p>
+   */
+  @Bean("virtualTaskExecutor")
+  public SimpleAsyncTaskExecutor virtualTaskExecutor() {
+    var executor = new SimpleAsyncTaskExecutor("UsersKeycloakVirtual-");
+    executor.setVirtualThreads(true);
+    executor.setTaskDecorator(FolioExecutionScopeExecutionContextManager::getRunnableWithCurrentFolioContext);
+    executor.setTaskTerminationTimeout(30_000);
+    return executor;
+  }
+
   @Override
   public AsyncUncaughtExceptionHandler getAsyncUncaughtExceptionHandler() {
     return new SimpleAsyncUncaughtExceptionHandler();
@@ -0,0 +1,38 @@
+package org.folio.uk.configuration;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Batch user creation configuration, bound to {@code application.batch.user-create.*} properties.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties("application.batch.user-create")
+public class UserBatchProperties {
+
+  /**
+   * Maximum number of users accepted by a single batch request.
+   */
+  @Positive
+  private int maxSize = 500;
+
+  /**
+   * Maximum number of users of a batch request created at the same time.
+   */
+  @Positive
+  private int maxConcurrency = 8;
+
+  /**
+   * Maximum time to process a batch request with a streamed response, the response is completed with an error
+   * afterward.
+   */
+  @NotNull
+  private Duration streamTimeout = Duration.ofMinutes(30);
+}
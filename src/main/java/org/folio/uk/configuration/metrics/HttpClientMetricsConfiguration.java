@@ -0,0 +1,26 @@
+package org.folio.uk.configuration.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.boot.restclient.RestClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers {@link HttpClientMetricsInterceptor} for HTTP exchange clients built from the auto-configured
+ * {@code RestClient.Builder}.
+ */
+@Configuration
+public class HttpClientMetricsConfiguration {
+
+  @Bean
+  public HttpClientMetricsInterceptor httpClientMetricsInterceptor(MeterRegistry meterRegistry,
+    FolioExecutionContext folioExecutionContext) {
+    return new HttpClientMetricsInterceptor(meterRegistry, folioExecutionContext);
+  }
+
+  @Bean
+  public RestClientCustomizer httpClientMetricsRestClientCustomizer(HttpClientMetricsInterceptor interceptor) {
+    return restClientBuilder -> restClientBuilder.requestInterceptor(interceptor);
+  }
+}
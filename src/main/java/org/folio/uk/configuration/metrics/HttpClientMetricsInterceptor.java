@@ -0,0 +1,126 @@
+package org.folio.uk.configuration.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Records latency, errors and in-flight requests of outgoing HTTP exchange calls.
+ *
+ * <p>Requests are tagged with client, HTTP method, URI template, response status and tenant. The URI template is the
+ * one declared by {@code @HttpExchange} annotations, which {@link RestClient} exposes as a request attribute, so path
+ * variables such as identifiers, realm, role or client names never end up in tags. Requests without a template are
+ * tagged with {@code none}. The client name is either given explicitly or taken from the first path segment, which is
+ * the API of the downstream module.</p>
+ */
+public class HttpClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+
+  public static final String REQUESTS_METRIC = "folio.http.client.requests";
+  public static final String ERRORS_METRIC = "folio.http.client.errors";
+  public static final String ACTIVE_REQUESTS_METRIC = "folio.http.client.requests.active";
+
+  static final String URI_TEMPLATE_ATTRIBUTE = RestClient.class.getName() + ".uriTemplate";
+
+  private static final String IO_ERROR_STATUS = "IO_ERROR";
+  private static final String UNKNOWN = "none";
+
+  private final MeterRegistry meterRegistry;
+  private final FolioExecutionContext folioExecutionContext;
+  private final String clientName;
+  private final Map<String, AtomicInteger> activeRequests = new ConcurrentHashMap<>();
+
+  /**
+   * Creates interceptor, which takes client name from the first segment of a request path.
+   */
+  public HttpClientMetricsInterceptor(MeterRegistry meterRegistry, FolioExecutionContext folioExecutionContext) {
+    this(meterRegistry, folioExecutionContext, null);
+  }
+
+  public HttpClientMetricsInterceptor(MeterRegistry meterRegistry, FolioExecutionContext folioExecutionContext,
+    String clientName) {
+    this.meterRegistry = meterRegistry;
+    this.folioExecutionContext = folioExecutionContext;
+    this.clientName = clientName;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+    throws IOException {
+    var uriTemplate = getUriTemplate(request.getAttributes().get(URI_TEMPLATE_ATTRIBUTE));
+    var client = clientName != null ? clientName : getClientName(request.getURI().getPath());
+    var active = activeRequests.computeIfAbsent(client, this::registerActiveRequestsGauge);
+    var sample = Timer.start(meterRegistry);
+    var status = IO_ERROR_STATUS;
+
+    active.incrementAndGet();
+    try {
+      var response = execution.execute(request, body);
+      status = String.valueOf(response.getStatusCode().value());
+      return response;
+    } finally {
+      active.decrementAndGet();
+      var tags = Tags.of(
+        "client", client,
+        "method", request.getMethod().name(),
+        "uri", uriTemplate,
+        "status", status,
+        "tenant", StringUtils.defaultIfBlank(getTenantId(), UNKNOWN));
+
+      sample.stop(Timer.builder(REQUESTS_METRIC)
+        .description("Outgoing HTTP exchange requests")
+        .tags(tags)
+        .publishPercentileHistogram()
+        .register(meterRegistry));
+
+      if (isError(status)) {
+        Counter.builder(ERRORS_METRIC)
+          .description("Outgoing HTTP exchange requests failed with IO error or error status")
+          .tags(tags)
+          .register(meterRegistry)
+          .increment();
+      }
+    }
+  }
+
+  private AtomicInteger registerActiveRequestsGauge(String client) {
+    return meterRegistry.gauge(ACTIVE_REQUESTS_METRIC, Tags.of("client", client), new AtomicInteger());
+  }
+
+  private String getTenantId() {
+    try {
+      return folioExecutionContext.getTenantId();
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  private static boolean isError(String status) {
+    return IO_ERROR_STATUS.equals(status) || status.charAt(0) == '4' || status.charAt(0) == '5';
+  }
+
+  static String getUriTemplate(Object uriTemplate) {
+    if (!(uriTemplate instanceof String template) || StringUtils.isBlank(template)) {
+      return UNKNOWN;
+    }
+
+    var path = StringUtils.substringBefore(template, '?');
+    return path.startsWith("/") ? path : "/" + path;
+  }
+
+  static String getClientName(String path) {
+    var segments = StringUtils.split(path, '/');
+    return segments.length == 0 ? UNKNOWN : segments[0];
+  }
+}
@@ -13,6 +13,7 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.NOT_IMPLEMENTED;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
 import static org.springframework.http.HttpStatus.UNPROCESSABLE_CONTENT;
 
 import jakarta.persistence.EntityNotFoundException;
@@ -31,7 +32,9 @@ import org.folio.uk.domain.dto.Parameter;
 import org.folio.uk.exception.RequestValidationException;
 import org.folio.uk.exception.UnprocessableEntityException;
 import org.folio.uk.integration.keycloak.KeycloakException;
+import org.folio.uk.integration.keycloak.KeycloakUnavailableException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -230,6 +233,23 @@ public class ApiExceptionHandler {
     return buildResponseEntity(errorResponse, BAD_REQUEST);
   }
 
+  /**
+   * Catches and handles all exceptions for type {@link KeycloakUnavailableException}.
+   *
+   * @param exception {@link KeycloakUnavailableException} to process
+   * @return {@link ResponseEntity} with {@link ErrorResponse} body and {@code Retry-After} header
+   */
+  @ExceptionHandler(KeycloakUnavailableException.class)
+  public ResponseEntity<ErrorResponse> handleKeycloakUnavailableException(KeycloakUnavailableException exception) {
+    logException(DEBUG, exception);
+    var retryAfter = exception.getRetryAfter();
+    var retryAfterSeconds = retryAfter.toSeconds() + (retryAfter.toNanosPart() > 0 ? 1 : 0);
+    var errorResponse = buildErrorResponse(exception, null, SERVICE_ERROR);
+    return ResponseEntity.status(SERVICE_UNAVAILABLE)
+      .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+      .body(errorResponse);
+  }
+
   /**
    * Handles all uncaught exceptions.
    *
@@ -24,7 +24,7 @@ public class AuthUserController implements AuthUserApi {
 
   @Override
   public ResponseEntity<Void> createAuthUser(UUID userId) {
-    var userExists = keycloakService.findKeycloakUserWithUserIdAttr(userId).isPresent();
+    var userExists = keycloakService.findKeycloakUserId(userId).isPresent();
     if (userExists) {
       return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
     }
@@ -44,7 +44,7 @@ public class AuthUserController implements AuthUserApi {
 
   @Override
   public ResponseEntity<String> checkIfExistsAuthUserById(UUID userId) {
-    return keycloakService.findKeycloakUserWithUserIdAttr(userId)
+    return keycloakService.findKeycloakUserId(userId)
       .map(unused -> ResponseEntity.noContent().<String>build())
       .orElseThrow(() -> new EntityNotFoundException("Not Found"));
   }
@@ -0,0 +1,24 @@
+package org.folio.uk.controller;
+
+import static org.springframework.http.HttpStatus.NO_CONTENT;
+
+import lombok.RequiredArgsConstructor;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.uk.integration.configuration.ModuleConfigurationCache;
+import org.folio.uk.rest.resource.CacheApi;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class CacheController implements CacheApi {
+
+  private final ModuleConfigurationCache moduleConfigurationCache;
+  private final FolioExecutionContext folioExecutionContext;
+
+  @Override
+  public ResponseEntity<Void> evictModuleConfigurationCache() {
+    moduleConfigurationCache.evict(folioExecutionContext.getTenantId());
+    return ResponseEntity.status(NO_CONTENT).build();
+  }
+}
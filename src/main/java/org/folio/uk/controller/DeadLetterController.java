@@ -0,0 +1,20 @@
+package org.folio.uk.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.folio.uk.domain.dto.DeadLetterReplayResult;
+import org.folio.uk.integration.kafka.DeadLetterReplayService;
+import org.folio.uk.rest.resource.DeadLetterApi;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class DeadLetterController implements DeadLetterApi {
+
+  private final DeadLetterReplayService deadLetterReplayService;
+
+  @Override
+  public ResponseEntity<DeadLetterReplayResult> replayDeadLetters(Integer limit) {
+    return ResponseEntity.ok(deadLetterReplayService.replay(limit));
+  }
+}
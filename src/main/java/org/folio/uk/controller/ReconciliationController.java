@@ -0,0 +1,48 @@
+package org.folio.uk.controller;
+
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NO_CONTENT;
+
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.folio.uk.domain.dto.UserReconciliationItems;
+import org.folio.uk.domain.dto.UserReconciliationJob;
+import org.folio.uk.domain.dto.UserReconciliationJobs;
+import org.folio.uk.migration.UserReconciliationService;
+import org.folio.uk.rest.resource.ReconciliationApi;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class ReconciliationController implements ReconciliationApi {
+
+  private final UserReconciliationService service;
+
+  @Override
+  public ResponseEntity<UserReconciliationJob> reconcileUsers(Boolean dryRun) {
+    var reconciliation = service.createReconciliation(Boolean.TRUE.equals(dryRun));
+    return ResponseEntity.status(CREATED).body(reconciliation);
+  }
+
+  @Override
+  public ResponseEntity<String> deleteReconciliation(UUID id) {
+    service.deleteReconciliationById(id);
+    return ResponseEntity.status(NO_CONTENT).build();
+  }
+
+  @Override
+  public ResponseEntity<UserReconciliationJob> getReconciliation(UUID id) {
+    return ResponseEntity.ok(service.getReconciliationById(id));
+  }
+
+  @Override
+  public ResponseEntity<UserReconciliationJobs> getReconciliations(String query, Integer offset, Integer limit) {
+    return ResponseEntity.ok(service.getReconciliationsByQuery(query, offset, limit));
+  }
+
+  @Override
+  public ResponseEntity<UserReconciliationItems> getReconciliationItems(UUID id, Integer offset, Integer limit) {
+    return ResponseEntity.ok(service.getReconciliationItems(id, offset, limit));
+  }
+}
@@ -2,31 +2,97 @@ package org.folio.uk.controller;
 
 import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Valid;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executor;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.BooleanUtils;
+import org.folio.uk.configuration.UserBatchProperties;
 import org.folio.uk.domain.dto.CompositeUser;
 import org.folio.uk.domain.dto.IncludedField;
 import org.folio.uk.domain.dto.PermissionsContainer;
 import org.folio.uk.domain.dto.User;
+import org.folio.uk.domain.dto.UserBatchItemResult;
+import org.folio.uk.domain.dto.UserBatchRequest;
+import org.folio.uk.domain.dto.UserBatchResponse;
 import org.folio.uk.rest.resource.UsersApi;
+import org.folio.uk.service.UserBatchService;
 import org.folio.uk.service.UserService;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import tools.jackson.databind.json.JsonMapper;
 
 @RestController
 @RequiredArgsConstructor
 public class UserController implements UsersApi {
 
   private final UserService service;
+  private final UserBatchService batchService;
+  private final UserBatchProperties batchProperties;
+  private final JsonMapper jsonMapper;
+  @Qualifier("virtualTaskExecutor")
+  private final Executor virtualTaskExecutor;
 
   @Override
   public ResponseEntity<User> createUser(User user, Boolean keycloakOnly) {
     return ResponseEntity.status(CREATED).body(service.createUser(user, keycloakOnly));
   }
 
+  @Override
+  public ResponseEntity<UserBatchResponse> createUsers(UserBatchRequest userBatchRequest, Boolean keycloakOnly) {
+    return ResponseEntity.ok(batchService.createUsers(userBatchRequest.getUsers(), BooleanUtils.isTrue(keycloakOnly)));
+  }
+
+  /**
+   * Creates users in batch, writing a result line per user as soon as the user is processed.
+   *
+   * <p>The endpoint is not a part of the generated {@link UsersApi}, because a streamed response body cannot be
+   * declared there, it has its own path to not be ambiguous with {@link #createUsers(UserBatchRequest, Boolean)}.</p>
+   *
+   * <p>The response is completed with an error if the batch is not processed within the configured stream timeout,
+   * the default async request timeout of Spring MVC is not applied.</p>
+   *
+   * @param userBatchRequest - users to create
+   * @param keycloakOnly - defines if only Keycloak users are created
+   * @return newline-delimited JSON stream of user batch item results in completion order
+   */
+  @PostMapping(value = "/users-keycloak/users/batch/stream", consumes = APPLICATION_JSON_VALUE,
+    produces = APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<ResponseBodyEmitter> createUsersStreaming(
+    @RequestBody @Valid UserBatchRequest userBatchRequest,
+    @RequestParam(value = "keycloak-only", required = false, defaultValue = "false") Boolean keycloakOnly) {
+    var results = batchService.createUsersStreaming(userBatchRequest.getUsers(), BooleanUtils.isTrue(keycloakOnly));
+    var emitter = new ResponseBodyEmitter(batchProperties.getStreamTimeout().toMillis());
+    virtualTaskExecutor.execute(() -> {
+      try (results) {
+        for (var iterator = results.iterator(); iterator.hasNext(); ) {
+          emitter.send(toNdjsonLine(iterator.next()), MediaType.APPLICATION_NDJSON);
+        }
+        emitter.complete();
+      } catch (Exception e) {
+        emitter.completeWithError(e);
+      }
+    });
+
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(emitter);
+  }
+
+  private byte[] toNdjsonLine(UserBatchItemResult result) {
+    return (jsonMapper.writeValueAsString(result) + '\n').getBytes(StandardCharsets.UTF_8);
+  }
+
   @Override
   public ResponseEntity<User> getUser(UUID id) {
     return ResponseEntity.ok(service.getUser(id).orElseThrow(() -> new EntityNotFoundException("Not Found")));
@@ -0,0 +1,119 @@
+package org.folio.uk.domain;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.folio.uk.domain.entity.EntityUserMigrationJobItemStatus;
+import org.folio.uk.domain.model.UserMigrationJobItem;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stores per-user state of user migration jobs, written with batched JDBC statements.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserMigrationJobItemRepository {
+
+  private static final int WRITE_BATCH_SIZE = 1000;
+
+  private static final String INSERT_PENDING_SQL = """
+    INSERT INTO user_migration_job_item (job_id, user_id, status)
+    VALUES (?, ?, 'PENDING')
+    ON CONFLICT DO NOTHING""";
+
+  private static final String UPDATE_STATUS_SQL = """
+    UPDATE user_migration_job_item
+    SET status = CAST(? AS user_migration_job_item_status_type), error_message = ?, updated_at = CURRENT_TIMESTAMP
+    WHERE job_id = ? AND user_id = ? AND status = 'PENDING'""";
+
+  private static final String FIND_FIRST_PENDING_SQL = """
+    SELECT user_id FROM user_migration_job_item
+    WHERE job_id = ? AND status = 'PENDING'
+    ORDER BY user_id LIMIT ?""";
+
+  private static final String FIND_NEXT_PENDING_SQL = """
+    SELECT user_id FROM user_migration_job_item
+    WHERE job_id = ? AND status = 'PENDING' AND user_id > ?
+    ORDER BY user_id LIMIT ?""";
+
+  private static final String COUNT_SQL = "SELECT count(*) FROM user_migration_job_item WHERE job_id = ?";
+
+  private static final String COUNT_BY_STATUS_SQL = """
+    SELECT status, count(*) AS total FROM user_migration_job_item
+    WHERE job_id = ?
+    GROUP BY status""";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Creates pending items for the given job, existing items are left untouched.
+   *
+   * @param jobId - user migration job identifier
+   * @param userIds - FOLIO user identifiers to migrate
+   */
+  public void savePending(UUID jobId, Collection<UUID> userIds) {
+    jdbcTemplate.batchUpdate(INSERT_PENDING_SQL, userIds, WRITE_BATCH_SIZE, (ps, userId) -> {
+      ps.setObject(1, jobId);
+      ps.setObject(2, userId);
+    });
+  }
+
+  /**
+   * Updates statuses of the job items, only pending items are updated, so an outcome stored by one module instance is
+   * never overwritten by another one.
+   *
+   * @param jobId - user migration job identifier
+   * @param items - user migration outcomes
+   */
+  public void updateStatuses(UUID jobId, Collection<UserMigrationJobItem> items) {
+    jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, items, WRITE_BATCH_SIZE, (ps, item) -> {
+      ps.setString(1, item.status().name());
+      ps.setString(2, item.errorMessage());
+      ps.setObject(3, jobId);
+      ps.setObject(4, item.userId());
+    });
+  }
+
+  /**
+   * Retrieves the next page of pending user identifiers ordered by user identifier.
+   *
+   * @param jobId - user migration job identifier
+   * @param afterUserId - last user identifier of the previous page, {@code null} for the first page
+   * @param limit - page size
+   * @return list of pending user identifiers
+   */
+  public List<UUID> findPendingUserIds(UUID jobId, UUID afterUserId, int limit) {
+    return afterUserId == null
+      ? jdbcTemplate.queryForList(FIND_FIRST_PENDING_SQL, UUID.class, jobId, limit)
+      : jdbcTemplate.queryForList(FIND_NEXT_PENDING_SQL, UUID.class, jobId, afterUserId, limit);
+  }
+
+  /**
+   * Counts job items.
+   *
+   * @param jobId - user migration job identifier
+   * @return number of job items
+   */
+  public int count(UUID jobId) {
+    var count = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class, jobId);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Counts job items grouped by status.
+   *
+   * @param jobId - user migration job identifier
+   * @return number of items per status, statuses without items are omitted
+   */
+  public Map<EntityUserMigrationJobItemStatus, Integer> countByStatus(UUID jobId) {
+    var result = new EnumMap<EntityUserMigrationJobItemStatus, Integer>(EntityUserMigrationJobItemStatus.class);
+    jdbcTemplate.query(COUNT_BY_STATUS_SQL, rs -> {
+      result.put(EntityUserMigrationJobItemStatus.valueOf(rs.getString("status")), rs.getInt("total"));
+    }, jobId);
+    return result;
+  }
+}
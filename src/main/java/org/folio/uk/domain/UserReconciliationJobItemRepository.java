@@ -0,0 +1,188 @@
+package org.folio.uk.domain;
+
+import static org.apache.commons.lang3.StringUtils.isEmpty;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.folio.uk.domain.entity.EntityUserReconciliationAction;
+import org.folio.uk.domain.entity.EntityUserReconciliationJobItemStatus;
+import org.folio.uk.domain.model.UserReconciliationJobItem;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Stores differences found by user reconciliation jobs and their outcomes, written with batched JDBC statements.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserReconciliationJobItemRepository {
+
+  private static final int WRITE_BATCH_SIZE = 1000;
+  private static final String FIELD_SEPARATOR = ",";
+
+  private static final String INSERT_PENDING_SQL = """
+    INSERT INTO user_reconciliation_job_item (job_id, user_id, action, changed_fields, status)
+    VALUES (?, ?, CAST(? AS user_reconciliation_action_type), ?, 'PENDING')
+    ON CONFLICT DO NOTHING""";
+
+  private static final String UPDATE_STATUS_SQL = """
+    UPDATE user_reconciliation_job_item
+    SET status = CAST(? AS user_reconciliation_job_item_status_type), error_message = ?,
+      updated_at = CURRENT_TIMESTAMP
+    WHERE job_id = ? AND user_id = ? AND status = 'PENDING'""";
+
+  private static final String FIND_FIRST_PENDING_SQL = """
+    SELECT user_id, action, changed_fields, status, error_message FROM user_reconciliation_job_item
+    WHERE job_id = ? AND status = 'PENDING'
+    ORDER BY user_id LIMIT ?""";
+
+  private static final String FIND_NEXT_PENDING_SQL = """
+    SELECT user_id, action, changed_fields, status, error_message FROM user_reconciliation_job_item
+    WHERE job_id = ? AND status = 'PENDING' AND user_id > ?
+    ORDER BY user_id LIMIT ?""";
+
+  private static final String FIND_ALL_SQL = """
+    SELECT user_id, action, changed_fields, status, error_message FROM user_reconciliation_job_item
+    WHERE job_id = ?
+    ORDER BY user_id OFFSET ? LIMIT ?""";
+
+  private static final String DELETE_ALL_SQL = "DELETE FROM user_reconciliation_job_item WHERE job_id = ?";
+
+  private static final String COUNT_SQL = "SELECT count(*) FROM user_reconciliation_job_item WHERE job_id = ?";
+
+  private static final String COUNT_BY_STATUS_SQL = """
+    SELECT status, count(*) AS total FROM user_reconciliation_job_item
+    WHERE job_id = ?
+    GROUP BY status""";
+
+  private static final String COUNT_BY_ACTION_SQL = """
+    SELECT action, count(*) AS total FROM user_reconciliation_job_item
+    WHERE job_id = ?
+    GROUP BY action""";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Creates pending items for the given job, existing items are left untouched.
+   *
+   * @param jobId - user reconciliation job identifier
+   * @param items - differences found for users
+   */
+  public void savePending(UUID jobId, Collection<UserReconciliationJobItem> items) {
+    jdbcTemplate.batchUpdate(INSERT_PENDING_SQL, items, WRITE_BATCH_SIZE, (ps, item) -> {
+      ps.setObject(1, jobId);
+      ps.setObject(2, item.userId());
+      ps.setString(3, item.action().name());
+      ps.setString(4, item.changedFields().isEmpty() ? null : String.join(FIELD_SEPARATOR, item.changedFields()));
+    });
+  }
+
+  /**
+   * Updates statuses of the job items, only pending items are updated, so an outcome stored by one module instance is
+   * never overwritten by another one.
+   *
+   * @param jobId - user reconciliation job identifier
+   * @param items - user reconciliation outcomes
+   */
+  public void updateStatuses(UUID jobId, Collection<UserReconciliationJobItem> items) {
+    jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, items, WRITE_BATCH_SIZE, (ps, item) -> {
+      ps.setString(1, item.status().name());
+      ps.setString(2, item.errorMessage());
+      ps.setObject(3, jobId);
+      ps.setObject(4, item.userId());
+    });
+  }
+
+  /**
+   * Retrieves the next page of pending items ordered by user identifier.
+   *
+   * @param jobId - user reconciliation job identifier
+   * @param afterUserId - last user identifier of the previous page, {@code null} for the first page
+   * @param limit - page size
+   * @return list of pending items
+   */
+  public List<UserReconciliationJobItem> findPending(UUID jobId, UUID afterUserId, int limit) {
+    return afterUserId == null
+      ? jdbcTemplate.query(FIND_FIRST_PENDING_SQL, UserReconciliationJobItemRepository::toItem, jobId, limit)
+      : jdbcTemplate.query(FIND_NEXT_PENDING_SQL, UserReconciliationJobItemRepository::toItem, jobId, afterUserId,
+        limit);
+  }
+
+  /**
+   * Retrieves a page of job items ordered by user identifier.
+   *
+   * @param jobId - user reconciliation job identifier
+   * @param offset - number of items to skip
+   * @param limit - page size
+   * @return list of job items
+   */
+  public List<UserReconciliationJobItem> findAll(UUID jobId, int offset, int limit) {
+    return jdbcTemplate.query(FIND_ALL_SQL, UserReconciliationJobItemRepository::toItem, jobId, offset, limit);
+  }
+
+  /**
+   * Deletes all items of the job.
+   *
+   * @param jobId - user reconciliation job identifier
+   */
+  public void deleteAll(UUID jobId) {
+    jdbcTemplate.update(DELETE_ALL_SQL, jobId);
+  }
+
+  /**
+   * Counts job items.
+   *
+   * @param jobId - user reconciliation job identifier
+   * @return number of job items
+   */
+  public int count(UUID jobId) {
+    var count = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class, jobId);
+    return count == null ? 0 : count;
+  }
+
+  /**
+   * Counts job items grouped by status.
+   *
+   * @param jobId - user reconciliation job identifier
+   * @return number of items per status, statuses without items are omitted
+   */
+  public Map<EntityUserReconciliationJobItemStatus, Integer> countByStatus(UUID jobId) {
+    var result = new EnumMap<EntityUserReconciliationJobItemStatus, Integer>(
+      EntityUserReconciliationJobItemStatus.class);
+    jdbcTemplate.query(COUNT_BY_STATUS_SQL, rs -> {
+      result.put(EntityUserReconciliationJobItemStatus.valueOf(rs.getString("status")), rs.getInt("total"));
+    }, jobId);
+    return result;
+  }
+
+  /**
+   * Counts job items grouped by action.
+   *
+   * @param jobId - user reconciliation job identifier
+   * @return number of items per action, actions without items are omitted
+   */
+  public Map<EntityUserReconciliationAction, Integer> countByAction(UUID jobId) {
+    var result = new EnumMap<EntityUserReconciliationAction, Integer>(EntityUserReconciliationAction.class);
+    jdbcTemplate.query(COUNT_BY_ACTION_SQL, rs -> {
+      result.put(EntityUserReconciliationAction.valueOf(rs.getString("action")), rs.getInt("total"));
+    }, jobId);
+    return result;
+  }
+
+  private static UserReconciliationJobItem toItem(ResultSet rs, int rowNum) throws SQLException {
+    var changedFields = rs.getString("changed_fields");
+    return new UserReconciliationJobItem(
+      rs.getObject("user_id", UUID.class),
+      EntityUserReconciliationAction.valueOf(rs.getString("action")),
+      isEmpty(changedFields) ? List.of() : Arrays.asList(changedFields.split(FIELD_SEPARATOR)),
+      EntityUserReconciliationJobItemStatus.valueOf(rs.getString("status")),
+      rs.getString("error_message"));
+  }
+}
@@ -0,0 +1,97 @@
+package org.folio.uk.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.folio.spring.cql.JpaCqlRepository;
+import org.folio.uk.domain.entity.EntityUserReconciliationJobStatus;
+import org.folio.uk.domain.entity.UserReconciliationJobEntity;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface UserReconciliationJobRepository extends JpaCqlRepository<UserReconciliationJobEntity, UUID> {
+
+  boolean existsByStatus(EntityUserReconciliationJobStatus status);
+
+  List<UserReconciliationJobEntity> findAllByStatus(EntityUserReconciliationJobStatus status);
+
+  /**
+   * Renews the lease of a running reconciliation job, the job checkpoint is updated only if the job is still leased
+   * with the given token.
+   *
+   * @param id - user reconciliation job identifier
+   * @param leaseToken - lease token of the module instance running the job
+   * @param updatedAt - checkpoint timestamp
+   * @return number of updated jobs, {@code 0} if the job is finished or has been claimed by another instance
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("""
+    UPDATE UserReconciliationJobEntity j SET j.updatedAt = :updatedAt
+    WHERE j.id = :id
+      AND j.leaseToken = :leaseToken
+      AND j.status = org.folio.uk.domain.entity.EntityUserReconciliationJobStatus.IN_PROGRESS""")
+  int renewLease(@Param("id") UUID id, @Param("leaseToken") UUID leaseToken, @Param("updatedAt") Instant updatedAt);
+
+  /**
+   * Marks the differences of a running reconciliation job as collected, if the job is still leased with the given
+   * token.
+   *
+   * @param id - user reconciliation job identifier
+   * @param leaseToken - lease token of the module instance running the job
+   * @param updatedAt - checkpoint timestamp
+   * @return number of updated jobs, {@code 0} if the job is finished or has been claimed by another instance
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("""
+    UPDATE UserReconciliationJobEntity j SET j.diffCompleted = true, j.updatedAt = :updatedAt
+    WHERE j.id = :id
+      AND j.leaseToken = :leaseToken
+      AND j.status = org.folio.uk.domain.entity.EntityUserReconciliationJobStatus.IN_PROGRESS""")
+  int completeDiff(@Param("id") UUID id, @Param("leaseToken") UUID leaseToken, @Param("updatedAt") Instant updatedAt);
+
+  /**
+   * Claims an in-progress reconciliation job that has no checkpoints since the given timestamp, a job without
+   * checkpoints is considered stale if it was started before the timestamp. The job is leased with the given token,
+   * so the instance that ran it before can no longer update it.
+   *
+   * @param id - user reconciliation job identifier
+   * @param staleBefore - timestamp of the oldest checkpoint considered alive
+   * @param claimedAt - claim timestamp, stored as a checkpoint
+   * @param leaseToken - lease token of the claiming module instance
+   * @return number of claimed jobs, {@code 0} if the job is finished or processed by another instance
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("""
+    UPDATE UserReconciliationJobEntity j SET j.updatedAt = :claimedAt, j.leaseToken = :leaseToken
+    WHERE j.id = :id
+      AND j.status = org.folio.uk.domain.entity.EntityUserReconciliationJobStatus.IN_PROGRESS
+      AND COALESCE(j.updatedAt, j.startedAt) < :staleBefore""")
+  int claimStaleJob(@Param("id") UUID id, @Param("staleBefore") Instant staleBefore,
+    @Param("claimedAt") Instant claimedAt, @Param("leaseToken") UUID leaseToken);
+
+  /**
+   * Completes a running reconciliation job if it is still leased with the given token.
+   *
+   * @param id - user reconciliation job identifier
+   * @param leaseToken - lease token of the module instance running the job
+   * @param status - final job status
+   * @param finishedAt - completion timestamp
+   * @return number of completed jobs, {@code 0} if the job has been claimed by another instance
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query("""
+    UPDATE UserReconciliationJobEntity j SET j.status = :status, j.finishedAt = :finishedAt, j.updatedAt = :finishedAt
+    WHERE j.id = :id
+      AND j.leaseToken = :leaseToken
+      AND j.status = org.folio.uk.domain.entity.EntityUserReconciliationJobStatus.IN_PROGRESS""")
+  int completeJob(@Param("id") UUID id, @Param("leaseToken") UUID leaseToken,
+    @Param("status") EntityUserReconciliationJobStatus status, @Param("finishedAt") Instant finishedAt);
+}
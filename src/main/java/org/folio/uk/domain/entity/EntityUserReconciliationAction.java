@@ -0,0 +1,8 @@
+package org.folio.uk.domain.entity;
+
+public enum EntityUserReconciliationAction {
+
+  CREATE,
+  UPDATE,
+  DISABLE
+}
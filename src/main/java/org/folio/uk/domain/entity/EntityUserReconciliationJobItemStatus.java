@@ -0,0 +1,9 @@
+package org.folio.uk.domain.entity;
+
+public enum EntityUserReconciliationJobItemStatus {
+
+  PENDING,
+  APPLIED,
+  FAILED,
+  SKIPPED
+}
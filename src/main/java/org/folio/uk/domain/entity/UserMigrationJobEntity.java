@@ -45,4 +45,16 @@ public class UserMigrationJobEntity {
    */
   @Column(name = "finished_at")
   private Instant finishedAt;
+
+  /**
+   * A timestamp of the last user migration job checkpoint.
+   */
+  @Column(name = "updated_at")
+  private Instant updatedAt;
+
+  /**
+   * A token of the module instance running the user migration job.
+   */
+  @Column(name = "lease_token")
+  private UUID leaseToken;
 }
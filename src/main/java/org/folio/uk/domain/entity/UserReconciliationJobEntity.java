@@ -0,0 +1,69 @@
+package org.folio.uk.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+import lombok.Data;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+@Data
+@Entity
+@Table(name = "user_reconciliation_job")
+public class UserReconciliationJobEntity {
+
+  /**
+   * An entity identifier.
+   */
+  @Id
+  private UUID id;
+
+  /**
+   * A user reconciliation job status.
+   */
+  @Enumerated(EnumType.STRING)
+  @JdbcTypeCode(SqlTypes.NAMED_ENUM)
+  @Column(name = "status", columnDefinition = "user_reconciliation_job_status_type")
+  private EntityUserReconciliationJobStatus status;
+
+  /**
+   * Defines if the job only reports the differences, without applying them to Keycloak.
+   */
+  @Column(name = "dry_run")
+  private boolean dryRun;
+
+  /**
+   * Defines if the differences between mod-users and Keycloak are collected and stored as job items.
+   */
+  @Column(name = "diff_completed")
+  private boolean diffCompleted;
+
+  /**
+   * A user reconciliation job startup timestamp.
+   */
+  @Column(name = "started_at")
+  private Instant startedAt;
+
+  /**
+   * A user reconciliation job finishing timestamp.
+   */
+  @Column(name = "finished_at")
+  private Instant finishedAt;
+
+  /**
+   * A timestamp of the last user reconciliation job checkpoint.
+   */
+  @Column(name = "updated_at")
+  private Instant updatedAt;
+
+  /**
+   * A token of the module instance running the user reconciliation job.
+   */
+  @Column(name = "lease_token")
+  private UUID leaseToken;
+}
@@ -0,0 +1,11 @@
+package org.folio.uk.domain.model;
+
+import org.folio.uk.domain.dto.User;
+
+/**
+ * An outcome of a user creation.
+ *
+ * @param user - created user, or the existing one if the user already exists
+ * @param existing - defines if the user already exists and is not created
+ */
+public record UserCreationResult(User user, boolean existing) {}
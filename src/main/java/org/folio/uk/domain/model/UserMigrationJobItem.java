@@ -0,0 +1,22 @@
+package org.folio.uk.domain.model;
+
+import java.util.UUID;
+import org.folio.uk.domain.entity.EntityUserMigrationJobItemStatus;
+
+/**
+ * A migration outcome of a single user within a user migration job.
+ *
+ * @param userId - FOLIO user identifier
+ * @param status - user migration status
+ * @param errorMessage - failure reason, {@code null} if user is migrated
+ */
+public record UserMigrationJobItem(UUID userId, EntityUserMigrationJobItemStatus status, String errorMessage) {
+
+  public static UserMigrationJobItem migrated(UUID userId) {
+    return new UserMigrationJobItem(userId, EntityUserMigrationJobItemStatus.MIGRATED, null);
+  }
+
+  public static UserMigrationJobItem failed(UUID userId, String errorMessage) {
+    return new UserMigrationJobItem(userId, EntityUserMigrationJobItemStatus.FAILED, errorMessage);
+  }
+}
@@ -0,0 +1,42 @@
+package org.folio.uk.domain.model;
+
+import java.util.List;
+import java.util.UUID;
+import org.folio.uk.domain.entity.EntityUserReconciliationAction;
+import org.folio.uk.domain.entity.EntityUserReconciliationJobItemStatus;
+
+/**
+ * A difference between mod-users and Keycloak found for a single user within a user reconciliation job.
+ *
+ * @param userId - FOLIO user identifier
+ * @param action - action repairing the difference in Keycloak
+ * @param changedFields - names of the fields that differ, empty for create and disable actions
+ * @param status - reconciliation status
+ * @param errorMessage - failure reason, {@code null} if action is not failed
+ */
+public record UserReconciliationJobItem(UUID userId, EntityUserReconciliationAction action,
+  List<String> changedFields, EntityUserReconciliationJobItemStatus status, String errorMessage) {
+
+  public static UserReconciliationJobItem pending(UUID userId, EntityUserReconciliationAction action,
+    List<String> changedFields) {
+    return new UserReconciliationJobItem(userId, action, changedFields, EntityUserReconciliationJobItemStatus.PENDING,
+      null);
+  }
+
+  public static UserReconciliationJobItem applied(UUID userId, EntityUserReconciliationAction action) {
+    return new UserReconciliationJobItem(userId, action, List.of(), EntityUserReconciliationJobItemStatus.APPLIED,
+      null);
+  }
+
+  public static UserReconciliationJobItem skipped(UUID userId, EntityUserReconciliationAction action,
+    String reason) {
+    return new UserReconciliationJobItem(userId, action, List.of(), EntityUserReconciliationJobItemStatus.SKIPPED,
+      reason);
+  }
+
+  public static UserReconciliationJobItem failed(UUID userId, EntityUserReconciliationAction action,
+    String errorMessage) {
+    return new UserReconciliationJobItem(userId, action, List.of(), EntityUserReconciliationJobItemStatus.FAILED,
+      errorMessage);
+  }
+}
@@ -19,6 +19,7 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class ConfigurationService {
   private final ConfigurationClient configurationClient;
+  private final ModuleConfigurationCache moduleConfigurationCache;
 
   public Map<String, String> queryModuleConfigsByCodes(String moduleName, Collection<String> codes) {
     var codesQuery = new StringBuilder("(")
@@ -27,14 +28,16 @@ public class ConfigurationService {
         .collect(Collectors.joining(" or ")))
       .append(")");
 
-    var configurations =
-      configurationClient.lookupConfigByModuleNameAndQuery(moduleName, codesQuery.toString(), codes.size());
+    var query = codesQuery.toString();
+    var configurations = moduleConfigurationCache.get("configs:" + moduleName + ":" + query,
+      () -> configurationClient.lookupConfigByModuleNameAndQuery(moduleName, query, codes.size()));
 
     return convertConfigsToMap(configurations);
   }
 
   public Map<String, String> getAllModuleConfigsValidated(String moduleName, Collection<String> expectedCodes) {
-    var configurations = configurationClient.lookupConfigByModuleName(moduleName);
+    var configurations = moduleConfigurationCache.get("configs:" + moduleName,
+      () -> configurationClient.lookupConfigByModuleName(moduleName));
     if (!containsCodes(configurations, expectedCodes)) {
       var message = String.format("Configuration for module %s does not contain all required codes:%s",
         moduleName, expectedCodes);
@@ -0,0 +1,143 @@
+package org.folio.uk.integration.configuration;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import lombok.extern.log4j.Log4j2;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.uk.configuration.CacheProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cache of module configuration and settings values used by the forgotten username, forgotten password and password
+ * reset link requests, keyed by tenant.
+ *
+ * <p>Values older than {@code refresh-after-write} are still returned, while a single reload per key is performed in
+ * the background within the folio execution context of the request that found the value stale. A failed reload keeps
+ * the stale value until the entry expires after {@code ttl}. The cache is enabled by default, if disabled, all
+ * values are loaded on each call.</p>
+ */
+@Log4j2
+@Component
+public class ModuleConfigurationCache {
+
+  public static final String CACHE_NAME = "module-configuration";
+
+  private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet();
+  private final FolioExecutionContext folioExecutionContext;
+  private final Executor refreshExecutor;
+  private final Clock clock;
+  private final boolean enabled;
+  private final long refreshAfterWriteMillis;
+  private final Cache cache;
+
+  @Autowired
+  public ModuleConfigurationCache(CacheManager cacheManager, CacheProperties cacheProperties,
+    FolioExecutionContext folioExecutionContext, @Qualifier("virtualTaskExecutor") Executor refreshExecutor) {
+    this(cacheManager, cacheProperties, folioExecutionContext, refreshExecutor, Clock.systemUTC());
+  }
+
+  ModuleConfigurationCache(CacheManager cacheManager, CacheProperties cacheProperties,
+    FolioExecutionContext folioExecutionContext, Executor refreshExecutor, Clock clock) {
+    this.folioExecutionContext = folioExecutionContext;
+    this.refreshExecutor = refreshExecutor;
+    this.clock = clock;
+    var spec = cacheProperties.moduleConfiguration();
+    this.enabled = spec != null && spec.enabled();
+    this.refreshAfterWriteMillis = enabled ? spec.refreshAfterWrite().toMillis() : 0L;
+    this.cache = enabled ? getCache(cacheManager) : null;
+  }
+
+  /**
+   * Retrieves a value of the current tenant, {@code null} values are cached as well.
+   *
+   * @param key - value key, unique within a tenant
+   * @param loader - value loader
+   * @param <T> - value type
+   * @return cached or loaded value, nullable
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(String key, Supplier<T> loader) {
+    if (!enabled) {
+      return loader.get();
+    }
+
+    var cacheKey = key(folioExecutionContext.getTenantId(), key);
+    var cachedValue = cache.get(cacheKey, CachedValue.class);
+    if (cachedValue == null) {
+      var value = loader.get();
+      cache.put(cacheKey, new CachedValue(value, clock.millis()));
+      return value;
+    }
+
+    if (clock.millis() - cachedValue.loadedAt() >= refreshAfterWriteMillis) {
+      refreshAsync(cacheKey, loader);
+    }
+
+    return (T) cachedValue.value();
+  }
+
+  /**
+   * Removes all cached values of the tenant.
+   *
+   * @param tenant - tenant identifier
+   */
+  public void evict(String tenant) {
+    if (!enabled) {
+      return;
+    }
+
+    log.info("Evicting cached module configuration: tenant = {}", tenant);
+    var prefix = key(tenant, "");
+    nativeKeys().removeIf(key -> key instanceof String stringKey && stringKey.startsWith(prefix));
+  }
+
+  private void refreshAsync(String cacheKey, Supplier<?> loader) {
+    if (!refreshingKeys.add(cacheKey)) {
+      return;
+    }
+
+    refreshExecutor.execute(() -> {
+      try {
+        cache.put(cacheKey, new CachedValue(loader.get(), clock.millis()));
+      } catch (Exception e) {
+        log.warn("Failed to refresh cached module configuration, stale value is kept: key = {}", cacheKey, e);
+      } finally {
+        refreshingKeys.remove(cacheKey);
+      }
+    });
+  }
+
+  @SuppressWarnings("unchecked")
+  private Set<Object> nativeKeys() {
+    var nativeCache = cache.getNativeCache();
+    if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+      return ((Map<Object, ?>) caffeineCache.asMap()).keySet();
+    }
+
+    if (nativeCache instanceof Map<?, ?> map) {
+      return ((Map<Object, ?>) map).keySet();
+    }
+
+    throw new IllegalStateException("Unsupported cache implementation: " + nativeCache.getClass().getName());
+  }
+
+  private static Cache getCache(CacheManager cacheManager) {
+    return requireNonNull(cacheManager.getCache(CACHE_NAME), "Cache is not configured: " + CACHE_NAME);
+  }
+
+  private static String key(String tenant, String key) {
+    return tenant + ":" + key;
+  }
+
+  private record CachedValue(Object value, long loadedAt) {}
+}
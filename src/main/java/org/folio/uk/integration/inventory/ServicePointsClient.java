@@ -1,9 +1,7 @@
 package org.folio.uk.integration.inventory;
 
-import java.util.Optional;
-import java.util.UUID;
-import org.folio.uk.domain.dto.ServicePoint;
-import org.springframework.web.bind.annotation.PathVariable;
+import org.folio.uk.integration.inventory.model.ServicePointCollection;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
 
@@ -13,6 +11,6 @@ import org.springframework.web.service.annotation.HttpExchange;
 @HttpExchange(url = "service-points")
 public interface ServicePointsClient {
 
-  @GetExchange("/{servicePointId}")
-  Optional<ServicePoint> getServicePoint(@PathVariable UUID servicePointId);
+  @GetExchange
+  ServicePointCollection queryServicePoints(@RequestParam("query") String query, @RequestParam("limit") Integer limit);
 }
@@ -0,0 +1,11 @@
+package org.folio.uk.integration.inventory.model;
+
+import java.util.List;
+import lombok.Data;
+import org.folio.uk.domain.dto.ServicePoint;
+
+@Data
+public class ServicePointCollection {
+  private List<ServicePoint> servicepoints;
+  private int totalRecords;
+}
@@ -0,0 +1,135 @@
+package org.folio.uk.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.kafka.support.KafkaHeaders.PREFIX;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.Strings;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.uk.domain.dto.DeadLetterReplayResult;
+import org.folio.uk.integration.kafka.configuration.DeadLetterConfiguration;
+import org.folio.uk.integration.kafka.configuration.KafkaRetryTopicConfiguration;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.stereotype.Service;
+
+/**
+ * Replays dead letter topics of the current tenant, re-publishing the records to the retry topics of the topics they
+ * failed on. Retry topics are consumed only by this module, see {@link RetryTopicListener}, so the replayed records
+ * are never re-published to topics shared with other modules.
+ *
+ * <p>Records are replayed in bounded batches: at most the requested number of records is re-published per call, and
+ * only the offsets of re-published records are committed, so the next call continues from the first record not
+ * replayed.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class DeadLetterReplayService {
+
+  private static final String DEAD_LETTER_HEADER_PREFIX = PREFIX + "dlt-";
+
+  @Qualifier("deadLetterConsumerFactory")
+  private final ConsumerFactory<String, byte[]> deadLetterConsumerFactory;
+  @Qualifier("eventKafkaTemplate")
+  private final KafkaOperations<String, Object> kafkaTemplate;
+  private final DeadLetterConfiguration deadLetterConfiguration;
+  private final KafkaRetryTopicConfiguration retryTopicConfiguration;
+  private final FolioExecutionContext folioExecutionContext;
+
+  /**
+   * Re-publishes up to {@code limit} dead letter records of the current tenant to the retry topics of their original
+   * topics.
+   *
+   * @param limit - maximum number of records to replay
+   * @return {@link DeadLetterReplayResult} with replayed topics and number of replayed records
+   */
+  public DeadLetterReplayResult replay(int limit) {
+    var properties = new Properties();
+    properties.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, String.valueOf(limit));
+    properties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+
+    try (var consumer = deadLetterConsumerFactory.createConsumer(
+      deadLetterConfiguration.getReplayGroupId(), null, null, properties)) {
+      var topics = findDeadLetterTopics(consumer, folioExecutionContext.getTenantId());
+      var result = new DeadLetterReplayResult().topics(topics).replayedRecords(0);
+      if (topics.isEmpty()) {
+        return result;
+      }
+
+      consumer.subscribe(topics);
+      var offsets = new HashMap<TopicPartition, OffsetAndMetadata>();
+      try {
+        result.replayedRecords(replayRecords(consumer, limit, offsets));
+      } finally {
+        if (!offsets.isEmpty()) {
+          consumer.commitSync(offsets);
+        }
+      }
+
+      log.info("Dead letter records replayed [topics: {}, records: {}]", topics, result.getReplayedRecords());
+      return result;
+    }
+  }
+
+  private int replayRecords(Consumer<String, byte[]> consumer, int limit,
+    Map<TopicPartition, OffsetAndMetadata> offsets) {
+    var replayed = 0;
+    while (replayed < limit) {
+      var records = consumer.poll(deadLetterConfiguration.getReplayPollTimeout());
+      if (records.isEmpty()) {
+        break;
+      }
+
+      for (var deadLetterRecord : records) {
+        if (replayed >= limit) {
+          break;
+        }
+
+        republish(deadLetterRecord);
+        offsets.put(new TopicPartition(deadLetterRecord.topic(), deadLetterRecord.partition()),
+          new OffsetAndMetadata(deadLetterRecord.offset() + 1));
+        replayed++;
+      }
+    }
+
+    return replayed;
+  }
+
+  private void republish(ConsumerRecord<String, byte[]> deadLetterRecord) {
+    var originalTopic = Strings.CS.removeEnd(deadLetterRecord.topic(), deadLetterConfiguration.getTopicSuffix());
+    var retryTopic = originalTopic + retryTopicConfiguration.getTopicSuffix();
+    var headers = new RecordHeaders();
+    for (var header : deadLetterRecord.headers()) {
+      var key = header.key();
+      if (!key.startsWith(DEAD_LETTER_HEADER_PREFIX) && !key.startsWith(KafkaEventRecoverer.HEADER_PREFIX)) {
+        headers.add(header);
+      }
+    }
+    headers.add(KafkaEventRecoverer.ORIGINAL_TOPIC_HEADER, originalTopic.getBytes(UTF_8));
+
+    kafkaTemplate.send(new ProducerRecord<>(retryTopic, null, deadLetterRecord.key(), deadLetterRecord.value(),
+      headers)).join();
+  }
+
+  private List<String> findDeadLetterTopics(Consumer<String, byte[]> consumer, String tenant) {
+    var tenantSegment = "." + tenant + ".";
+    return consumer.listTopics(deadLetterConfiguration.getReplayPollTimeout()).keySet().stream()
+      .filter(topic -> topic.endsWith(deadLetterConfiguration.getTopicSuffix()) && topic.contains(tenantSegment))
+      .sorted()
+      .toList();
+  }
+}
@@ -3,6 +3,7 @@ package org.folio.uk.integration.kafka;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -11,17 +12,32 @@ import org.springframework.stereotype.Service;
 public class KafkaAdminService {
 
   private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  private final KafkaRebalanceMetrics rebalanceMetrics;
 
   /**
-   * Restarts kafka event listeners in the application.
+   * Rebalances kafka event listeners in the application to start listening created topics, listeners disabled by
+   * configuration are not started.
+   *
+   * <p>Running listeners are not restarted, instead a rebalance of their consumer group is enforced, which refreshes
+   * the topic metadata of the pattern subscription. With the cooperative assignment strategy, partitions that stay
+   * with the consumer are processed without interruption.</p>
    */
-  public void restartEventListeners() {
-    kafkaListenerEndpointRegistry.getAllListenerContainers().forEach(container -> {
-        log.info("Restarting kafka consumer to start listening created topics [ids: {}]", container.getListenerId());
+  public void rebalanceEventListeners() {
+    kafkaListenerEndpointRegistry.getAllListenerContainers().stream()
+      .filter(MessageListenerContainer::isAutoStartup)
+      .forEach(this::rebalance);
+  }
+
+  private void rebalance(MessageListenerContainer container) {
+    if (!container.isRunning()) {
+      log.info("Starting kafka consumer to start listening created topics [ids: {}]", container.getListenerId());
+      container.start();
+      return;
+    }
 
-        container.stop();
-        container.start();
-      }
-    );
+    log.info("Enforcing kafka consumer rebalance to start listening created topics [ids: {}]",
+      container.getListenerId());
+    rebalanceMetrics.rebalanceRequested(container.getGroupId());
+    container.enforceRebalance();
   }
 }
@@ -0,0 +1,189 @@
+package org.folio.uk.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.exception.ExceptionUtils.indexOfType;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.folio.integration.kafka.consumer.filter.TenantIsDisabledException;
+import org.folio.integration.kafka.consumer.filter.TenantsAreDisabledException;
+import org.folio.uk.integration.kafka.configuration.DeadLetterConfiguration;
+import org.folio.uk.integration.kafka.configuration.KafkaRetryTopicConfiguration;
+import org.folio.uk.integration.kafka.model.RawValueRetainingDeserializer;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.listener.ConsumerRecordRecoverer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+
+/**
+ * Recovers Kafka events that failed to be processed once the blocking retries are exhausted.
+ *
+ * <p>Events failed because the tenant is disabled are re-published to the retry topic if
+ * {@link KafkaRetryTopicConfiguration#isEnabled()} is set, until the retry attempts are exhausted. Other events are
+ * published to the dead letter topic with the exception headers if {@link DeadLetterConfiguration#isEnabled()} is
+ * set, otherwise they are logged and skipped.</p>
+ *
+ * <p>Events are re-published with the original value bytes kept by {@link RawValueRetainingDeserializer}, so retry
+ * and dead letter topics receive the events exactly as they were consumed.</p>
+ */
+@Log4j2
+public class KafkaEventRecoverer implements ConsumerRecordRecoverer {
+
+  public static final String HEADER_PREFIX = "folio-retry-";
+  public static final String RETRY_ATTEMPT_HEADER = HEADER_PREFIX + "attempt";
+  public static final String RETRY_DUE_AT_HEADER = HEADER_PREFIX + "due-at";
+  public static final String ORIGINAL_TOPIC_HEADER = HEADER_PREFIX + "original-topic";
+
+  private final KafkaOperations<String, Object> kafkaTemplate;
+  private final DeadLetterConfiguration deadLetterConfiguration;
+  private final KafkaRetryTopicConfiguration retryTopicConfiguration;
+  private final DeadLetterPublishingRecoverer deadLetterPublishingRecoverer;
+  private final Clock clock;
+
+  public KafkaEventRecoverer(KafkaOperations<String, Object> kafkaTemplate,
+    DeadLetterConfiguration deadLetterConfiguration, KafkaRetryTopicConfiguration retryTopicConfiguration) {
+    this(kafkaTemplate, deadLetterConfiguration, retryTopicConfiguration, Clock.systemUTC());
+  }
+
+  KafkaEventRecoverer(KafkaOperations<String, Object> kafkaTemplate, DeadLetterConfiguration deadLetterConfiguration,
+    KafkaRetryTopicConfiguration retryTopicConfiguration, Clock clock) {
+    this.kafkaTemplate = kafkaTemplate;
+    this.deadLetterConfiguration = deadLetterConfiguration;
+    this.retryTopicConfiguration = retryTopicConfiguration;
+    this.clock = clock;
+    this.deadLetterPublishingRecoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+      (consumerRecord, exception) -> new TopicPartition(getDeadLetterTopic(consumerRecord), -1));
+  }
+
+  @Override
+  public void accept(ConsumerRecord<?, ?> consumerRecord, Exception exception) {
+    if (retryTopicConfiguration.isEnabled() && isTenantDisabled(exception)) {
+      var attempt = getRetryAttempt(consumerRecord) + 1;
+      if (attempt <= retryTopicConfiguration.getMaxAttempts()) {
+        publishToRetryTopic(consumerRecord, attempt);
+        return;
+      }
+
+      log.warn("Retry attempts are exhausted for event of disabled tenant [topic: {}, offset: {}]",
+        consumerRecord.topic(), consumerRecord.offset());
+    }
+
+    if (deadLetterConfiguration.isEnabled()) {
+      log.warn("Publishing failed event to dead letter topic [topic: {}, deadLetterTopic: {}, offset: {}]",
+        consumerRecord.topic(), getDeadLetterTopic(consumerRecord), consumerRecord.offset(), exception);
+      deadLetterPublishingRecoverer.accept(withRawValue(consumerRecord), exception);
+      return;
+    }
+
+    log.warn("Failed to process event [record: {}]", consumerRecord, exception.getCause());
+  }
+
+  /**
+   * Checks if the exception is caused by a disabled tenant.
+   *
+   * @param exception - exception to check
+   * @return true if the exception or any of its causes is a tenant disabled exception
+   */
+  public static boolean isTenantDisabled(Throwable exception) {
+    return indexOfType(exception, TenantIsDisabledException.class) >= 0
+      || indexOfType(exception, TenantsAreDisabledException.class) >= 0;
+  }
+
+  /**
+   * Returns the time after which the retry topic record can be processed.
+   *
+   * @param consumerRecord - retry topic record
+   * @return epoch milliseconds, 0 if the record has no due time
+   */
+  public static long getRetryDueAt(ConsumerRecord<?, ?> consumerRecord) {
+    return getLongHeader(consumerRecord.headers(), RETRY_DUE_AT_HEADER);
+  }
+
+  /**
+   * Returns the topic the record was originally published to, before being re-published to the retry topic.
+   *
+   * @param consumerRecord - consumer record
+   * @return original topic name
+   */
+  public static String getOriginalTopic(ConsumerRecord<?, ?> consumerRecord) {
+    var header = consumerRecord.headers().lastHeader(ORIGINAL_TOPIC_HEADER);
+    return header != null ? new String(header.value(), UTF_8) : consumerRecord.topic();
+  }
+
+  /**
+   * Returns the delay before the given retry attempt.
+   *
+   * @param attempt - retry attempt number, starting from 1
+   * @return retry delay, limited by {@link KafkaRetryTopicConfiguration#getMaxDelay()}
+   */
+  Duration getRetryDelay(int attempt) {
+    var initialDelay = retryTopicConfiguration.getInitialDelay().toMillis();
+    var delay = initialDelay * Math.pow(retryTopicConfiguration.getMultiplier(), attempt - 1d);
+    return Duration.ofMillis((long) Math.min(delay, retryTopicConfiguration.getMaxDelay().toMillis()));
+  }
+
+  private void publishToRetryTopic(ConsumerRecord<?, ?> consumerRecord, int attempt) {
+    var originalTopic = getOriginalTopic(consumerRecord);
+    var retryTopic = originalTopic + retryTopicConfiguration.getTopicSuffix();
+    var dueAt = clock.millis() + getRetryDelay(attempt).toMillis();
+    log.info("Tenant is disabled, publishing event to retry topic [topic: {}, retryTopic: {}, attempt: {}]",
+      consumerRecord.topic(), retryTopic, attempt);
+
+    var headers = new RecordHeaders();
+    var rawValueRecord = withRawValue(consumerRecord);
+    for (var header : rawValueRecord.headers()) {
+      if (!header.key().startsWith(HEADER_PREFIX)) {
+        headers.add(header);
+      }
+    }
+    headers.add(ORIGINAL_TOPIC_HEADER, originalTopic.getBytes(UTF_8));
+    headers.add(RETRY_ATTEMPT_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(attempt).array());
+    headers.add(RETRY_DUE_AT_HEADER, ByteBuffer.allocate(Long.BYTES).putLong(dueAt).array());
+
+    var key = Objects.toString(consumerRecord.key(), null);
+    kafkaTemplate.send(new ProducerRecord<>(retryTopic, null, key, rawValueRecord.value(), headers)).join();
+  }
+
+  /**
+   * Replaces the deserialized value of the record by the original value bytes, if they are kept in the
+   * {@link RawValueRetainingDeserializer#RAW_VALUE_HEADER} header.
+   */
+  private static ConsumerRecord<?, ?> withRawValue(ConsumerRecord<?, ?> consumerRecord) {
+    var rawValue = consumerRecord.headers().lastHeader(RawValueRetainingDeserializer.RAW_VALUE_HEADER);
+    if (rawValue == null) {
+      return consumerRecord;
+    }
+
+    var headers = new RecordHeaders();
+    for (var header : consumerRecord.headers()) {
+      if (!RawValueRetainingDeserializer.RAW_VALUE_HEADER.equals(header.key())) {
+        headers.add(header);
+      }
+    }
+
+    return new ConsumerRecord<>(consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset(),
+      consumerRecord.timestamp(), consumerRecord.timestampType(), consumerRecord.serializedKeySize(),
+      consumerRecord.serializedValueSize(), consumerRecord.key(), rawValue.value(), headers,
+      consumerRecord.leaderEpoch());
+  }
+
+  private String getDeadLetterTopic(ConsumerRecord<?, ?> consumerRecord) {
+    return getOriginalTopic(consumerRecord) + deadLetterConfiguration.getTopicSuffix();
+  }
+
+  private static int getRetryAttempt(ConsumerRecord<?, ?> consumerRecord) {
+    return (int) getLongHeader(consumerRecord.headers(), RETRY_ATTEMPT_HEADER);
+  }
+
+  private static long getLongHeader(Headers headers, String name) {
+    var header = headers.lastHeader(name);
+    return header != null && header.value().length == Long.BYTES ? ByteBuffer.wrap(header.value()).getLong() : 0L;
+  }
+}
@@ -0,0 +1,130 @@
+package org.folio.uk.integration.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.integration.kafka.model.TenantAwareEvent;
+import org.folio.uk.integration.kafka.model.UserEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records processing metrics of Kafka events.
+ *
+ * <p>Processing time and outcome of every handled event are tagged with listener, tenant, event type and outcome.
+ * For events carrying a {@code timestamp}, the end-to-end latency from event creation to the end of its processing
+ * is recorded as well.</p>
+ */
+@Component
+public class KafkaListenerMetrics {
+
+  public static final String PROCESSING_METRIC = "folio.kafka.listener.processing";
+  public static final String EVENTS_METRIC = "folio.kafka.listener.events";
+  public static final String LATENCY_METRIC = "folio.kafka.listener.event.latency";
+  public static final String FILTERED_RECORDS_METRIC = "folio.kafka.listener.records.filtered";
+  public static final String UNRECOVERED_EVENTS_METRIC = "folio.kafka.listener.events.unrecovered";
+
+  private static final String UNKNOWN = "none";
+
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+
+  @Autowired
+  public KafkaListenerMetrics(MeterRegistry meterRegistry) {
+    this(meterRegistry, Clock.systemUTC());
+  }
+
+  KafkaListenerMetrics(MeterRegistry meterRegistry, Clock clock) {
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+  }
+
+  /**
+   * Runs the event handler, recording its processing time, outcome and the end-to-end latency of the event.
+   *
+   * @param listenerId - Kafka listener identifier
+   * @param event - handled event
+   * @param handler - event handler
+   */
+  public void recordProcessing(String listenerId, TenantAwareEvent event, Runnable handler) {
+    var sample = Timer.start(meterRegistry);
+    var outcome = "failure";
+    try {
+      handler.run();
+      outcome = "success";
+    } finally {
+      var tags = Tags.of(
+        "listener", listenerId,
+        "tenant", StringUtils.defaultIfBlank(event.getTenant(), UNKNOWN),
+        "type", getEventType(event));
+
+      sample.stop(Timer.builder(PROCESSING_METRIC)
+        .description("Processing time of Kafka events")
+        .tags(tags.and("outcome", outcome))
+        .publishPercentileHistogram()
+        .register(meterRegistry));
+
+      Counter.builder(EVENTS_METRIC)
+        .description("Number of processed Kafka events")
+        .tags(tags.and("outcome", outcome))
+        .register(meterRegistry)
+        .increment();
+
+      recordLatency(event, tags);
+    }
+  }
+
+  /**
+   * Increments the number of records discarded by the tenant filter.
+   *
+   * @param topic - Kafka topic name
+   * @param tenant - tenant of the discarded record, {@code null} if unknown
+   * @param count - number of discarded records
+   */
+  public void recordFiltered(String topic, String tenant, int count) {
+    Counter.builder(FILTERED_RECORDS_METRIC)
+      .description("Number of Kafka records discarded by the tenant filter")
+      .tags("topic", topic, "tenant", StringUtils.defaultIfBlank(tenant, UNKNOWN))
+      .register(meterRegistry)
+      .increment(count);
+  }
+
+  /**
+   * Increments the number of failed events that could not be passed to the recoverer and were skipped.
+   *
+   * @param listenerId - Kafka listener identifier
+   * @param topic - Kafka topic name
+   */
+  public void recordUnrecovered(String listenerId, String topic) {
+    Counter.builder(UNRECOVERED_EVENTS_METRIC)
+      .description("Number of failed Kafka events skipped because the recoverer failed")
+      .tags("listener", listenerId, "topic", topic)
+      .register(meterRegistry)
+      .increment();
+  }
+
+  private void recordLatency(TenantAwareEvent event, Tags tags) {
+    if (!(event instanceof UserEvent userEvent) || userEvent.getTimestamp() <= 0) {
+      return;
+    }
+
+    var latency = Duration.ofMillis(clock.millis() - userEvent.getTimestamp());
+    Timer.builder(LATENCY_METRIC)
+      .description("Time from Kafka event creation to the end of its processing")
+      .tags(tags)
+      .publishPercentileHistogram()
+      .register(meterRegistry)
+      .record(latency.isNegative() ? Duration.ZERO : latency);
+  }
+
+  private static String getEventType(TenantAwareEvent event) {
+    return event instanceof ResourceEvent<?> resourceEvent && resourceEvent.getType() != null
+      ? resourceEvent.getType().name()
+      : UNKNOWN;
+  }
+}
@@ -3,27 +3,48 @@ package org.folio.uk.integration.kafka;
 import static java.util.Objects.requireNonNull;
 import static org.folio.common.utils.OkapiHeaders.URL;
 import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+import static org.folio.uk.utils.AsyncUtils.unwrapCompletionError;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.folio.integration.kafka.model.ResourceEvent;
+import org.folio.integration.kafka.model.ResourceEventType;
 import org.folio.integration.kafka.model.TenantAwareEvent;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.folio.uk.domain.dto.User;
 import org.folio.uk.integration.configuration.OkapiConfigurationProperties;
+import org.folio.uk.integration.kafka.configuration.UserEventBatchConfiguration;
 import org.folio.uk.integration.kafka.model.SystemUserEvent;
 import org.folio.uk.integration.kafka.model.UserEvent;
 import org.folio.uk.integration.keycloak.SystemUserService;
+import org.folio.uk.service.CompositeUserCache;
 import org.folio.uk.service.UserService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Service;
 
 @Log4j2
@@ -31,10 +52,25 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class KafkaMessageListener {
 
+  private static final Set<ResourceEventType> SUPPORTED_USER_EVENT_TYPES =
+    EnumSet.of(ResourceEventType.CREATE, ResourceEventType.UPDATE, ResourceEventType.DELETE);
+  private static final String SYSTEM_USER_EVENT_LISTENER_ID = "system-user-event-listener";
+  private static final String USER_EVENT_LISTENER_ID = "user-event-listener";
+  private static final String USER_EVENT_PARALLEL_LISTENER_ID = "user-event-parallel-listener";
+  private static final String USER_EVENT_BATCH_LISTENER_ID = "user-event-batch-listener";
+
   private final FolioModuleMetadata metadata;
   private final SystemUserService systemUserService;
   private final UserService userService;
   private final OkapiConfigurationProperties okapiProperties;
+  private final CompositeUserCache compositeUserCache;
+  private final UserEventBatchConfiguration userEventBatchConfiguration;
+  private final KeyOrderedExecutor keyOrderedExecutor;
+  private final KafkaListenerMetrics listenerMetrics;
+  private final KafkaEventRecoverer kafkaEventRecoverer;
+  private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  @Qualifier("virtualTaskExecutor")
+  private final Executor virtualTaskExecutor;
 
   /**
    * Handles system user event.
@@ -42,16 +78,16 @@ public class KafkaMessageListener {
    * @param event - system user {@link ResourceEvent} object
    */
   @KafkaListener(
-    id = "system-user-event-listener",
+    id = SYSTEM_USER_EVENT_LISTENER_ID,
     containerFactory = "systemUserKafkaListenerContainerFactory",
     groupId = "#{kafkaConsumerProperties.listener['system-user'].groupId}",
     topicPattern = "#{kafkaConsumerProperties.listener['system-user'].topicPattern}",
-    filter = "tenantAwareMessageFilter")
+    filter = "meteredTenantAwareMessageFilter")
   public void handleSystemUserEvent(SystemUserEvent event) {
     requireNonNull(event.getType(), "Event type must not be null");
     log.info("System user event received: {}", event);
 
-    handleEvent(event, e -> {
+    handleEvent(SYSTEM_USER_EVENT_LISTENER_ID, event, e -> {
       switch (e.getType()) {
         case UPDATE -> systemUserService.updateOnEvent(e.getNewValue());
         case CREATE -> systemUserService.createOnEvent(e.getNewValue());
@@ -63,38 +99,209 @@ public class KafkaMessageListener {
 
   /**
    * Handles a user domain event received from the {@code users.users} Kafka topic.
-   * Only {@code UPDATE} events are acted upon; {@code CREATE} and {@code DELETE} events are
-   * silently ignored. Throws {@link NullPointerException} if the event type is {@code null}.
+   * {@code UPDATE} events are synced to Keycloak, cached composite user values are evicted on {@code UPDATE} and
+   * {@code DELETE} events, {@code CREATE} events are silently ignored.
+   * Throws {@link NullPointerException} if the event type is {@code null}.
    *
    * @param event the {@link UserEvent} received from the Kafka topic
    */
   @KafkaListener(
-    id = "user-event-listener",
+    id = USER_EVENT_LISTENER_ID,
     containerFactory = "userKafkaListenerContainerFactory",
     groupId = "#{kafkaConsumerProperties.listener['user'].groupId}",
     topicPattern = "#{kafkaConsumerProperties.listener['user'].topicPattern}",
     concurrency = "#{kafkaConsumerProperties.listener['user'].concurrency}",
-    filter = "tenantAwareMessageFilter")
+    filter = "meteredTenantAwareMessageFilter",
+    autoStartup = "#{!userEventBatchConfiguration.enabled && !userEventParallelConfiguration.enabled}")
   public void handleUserEvent(UserEvent event) {
     requireNonNull(event.getType(), "Event type must not be null");
     log.debug("User event received: {}", () -> briefView(event));
 
-    handleEvent(event, e -> {
-      switch (e.getType()) {
-        case UPDATE -> userService.updateUserOnEvent(e.getNewValue(), e.getOldValue());
-        case CREATE, DELETE ->
-          log.debug("Received user event with type {} is ignored: eventId = {}", e.getType(), e.getId());
-        default -> throw new IllegalStateException("Received user event with unsupported type: " + e.getType());
+    handleEvent(USER_EVENT_LISTENER_ID, event, this::processUserEvent);
+  }
+
+  /**
+   * Handles a user domain event received from the {@code users.users} Kafka topic, used instead of
+   * {@link #handleUserEvent(UserEvent)} when key-ordered parallel processing is enabled.
+   *
+   * <p>The event is processed asynchronously after all previously received events of the same user, events of
+   * different users are processed concurrently. The record is acknowledged once processed, the container commits its
+   * offset only after all preceding records of the partition are acknowledged. Failed events are passed to the
+   * {@link KafkaEventRecoverer} before being acknowledged. An event that cannot be recovered is logged, counted by the
+   * {@code folio.kafka.listener.events.unrecovered} metric and acknowledged as well, since an unacknowledged record
+   * would block the offset commits of its partition.</p>
+   *
+   * <p>The listener container is paused while the number of events being processed reaches the limit of the
+   * {@link KeyOrderedExecutor}, and resumed when processing of an event is completed.</p>
+   *
+   * @param consumerRecord the {@link UserEvent} record received from the Kafka topic
+   * @param acknowledgment the {@link Acknowledgment} of the record
+   */
+  @KafkaListener(
+    id = USER_EVENT_PARALLEL_LISTENER_ID,
+    containerFactory = "userParallelKafkaListenerContainerFactory",
+    groupId = "#{kafkaConsumerProperties.listener['user'].groupId}",
+    topicPattern = "#{kafkaConsumerProperties.listener['user'].topicPattern}",
+    concurrency = "#{kafkaConsumerProperties.listener['user'].concurrency}",
+    filter = "meteredTenantAwareMessageFilter",
+    autoStartup = "#{!userEventBatchConfiguration.enabled && userEventParallelConfiguration.enabled}")
+  public void handleUserEventInParallel(ConsumerRecord<String, UserEvent> consumerRecord,
+    Acknowledgment acknowledgment) {
+    var event = consumerRecord.value();
+    requireNonNull(event.getType(), "Event type must not be null");
+    log.debug("User event received for parallel processing: {}", () -> briefView(event));
+
+    var key = event.getTenant() + ":" + getUserId(event);
+    keyOrderedExecutor.submit(key, () -> handleEvent(USER_EVENT_PARALLEL_LISTENER_ID, event, this::processUserEvent))
+      .whenComplete((result, error) -> {
+        resumeParallelListenerIfPossible();
+        if (error != null) {
+          recoverParallelEvent(consumerRecord, error);
+        }
+        acknowledgment.acknowledge();
+      });
+
+    if (!keyOrderedExecutor.hasCapacity()) {
+      getParallelListenerContainer().ifPresent(MessageListenerContainer::pause);
+      resumeParallelListenerIfPossible();
+    }
+  }
+
+  private void recoverParallelEvent(ConsumerRecord<String, UserEvent> consumerRecord, Throwable error) {
+    var cause = unwrapCompletionError(error);
+    var exception = cause instanceof Exception e ? e : new IllegalStateException(cause);
+    try {
+      kafkaEventRecoverer.accept(consumerRecord, exception);
+    } catch (Exception e) {
+      log.error("Failed to recover user event, it is skipped: topic = {}, partition = {}, offset = {}, event = {}",
+        consumerRecord.topic(), consumerRecord.partition(), consumerRecord.offset(),
+        briefView(consumerRecord.value()), e);
+      listenerMetrics.recordUnrecovered(USER_EVENT_PARALLEL_LISTENER_ID, consumerRecord.topic());
+    }
+  }
+
+  private void resumeParallelListenerIfPossible() {
+    if (keyOrderedExecutor.hasCapacity()) {
+      getParallelListenerContainer()
+        .filter(MessageListenerContainer::isPauseRequested)
+        .ifPresent(MessageListenerContainer::resume);
+    }
+  }
+
+  private Optional<MessageListenerContainer> getParallelListenerContainer() {
+    return Optional.ofNullable(kafkaListenerEndpointRegistry.getListenerContainer(USER_EVENT_PARALLEL_LISTENER_ID));
+  }
+
+  private void processUserEvent(UserEvent event) {
+    switch (event.getType()) {
+      case UPDATE -> {
+        compositeUserCache.evict(event.getTenant(), getUserId(event));
+        userService.updateUserOnEvent(event.getNewValue(), event.getOldValue());
+      }
+      case DELETE -> compositeUserCache.evict(event.getTenant(), getUserId(event));
+      case CREATE ->
+        log.debug("Received user event with type {} is ignored: eventId = {}", event.getType(), event.getId());
+      default -> throw new IllegalStateException("Received user event with unsupported type: " + event.getType());
+    }
+  }
+
+  /**
+   * Handles a batch of user domain events received from the {@code users.users} Kafka topic, used instead of
+   * {@link #handleUserEvent(UserEvent)} when batch processing is enabled.
+   *
+   * <p>Events are grouped by tenant and user id: cached composite user values are evicted once per user and only
+   * the latest active-state transition of a user is synced to Keycloak. Users are processed concurrently, if
+   * processing of any user fails, a {@link BatchListenerFailedException} is thrown for the first record of the
+   * earliest failed user, so that only this record is retried or recovered and the records preceding it are
+   * committed.</p>
+   *
+   * @param records the list of {@link UserEvent} records received in a single poll
+   */
+  @KafkaListener(
+    id = USER_EVENT_BATCH_LISTENER_ID,
+    containerFactory = "userBatchKafkaListenerContainerFactory",
+    groupId = "#{kafkaConsumerProperties.listener['user'].groupId}",
+    topicPattern = "#{kafkaConsumerProperties.listener['user'].topicPattern}",
+    concurrency = "#{kafkaConsumerProperties.listener['user'].concurrency}",
+    filter = "meteredTenantAwareMessageFilter",
+    autoStartup = "#{userEventBatchConfiguration.enabled}")
+  public void handleUserEvents(List<ConsumerRecord<String, UserEvent>> records) {
+    log.debug("User events batch received: size = {}", records.size());
+
+    var recordsByUser = new LinkedHashMap<String, List<ConsumerRecord<String, UserEvent>>>();
+    for (var consumerRecord : records) {
+      var event = consumerRecord.value();
+      if (event.getType() == null || !SUPPORTED_USER_EVENT_TYPES.contains(event.getType())) {
+        throw new BatchListenerFailedException("Received user event with unsupported type: " + event.getType(),
+          consumerRecord);
       }
+
+      var key = event.getTenant() + ":" + getUserId(event);
+      recordsByUser.computeIfAbsent(key, k -> new ArrayList<>()).add(consumerRecord);
+    }
+
+    handleConcurrently(recordsByUser.values(), this::handleUserEventsOfUser);
+  }
+
+  private void handleUserEventsOfUser(List<ConsumerRecord<String, UserEvent>> userRecords) {
+    var userEvents = userRecords.stream().map(ConsumerRecord::value).toList();
+    var isChanged = userEvents.stream().anyMatch(event -> event.getType() != ResourceEventType.CREATE);
+    if (!isChanged) {
+      log.debug("Received user events with type CREATE are ignored: count = {}", userEvents.size());
+      return;
+    }
+
+    handleEvent(USER_EVENT_BATCH_LISTENER_ID, userEvents.getLast(), event -> {
+      compositeUserCache.evict(event.getTenant(), getUserId(event));
+      findLatestActiveStateTransition(userEvents)
+        .ifPresent(update -> userService.updateUserOnEvent(update.getNewValue(), update.getOldValue()));
     });
   }
 
-  private <T extends TenantAwareEvent> void handleEvent(T event, Consumer<T> handler) {
-    Map<String, Collection<String>> headers =
-      Map.of(TENANT, List.of(event.getTenant()), URL, List.of(okapiProperties.getUrl()));
-    try (var ignored = new FolioExecutionContextSetter(metadata, headers)) {
-      handler.accept(event);
+  private void handleConcurrently(Collection<List<ConsumerRecord<String, UserEvent>>> recordGroups,
+    Consumer<List<ConsumerRecord<String, UserEvent>>> handler) {
+    var permits = new Semaphore(userEventBatchConfiguration.getMaxParallelism());
+    var futures = new ArrayList<CompletableFuture<Void>>(recordGroups.size());
+    for (var recordGroup : recordGroups) {
+      permits.acquireUninterruptibly();
+      futures.add(CompletableFuture.runAsync(() -> handler.accept(recordGroup), virtualTaskExecutor)
+        .whenComplete((result, error) -> permits.release()));
     }
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).handle((result, error) -> null).join();
+    var groupIterator = recordGroups.iterator();
+    for (var future : futures) {
+      var recordGroup = groupIterator.next();
+      try {
+        future.join();
+      } catch (CompletionException e) {
+        var cause = unwrapCompletionError(e);
+        throw new BatchListenerFailedException("Failed to process user events: " + cause.getMessage(), cause,
+          recordGroup.getFirst());
+      }
+    }
+  }
+
+  private static Optional<UserEvent> findLatestActiveStateTransition(List<UserEvent> userEvents) {
+    return userEvents.reversed().stream()
+      .filter(event -> event.getType() == ResourceEventType.UPDATE)
+      .filter(event -> event.getNewValue() != null && event.getOldValue() != null)
+      .filter(event -> !Objects.equals(event.getNewValue().getActive(), event.getOldValue().getActive()))
+      .findFirst();
+  }
+
+  private <T extends TenantAwareEvent> void handleEvent(String listenerId, T event, Consumer<T> handler) {
+    listenerMetrics.recordProcessing(listenerId, event, () -> {
+      Map<String, Collection<String>> headers =
+        Map.of(TENANT, List.of(event.getTenant()), URL, List.of(okapiProperties.getUrl()));
+      try (var ignored = new FolioExecutionContextSetter(metadata, headers)) {
+        handler.accept(event);
+      }
+    });
+  }
+
+  private static UUID getUserId(UserEvent event) {
+    return getSafeOr(event.getNewValue(), User::getId, () -> getSafeOr(event.getOldValue(), User::getId, () -> null));
   }
 
   private static String briefView(UserEvent event) {
@@ -102,10 +309,8 @@ public class KafkaMessageListener {
       .append("id", event.getId())
       .append("type", event.getType())
       .append("tenant", event.getTenant())
-      .append("userId", getSafeOr(
-        event.getNewValue(), User::getId,
-        () -> getSafeOr(event.getOldValue(), User::getId, () -> null))
-      ).toString();
+      .append("userId", getUserId(event))
+      .toString();
   }
 
   private static <E, T> T getSafeOr(E subject, Function<E, T> extractor, Supplier<T> defaultSupplier) {
@@ -0,0 +1,76 @@
+package org.folio.uk.integration.kafka;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Records the duration of Kafka consumer group rebalances.
+ *
+ * <p>A rebalance starts when it is requested by {@link KafkaAdminService} or when partitions of the group are revoked
+ * or lost, and ends when partitions are assigned to the first consumer of the group. The duration is tagged with the
+ * consumer group and the rebalance trigger.</p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class KafkaRebalanceMetrics implements ConsumerAwareRebalanceListener {
+
+  public static final String REBALANCE_METRIC = "folio.kafka.listener.rebalance";
+
+  private final Map<String, RebalanceStart> pendingRebalances = new ConcurrentHashMap<>();
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Starts measuring a rebalance enforced for the consumer group.
+   *
+   * @param groupId - Kafka consumer group identifier
+   */
+  public void rebalanceRequested(String groupId) {
+    if (groupId == null) {
+      return;
+    }
+
+    pendingRebalances.put(groupId, new RebalanceStart(Timer.start(meterRegistry), "enforced"));
+  }
+
+  @Override
+  public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+    pendingRebalances.putIfAbsent(getGroupId(consumer), new RebalanceStart(Timer.start(meterRegistry), "revoked"));
+  }
+
+  @Override
+  public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+    pendingRebalances.putIfAbsent(getGroupId(consumer), new RebalanceStart(Timer.start(meterRegistry), "lost"));
+  }
+
+  @Override
+  public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+    var groupId = getGroupId(consumer);
+    var rebalanceStart = pendingRebalances.remove(groupId);
+    if (rebalanceStart == null) {
+      return;
+    }
+
+    var duration = rebalanceStart.sample().stop(Timer.builder(REBALANCE_METRIC)
+      .description("Duration of Kafka consumer group rebalances")
+      .tags("group", groupId, "trigger", rebalanceStart.trigger())
+      .register(meterRegistry));
+    log.info("Kafka consumer group rebalanced: group = {}, trigger = {}, assigned partitions = {}, duration = {} ms",
+      groupId, rebalanceStart.trigger(), partitions.size(), duration / 1_000_000);
+  }
+
+  private static String getGroupId(Consumer<?, ?> consumer) {
+    return consumer.groupMetadata().groupId();
+  }
+
+  private record RebalanceStart(Timer.Sample sample, String trigger) {}
+}
@@ -0,0 +1,67 @@
+package org.folio.uk.integration.kafka;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.uk.integration.kafka.configuration.UserEventParallelConfiguration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Executes tasks concurrently on the shared virtual thread executor, while tasks submitted with the same key are
+ * executed one after another in the submission order.
+ *
+ * <p>{@link #submit(String, Runnable)} does not wait for a free slot, the number of submitted and not yet completed
+ * tasks is tracked instead, so that the caller can stop submitting tasks while {@link #hasCapacity()} is
+ * {@code false}.</p>
+ */
+@Component
+public class KeyOrderedExecutor {
+
+  private final Executor executor;
+  private final int maxInFlight;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Map<String, CompletableFuture<Void>> lastTasks = new ConcurrentHashMap<>();
+
+  @Autowired
+  public KeyOrderedExecutor(UserEventParallelConfiguration configuration,
+    @Qualifier("virtualTaskExecutor") Executor executor) {
+    this(executor, configuration.getMaxInFlight());
+  }
+
+  KeyOrderedExecutor(Executor executor, int maxInFlight) {
+    this.executor = executor;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Submits a task to be executed after all previously submitted tasks with the same key are completed.
+   *
+   * @param key - ordering key
+   * @param task - task to execute
+   * @return {@link CompletableFuture} completed when the task is completed
+   */
+  public CompletableFuture<Void> submit(String key, Runnable task) {
+    inFlight.incrementAndGet();
+    var future = lastTasks.compute(key, (k, previous) -> previous == null
+      ? CompletableFuture.runAsync(task, executor)
+      : previous.handle((result, error) -> null).thenRunAsync(task, executor));
+
+    return future.whenComplete((result, error) -> {
+      lastTasks.remove(key, future);
+      inFlight.decrementAndGet();
+    });
+  }
+
+  /**
+   * Checks if the number of submitted and not yet completed tasks is below the configured limit.
+   *
+   * @return true if more tasks can be submitted
+   */
+  public boolean hasCapacity() {
+    return inFlight.get() < maxInFlight;
+  }
+}
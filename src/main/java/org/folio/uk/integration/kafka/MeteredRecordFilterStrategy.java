@@ -0,0 +1,61 @@
+package org.folio.uk.integration.kafka;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.integration.kafka.model.TenantAwareEvent;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+
+/**
+ * {@link RecordFilterStrategy} decorator, which counts records discarded by the delegate filter.
+ *
+ * @param <K> - record key type
+ * @param <V> - record value type
+ */
+@RequiredArgsConstructor
+public class MeteredRecordFilterStrategy<K, V> implements RecordFilterStrategy<K, V> {
+
+  private final RecordFilterStrategy<K, V> delegate;
+  private final KafkaListenerMetrics listenerMetrics;
+
+  @Override
+  public boolean filter(ConsumerRecord<K, V> consumerRecord) {
+    var discarded = delegate.filter(consumerRecord);
+    if (discarded) {
+      listenerMetrics.recordFiltered(consumerRecord.topic(), getTenant(consumerRecord), 1);
+    }
+
+    return discarded;
+  }
+
+  @Override
+  public List<ConsumerRecord<K, V>> filterBatch(List<ConsumerRecord<K, V>> records) {
+    var received = new ArrayList<>(records);
+    var retained = delegate.filterBatch(records);
+    if (retained.size() == received.size()) {
+      return retained;
+    }
+
+    var retainedRecords = Collections.newSetFromMap(new IdentityHashMap<ConsumerRecord<K, V>, Boolean>());
+    retainedRecords.addAll(retained);
+    for (var consumerRecord : received) {
+      if (!retainedRecords.contains(consumerRecord)) {
+        listenerMetrics.recordFiltered(consumerRecord.topic(), getTenant(consumerRecord), 1);
+      }
+    }
+
+    return retained;
+  }
+
+  @Override
+  public boolean ignoreEmptyBatch() {
+    return delegate.ignoreEmptyBatch();
+  }
+
+  private static String getTenant(ConsumerRecord<?, ?> consumerRecord) {
+    return consumerRecord.value() instanceof TenantAwareEvent event ? event.getTenant() : null;
+  }
+}
@@ -0,0 +1,22 @@
+package org.folio.uk.integration.kafka;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown when a retry topic event is consumed before its retry delay has elapsed, the event is redelivered when the
+ * remaining delay is over.
+ */
+@Getter
+public class RetryNotDueException extends RuntimeException {
+
+  /**
+   * Time remaining until the event can be processed.
+   */
+  private final Duration remainingDelay;
+
+  public RetryNotDueException(Duration remainingDelay) {
+    super("Retry is not due yet, remaining delay: " + remainingDelay);
+    this.remainingDelay = remainingDelay;
+  }
+}
@@ -0,0 +1,81 @@
+package org.folio.uk.integration.kafka;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.uk.integration.kafka.model.SystemUserEvent;
+import org.folio.uk.integration.kafka.model.UserEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.stereotype.Service;
+
+/**
+ * Consumes retry topics of events failed because the tenant was disabled, see {@link KafkaEventRecoverer}, and of
+ * events replayed from dead letter topics, see {@link DeadLetterReplayService}.
+ *
+ * <p>An event is processed only when its retry delay has elapsed, otherwise {@link RetryNotDueException} is thrown
+ * and the partition is paused for the remaining delay. The tenant filter is applied before processing, so the event
+ * is re-published to the retry topic with the next attempt if the tenant is still disabled.</p>
+ */
+@Log4j2
+@Service
+@RequiredArgsConstructor
+public class RetryTopicListener {
+
+  private static final String SYSTEM_USER_EVENT_RETRY_LISTENER_ID = "system-user-event-retry-listener";
+  private static final String USER_EVENT_RETRY_LISTENER_ID = "user-event-retry-listener";
+
+  private final KafkaMessageListener kafkaMessageListener;
+  @Qualifier("meteredTenantAwareMessageFilter")
+  private final RecordFilterStrategy<Object, Object> tenantAwareMessageFilter;
+
+  /**
+   * Handles system user event from the retry topic.
+   *
+   * @param consumerRecord - retry topic record with system user {@link SystemUserEvent} value
+   */
+  @KafkaListener(
+    id = SYSTEM_USER_EVENT_RETRY_LISTENER_ID,
+    containerFactory = "systemUserRetryKafkaListenerContainerFactory",
+    groupId = "#{kafkaConsumerProperties.listener['system-user'].groupId + '-retry'}",
+    topicPattern = "#{kafkaConsumerProperties.listener['system-user'].topicPattern"
+      + " + kafkaRetryTopicConfiguration.topicSuffix}",
+    autoStartup = "#{kafkaRetryTopicConfiguration.enabled or deadLetterConfiguration.enabled}")
+  public void handleSystemUserEvent(ConsumerRecord<String, SystemUserEvent> consumerRecord) {
+    if (isProcessable(consumerRecord)) {
+      kafkaMessageListener.handleSystemUserEvent(consumerRecord.value());
+    }
+  }
+
+  /**
+   * Handles user event from the retry topic.
+   *
+   * @param consumerRecord - retry topic record with {@link UserEvent} value
+   */
+  @KafkaListener(
+    id = USER_EVENT_RETRY_LISTENER_ID,
+    containerFactory = "userRetryKafkaListenerContainerFactory",
+    groupId = "#{kafkaConsumerProperties.listener['user'].groupId + '-retry'}",
+    topicPattern = "#{kafkaConsumerProperties.listener['user'].topicPattern"
+      + " + kafkaRetryTopicConfiguration.topicSuffix}",
+    autoStartup = "#{kafkaRetryTopicConfiguration.enabled or deadLetterConfiguration.enabled}")
+  public void handleUserEvent(ConsumerRecord<String, UserEvent> consumerRecord) {
+    if (isProcessable(consumerRecord)) {
+      kafkaMessageListener.handleUserEvent(consumerRecord.value());
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private boolean isProcessable(ConsumerRecord<String, ?> consumerRecord) {
+    var remainingDelay = KafkaEventRecoverer.getRetryDueAt(consumerRecord) - System.currentTimeMillis();
+    if (remainingDelay > 0) {
+      throw new RetryNotDueException(Duration.ofMillis(remainingDelay));
+    }
+
+    log.debug("Retrying event [topic: {}, offset: {}, originalTopic: {}]", consumerRecord.topic(),
+      consumerRecord.offset(), KafkaEventRecoverer.getOriginalTopic(consumerRecord));
+    return !tenantAwareMessageFilter.filter((ConsumerRecord<Object, Object>) (ConsumerRecord<?, ?>) consumerRecord);
+  }
+}
@@ -0,0 +1,47 @@
+package org.folio.uk.integration.kafka.configuration;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Dead letter topic configuration for Kafka event listeners, bound to {@code application.kafka.dead-letter.*}
+ * properties.
+ *
+ * <p>When enabled, events that cannot be processed are published to a dead letter topic named after the topic of the
+ * event with {@link #topicSuffix} appended, together with the exception headers. Dead letter topics can be replayed
+ * to the original topics in bounded batches.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties("application.kafka.dead-letter")
+public class DeadLetterConfiguration {
+
+  /**
+   * Defines if failed events are published to dead letter topics, otherwise they are logged and skipped.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Suffix appended to the topic of the failed event to get the dead letter topic name.
+   */
+  @NotBlank
+  private String topicSuffix = "-dlt";
+
+  /**
+   * Consumer group used to replay dead letter topics.
+   */
+  @NotBlank
+  private String replayGroupId = "mod-users-keycloak-dlt-replay-group";
+
+  /**
+   * Maximum time to wait for dead letter records in a single poll during replay.
+   */
+  @NotNull
+  private Duration replayPollTimeout = Duration.ofSeconds(5);
+}
@@ -3,33 +3,60 @@ package org.folio.uk.integration.kafka.configuration;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG;
 import static org.apache.kafka.clients.consumer.ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.Strings;
+import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
 import org.folio.integration.kafka.consumer.EnableKafkaConsumer;
-import org.folio.integration.kafka.consumer.filter.TenantIsDisabledException;
-import org.folio.integration.kafka.consumer.filter.TenantsAreDisabledException;
 import org.folio.uk.configuration.RetryProperties;
+import org.folio.uk.integration.kafka.KafkaEventRecoverer;
+import org.folio.uk.integration.kafka.KafkaListenerMetrics;
+import org.folio.uk.integration.kafka.KafkaRebalanceMetrics;
+import org.folio.uk.integration.kafka.MeteredRecordFilterStrategy;
+import org.folio.uk.integration.kafka.RetryNotDueException;
+import org.folio.uk.integration.kafka.model.RawValueRetainingDeserializer;
+import org.folio.uk.integration.kafka.model.StreamingUserEventDeserializer;
 import org.folio.uk.integration.kafka.model.SystemUserEvent;
 import org.folio.uk.integration.kafka.model.UserEvent;
 import org.folio.uk.integration.kafka.model.UserEventDeserializer;
+import org.folio.uk.integration.kafka.model.UserEventSerializer;
 import org.hibernate.exception.SQLGrammarException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.kafka.autoconfigure.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.kafka.KafkaException.Level;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerPausingBackOffHandler;
+import org.springframework.kafka.listener.ContainerProperties.AckMode;
 import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.listener.ListenerContainerPauseService;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
 import org.springframework.kafka.support.serializer.JacksonJsonDeserializer;
+import org.springframework.kafka.support.serializer.JacksonJsonSerializer;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.util.backoff.BackOff;
 import org.springframework.util.backoff.FixedBackOff;
 import tools.jackson.databind.json.JsonMapper;
@@ -43,19 +70,43 @@ public class KafkaConfiguration {
   private final KafkaProperties kafkaProperties;
   private final SystemUserEventRetryConfiguration systemUserEventRetryConfiguration;
   private final UserEventRetryConfiguration userEventRetryConfiguration;
+  private final KafkaRetryTopicConfiguration retryTopicConfiguration;
+  private final MeterRegistry meterRegistry;
+  private final KafkaRebalanceMetrics rebalanceMetrics;
 
   @Bean
   public ConcurrentKafkaListenerContainerFactory<String, SystemUserEvent> systemUserKafkaListenerContainerFactory(
-    ConsumerFactory<String, SystemUserEvent> consumerFactory) {
+    ConsumerFactory<String, SystemUserEvent> consumerFactory, KafkaEventRecoverer kafkaEventRecoverer) {
     var factory = new ConcurrentKafkaListenerContainerFactory<String, SystemUserEvent>();
     factory.setConsumerFactory(consumerFactory);
-    factory.setCommonErrorHandler(eventErrorHandler(systemUserEventRetryConfiguration));
+    factory.getContainerProperties().setConsumerRebalanceListener(rebalanceMetrics);
+    factory.setCommonErrorHandler(eventErrorHandler(systemUserEventRetryConfiguration, kafkaEventRecoverer));
+    return factory;
+  }
+
+  /**
+   * Creates the {@link ConcurrentKafkaListenerContainerFactory} for the {@code system-user} retry topic listener.
+   *
+   * @param consumerFactory the {@link ConsumerFactory} supplying deserialized {@link SystemUserEvent} records
+   * @param kafkaEventRecoverer the {@link KafkaEventRecoverer} for events failed again
+   * @param pauseService the {@link ListenerContainerPauseService} pausing partitions until retry is due
+   * @return configured container factory
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, SystemUserEvent> systemUserRetryKafkaListenerContainerFactory(
+    ConsumerFactory<String, SystemUserEvent> consumerFactory, KafkaEventRecoverer kafkaEventRecoverer,
+    ListenerContainerPauseService pauseService) {
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, SystemUserEvent>();
+    factory.setConsumerFactory(consumerFactory);
+    factory.getContainerProperties().setConsumerRebalanceListener(rebalanceMetrics);
+    factory.setCommonErrorHandler(retryEventErrorHandler(kafkaEventRecoverer, pauseService));
     return factory;
   }
 
   @Bean
   public ConsumerFactory<String, SystemUserEvent> systemUserConsumerFactory() {
-    return getConsumerFactory(new JacksonJsonDeserializer<>(SystemUserEvent.class));
+    var deserializer = new JacksonJsonDeserializer<>(SystemUserEvent.class);
+    return getConsumerFactory(new RawValueRetainingDeserializer<>(deserializer));
   }
 
   /**
@@ -63,27 +114,159 @@ public class KafkaConfiguration {
    * wired with retry/back-off behaviour defined by {@link UserEventRetryConfiguration}.
    *
    * @param consumerFactory the {@link ConsumerFactory} supplying deserialized {@link UserEvent} records
+   * @param kafkaEventRecoverer the {@link KafkaEventRecoverer} for failed events
    * @return configured container factory
    */
   @Bean
   public ConcurrentKafkaListenerContainerFactory<String, UserEvent> userKafkaListenerContainerFactory(
-    ConsumerFactory<String, UserEvent> consumerFactory) {
+    ConsumerFactory<String, UserEvent> consumerFactory, KafkaEventRecoverer kafkaEventRecoverer) {
+    return userEventContainerFactory(consumerFactory, kafkaEventRecoverer);
+  }
+
+  /**
+   * Creates the {@link ConcurrentKafkaListenerContainerFactory} for the {@code users.users} retry topic listener.
+   *
+   * @param consumerFactory the {@link ConsumerFactory} supplying deserialized {@link UserEvent} records
+   * @param kafkaEventRecoverer the {@link KafkaEventRecoverer} for events failed again
+   * @param pauseService the {@link ListenerContainerPauseService} pausing partitions until retry is due
+   * @return configured container factory
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, UserEvent> userRetryKafkaListenerContainerFactory(
+    ConsumerFactory<String, UserEvent> consumerFactory, KafkaEventRecoverer kafkaEventRecoverer,
+    ListenerContainerPauseService pauseService) {
     var factory = new ConcurrentKafkaListenerContainerFactory<String, UserEvent>();
     factory.setConsumerFactory(consumerFactory);
-    factory.setCommonErrorHandler(eventErrorHandler(userEventRetryConfiguration));
+    factory.getContainerProperties().setConsumerRebalanceListener(rebalanceMetrics);
+    factory.setCommonErrorHandler(retryEventErrorHandler(kafkaEventRecoverer, pauseService));
     return factory;
   }
 
+  /**
+   * Creates the batch {@link ConcurrentKafkaListenerContainerFactory} for the {@code users.users} topic listener,
+   * used when {@link UserEventBatchConfiguration#isEnabled()} is set. When the listener reports the failed record with
+   * a {@code BatchListenerFailedException}, the offsets of the preceding records are committed and only the failed
+   * record is retried or recovered, the records following it are redelivered.
+   *
+   * @param consumerFactory the {@link ConsumerFactory} supplying deserialized {@link UserEvent} records
+   * @param kafkaEventRecoverer the {@link KafkaEventRecoverer} for failed events
+   * @return configured batch container factory
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, UserEvent> userBatchKafkaListenerContainerFactory(
+    ConsumerFactory<String, UserEvent> consumerFactory, KafkaEventRecoverer kafkaEventRecoverer) {
+    var factory = userEventContainerFactory(consumerFactory, kafkaEventRecoverer);
+    factory.setBatchListener(true);
+    return factory;
+  }
+
+  /**
+   * Creates the {@link ConcurrentKafkaListenerContainerFactory} for the key-ordered parallel {@code users.users} topic
+   * listener, used when {@link UserEventParallelConfiguration#isEnabled()} is set. Records are acknowledged manually
+   * when processed, out-of-order acknowledgments are deferred until all preceding records of the partition are
+   * acknowledged, and records discarded by the tenant filter are acknowledged immediately.
+   *
+   * @param consumerFactory the {@link ConsumerFactory} supplying deserialized {@link UserEvent} records
+   * @param kafkaEventRecoverer the {@link KafkaEventRecoverer} for failed events
+   * @return configured container factory
+   */
+  @Bean
+  public ConcurrentKafkaListenerContainerFactory<String, UserEvent> userParallelKafkaListenerContainerFactory(
+    ConsumerFactory<String, UserEvent> consumerFactory, KafkaEventRecoverer kafkaEventRecoverer) {
+    var factory = userEventContainerFactory(consumerFactory, kafkaEventRecoverer);
+    factory.setAckDiscarded(true);
+    factory.getContainerProperties().setAckMode(AckMode.MANUAL);
+    factory.getContainerProperties().setAsyncAcks(true);
+    return factory;
+  }
+
+  /**
+   * Decorates the tenant filter of the {@code folio-kafka-consumer} library to count discarded records.
+   *
+   * @param tenantAwareMessageFilter the tenant filter provided by the library
+   * @param listenerMetrics the {@link KafkaListenerMetrics} recording discarded records
+   * @return metered record filter strategy
+   */
+  @Bean
+  @SuppressWarnings("unchecked")
+  public RecordFilterStrategy<Object, Object> meteredTenantAwareMessageFilter(
+    @Qualifier("tenantAwareMessageFilter") RecordFilterStrategy<?, ?> tenantAwareMessageFilter,
+    KafkaListenerMetrics listenerMetrics) {
+    return new MeteredRecordFilterStrategy<>((RecordFilterStrategy<Object, Object>) tenantAwareMessageFilter,
+      listenerMetrics);
+  }
+
   /**
    * Creates the {@link ConsumerFactory} for the {@code users.users} topic, using a custom
    * {@link UserEventDeserializer} to handle the wire-format differences of mod-users events.
    *
+   * <p>If {@code application.kafka.streaming-user-event-deserializer} is set, the
+   * {@link StreamingUserEventDeserializer} is used instead, which reads only the fields used by the listener. The
+   * original value bytes are kept by {@link RawValueRetainingDeserializer} for failed events.
+   *
    * @param jsonMapper the {@link JsonMapper} injected into the deserializer
+   * @param streamingDeserializer defines if the streaming deserializer is used
+   * @return configured consumer factory
+   */
+  @Bean
+  public ConsumerFactory<String, UserEvent> userConsumerFactory(JsonMapper jsonMapper,
+    @Value("${application.kafka.streaming-user-event-deserializer:false}") boolean streamingDeserializer) {
+    Deserializer<UserEvent> deserializer = streamingDeserializer
+      ? new StreamingUserEventDeserializer(jsonMapper)
+      : new UserEventDeserializer(jsonMapper);
+    return getConsumerFactory(new RawValueRetainingDeserializer<>(deserializer));
+  }
+
+  /**
+   * Creates the {@link ConsumerFactory} reading dead letter topics as raw bytes, used to replay them.
+   *
    * @return configured consumer factory
    */
+  @Bean(defaultCandidate = false)
+  public ConsumerFactory<String, byte[]> deadLetterConsumerFactory() {
+    return getConsumerFactory(new ByteArrayDeserializer());
+  }
+
+  /**
+   * Creates the {@link KafkaOperations} publishing events to retry and dead letter topics. {@link UserEvent} values
+   * are written in the {@code users.users} wire format, raw bytes are written as is, and other values are written as
+   * JSON.
+   *
+   * @param jsonMapper the {@link JsonMapper} used by the value serializers
+   * @return kafka template for failed events
+   */
+  @Bean(defaultCandidate = false)
+  public KafkaOperations<String, Object> eventKafkaTemplate(JsonMapper jsonMapper) {
+    var delegates = new LinkedHashMap<Class<?>, Serializer<?>>();
+    delegates.put(byte[].class, new ByteArraySerializer());
+    delegates.put(UserEvent.class, new UserEventSerializer(jsonMapper));
+    delegates.put(Object.class, new JacksonJsonSerializer<>(jsonMapper).noTypeInfo());
+
+    var producerFactory = new DefaultKafkaProducerFactory<String, Object>(kafkaProperties.buildProducerProperties(),
+      new StringSerializer(), new DelegatingByTypeSerializer(delegates, true));
+    return new KafkaTemplate<>(producerFactory);
+  }
+
+  @Bean
+  public KafkaEventRecoverer kafkaEventRecoverer(
+    @Qualifier("eventKafkaTemplate") KafkaOperations<String, Object> eventKafkaTemplate,
+    DeadLetterConfiguration deadLetterConfiguration, KafkaRetryTopicConfiguration retryTopicConfiguration) {
+    return new KafkaEventRecoverer(eventKafkaTemplate, deadLetterConfiguration, retryTopicConfiguration);
+  }
+
   @Bean
-  public ConsumerFactory<String, UserEvent> userConsumerFactory(JsonMapper jsonMapper) {
-    return getConsumerFactory(new UserEventDeserializer(jsonMapper));
+  public ListenerContainerPauseService listenerContainerPauseService(KafkaListenerEndpointRegistry registry,
+    TaskScheduler taskScheduler) {
+    return new ListenerContainerPauseService(registry, taskScheduler);
+  }
+
+  private ConcurrentKafkaListenerContainerFactory<String, UserEvent> userEventContainerFactory(
+    ConsumerFactory<String, UserEvent> consumerFactory, KafkaEventRecoverer kafkaEventRecoverer) {
+    var factory = new ConcurrentKafkaListenerContainerFactory<String, UserEvent>();
+    factory.setConsumerFactory(consumerFactory);
+    factory.getContainerProperties().setConsumerRebalanceListener(rebalanceMetrics);
+    factory.setCommonErrorHandler(eventErrorHandler(userEventRetryConfiguration, kafkaEventRecoverer));
+    return factory;
   }
 
   private <T> ConsumerFactory<String, T> getConsumerFactory(Deserializer<T> valueDeserializer) {
@@ -91,20 +274,46 @@ public class KafkaConfiguration {
     config.put(KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
     config.put(VALUE_DESERIALIZER_CLASS_CONFIG, valueDeserializer);
     config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-    return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), valueDeserializer);
+    var consumerFactory = new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), valueDeserializer);
+    consumerFactory.addListener(new MicrometerConsumerListener<>(meterRegistry));
+    return consumerFactory;
   }
 
-  private DefaultErrorHandler eventErrorHandler(RetryProperties retryProperties) {
-    var errorHandler = new DefaultErrorHandler((message, exception) ->
-      log.warn("Failed to process event [record: {}]", message, exception.getCause()));
+  private DefaultErrorHandler eventErrorHandler(RetryProperties retryProperties,
+    KafkaEventRecoverer kafkaEventRecoverer) {
+    var errorHandler = new DefaultErrorHandler(kafkaEventRecoverer);
     errorHandler.setBackOffFunction((message, exception) -> getBackOff(exception, retryProperties));
     errorHandler.setLogLevel(Level.DEBUG);
 
     return errorHandler;
   }
 
+  /**
+   * Creates the error handler of retry topic listeners. Partitions are paused instead of blocking the consumer thread
+   * until the retry of the event is due, any other failure is passed to the {@link KafkaEventRecoverer} immediately.
+   */
+  private static DefaultErrorHandler retryEventErrorHandler(KafkaEventRecoverer kafkaEventRecoverer,
+    ListenerContainerPauseService pauseService) {
+    var errorHandler = new DefaultErrorHandler(kafkaEventRecoverer, new FixedBackOff(0L, 0L),
+      new ContainerPausingBackOffHandler(pauseService));
+    errorHandler.setBackOffFunction((message, exception) -> {
+      var retryNotDueException = ExceptionUtils.throwableOfType(exception, RetryNotDueException.class);
+      return retryNotDueException != null
+        ? new FixedBackOff(retryNotDueException.getRemainingDelay().toMillis(), FixedBackOff.UNLIMITED_ATTEMPTS)
+        : new FixedBackOff(0L, 0L);
+    });
+    errorHandler.setLogLevel(Level.DEBUG);
+
+    return errorHandler;
+  }
+
   private BackOff getBackOff(Exception exception, RetryProperties retryProperties) {
-    if (exception instanceof TenantsAreDisabledException || exception instanceof TenantIsDisabledException) {
+    if (KafkaEventRecoverer.isTenantDisabled(exception)) {
+      if (retryTopicConfiguration.isEnabled()) {
+        log.warn("Tenant(s) is disabled, publishing Kafka event to retry topic", exception);
+        return new FixedBackOff(0L, 0L);
+      }
+
       log.warn("Tenant(s) is disabled, retrying Kafka event", exception);
       return new FixedBackOff(retryProperties.getRetryDelay().toMillis(), retryProperties.getRetryAttempts());
     }
@@ -0,0 +1,62 @@
+package org.folio.uk.integration.kafka.configuration;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Non-blocking retry configuration for events of disabled tenants, bound to {@code application.kafka.retry-topic.*}
+ * properties.
+ *
+ * <p>When enabled, events failed because the tenant is disabled are re-published to a retry topic named after the
+ * topic of the event with {@link #topicSuffix} appended, instead of blocking the partition with in-place retries.
+ * Retry topic events are processed after an exponential back-off, and are published to the dead letter topic when
+ * {@link #maxAttempts} is exhausted.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties("application.kafka.retry-topic")
+public class KafkaRetryTopicConfiguration {
+
+  /**
+   * Defines if events of disabled tenants are retried through retry topics.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Suffix appended to the topic of the failed event to get the retry topic name.
+   */
+  @NotBlank
+  private String topicSuffix = "-retry";
+
+  /**
+   * Delay before the first retry attempt.
+   */
+  @NotNull
+  private Duration initialDelay = Duration.ofSeconds(1);
+
+  /**
+   * Multiplier applied to the delay after each retry attempt.
+   */
+  @DecimalMin("1.0")
+  private double multiplier = 2.0;
+
+  /**
+   * Maximum delay between retry attempts.
+   */
+  @NotNull
+  private Duration maxDelay = Duration.ofMinutes(5);
+
+  /**
+   * Maximum number of retry attempts before the event is published to the dead letter topic.
+   */
+  @Positive
+  private int maxAttempts = 20;
+}
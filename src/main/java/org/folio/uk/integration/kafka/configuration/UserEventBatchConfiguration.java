@@ -0,0 +1,32 @@
+package org.folio.uk.integration.kafka.configuration;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Batch processing configuration for the user domain event Kafka listener, bound to
+ * {@code application.batch.user-event.*} properties.
+ *
+ * <p>When enabled, events of a single poll are coalesced per tenant and user and the resulting Keycloak updates are
+ * applied concurrently.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties("application.batch.user-event")
+public class UserEventBatchConfiguration {
+
+  /**
+   * Defines if user events are consumed in batches instead of one record at a time.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum number of users updated in Keycloak concurrently while processing a batch.
+   */
+  @Positive
+  private int maxParallelism = 8;
+}
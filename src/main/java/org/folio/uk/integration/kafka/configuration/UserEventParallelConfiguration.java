@@ -0,0 +1,33 @@
+package org.folio.uk.integration.kafka.configuration;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Key-ordered parallel processing configuration for the user domain event Kafka listener, bound to
+ * {@code application.parallel.user-event.*} properties.
+ *
+ * <p>When enabled, records of a partition are processed concurrently on virtual threads while the order of records
+ * of the same user is preserved, and offsets are committed only when all preceding records are processed. Batch
+ * processing takes precedence if both modes are enabled.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties("application.parallel.user-event")
+public class UserEventParallelConfiguration {
+
+  /**
+   * Defines if user events are processed in parallel with ordering per user.
+   */
+  private boolean enabled = false;
+
+  /**
+   * Maximum number of records being processed at the same time, polling is paused when the limit is reached.
+   */
+  @Positive
+  private int maxInFlight = 256;
+}
@@ -0,0 +1,46 @@
+package org.folio.uk.integration.kafka.model;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+
+/**
+ * Kafka {@link Deserializer} that keeps the original value bytes in the {@link #RAW_VALUE_HEADER} header of the
+ * consumed record, so that failed events are re-published to retry and dead letter topics unchanged, instead of
+ * being re-encoded from the deserialized value.
+ *
+ * @param <T> the type of the deserialized value
+ */
+@RequiredArgsConstructor
+public class RawValueRetainingDeserializer<T> implements Deserializer<T> {
+
+  public static final String RAW_VALUE_HEADER = "folio-raw-value";
+
+  private final Deserializer<T> delegate;
+
+  @Override
+  public void configure(Map<String, ?> configs, boolean isKey) {
+    delegate.configure(configs, isKey);
+  }
+
+  @Override
+  public T deserialize(String topic, byte[] data) {
+    return delegate.deserialize(topic, data);
+  }
+
+  @Override
+  public T deserialize(String topic, Headers headers, byte[] data) {
+    headers.remove(RAW_VALUE_HEADER);
+    if (data != null) {
+      headers.add(RAW_VALUE_HEADER, data);
+    }
+
+    return delegate.deserialize(topic, headers, data);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+}
@@ -0,0 +1,123 @@
+package org.folio.uk.integration.kafka.model;
+
+import static org.folio.uk.integration.kafka.model.UserEventDeserializer.toResourceEventType;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import tools.jackson.core.JsonParser;
+import tools.jackson.core.JsonToken;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Kafka {@link Deserializer} for the {@code users.users} topic, which reads the event in a single pass over
+ * {@link JsonParser} tokens.
+ *
+ * <p>Only {@code id}, {@code tenant}, {@code timestamp}, {@code type} and the {@link UserSnapshot} projection of
+ * {@code data.old} and {@code data.new} are read, all other subtrees are skipped without being materialized. The
+ * {@code oldValue} and {@code newValue} of the resulting {@link UserEvent} contain only the projected fields.</p>
+ */
+@RequiredArgsConstructor
+public class StreamingUserEventDeserializer implements Deserializer<UserEvent> {
+
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Deserializes a raw Kafka message payload into a {@link UserEvent}.
+   *
+   * @param topic the Kafka topic the message was received on
+   * @param data  the raw bytes of the Kafka message value; {@code null} returns {@code null}
+   * @return the deserialized {@link UserEvent}, or {@code null} if {@code data} is {@code null}
+   * @throws SerializationException if deserialization fails
+   */
+  @Override
+  public UserEvent deserialize(String topic, byte[] data) {
+    if (data == null) {
+      return null;
+    }
+
+    try (var parser = jsonMapper.createParser(data)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        throw new IllegalArgumentException("User event must be a JSON object");
+      }
+
+      return readEvent(parser);
+    } catch (Exception e) {
+      throw new SerializationException("Failed to deserialize User Event from message: payload = "
+        + new String(data, StandardCharsets.UTF_8), e);
+    }
+  }
+
+  private static UserEvent readEvent(JsonParser parser) {
+    var builder = UserEvent.builder();
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var fieldName = parser.currentName();
+      var token = parser.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        continue;
+      }
+
+      switch (fieldName) {
+        case "id" -> builder.id(parser.getValueAsString());
+        case "tenant" -> builder.tenant(parser.getValueAsString());
+        case "timestamp" -> builder.timestamp(parser.getValueAsLong());
+        case "type" -> builder.type(toResourceEventType(parser.getValueAsString()));
+        case "data" -> readEventData(parser, builder);
+        default -> parser.skipChildren();
+      }
+    }
+
+    return builder.build();
+  }
+
+  private static void readEventData(JsonParser parser, UserEvent.UserEventBuilder builder) {
+    if (!parser.isExpectedStartObjectToken()) {
+      parser.skipChildren();
+      return;
+    }
+
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var fieldName = parser.currentName();
+      var token = parser.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        continue;
+      }
+
+      switch (fieldName) {
+        case "old" -> builder.oldValue(readUserSnapshot(parser).toUser());
+        case "new" -> builder.newValue(readUserSnapshot(parser).toUser());
+        default -> parser.skipChildren();
+      }
+    }
+  }
+
+  private static UserSnapshot readUserSnapshot(JsonParser parser) {
+    if (!parser.isExpectedStartObjectToken()) {
+      throw new IllegalArgumentException("User value must be a JSON object");
+    }
+
+    UUID id = null;
+    Boolean active = null;
+    String username = null;
+    String type = null;
+    while (parser.nextToken() == JsonToken.PROPERTY_NAME) {
+      var fieldName = parser.currentName();
+      var token = parser.nextToken();
+      if (token == JsonToken.VALUE_NULL) {
+        continue;
+      }
+
+      switch (fieldName) {
+        case "id" -> id = UUID.fromString(parser.getValueAsString());
+        case "active" -> active = parser.getValueAsBoolean();
+        case "username" -> username = parser.getValueAsString();
+        case "type" -> type = parser.getValueAsString();
+        default -> parser.skipChildren();
+      }
+    }
+
+    return new UserSnapshot(id, active, username, type);
+  }
+}
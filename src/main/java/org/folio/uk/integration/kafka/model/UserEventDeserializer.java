@@ -129,7 +129,7 @@ public class UserEventDeserializer implements Deserializer<UserEvent> {
    * @return the matching {@link ResourceEventType}
    * @throws IllegalArgumentException if {@code value} is not a recognised event type
    */
-  private static ResourceEventType toResourceEventType(String value) {
+  static ResourceEventType toResourceEventType(String value) {
     return switch (value) {
       case "CREATED" -> ResourceEventType.CREATE;
       case "UPDATED" -> ResourceEventType.UPDATE;
@@ -0,0 +1,74 @@
+package org.folio.uk.integration.kafka.model;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+import org.folio.integration.kafka.model.ResourceEventType;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Kafka {@link Serializer} that writes a {@link UserEvent} in the wire format of the {@code users.users} topic, so
+ * that events re-published to retry and dead letter topics can be read by {@link UserEventDeserializer} and
+ * {@link StreamingUserEventDeserializer}.
+ */
+@RequiredArgsConstructor
+public class UserEventSerializer implements Serializer<UserEvent> {
+
+  private final JsonMapper jsonMapper;
+
+  /**
+   * Serializes a {@link UserEvent} into the raw Kafka message payload.
+   *
+   * @param topic the Kafka topic the message is sent to
+   * @param event the {@link UserEvent} to serialize; {@code null} returns {@code null}
+   * @return the serialized payload, or {@code null} if {@code event} is {@code null}
+   * @throws SerializationException if serialization fails
+   */
+  @Override
+  public byte[] serialize(String topic, UserEvent event) {
+    if (event == null) {
+      return null;
+    }
+
+    try {
+      var payload = new LinkedHashMap<String, Object>();
+      putIfNotNull(payload, "id", event.getId());
+      putIfNotNull(payload, "tenant", event.getTenant());
+      payload.put("timestamp", event.getTimestamp());
+      putIfNotNull(payload, "type", event.getType() != null ? toWireEventType(event.getType()) : null);
+
+      var data = new LinkedHashMap<String, Object>();
+      putIfNotNull(data, "old", event.getOldValue());
+      putIfNotNull(data, "new", event.getNewValue());
+      payload.put("data", data);
+
+      return jsonMapper.writeValueAsBytes(payload);
+    } catch (Exception e) {
+      throw new SerializationException("Failed to serialize User Event: " + event, e);
+    }
+  }
+
+  /**
+   * Converts a {@link ResourceEventType} to the corresponding wire-format event type string.
+   *
+   * @param type the {@link ResourceEventType} to convert
+   * @return the wire-format event type ({@code "CREATED"}, {@code "UPDATED"}, or {@code "DELETED"})
+   * @throws IllegalArgumentException if {@code type} has no wire-format counterpart
+   */
+  static String toWireEventType(ResourceEventType type) {
+    return switch (type) {
+      case CREATE -> "CREATED";
+      case UPDATE -> "UPDATED";
+      case DELETE -> "DELETED";
+      default -> throw new IllegalArgumentException("Unsupported event type: " + type);
+    };
+  }
+
+  private static void putIfNotNull(Map<String, Object> map, String key, Object value) {
+    if (value != null) {
+      map.put(key, value);
+    }
+  }
+}
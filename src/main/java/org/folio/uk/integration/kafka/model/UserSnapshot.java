@@ -0,0 +1,24 @@
+package org.folio.uk.integration.kafka.model;
+
+import java.util.UUID;
+import org.folio.uk.domain.dto.User;
+
+/**
+ * Projection of a user from the {@code users.users} event, which contains only the fields used by the event listener.
+ *
+ * @param id - user identifier
+ * @param active - user active flag
+ * @param username - username
+ * @param type - user type
+ */
+public record UserSnapshot(UUID id, Boolean active, String username, String type) {
+
+  /**
+   * Converts the snapshot to a {@link User} with only the projected fields populated.
+   *
+   * @return {@link User} object
+   */
+  public User toUser() {
+    return new User().id(id).active(active).username(username).type(type);
+  }
+}
@@ -0,0 +1,274 @@
+package org.folio.uk.integration.keycloak;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.hc.client5.http.ConnectionRequestTimeoutException;
+import org.folio.uk.integration.keycloak.config.KeycloakHttpClientProperties;
+import org.folio.uk.integration.keycloak.config.KeycloakResilienceProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+/**
+ * Applies a circuit breaker and a bulkhead to Keycloak calls of a realm.
+ *
+ * <p>The circuit breaker is opened after a number of consecutive calls failed with an IO error, {@code 429} or
+ * {@code 5xx} status, and calls are rejected until the open duration is over. Then a single trial call is permitted,
+ * which either closes the circuit breaker or opens it again. A call that timed out waiting for a pooled connection is
+ * not counted as a failure, as it is caused by the load of the module rather than by Keycloak.</p>
+ *
+ * <p>The bulkhead limits the number of concurrent calls per realm, a call waits for a free slot up to the configured
+ * time and is rejected afterward. When the pooled HTTP client is used, all realms share its connections to the
+ * Keycloak host, so the number of concurrent calls is also limited by {@code max-connections-per-route} for all realms
+ * together, and a call is rejected by the bulkhead instead of waiting for a connection.</p>
+ */
+@Log4j2
+@Component
+public class KeycloakCallGuard {
+
+  public static final String STATE_METRIC = "keycloak.circuit.breaker.state";
+  public static final String REJECTED_CALLS_METRIC = "keycloak.calls.rejected";
+  public static final String AVAILABLE_CALLS_METRIC = "keycloak.bulkhead.available.calls";
+
+  private static final Duration MIN_RETRY_AFTER = Duration.ofSeconds(1);
+
+  private final KeycloakResilienceProperties properties;
+  private final MeterRegistry meterRegistry;
+  private final Clock clock;
+  private final int maxConcurrentCallsPerRealm;
+  private final Semaphore connectionBulkhead;
+  private final Map<String, RealmGuard> realmGuards = new ConcurrentHashMap<>();
+
+  @Autowired
+  public KeycloakCallGuard(KeycloakResilienceProperties properties, KeycloakHttpClientProperties httpClientProperties,
+    MeterRegistry meterRegistry) {
+    this(properties, httpClientProperties, meterRegistry, Clock.systemUTC());
+  }
+
+  KeycloakCallGuard(KeycloakResilienceProperties properties, KeycloakHttpClientProperties httpClientProperties,
+    MeterRegistry meterRegistry, Clock clock) {
+    this.properties = properties;
+    this.meterRegistry = meterRegistry;
+    this.clock = clock;
+    if (httpClientProperties.isPoolEnabled()) {
+      var maxConnectionsPerRoute = httpClientProperties.getMaxConnectionsPerRoute();
+      this.maxConcurrentCallsPerRealm = Math.min(properties.getMaxConcurrentCalls(), maxConnectionsPerRoute);
+      this.connectionBulkhead = new Semaphore(maxConnectionsPerRoute);
+    } else {
+      this.maxConcurrentCallsPerRealm = properties.getMaxConcurrentCalls();
+      this.connectionBulkhead = null;
+    }
+  }
+
+  /**
+   * Performs the Keycloak call if it is permitted by the circuit breaker and the bulkhead of the realm.
+   *
+   * @param realm - Keycloak realm name
+   * @param callable - Keycloak call
+   * @return result of the call
+   * @throws KeycloakUnavailableException if the call is rejected
+   * @throws Exception if the call failed
+   */
+  public <T> T execute(String realm, Callable<T> callable) throws Exception {
+    if (!properties.isEnabled()) {
+      return callable.call();
+    }
+
+    var realmGuard = realmGuards.computeIfAbsent(realm, RealmGuard::new);
+    var trialCall = realmGuard.acquirePermission();
+    var succeeded = false;
+    try {
+      var result = callable.call();
+      succeeded = true;
+      return result;
+    } catch (Exception e) {
+      succeeded = !isKeycloakFailure(e);
+      throw e;
+    } finally {
+      realmGuard.release(trialCall, succeeded);
+    }
+  }
+
+  private static boolean isKeycloakFailure(Exception exception) {
+    if (exception instanceof ResourceAccessException) {
+      return ExceptionUtils.indexOfType(exception, ConnectionRequestTimeoutException.class) < 0;
+    }
+
+    return exception instanceof RestClientResponseException responseException
+      && (responseException.getStatusCode().is5xxServerError()
+      || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value());
+  }
+
+  private static Duration toRetryAfter(Duration remaining) {
+    return remaining.compareTo(MIN_RETRY_AFTER) < 0 ? MIN_RETRY_AFTER : remaining;
+  }
+
+  enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private final class RealmGuard {
+
+    private final String realm;
+    private final Semaphore bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private Instant openedUntil;
+    private boolean trialCallInProgress;
+
+    RealmGuard(String realm) {
+      this.realm = realm;
+      this.bulkhead = new Semaphore(maxConcurrentCallsPerRealm);
+      this.circuitOpenRejections = rejectedCallsCounter("circuit_open");
+      this.bulkheadFullRejections = rejectedCallsCounter("bulkhead_full");
+
+      for (var gaugeState : State.values()) {
+        Gauge.builder(STATE_METRIC, this, guard -> guard.getState() == gaugeState ? 1 : 0)
+          .description("Keycloak circuit breaker state, 1 for the current state of a realm")
+          .tags("realm", realm, "state", gaugeState.name().toLowerCase())
+          .strongReference(true)
+          .register(meterRegistry);
+      }
+
+      Gauge.builder(AVAILABLE_CALLS_METRIC, bulkhead, Semaphore::availablePermits)
+        .description("Number of concurrent Keycloak calls that can be started for a realm")
+        .tags("realm", realm)
+        .strongReference(true)
+        .register(meterRegistry);
+    }
+
+    /**
+     * Acquires permission for a call.
+     *
+     * @return true if the permitted call is the trial call of a half-open circuit breaker
+     */
+    boolean acquirePermission() {
+      var trialCall = acquireCircuitPermission();
+      try {
+        var deadline = System.nanoTime() + properties.getMaxWaitDuration().toNanos();
+        if (bulkhead.tryAcquire(properties.getMaxWaitDuration().toNanos(), NANOSECONDS)
+          && acquireConnectionOrRelease(deadline)) {
+          return trialCall;
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      releaseTrialCall(trialCall);
+      bulkheadFullRejections.increment();
+      throw new KeycloakUnavailableException(
+        "Too many concurrent Keycloak calls: realm = " + realm, toRetryAfter(properties.getMaxWaitDuration()));
+    }
+
+    void release(boolean trialCall, boolean succeeded) {
+      if (connectionBulkhead != null) {
+        connectionBulkhead.release();
+      }
+      bulkhead.release();
+      if (succeeded) {
+        onSuccess(trialCall);
+      } else {
+        onFailure(trialCall);
+      }
+    }
+
+    private boolean acquireConnectionOrRelease(long deadline) throws InterruptedException {
+      var acquired = false;
+      try {
+        acquired = connectionBulkhead == null
+          || connectionBulkhead.tryAcquire(deadline - System.nanoTime(), NANOSECONDS);
+        return acquired;
+      } finally {
+        if (!acquired) {
+          bulkhead.release();
+        }
+      }
+    }
+
+    private synchronized State getState() {
+      return state;
+    }
+
+    private synchronized boolean acquireCircuitPermission() {
+      if (state == State.CLOSED) {
+        return false;
+      }
+
+      var now = clock.instant();
+      if (state == State.OPEN && !now.isBefore(openedUntil)) {
+        log.info("Keycloak circuit breaker is half-open, trial call is permitted: realm = {}", realm);
+        state = State.HALF_OPEN;
+      }
+
+      if (state == State.HALF_OPEN && !trialCallInProgress) {
+        trialCallInProgress = true;
+        return true;
+      }
+
+      circuitOpenRejections.increment();
+      var remaining = state == State.OPEN ? Duration.between(now, openedUntil) : MIN_RETRY_AFTER;
+      throw new KeycloakUnavailableException(
+        "Keycloak circuit breaker is open: realm = " + realm, toRetryAfter(remaining));
+    }
+
+    private synchronized void releaseTrialCall(boolean trialCall) {
+      if (trialCall) {
+        trialCallInProgress = false;
+      }
+    }
+
+    private synchronized void onSuccess(boolean trialCall) {
+      if (trialCall) {
+        log.info("Keycloak circuit breaker is closed: realm = {}", realm);
+        trialCallInProgress = false;
+        state = State.CLOSED;
+      }
+
+      if (state == State.CLOSED) {
+        consecutiveFailures = 0;
+      }
+    }
+
+    private synchronized void onFailure(boolean trialCall) {
+      if (trialCall) {
+        trialCallInProgress = false;
+        open();
+        return;
+      }
+
+      if (state == State.CLOSED && ++consecutiveFailures >= properties.getFailureThreshold()) {
+        open();
+      }
+    }
+
+    private void open() {
+      log.warn("Keycloak circuit breaker is open: realm = {}, openDuration = {}", realm, properties.getOpenDuration());
+      state = State.OPEN;
+      consecutiveFailures = 0;
+      openedUntil = clock.instant().plus(properties.getOpenDuration());
+    }
+
+    private Counter rejectedCallsCounter(String reason) {
+      return Counter.builder(REJECTED_CALLS_METRIC)
+        .description("Keycloak calls rejected by circuit breaker or bulkhead")
+        .tags("realm", realm, "reason", reason)
+        .register(meterRegistry);
+    }
+  }
+}
@@ -10,6 +10,8 @@ import org.folio.uk.integration.keycloak.model.Client;
 import org.folio.uk.integration.keycloak.model.FederatedIdentity;
 import org.folio.uk.integration.keycloak.model.KeycloakRole;
 import org.folio.uk.integration.keycloak.model.KeycloakUser;
+import org.folio.uk.integration.keycloak.model.PartialImportRequest;
+import org.folio.uk.integration.keycloak.model.PartialImportResults;
 import org.folio.uk.integration.keycloak.model.ScopePermission;
 import org.folio.uk.integration.keycloak.model.TokenResponse;
 import org.springframework.http.ResponseEntity;
@@ -42,6 +44,20 @@ public interface KeycloakClient {
     @RequestBody KeycloakUser user,
     @RequestHeader(AUTHORIZATION) String token);
 
+  /**
+   * Imports users to the realm within a single request.
+   *
+   * @param realmName - realm name
+   * @param request - partial import request with users and the policy for existing users
+   * @param token - authorization header value
+   * @return {@link PartialImportResults} with per-user results
+   */
+  @PostExchange(value = "/admin/realms/{realm}/partialImport", contentType = APPLICATION_JSON_VALUE,
+    accept = APPLICATION_JSON_VALUE)
+  PartialImportResults partialImport(@PathVariable("realm") String realmName,
+    @RequestBody PartialImportRequest request,
+    @RequestHeader(AUTHORIZATION) String token);
+
   @GetExchange(value = "/admin/realms/{realm}/users/{id}", accept = APPLICATION_JSON_VALUE)
   KeycloakUser getUser(@PathVariable("realm") String realmName,
     @PathVariable("id") String userId,
@@ -54,6 +70,23 @@ public interface KeycloakClient {
     @PathVariable("brief") boolean briefRepresentation,
     @RequestHeader(AUTHORIZATION) String token);
 
+  /**
+   * Retrieves a page of realm users.
+   *
+   * @param realmName - realm name
+   * @param first - index of the first user in the page
+   * @param max - maximum number of users in the page
+   * @param briefRepresentation - Boolean which defines whether brief representations (without attributes) are returned
+   * @param token - keycloak authentication token
+   * @return {@link List} with found {@link KeycloakUser} objects
+   */
+  @GetExchange(value = "/admin/realms/{realm}/users", accept = APPLICATION_JSON_VALUE)
+  List<KeycloakUser> findUsers(@PathVariable("realm") String realmName,
+    @RequestParam("first") int first,
+    @RequestParam("max") int max,
+    @RequestParam("briefRepresentation") boolean briefRepresentation,
+    @RequestHeader(AUTHORIZATION) String token);
+
   @PutExchange(value = "/admin/realms/{realm}/users/{id}", contentType = APPLICATION_JSON_VALUE)
   void updateUser(@PathVariable("realm") String realmName,
     @PathVariable("id") String userId,
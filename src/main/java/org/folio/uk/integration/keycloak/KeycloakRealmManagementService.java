@@ -22,8 +22,7 @@ public class KeycloakRealmManagementService {
   public void setupRealm() {
     log.info("Creating Keycloak permissions for password reset client");
 
-    RESOURCES.stream()
-      .forEach(resource -> keycloakService.createScopePermission(PASSWORD_RESET_POLICY, resource, SCOPES));
+    keycloakService.createScopePermissions(PASSWORD_RESET_POLICY, RESOURCES, SCOPES);
   }
 
   public void cleanupRealm() {
@@ -4,22 +4,34 @@ import static java.lang.String.format;
 import static java.util.Collections.singletonList;
 import static java.util.List.of;
 import static java.util.Objects.nonNull;
-import static java.util.UUID.fromString;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import static org.folio.common.utils.KeycloakPermissionUtils.toPermissionName;
 import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextForTenant;
+import static org.folio.uk.integration.keycloak.model.KeycloakUser.USER_BARCODE_ATTR;
+import static org.folio.uk.integration.keycloak.model.KeycloakUser.USER_EXTERNAL_SYSTEM_ID_ATTR;
 import static org.folio.uk.integration.keycloak.model.KeycloakUser.USER_ID_ATTR;
+import static org.folio.uk.integration.keycloak.model.PartialImportResults.PartialImportResult.RESOURCE_TYPE_USER;
+import static org.folio.uk.utils.AsyncUtils.awaitAll;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -37,26 +49,63 @@ import org.folio.uk.integration.keycloak.model.Credential;
 import org.folio.uk.integration.keycloak.model.FederatedIdentity;
 import org.folio.uk.integration.keycloak.model.KeycloakIdentityProviderDto;
 import org.folio.uk.integration.keycloak.model.KeycloakUser;
+import org.folio.uk.integration.keycloak.model.KeycloakUserImport;
+import org.folio.uk.integration.keycloak.model.PartialImportPolicy;
+import org.folio.uk.integration.keycloak.model.PartialImportRequest;
+import org.folio.uk.integration.keycloak.model.PartialImportResults;
+import org.folio.uk.integration.keycloak.model.PartialImportResults.PartialImportResult;
 import org.folio.uk.integration.keycloak.model.ScopePermission;
 import org.folio.uk.integration.users.UserTenantsClient;
 import org.folio.uk.integration.users.UsersClient;
 import org.folio.uk.utils.UserUtils;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class KeycloakService {
 
+  public static final String USER_LOOKUP_METRIC = "keycloak.user.lookups";
+
   private final UsersClient usersClient;
   private final KeycloakClient keycloakClient;
+  private final KeycloakCallGuard keycloakCallGuard;
   private final TokenService tokenService;
+  private final KeycloakUserIdCache keycloakUserIdCache;
   private final UserTenantsClient userTenantsClient;
   private final FolioModuleMetadata folioModuleMetadata;
   private final FolioExecutionContext folioExecutionContext;
   private final KeycloakLoginClientProperties loginClientProperties;
   private final KeycloakFederatedAuthProperties keycloakFederatedAuthProperties;
+  private final Executor virtualTaskExecutor;
+  private final Counter usernameLookupHits;
+  private final Counter usernameLookupMisses;
+  private final Counter attributeLookupHits;
+  private final Counter attributeLookupMisses;
+
+  public KeycloakService(UsersClient usersClient, KeycloakClient keycloakClient, KeycloakCallGuard keycloakCallGuard,
+    TokenService tokenService, KeycloakUserIdCache keycloakUserIdCache, UserTenantsClient userTenantsClient,
+    FolioModuleMetadata folioModuleMetadata, FolioExecutionContext folioExecutionContext,
+    KeycloakLoginClientProperties loginClientProperties,
+    KeycloakFederatedAuthProperties keycloakFederatedAuthProperties, MeterRegistry meterRegistry,
+    @Qualifier("virtualTaskExecutor") Executor virtualTaskExecutor) {
+    this.usersClient = usersClient;
+    this.keycloakClient = keycloakClient;
+    this.keycloakCallGuard = keycloakCallGuard;
+    this.tokenService = tokenService;
+    this.keycloakUserIdCache = keycloakUserIdCache;
+    this.userTenantsClient = userTenantsClient;
+    this.folioModuleMetadata = folioModuleMetadata;
+    this.folioExecutionContext = folioExecutionContext;
+    this.loginClientProperties = loginClientProperties;
+    this.keycloakFederatedAuthProperties = keycloakFederatedAuthProperties;
+    this.virtualTaskExecutor = virtualTaskExecutor;
+    this.usernameLookupHits = registerUserLookupCounter(meterRegistry, "username", "hit");
+    this.usernameLookupMisses = registerUserLookupCounter(meterRegistry, "username", "miss");
+    this.attributeLookupHits = registerUserLookupCounter(meterRegistry, "attribute", "hit");
+    this.attributeLookupMisses = registerUserLookupCounter(meterRegistry, "attribute", "miss");
+  }
 
   public String upsertUser(User user, String password) {
     if (user.getId() == null) {
@@ -67,7 +116,10 @@ public class KeycloakService {
     if (foundKcUser.isPresent()) {
       var kcUserId = foundKcUser.get().getId();
       var kcUserAttributes = foundKcUser.flatMap(this::getUserIdFromAttributes);
-      kcUserAttributes.ifPresent(userId -> updateUser(fromString(userId), user));
+      kcUserAttributes.map(UUID::fromString).ifPresent(userId -> {
+        keycloakUserIdCache.put(getRealm(), userId, kcUserId);
+        updateUser(userId, user);
+      });
 
       return kcUserId;
     }
@@ -196,18 +248,89 @@ public class KeycloakService {
       () -> buildUsersErrorMessage("Failed to create keycloak user", user.getId()));
   }
 
+  /**
+   * Imports users for users migration with a single Keycloak partial import request.
+   *
+   * <p>Keycloak rejects the whole request if any user representation is invalid.</p>
+   *
+   * @param userImports - users to import
+   * @param policy - policy applied to users that already exist in Keycloak
+   * @return import results by FOLIO user identifier, users without a result are absent
+   * @throws KeycloakException if the partial import request fails
+   */
+  public Map<UUID, PartialImportResult> importUsersForMigration(List<KeycloakUserImport> userImports,
+    PartialImportPolicy policy) {
+    var userIdsByUsername = new HashMap<String, UUID>();
+    var kcUsers = new ArrayList<KeycloakUser>(userImports.size());
+    for (var userImport : userImports) {
+      var kcUser = toKeycloakUser(userImport.user(), userImport.password());
+      kcUser.setUserTenantAttr(userImport.userTenants());
+      kcUsers.add(kcUser);
+      userIdsByUsername.put(kcUser.getUserName().toLowerCase(), userImport.user().getId());
+    }
+
+    log.info("Importing keycloak users for users migration: count = {}, policy = {}", kcUsers.size(), policy);
+    var realm = getRealm();
+    var importResults = callKeycloak(
+      () -> keycloakClient.partialImport(realm, new PartialImportRequest(policy, kcUsers), getToken()),
+      () -> "Failed to import keycloak users: count = " + kcUsers.size());
+
+    var resultsByUserId = new HashMap<UUID, PartialImportResult>();
+    for (var result : emptyIfNull(importResults == null ? null : importResults.getResults())) {
+      var userId = result.getResourceName() == null ? null
+        : userIdsByUsername.get(result.getResourceName().toLowerCase());
+      if (userId == null || !RESOURCE_TYPE_USER.equals(result.getResourceType())) {
+        continue;
+      }
+
+      resultsByUserId.put(userId, result);
+      if (result.getAction() != PartialImportResults.Action.SKIPPED) {
+        keycloakUserIdCache.put(realm, userId, result.getId());
+      }
+    }
+
+    return resultsByUserId;
+  }
+
   public void updateUser(UUID id, User user) {
+    if (!updateUserIfExists(id, user)) {
+      throw new KeycloakException(buildUsersErrorMessage(
+        String.format("Keycloak user doesn't exist with the given '%s' attribute", USER_ID_ATTR), id));
+    }
+  }
+
+  /**
+   * Updates Keycloak user found by FOLIO user identifier.
+   *
+   * @param id - FOLIO user identifier
+   * @param user - FOLIO user to be mapped to the Keycloak user
+   * @return true if Keycloak user is found and updated, false if Keycloak user is not found
+   * @throws KeycloakException if the Keycloak update request fails
+   */
+  public boolean updateUserIfExists(UUID id, User user) {
     var kcUser = toKeycloakUser(user);
     log.info("Updating keycloak user: userId = {}", user.getId());
 
-    callKeycloak(update(id, kcUser),
+    return callKeycloak(update(id, kcUser),
       () -> buildUsersErrorMessage("Failed to update keycloak user", user.getId()));
   }
 
   public void deleteUser(UUID id) {
+    deleteUser(id, null);
+  }
+
+  /**
+   * Deletes Keycloak user found by FOLIO user identifier, the username is used to find the user by the indexed
+   * username first.
+   *
+   * @param id - FOLIO user identifier
+   * @param username - FOLIO username, nullable
+   * @throws KeycloakException if the Keycloak delete request fails
+   */
+  public void deleteUser(UUID id, String username) {
     log.info("Deleting keycloak user with id: {}", id);
 
-    callKeycloak(delete(id),
+    callKeycloak(delete(id, username),
       () -> buildUsersErrorMessage("Failed to delete keycloak user", id));
   }
 
@@ -219,9 +342,21 @@ public class KeycloakService {
    * @throws KeycloakException if the Keycloak update request fails
    */
   public void disableUser(UUID id) {
+    disableUser(id, null);
+  }
+
+  /**
+   * Disables the Keycloak account for the FOLIO user with the given ID, the username is used to find the user by the
+   * indexed username first. If no matching Keycloak user is found the operation is silently skipped.
+   *
+   * @param id FOLIO user identifier
+   * @param username FOLIO username, nullable
+   * @throws KeycloakException if the Keycloak update request fails
+   */
+  public void disableUser(UUID id, String username) {
     log.info("Disabling keycloak user with id: {}", id);
 
-    callKeycloak(setEnabled(id, false),
+    callKeycloak(setEnabled(id, username, false),
       () -> buildUsersErrorMessage("Failed to disable keycloak user", id));
   }
 
@@ -233,9 +368,21 @@ public class KeycloakService {
    * @throws KeycloakException if the Keycloak update request fails
    */
   public void enableUser(UUID id) {
+    enableUser(id, null);
+  }
+
+  /**
+   * Enables the Keycloak account for the FOLIO user with the given ID, the username is used to find the user by the
+   * indexed username first. If no matching Keycloak user is found the operation is silently skipped.
+   *
+   * @param id FOLIO user identifier
+   * @param username FOLIO username, nullable
+   * @throws KeycloakException if the Keycloak update request fails
+   */
+  public void enableUser(UUID id, String username) {
     log.info("Enable keycloak user with id: {}", id);
 
-    callKeycloak(setEnabled(id, true),
+    callKeycloak(setEnabled(id, username, true),
       () -> buildUsersErrorMessage("Failed to enable keycloak user", id));
   }
 
@@ -244,10 +391,16 @@ public class KeycloakService {
   }
 
   public Optional<KeycloakUser> findKeycloakUserWithUserIdAttr(String realm, UUID id) {
+    return guardKeycloakCall(realm, () -> findKeycloakUserByUserIdAttr(realm, id));
+  }
+
+  private Optional<KeycloakUser> findKeycloakUserByUserIdAttr(String realm, UUID id) {
     var query = USER_ID_ATTR + ":" + id;
     var found = keycloakClient.getUsersWithAttrs(realm, query, true, getToken());
+    recordUserLookup(isNotEmpty(found), attributeLookupHits, attributeLookupMisses);
 
     if (isEmpty(found)) {
+      keycloakUserIdCache.evict(realm, id);
       return Optional.empty();
     }
 
@@ -256,7 +409,38 @@ public class KeycloakService {
         String.format("Too many keycloak users with '%s' attribute: %s", USER_ID_ATTR, id));
     }
 
-    return Optional.of(found.getFirst());
+    var kcUser = found.getFirst();
+    keycloakUserIdCache.put(realm, id, kcUser.getId());
+    return Optional.of(kcUser);
+  }
+
+  /**
+   * Resolves Keycloak user identifier by FOLIO user identifier.
+   *
+   * <p>Cached mapping is verified by Keycloak user primary key, otherwise the {@code user_id} attribute search is
+   * performed and its result is cached.</p>
+   *
+   * @param id - FOLIO user identifier
+   * @return {@link Optional} of Keycloak user identifier, {@link Optional#empty()} if user is not found
+   */
+  public Optional<String> findKeycloakUserId(UUID id) {
+    var realm = getRealm();
+    return guardKeycloakCall(realm, () -> findKeycloakUserById(realm, id, null)).map(KeycloakUser::getId);
+  }
+
+  /**
+   * Resolves Keycloak user by FOLIO user.
+   *
+   * <p>Cached mapping is verified by Keycloak user primary key, otherwise the user is searched by the exact username
+   * and its {@code user_id} attribute is verified. The {@code user_id} attribute search is performed only if the user
+   * is not found by username.</p>
+   *
+   * @param user - FOLIO user
+   * @return {@link Optional} of {@link KeycloakUser}, {@link Optional#empty()} if user is not found
+   */
+  public Optional<KeycloakUser> findKeycloakUser(User user) {
+    var realm = getRealm();
+    return guardKeycloakCall(realm, () -> findKeycloakUserById(realm, user.getId(), user.getUsername()));
   }
 
   /**
@@ -278,6 +462,21 @@ public class KeycloakService {
     return isNotEmpty(foundUsers) ? Optional.of(foundUsers.getFirst()) : Optional.empty();
   }
 
+  /**
+   * Retrieves a page of users of the current realm with their attributes.
+   *
+   * @param first - index of the first user in the page
+   * @param max - maximum number of users in the page
+   * @return {@link List} of found {@link KeycloakUser} objects
+   * @throws KeycloakException if search request failed.
+   */
+  public List<KeycloakUser> findUsers(int first, int max) {
+    var realm = getRealm();
+    return emptyIfNull(callKeycloak(
+      () -> keycloakClient.findUsers(realm, first, max, false, getToken()),
+      () -> String.format("Failed to find keycloak users [first: %s, max: %s]", first, max)));
+  }
+
   /**
    * Checks if keycloak user has a role.
    *
@@ -326,15 +525,32 @@ public class KeycloakService {
     var realm = getRealm();
     var clientId = realm + loginClientProperties.getClientNameSuffix();
     var client = findClientWithClientId(realm, clientId);
-    var permissionName = toPermissionName(scopes, policyName, resource);
-    var permission = ScopePermission.builder()
-      .name(permissionName)
-      .resources(of(resource))
-      .policies(of(policyName))
-      .scopes(scopes)
-      .build();
+    createPermissionIgnoringConflict(realm, client.getId(), scopePermission(policyName, resource, scopes));
+  }
+
+  /**
+   * Creates scope based permissions for the given policy, one per resource.
+   *
+   * <p>The login client is looked up once and the permissions are created concurrently.</p>
+   *
+   * @param policyName - keycloak policy identifier
+   * @param resources  - resource names as identifiers
+   * @param scopes     - resource scopes
+   * @throws KeycloakException if keycloak requests failed.
+   */
+  public void createScopePermissions(String policyName, List<String> resources, List<String> scopes) {
+    log.info("Creating permissions to resources '{} {}' for policy '{}'", scopes, resources, policyName);
+
+    var realm = getRealm();
+    var clientId = realm + loginClientProperties.getClientNameSuffix();
+    var client = findClientWithClientId(realm, clientId);
+    var futures = resources.stream()
+      .map(resource -> scopePermission(policyName, resource, scopes))
+      .map(permission -> CompletableFuture.runAsync(
+        () -> createPermissionIgnoringConflict(realm, client.getId(), permission), virtualTaskExecutor))
+      .toList();
 
-    createPermissionIgnoringConflict(realm, client.getId(), permission);
+    awaitAll(futures);
   }
 
   /**
@@ -350,7 +566,9 @@ public class KeycloakService {
     var clientKcId = client.getId();
 
     findPermission(clientKcId, permissionName).ifPresentOrElse(
-      permission -> keycloakClient.deleteScopePermission(realm, clientKcId, permission.getId(), getToken()),
+      permission -> callKeycloak(
+        () -> keycloakClient.deleteScopePermission(realm, clientKcId, permission.getId(), getToken()),
+        () -> String.format("Failed to delete a permission %s", permissionName)),
       () -> log.warn("Permission is not found: {}", permissionName));
   }
 
@@ -363,7 +581,8 @@ public class KeycloakService {
    */
   public Client findClientWithClientId(String realm, String clientId) {
     try {
-      var found = keycloakClient.findClientsByClientId(realm, clientId, getToken());
+      var found = keycloakCallGuard.execute(realm,
+        () -> keycloakClient.findClientsByClientId(realm, clientId, getToken()));
 
       if (isEmpty(found)) {
         throw new KeycloakException(format("Keycloak client is not found by clientId: %s", clientId));
@@ -401,63 +620,212 @@ public class KeycloakService {
   }
 
   private void callKeycloak(Runnable method, Supplier<String> expMsgSupplier) {
-    try {
+    callKeycloak(() -> {
       method.run();
-    } catch (Exception cause) {
-      throw new KeycloakException(expMsgSupplier.get(), cause);
-    }
+      return null;
+    }, expMsgSupplier);
   }
 
   private <T> T callKeycloak(Callable<T> callable, Supplier<String> errorMessageSupplier) {
     try {
-      return callable.call();
+      return keycloakCallGuard.execute(getRealm(), callable);
+    } catch (KeycloakUnavailableException e) {
+      throw e;
     } catch (Exception e) {
       throw new KeycloakException(errorMessageSupplier.get(), e);
     }
   }
 
+  /**
+   * Performs a Keycloak call guarded by {@link KeycloakCallGuard}, rethrowing its exceptions as is. Calls that are
+   * already guarded must not be guarded again, as a nested call would take a second bulkhead permit of the realm.
+   */
+  private <T> T guardKeycloakCall(String realm, Supplier<T> call) {
+    try {
+      return keycloakCallGuard.execute(realm, call::get);
+    } catch (RuntimeException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new KeycloakException("Failed to call Keycloak: realm = " + realm, e);
+    }
+  }
+
   private Callable<String> create(KeycloakUser kcUser) {
     return () -> {
-      var res = keycloakClient.createUser(getRealm(), kcUser, getToken());
+      var realm = getRealm();
+      var res = keycloakClient.createUser(realm, kcUser, getToken());
       if (res.getStatusCode().is2xxSuccessful() && res.getHeaders().getLocation() != null) {
         var path = res.getHeaders().getLocation().getPath();
         var id = StringUtils.substringAfterLast(path, "/");
         log.info("Keycloak user created with id: {}", id);
 
+        kcUser.getUserIdAttr().ifPresent(userId -> keycloakUserIdCache.put(realm, UUID.fromString(userId), id));
         return id;
       }
       return null;
     };
   }
 
-  private Runnable update(UUID userId, KeycloakUser kcUser) {
+  private Callable<Boolean> update(UUID userId, KeycloakUser kcUser) {
     return () -> {
-      var existing = findKeycloakUserWithUserIdAttr(userId).orElseThrow(() -> new KeycloakException(
-        String.format("Keycloak user doesn't exist with the given '%s' attribute: %s", USER_ID_ATTR, userId)));
+      var realm = getRealm();
+      var existing = findFullKeycloakUserById(realm, userId, kcUser.getUserName());
+      if (existing.isEmpty()) {
+        return false;
+      }
 
-      kcUser.setId(existing.getId());
-      kcUser.setCreatedTimestamp(existing.getCreatedTimestamp());
-      kcUser.setEmailVerified(existing.getEmailVerified());
+      var existingKcUser = existing.get();
+      if (isUpToDate(existingKcUser, kcUser)) {
+        log.info("Keycloak user is up to date, update is skipped: userId = {}", userId);
+        return true;
+      }
 
-      keycloakClient.updateUser(getRealm(), kcUser.getId(), kcUser, getToken());
+      kcUser.setCreatedTimestamp(existingKcUser.getCreatedTimestamp());
+      kcUser.setEmailVerified(existingKcUser.getEmailVerified());
+      putUser(realm, existingKcUser.getId(), kcUser);
+      return true;
     };
   }
 
-  private Runnable delete(UUID id) {
+  /**
+   * Checks if the fields of Keycloak user mapped from a FOLIO user are already stored in Keycloak.
+   *
+   * <p>Username and email are compared ignoring case, because Keycloak stores them in lower case. A {@code null}
+   * value is not written by Keycloak, so it is considered unchanged, except for the owned attributes that are
+   * replaced as a whole.</p>
+   */
+  private static boolean isUpToDate(KeycloakUser existing, KeycloakUser updated) {
+    return isUnchanged(updated.getUserName(), existing.getUserName(), Strings.CI::equals)
+      && isUnchanged(updated.getEmail(), existing.getEmail(), Strings.CI::equals)
+      && isUnchanged(updated.getFirstName(), existing.getFirstName(), Objects::equals)
+      && isUnchanged(updated.getLastName(), existing.getLastName(), Objects::equals)
+      && isUnchanged(updated.getEnabled(), existing.getEnabled(), Objects::equals)
+      && hasSameAttribute(existing, updated, USER_ID_ATTR)
+      && hasSameAttribute(existing, updated, USER_EXTERNAL_SYSTEM_ID_ATTR)
+      && hasSameAttribute(existing, updated, USER_BARCODE_ATTR);
+  }
+
+  private static <T> boolean isUnchanged(T updatedValue, T existingValue, BiPredicate<T, T> equality) {
+    return updatedValue == null || equality.test(updatedValue, existingValue);
+  }
+
+  private static boolean hasSameAttribute(KeycloakUser existing, KeycloakUser updated, String attribute) {
+    return Objects.equals(getAttribute(existing, attribute), getAttribute(updated, attribute));
+  }
+
+  private static List<String> getAttribute(KeycloakUser kcUser, String attribute) {
+    return Optional.ofNullable(kcUser.getAttributes())
+      .map(attributes -> attributes.get(attribute))
+      .filter(CollectionUtils::isNotEmpty)
+      .orElse(null);
+  }
+
+  private String putUser(String realm, String kcUserId, KeycloakUser kcUser) {
+    kcUser.setId(kcUserId);
+    keycloakClient.updateUser(realm, kcUserId, kcUser, getToken());
+    return kcUserId;
+  }
+
+  private Runnable delete(UUID id, String username) {
     return () -> {
-      var found = findKeycloakUserWithUserIdAttr(id);
+      var realm = getRealm();
+      var deletedKcUserId = callWithCachedUserId(realm, id, kcUserId -> removeUser(realm, kcUserId))
+        .or(() -> findKeycloakUserByUsername(realm, id, username)
+          .or(() -> findKeycloakUserByUserIdAttr(realm, id))
+          .map(kcUser -> removeUser(realm, kcUser.getId())));
 
-      if (found.isPresent()) {
-        keycloakClient.deleteUser(getRealm(), found.get().getId(), getToken());
-      } else {
+      if (deletedKcUserId.isEmpty()) {
         log.debug("Keycloak user is not found: userId = {}", id);
       }
+      keycloakUserIdCache.evict(realm, id);
     };
   }
 
-  private Runnable setEnabled(UUID id, boolean enabled) {
+  private String removeUser(String realm, String kcUserId) {
+    keycloakClient.deleteUser(realm, kcUserId, getToken());
+    return kcUserId;
+  }
+
+  /**
+   * Applies an operation on the cached Keycloak user identifier, if it is present.
+   *
+   * <p>If Keycloak responds with 404, the stale mapping is evicted and an empty result is returned, so the caller
+   * falls back to the {@code user_id} attribute search.</p>
+   *
+   * @return {@link Optional} with operation result, {@link Optional#empty()} if mapping is absent or stale
+   */
+  private <T> Optional<T> callWithCachedUserId(String realm, UUID userId, Function<String, T> operation) {
+    var cachedId = keycloakUserIdCache.get(realm, userId);
+    if (cachedId.isEmpty()) {
+      return Optional.empty();
+    }
+
+    try {
+      return Optional.ofNullable(operation.apply(cachedId.get()));
+    } catch (HttpClientErrorException.NotFound e) {
+      log.debug("Cached keycloak user is not found: userId = {}, kcUserId = {}", userId, cachedId.get());
+      keycloakUserIdCache.evict(realm, userId);
+      return Optional.empty();
+    }
+  }
+
+  private Optional<KeycloakUser> findKeycloakUserById(String realm, UUID userId, String username) {
+    return callWithCachedUserId(realm, userId, kcUserId -> keycloakClient.getUser(realm, kcUserId, getToken()))
+      .or(() -> findKeycloakUserByUsername(realm, userId, username))
+      .or(() -> findKeycloakUserByUserIdAttr(realm, userId));
+  }
+
+  /**
+   * Resolves Keycloak user by FOLIO user identifier, like {@link #findKeycloakUserById(String, UUID, String)}, but
+   * the user found by the {@code user_id} attribute search, returned in the brief representation without attributes,
+   * is retrieved again by its primary key, so that it can be compared with the updated user.
+   */
+  private Optional<KeycloakUser> findFullKeycloakUserById(String realm, UUID userId, String username) {
+    return callWithCachedUserId(realm, userId, kcUserId -> keycloakClient.getUser(realm, kcUserId, getToken()))
+      .or(() -> findKeycloakUserByUsername(realm, userId, username))
+      .or(() -> findKeycloakUserByUserIdAttr(realm, userId)
+        .map(kcUser -> keycloakClient.getUser(realm, kcUser.getId(), getToken())));
+  }
+
+  /**
+   * Searches Keycloak user by the exact username, which is indexed in Keycloak, unlike the {@code user_id} attribute.
+   *
+   * @return {@link Optional} of found {@link KeycloakUser}, {@link Optional#empty()} if username is blank, user is not
+   *   found or the {@code user_id} attribute of the found user doesn't match
+   */
+  private Optional<KeycloakUser> findKeycloakUserByUsername(String realm, UUID userId, String username) {
+    if (StringUtils.isBlank(username)) {
+      return Optional.empty();
+    }
+
+    var found = emptyIfNull(keycloakClient.findUsersByUsername(realm, username, false, getToken())).stream()
+      .filter(kcUser -> kcUser.getUserIdAttr().filter(userId.toString()::equals).isPresent())
+      .findFirst();
+    recordUserLookup(found.isPresent(), usernameLookupHits, usernameLookupMisses);
+
+    if (found.isEmpty()) {
+      log.debug("Keycloak user is not found by username, searching by attribute: userId = {}", userId);
+      return Optional.empty();
+    }
+
+    keycloakUserIdCache.put(realm, userId, found.get().getId());
+    return found;
+  }
+
+  private static void recordUserLookup(boolean found, Counter hits, Counter misses) {
+    (found ? hits : misses).increment();
+  }
+
+  private static Counter registerUserLookupCounter(MeterRegistry meterRegistry, String path, String outcome) {
+    return Counter.builder(USER_LOOKUP_METRIC)
+      .description("Number of Keycloak user lookups by FOLIO user identifier")
+      .tags("path", path, "outcome", outcome)
+      .register(meterRegistry);
+  }
+
+  private Runnable setEnabled(UUID id, String username, boolean enabled) {
     return () -> {
-      var found = findKeycloakUserWithUserIdAttr(id);
+      var found = findKeycloakUserById(getRealm(), id, username);
 
       if (found.isEmpty()) {
         log.info("Keycloak user is not found: userId = {}. Ignoring..", id);
@@ -512,12 +880,24 @@ public class KeycloakService {
     return format("%s: userId = %s, realm = %s", message, userId, getRealm());
   }
 
+  private static ScopePermission scopePermission(String policyName, String resource, List<String> scopes) {
+    return ScopePermission.builder()
+      .name(toPermissionName(scopes, policyName, resource))
+      .resources(of(resource))
+      .policies(of(policyName))
+      .scopes(scopes)
+      .build();
+  }
+
   private void createPermissionIgnoringConflict(String realm, UUID clientId, ScopePermission permission) {
     try {
-      var res = keycloakClient.createScopePermission(realm, clientId, permission, getToken());
+      var res = keycloakCallGuard.execute(realm,
+        () -> keycloakClient.createScopePermission(realm, clientId, permission, getToken()));
       log.info("Keycloak permission created with id: {}", res.getId());
     } catch (HttpClientErrorException.Conflict e) {
       log.info("Permission already exists [message: {}]", e.getMessage());
+    } catch (KeycloakUnavailableException e) {
+      throw e;
     } catch (Exception e) {
       throw new KeycloakException(
         String.format("Failed to create a permission [resource: %s, policies: %s]", permission.getResources(),
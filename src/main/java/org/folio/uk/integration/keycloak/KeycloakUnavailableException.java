@@ -0,0 +1,22 @@
+package org.folio.uk.integration.keycloak;
+
+import java.time.Duration;
+import lombok.Getter;
+
+/**
+ * Thrown when a Keycloak call is rejected without being performed, because the circuit breaker of the realm is open
+ * or the maximum number of concurrent calls is reached.
+ */
+@Getter
+public class KeycloakUnavailableException extends KeycloakException {
+
+  /**
+   * Time after which the call can be retried.
+   */
+  private final Duration retryAfter;
+
+  public KeycloakUnavailableException(String message, Duration retryAfter) {
+    super(message);
+    this.retryAfter = retryAfter;
+  }
+}
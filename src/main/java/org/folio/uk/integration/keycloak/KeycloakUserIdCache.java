@@ -0,0 +1,71 @@
+package org.folio.uk.integration.keycloak;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded cache of FOLIO user id to Keycloak user id mappings, keyed by realm.
+ *
+ * <p>Keycloak resolves the {@code user_id} attribute with an unindexed attribute search, so the mapping is kept
+ * after the first lookup or user creation. Hit and miss counts are exported through the cache metrics of the
+ * {@code keycloak-user-id} cache.</p>
+ */
+@Log4j2
+@Component
+public class KeycloakUserIdCache {
+
+  public static final String CACHE_NAME = "keycloak-user-id";
+
+  private final Cache cache;
+
+  public KeycloakUserIdCache(CacheManager cacheManager) {
+    this.cache = requireNonNull(cacheManager.getCache(CACHE_NAME), "Cache is not configured: " + CACHE_NAME);
+  }
+
+  /**
+   * Retrieves a cached Keycloak user identifier.
+   *
+   * @param realm - realm name
+   * @param userId - FOLIO user identifier
+   * @return {@link Optional} of Keycloak user identifier, {@link Optional#empty()} if mapping is not cached
+   */
+  public Optional<String> get(String realm, UUID userId) {
+    return Optional.ofNullable(cache.get(key(realm, userId), String.class));
+  }
+
+  /**
+   * Stores a Keycloak user identifier for the given FOLIO user, {@code null} values are ignored.
+   *
+   * @param realm - realm name
+   * @param userId - FOLIO user identifier
+   * @param keycloakUserId - Keycloak user identifier
+   */
+  public void put(String realm, UUID userId, String keycloakUserId) {
+    if (userId == null || keycloakUserId == null) {
+      return;
+    }
+
+    cache.put(key(realm, userId), keycloakUserId);
+  }
+
+  /**
+   * Removes a cached mapping for the given FOLIO user.
+   *
+   * @param realm - realm name
+   * @param userId - FOLIO user identifier
+   */
+  public void evict(String realm, UUID userId) {
+    log.debug("Evicting cached keycloak user id: realm = {}, userId = {}", realm, userId);
+    cache.evict(key(realm, userId));
+  }
+
+  private static String key(String realm, UUID userId) {
+    return realm + ":" + userId;
+  }
+}
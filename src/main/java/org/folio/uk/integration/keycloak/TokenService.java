@@ -1,32 +1,153 @@
 package org.folio.uk.integration.keycloak;
 
-import lombok.RequiredArgsConstructor;
+import static java.util.Objects.requireNonNull;
+import static org.folio.uk.utils.AsyncUtils.await;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.extern.log4j.Log4j2;
+import org.folio.uk.configuration.CacheProperties;
 import org.folio.uk.integration.keycloak.config.KeycloakProperties;
-import org.springframework.cache.annotation.CachePut;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Component;
 import org.springframework.util.LinkedMultiValueMap;
 
+/**
+ * Issues and caches the admin token used for Keycloak communication.
+ *
+ * <p>The token lifetime is taken from the {@code expires_in} value of the token response, limited by the
+ * {@code token} cache ttl. A token accessed after its refresh point is renewed in the background while the current
+ * one is still returned, and concurrent callers share a single in-flight login request.</p>
+ */
 @Log4j2
 @Component
-@RequiredArgsConstructor
 public class TokenService {
 
   private static final String CACHE_NAME = "token";
-  private static final String CACHE_KEY = "'admin-cli-token'";
+  private static final String CACHE_KEY = "admin-cli-token";
+
   private final KeycloakClient keycloakClient;
   private final KeycloakProperties keycloakProperties;
   private final RealmConfigurationProvider realmConfigurationProvider;
+  private final TaskExecutor taskExecutor;
+  private final Cache tokenCache;
+  private final Duration maxTokenLifetime;
+  private final AtomicReference<CompletableFuture<String>> inFlightRequest = new AtomicReference<>();
+  private final Clock clock;
+  private volatile TokenState tokenState;
+
+  @Autowired
+  public TokenService(KeycloakClient keycloakClient, KeycloakProperties keycloakProperties,
+    RealmConfigurationProvider realmConfigurationProvider, TaskExecutor taskExecutor, CacheManager cacheManager,
+    CacheProperties cacheProperties) {
+    this(keycloakClient, keycloakProperties, realmConfigurationProvider, taskExecutor, cacheManager,
+      cacheProperties, Clock.systemUTC());
+  }
 
-  @Cacheable(cacheNames = CACHE_NAME, key = CACHE_KEY)
+  TokenService(KeycloakClient keycloakClient, KeycloakProperties keycloakProperties,
+    RealmConfigurationProvider realmConfigurationProvider, TaskExecutor taskExecutor, CacheManager cacheManager,
+    CacheProperties cacheProperties, Clock clock) {
+    this.keycloakClient = keycloakClient;
+    this.keycloakProperties = keycloakProperties;
+    this.realmConfigurationProvider = realmConfigurationProvider;
+    this.taskExecutor = taskExecutor;
+    this.tokenCache = requireNonNull(cacheManager.getCache(CACHE_NAME), "Cache is not configured: " + CACHE_NAME);
+    this.maxTokenLifetime = cacheProperties.token().ttl();
+    this.clock = clock;
+  }
+
+  /**
+   * Provides a cached admin token, requesting a new one if it is absent or expired.
+   *
+   * @return authorization header value for Keycloak admin API
+   */
   public String issueToken() {
-    return requestToken();
+    var token = tokenCache.get(CACHE_KEY, String.class);
+    if (token == null) {
+      return await(requestTokenOnce(false));
+    }
+
+    var state = tokenState;
+    if (state == null || !token.equals(state.value())) {
+      return token;
+    }
+
+    var now = clock.instant();
+    if (!now.isBefore(state.expiresAt())) {
+      return await(requestTokenOnce(false));
+    }
+
+    if (!now.isBefore(state.refreshAt())) {
+      requestTokenOnce(true);
+    }
+
+    return token;
   }
 
-  @CachePut(cacheNames = CACHE_NAME, key = CACHE_KEY)
+  /**
+   * Requests a new admin token, replacing the cached one.
+   *
+   * @return authorization header value for Keycloak admin API
+   */
   public String renewToken() {
-    return requestToken();
+    return await(requestTokenOnce(false));
+  }
+
+  /**
+   * Evicts the cached admin token if it is equal to the rejected one.
+   *
+   * @param rejectedToken - authorization header value rejected by Keycloak
+   */
+  public void invalidateToken(String rejectedToken) {
+    var token = tokenCache.get(CACHE_KEY, String.class);
+    if (token != null && token.equals(rejectedToken)) {
+      log.info("Invalidating access token rejected by Keycloak [clientId: {}]", keycloakProperties.getClientId());
+      tokenCache.evict(CACHE_KEY);
+      tokenState = null;
+    }
+  }
+
+  private CompletableFuture<String> requestTokenOnce(boolean inBackground) {
+    var request = new CompletableFuture<String>();
+    var inFlight = inFlightRequest.compareAndExchange(null, request);
+    if (inFlight != null) {
+      return inFlight;
+    }
+
+    if (inBackground) {
+      refreshTokenInBackground(request);
+    } else {
+      completeTokenRequest(request);
+    }
+
+    return request;
+  }
+
+  private void refreshTokenInBackground(CompletableFuture<String> request) {
+    try {
+      taskExecutor.execute(() -> completeTokenRequest(request));
+    } catch (RuntimeException e) {
+      log.warn("Failed to schedule access token refresh for Keycloak communication", e);
+      inFlightRequest.compareAndSet(request, null);
+      request.completeExceptionally(e);
+    }
+  }
+
+  private void completeTokenRequest(CompletableFuture<String> request) {
+    try {
+      request.complete(requestToken());
+    } catch (Exception e) {
+      log.warn("Failed to issue access token for Keycloak communication", e);
+      request.completeExceptionally(e);
+    } finally {
+      inFlightRequest.compareAndSet(request, null);
+    }
   }
 
   private String requestToken() {
@@ -38,7 +159,35 @@ public class TokenService {
     loginRequest.add("grant_type", keycloakProperties.getGrantType());
 
     log.info("Issuing access token for Keycloak communication [clientId: {}]", clientId);
-    var token = keycloakClient.login(loginRequest);
-    return token.getTokenType() + " " + token.getAccessToken();
+    var issuedAt = clock.instant();
+    var tokenResponse = keycloakClient.login(loginRequest);
+    var token = tokenResponse.getTokenType() + " " + tokenResponse.getAccessToken();
+
+    tokenState = TokenState.of(token, issuedAt, getTokenLifetime(tokenResponse.getExpiresIn()),
+      keycloakProperties.getAdminTokenRefreshMargin());
+    tokenCache.put(CACHE_KEY, token);
+    return token;
+  }
+
+  private Duration getTokenLifetime(Long expiresIn) {
+    if (expiresIn == null || expiresIn <= 0) {
+      return maxTokenLifetime;
+    }
+
+    var lifetime = Duration.ofSeconds(expiresIn);
+    return lifetime.compareTo(maxTokenLifetime) < 0 ? lifetime : maxTokenLifetime;
+  }
+
+  private record TokenState(String value, Instant refreshAt, Instant expiresAt) {
+
+    static TokenState of(String value, Instant issuedAt, Duration lifetime, Duration refreshMargin) {
+      var refreshAfter = lifetime.minus(refreshMargin);
+      var halfLifetime = lifetime.dividedBy(2);
+      if (refreshAfter.compareTo(halfLifetime) < 0) {
+        refreshAfter = halfLifetime;
+      }
+
+      return new TokenState(value, issuedAt.plus(refreshAfter), issuedAt.plus(lifetime));
+    }
   }
 }
@@ -0,0 +1,59 @@
+package org.folio.uk.integration.keycloak.config;
+
+import static org.springframework.http.HttpHeaders.AUTHORIZATION;
+
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.uk.integration.keycloak.TokenService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.support.HttpRequestWrapper;
+
+/**
+ * Retries a Keycloak request once with a new admin token if Keycloak rejects the current one with 401.
+ *
+ * <p>Requests without {@code Authorization} header (token requests) are passed through as is.</p>
+ */
+@Log4j2
+@RequiredArgsConstructor
+public class AdminTokenRetryInterceptor implements ClientHttpRequestInterceptor {
+
+  private final ObjectProvider<TokenService> tokenServiceProvider;
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+    throws IOException {
+    var response = execution.execute(request, body);
+    var rejectedToken = request.getHeaders().getFirst(AUTHORIZATION);
+    if (rejectedToken == null || response.getStatusCode().value() != HttpStatus.UNAUTHORIZED.value()) {
+      return response;
+    }
+
+    response.close();
+    log.info("Keycloak rejected access token, retrying request with a new one [method: {}, uri: {}]",
+      request.getMethod(), request.getURI().getPath());
+
+    var tokenService = tokenServiceProvider.getObject();
+    tokenService.invalidateToken(rejectedToken);
+    return execution.execute(withAuthorization(request, tokenService.issueToken()), body);
+  }
+
+  private static HttpRequest withAuthorization(HttpRequest request, String token) {
+    var headers = new HttpHeaders();
+    headers.putAll(request.getHeaders());
+    headers.set(AUTHORIZATION, token);
+
+    return new HttpRequestWrapper(request) {
+      @Override
+      public HttpHeaders getHeaders() {
+        return headers;
+      }
+    };
+  }
+}
@@ -1,17 +1,145 @@
 package org.folio.uk.integration.keycloak.config;
 
+import static org.apache.commons.lang3.StringUtils.defaultIfBlank;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.time.Duration;
+import javax.net.ssl.SSLContext;
+import javax.net.ssl.TrustManagerFactory;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.HostnameVerificationPolicy;
+import org.apache.hc.client5.http.ssl.NoopHostnameVerifier;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.folio.common.configuration.properties.TlsProperties;
 import org.folio.common.utils.tls.HttpClientTlsUtils;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.uk.configuration.metrics.HttpClientMetricsInterceptor;
 import org.folio.uk.integration.keycloak.KeycloakClient;
+import org.folio.uk.integration.keycloak.TokenService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.util.ResourceUtils;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 
 @Configuration
 public class KeycloakClientConfig {
 
+  private static final String CLIENT_NAME = "keycloak";
+  private static final String DISABLE_HOSTNAME_VERIFICATION = "jdk.internal.httpclient.disableHostnameVerification";
+
   @Bean
-  public KeycloakClient keycloakClient(KeycloakProperties properties) {
-    return HttpClientTlsUtils.buildHttpServiceClient(
-      RestClient.builder(), properties.getTls(), properties.getUrl(), KeycloakClient.class);
+  public KeycloakClient keycloakClient(KeycloakProperties properties, ObjectProvider<TokenService> tokenService,
+    ObjectProvider<CloseableHttpClient> keycloakHttpClient, ObjectProvider<MeterRegistry> meterRegistry,
+    FolioExecutionContext folioExecutionContext) {
+    var restClientBuilder = RestClient.builder()
+      .requestInterceptor(new AdminTokenRetryInterceptor(tokenService));
+    meterRegistry.ifAvailable(registry -> restClientBuilder.requestInterceptor(
+      new HttpClientMetricsInterceptor(registry, folioExecutionContext, CLIENT_NAME)));
+
+    var httpClient = keycloakHttpClient.getIfAvailable();
+    if (httpClient == null) {
+      return HttpClientTlsUtils.buildHttpServiceClient(
+        restClientBuilder, properties.getTls(), properties.getUrl(), KeycloakClient.class);
+    }
+
+    var restClient = restClientBuilder
+      .baseUrl(properties.getUrl())
+      .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+      .build();
+    return HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClient)).build()
+      .createClient(KeycloakClient.class);
+  }
+
+  /**
+   * Creates pooled HTTP client for Keycloak communication, pool utilization is exported as
+   * {@code httpcomponents.httpclient.pool.*} gauges tagged with {@code httpclient=keycloak}.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(name = "application.keycloak.http-client.pool-enabled", havingValue = "true",
+    matchIfMissing = true)
+  public CloseableHttpClient keycloakHttpClient(KeycloakProperties properties,
+    KeycloakHttpClientProperties httpClientProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+    var connectionConfig = ConnectionConfig.custom()
+      .setConnectTimeout(toTimeout(httpClientProperties.getConnectTimeout()))
+      .setSocketTimeout(toTimeout(httpClientProperties.getReadTimeout()))
+      .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+      .build();
+
+    var connectionManagerBuilder = PoolingHttpClientConnectionManagerBuilder.create()
+      .setMaxConnTotal(httpClientProperties.getMaxConnections())
+      .setMaxConnPerRoute(httpClientProperties.getMaxConnectionsPerRoute())
+      .setDefaultConnectionConfig(connectionConfig);
+
+    var tls = properties.getTls();
+    if (tls != null && tls.isEnabled()) {
+      connectionManagerBuilder.setTlsSocketStrategy(buildTlsStrategy(tls));
+    }
+
+    var connectionManager = connectionManagerBuilder.build();
+    meterRegistry.ifAvailable(registry ->
+      new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, CLIENT_NAME).bindTo(registry));
+
+    var requestConfig = RequestConfig.custom()
+      .setConnectionRequestTimeout(toTimeout(httpClientProperties.getConnectionRequestTimeout()))
+      .setResponseTimeout(toTimeout(httpClientProperties.getReadTimeout()))
+      .build();
+
+    return HttpClients.custom()
+      .setConnectionManager(connectionManager)
+      .setDefaultRequestConfig(requestConfig)
+      .evictExpiredConnections()
+      .evictIdleConnections(TimeValue.of(httpClientProperties.getIdleTimeout()))
+      .build();
+  }
+
+  private static DefaultClientTlsStrategy buildTlsStrategy(TlsProperties tls) {
+    var sslContext = buildSslContext(tls);
+    if (Boolean.getBoolean(DISABLE_HOSTNAME_VERIFICATION)) {
+      return new DefaultClientTlsStrategy(sslContext, HostnameVerificationPolicy.CLIENT, NoopHostnameVerifier.INSTANCE);
+    }
+
+    return new DefaultClientTlsStrategy(sslContext);
+  }
+
+  private static SSLContext buildSslContext(TlsProperties tls) {
+    try {
+      if (isBlank(tls.getTrustStorePath())) {
+        return SSLContext.getDefault();
+      }
+
+      var trustStore = KeyStore.getInstance(defaultIfBlank(tls.getTrustStoreType(), KeyStore.getDefaultType()));
+      var password = tls.getTrustStorePassword() == null ? null : tls.getTrustStorePassword().toCharArray();
+      try (var inputStream = ResourceUtils.getURL(tls.getTrustStorePath()).openStream()) {
+        trustStore.load(inputStream, password);
+      }
+
+      var trustManagerFactory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+      trustManagerFactory.init(trustStore);
+      var sslContext = SSLContext.getInstance("TLS");
+      sslContext.init(null, trustManagerFactory.getTrustManagers(), null);
+      return sslContext;
+    } catch (GeneralSecurityException | IOException e) {
+      throw new IllegalStateException("Failed to create SSL context for Keycloak client", e);
+    }
+  }
+
+  private static Timeout toTimeout(Duration duration) {
+    return Timeout.of(duration);
   }
 }
@@ -0,0 +1,60 @@
+package org.folio.uk.integration.keycloak.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Connection pool and timeout settings of the HTTP client used by {@code KeycloakClient}.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "application.keycloak.http-client")
+public class KeycloakHttpClientProperties {
+
+  /**
+   * Defines if pooled HTTP client is used for Keycloak communication, the default request factory is used otherwise.
+   */
+  private boolean poolEnabled = true;
+
+  /**
+   * Maximum number of connections in the pool.
+   */
+  @Positive
+  private int maxConnections = 100;
+
+  /**
+   * Maximum number of connections per route (Keycloak host).
+   */
+  @Positive
+  private int maxConnectionsPerRoute = 50;
+
+  /**
+   * Timeout to establish a connection with Keycloak.
+   */
+  @NotNull
+  private Duration connectTimeout = Duration.ofSeconds(5);
+
+  /**
+   * Timeout to wait for Keycloak response data.
+   */
+  @NotNull
+  private Duration readTimeout = Duration.ofSeconds(30);
+
+  /**
+   * Timeout to lease a connection from the pool.
+   */
+  @NotNull
+  private Duration connectionRequestTimeout = Duration.ofSeconds(10);
+
+  /**
+   * Time after which idle connections are evicted from the pool.
+   */
+  @NotNull
+  private Duration idleTimeout = Duration.ofSeconds(30);
+}
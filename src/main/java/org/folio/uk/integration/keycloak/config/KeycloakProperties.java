@@ -1,6 +1,7 @@
 package org.folio.uk.integration.keycloak.config;
 
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
 import org.folio.common.configuration.properties.TlsProperties;
 import org.hibernate.validator.constraints.URL;
@@ -22,4 +23,10 @@ public class KeycloakProperties {
   private String url;
   @NotNull
   private TlsProperties tls;
+
+  /**
+   * Time before the admin token expiration when it is renewed in the background.
+   */
+  @NotNull
+  private Duration adminTokenRefreshMargin = Duration.ofSeconds(10);
 }
@@ -0,0 +1,50 @@
+package org.folio.uk.integration.keycloak.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Circuit breaker and bulkhead settings applied to Keycloak calls per realm.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "application.keycloak.resilience")
+public class KeycloakResilienceProperties {
+
+  /**
+   * Defines if circuit breaker and bulkhead are applied to Keycloak calls.
+   */
+  private boolean enabled = true;
+
+  /**
+   * Number of consecutive failed calls after which the circuit breaker of a realm is opened.
+   */
+  @Positive
+  private int failureThreshold = 5;
+
+  /**
+   * Time during which calls are rejected after the circuit breaker is opened, a single trial call is permitted
+   * afterward.
+   */
+  @NotNull
+  private Duration openDuration = Duration.ofSeconds(30);
+
+  /**
+   * Maximum number of concurrent calls to a realm, capped by the number of pooled connections per route, which are
+   * shared by all realms.
+   */
+  @Positive
+  private int maxConcurrentCalls = 50;
+
+  /**
+   * Maximum time to wait for a free slot when the maximum number of concurrent calls is reached.
+   */
+  @NotNull
+  private Duration maxWaitDuration = Duration.ofMillis(500);
+}
@@ -0,0 +1,14 @@
+package org.folio.uk.integration.keycloak.model;
+
+import java.util.List;
+import org.folio.uk.domain.dto.User;
+
+/**
+ * A user to be imported to Keycloak within a partial import request.
+ *
+ * @param user - FOLIO user
+ * @param password - initial password, nullable
+ * @param userTenants - tenants the user belongs to
+ */
+public record KeycloakUserImport(User user, String password, List<String> userTenants) {
+}
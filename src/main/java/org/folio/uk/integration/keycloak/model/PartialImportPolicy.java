@@ -0,0 +1,11 @@
+package org.folio.uk.integration.keycloak.model;
+
+/**
+ * Defines how Keycloak partial import handles resources that already exist in the realm.
+ */
+public enum PartialImportPolicy {
+
+  FAIL,
+  SKIP,
+  OVERWRITE
+}
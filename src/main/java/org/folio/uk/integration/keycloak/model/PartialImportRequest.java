@@ -0,0 +1,15 @@
+package org.folio.uk.integration.keycloak.model;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PartialImportRequest {
+
+  private PartialImportPolicy ifResourceExists;
+  private List<KeycloakUser> users;
+}
@@ -0,0 +1,32 @@
+package org.folio.uk.integration.keycloak.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class PartialImportResults {
+
+  private Integer added;
+  private Integer skipped;
+  private Integer overwritten;
+  private List<PartialImportResult> results = new ArrayList<>();
+
+  @Data
+  public static class PartialImportResult {
+
+    public static final String RESOURCE_TYPE_USER = "USER";
+
+    private Action action;
+    private String resourceType;
+    private String resourceName;
+    private String id;
+  }
+
+  public enum Action {
+
+    ADDED,
+    SKIPPED,
+    OVERWRITTEN
+  }
+}
@@ -0,0 +1,43 @@
+package org.folio.uk.integration.notify;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Asynchronous notification delivery configuration, bound to {@code application.notification.*} properties.
+ */
+@Data
+@Component
+@Validated
+@ConfigurationProperties("application.notification")
+public class NotificationProperties {
+
+  /**
+   * Number of threads sending queued notifications to mod-notify.
+   */
+  @Positive
+  private int poolSize = 2;
+
+  /**
+   * Maximum number of notifications waiting to be sent, notifications are sent by the caller when the queue is full.
+   */
+  @Positive
+  private int queueCapacity = 500;
+
+  /**
+   * Maximum number of attempts to send a notification.
+   */
+  @Positive
+  private int retryAttempts = 3;
+
+  /**
+   * Initial delay between attempts to send a notification, doubled after each failed attempt.
+   */
+  @NotNull
+  private Duration retryDelay = Duration.ofSeconds(1);
+}
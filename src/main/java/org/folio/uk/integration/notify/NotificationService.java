@@ -2,12 +2,18 @@ package org.folio.uk.integration.notify;
 
 import java.time.OffsetDateTime;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.uk.domain.dto.User;
 import org.folio.uk.integration.notify.model.Context;
 import org.folio.uk.integration.notify.model.Notification;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.stereotype.Service;
 
+@Log4j2
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
@@ -18,6 +24,10 @@ public class NotificationService {
   private static final String DEFAULT_NOTIFICATION_LANG = "en";
 
   private final NotificationClient client;
+  @Qualifier("notificationTaskExecutor")
+  private final TaskExecutor notificationTaskExecutor;
+  @Qualifier("notificationRetryTemplate")
+  private final RetryTemplate notificationRetryTemplate;
 
   public void sendLocateUserNotification(User user) {
     var context = new Context().withAdditionalProperty("user", user);
@@ -49,8 +59,33 @@ public class NotificationService {
       .withAdditionalProperty("expirationUnitOfTime", expirationUnitOfTime);
 
     var notification = buildUserNotification(user, eventConfigName, context);
+    sendAsync(notification);
+  }
 
-    client.sendNotification(notification);
+  /**
+   * Queues the notification to be sent with retries, without waiting for mod-notify.
+   *
+   * <p>If the queue is full, the notification is sent by the calling thread.</p>
+   */
+  private void sendAsync(Notification notification) {
+    try {
+      notificationTaskExecutor.execute(() -> sendWithRetry(notification));
+    } catch (TaskRejectedException e) {
+      log.debug("Notification queue is full, sending notification synchronously");
+      sendWithRetry(notification);
+    }
+  }
+
+  private void sendWithRetry(Notification notification) {
+    try {
+      notificationRetryTemplate.execute(context -> {
+        client.sendNotification(notification);
+        return null;
+      });
+    } catch (Exception e) {
+      log.warn("Failed to send notification: eventConfigName = {}, recipientId = {}",
+        notification.getEventConfigName(), notification.getRecipientId(), e);
+    }
   }
 
   private static Notification buildUserNotification(User user, String configName, Context context) {
@@ -2,10 +2,10 @@ package org.folio.uk.integration.permission;
 
 import static java.util.Objects.isNull;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+import static org.folio.uk.utils.PagingUtils.forEachPage;
 
-import java.util.LinkedHashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.function.Consumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.folio.uk.integration.permission.model.PermissionUser;
@@ -16,17 +16,28 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class PermissionService {
 
-  private static final Integer ALL_RECORDS = 99999;
+  private static final String USERS_WITH_PERMISSIONS_QUERY = "id=* NOT permissions==[] sortBy id";
 
   private final PermissionClient client;
 
-  public Set<String> findUsersIdsWithPermissions() {
-    var response = client.findByQuery("id=* NOT permissions==[]", ALL_RECORDS, null);
+  /**
+   * Loads identifiers of users having permissions page by page.
+   *
+   * @param pageSize - number of permission users requested per page
+   * @param userIdsConsumer - consumer of user identifiers, called once per loaded page
+   * @return total number of loaded user identifiers
+   */
+  public int findUsersIdsWithPermissions(int pageSize, Consumer<List<String>> userIdsConsumer) {
+    return forEachPage(this::findUsersIdsPage, pageSize, userIdsConsumer);
+  }
+
+  private List<String> findUsersIdsPage(Integer offset, Integer limit) {
+    var response = client.findByQuery(USERS_WITH_PERMISSIONS_QUERY, limit, offset);
     if (isNull(response) || isEmpty(response.getPermissionUsers())) {
-      return new LinkedHashSet<>();
+      return List.of();
     }
     return response.getPermissionUsers().stream()
       .map(PermissionUser::getUserId)
-      .collect(Collectors.toCollection(LinkedHashSet::new));
+      .toList();
   }
 }
@@ -5,6 +5,7 @@ import static java.util.Optional.ofNullable;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.folio.uk.integration.configuration.ModuleConfigurationCache;
 import org.folio.uk.integration.settings.model.BaseUrlResponse;
 import org.springframework.stereotype.Service;
 
@@ -12,10 +13,13 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class SettingsService {
 
+  private static final String BASE_URL_CACHE_KEY = "settings:base-url";
+
   private final SettingsClient settingsClient;
+  private final ModuleConfigurationCache moduleConfigurationCache;
 
   public Optional<String> getBaseUrl() {
-    var response = settingsClient.getBaseUrl();
+    var response = moduleConfigurationCache.get(BASE_URL_CACHE_KEY, settingsClient::getBaseUrl);
     return ofNullable(response)
       .map(BaseUrlResponse::baseUrl)
       .filter(StringUtils::isNotBlank);
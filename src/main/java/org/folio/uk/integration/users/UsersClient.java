@@ -24,6 +24,10 @@ public interface UsersClient {
   @GetExchange
   Users query(@RequestParam("query") String query, @RequestParam("limit") Integer limit);
 
+  @GetExchange
+  Users query(@RequestParam("query") String query, @RequestParam("limit") Integer limit,
+    @RequestParam("offset") Integer offset);
+
   @PostExchange(contentType = APPLICATION_JSON_VALUE)
   User createUser(@RequestBody User user);
 
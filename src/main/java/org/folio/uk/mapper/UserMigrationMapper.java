@@ -8,13 +8,17 @@ import org.folio.uk.domain.dto.UserMigrationJobs;
 import org.folio.uk.domain.entity.UserMigrationJobEntity;
 import org.mapstruct.InjectionStrategy;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
 
 @Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR, uses = MappingMethods.class)
 public interface UserMigrationMapper {
 
+  @Mapping(target = "updatedAt", ignore = true)
   UserMigrationJobEntity toEntity(UserMigrationJob dto);
 
+  @Mapping(target = "processedRecords", ignore = true)
+  @Mapping(target = "failedRecords", ignore = true)
   UserMigrationJob toDto(UserMigrationJobEntity entity);
 
   List<UserMigrationJob> toDtos(Iterable<UserMigrationJobEntity> entity);
@@ -0,0 +1,46 @@
+package org.folio.uk.mapper;
+
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
+
+import java.util.List;
+import org.folio.uk.domain.dto.UserReconciliationItem;
+import org.folio.uk.domain.dto.UserReconciliationItems;
+import org.folio.uk.domain.dto.UserReconciliationJob;
+import org.folio.uk.domain.dto.UserReconciliationJobs;
+import org.folio.uk.domain.entity.UserReconciliationJobEntity;
+import org.folio.uk.domain.model.UserReconciliationJobItem;
+import org.mapstruct.InjectionStrategy;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.springframework.data.domain.Page;
+
+@Mapper(componentModel = "spring", injectionStrategy = InjectionStrategy.CONSTRUCTOR, uses = MappingMethods.class)
+public interface UserReconciliationMapper {
+
+  @Mapping(target = "totalRecords", ignore = true)
+  @Mapping(target = "processedRecords", ignore = true)
+  @Mapping(target = "failedRecords", ignore = true)
+  @Mapping(target = "skippedRecords", ignore = true)
+  @Mapping(target = "differences", ignore = true)
+  UserReconciliationJob toDto(UserReconciliationJobEntity entity);
+
+  List<UserReconciliationJob> toDtos(Iterable<UserReconciliationJobEntity> entity);
+
+  UserReconciliationItem toItemDto(UserReconciliationJobItem item);
+
+  List<UserReconciliationItem> toItemDtos(List<UserReconciliationJobItem> items);
+
+  default UserReconciliationJobs toDtoCollection(Page<UserReconciliationJobEntity> pageable) {
+    List<UserReconciliationJob> dtos = emptyIfNull(toDtos(pageable));
+
+    return new UserReconciliationJobs()
+      .reconciliations(dtos)
+      .totalRecords((int) pageable.getTotalElements());
+  }
+
+  default UserReconciliationItems toItemsCollection(List<UserReconciliationJobItem> items, int totalRecords) {
+    return new UserReconciliationItems()
+      .items(emptyIfNull(toItemDtos(items)))
+      .totalRecords(totalRecords);
+  }
+}
@@ -1,17 +1,13 @@
 package org.folio.uk.migration;
 
-import static java.util.concurrent.CompletableFuture.allOf;
-import static java.util.concurrent.CompletableFuture.runAsync;
 import static org.apache.commons.collections4.ListUtils.partition;
 import static org.apache.commons.lang3.Strings.CS;
-import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
 import static org.folio.uk.utils.QueryUtils.convertFieldListToCqlQuery;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
@@ -37,6 +33,7 @@ public class IdpMigrationService {
   private final FolioExecutionContext folioExecutionContext;
   private final IdpMigrationProperties idpMigrationProperties;
   private final KeycloakFederatedAuthProperties keycloakFederatedAuthProperties;
+  private final MigrationExecutor migrationExecutor;
 
   public void linkUserIdpMigration(UsersIdp usersIdp) {
     log.info("Started user IDP linking migration");
@@ -59,18 +56,16 @@ public class IdpMigrationService {
     var userIds = new ArrayList<>(usersIdp.getUserIds());
     log.info("Applying IDP migration to {} user(s) in {} tenant", userIds.size(), usersIdp.getCentralTenantId());
 
-    var partitions = partition(userIds, idpMigrationProperties.getBatchSize()).stream()
-      .map(part -> runAsync(getRunnableWithCurrentFolioContext(
-        () -> findAndLinkUserIdpByPart(part, kcOperation))))
-      .toArray(CompletableFuture[]::new);
-
-    allOf(partitions).whenComplete(migrationCompleteHandler(userIds.size()));
+    var partitions = partition(userIds, idpMigrationProperties.getBatchSize());
+    migrationExecutor.runAsync(() ->
+        migrationExecutor.runAll(partitions, part -> findAndLinkUserIdpByPart(part, kcOperation)))
+      .whenComplete(migrationCompleteHandler(userIds.size()));
   }
 
   private void findAndLinkUserIdpByPart(List<UUID> userIds, BiConsumer<User, String> kcOperation) {
     var query = convertFieldListToCqlQuery(userIds, USER_ID, true);
     userService.findUsers(query, Integer.MAX_VALUE).getUsers().forEach(user ->
-      keycloakService.findKeycloakUserWithUserIdAttr(user.getId()).ifPresent(
+      keycloakService.findKeycloakUser(user).ifPresent(
         keycloakUser -> kcOperation.accept(user, keycloakUser.getId())));
   }
 
@@ -0,0 +1,95 @@
+package org.folio.uk.migration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.BooleanSupplier;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps leases of running user migration and reconciliation jobs alive.
+ *
+ * <p>A job is leased by the module instance running it with a random token stored in the job record. The lease is
+ * renewed periodically, independently of batch completion, so a slow batch does not make the job look abandoned. If a
+ * renewal finds that the token has been replaced, the job has been claimed by another instance: the lease is marked as
+ * lost and the job stops processing.</p>
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+public class JobHeartbeat {
+
+  private final TaskScheduler taskScheduler;
+  private final FolioExecutionContext folioExecutionContext;
+
+  /**
+   * Starts renewing the lease of a job within the current folio execution context.
+   *
+   * @param jobId - job identifier
+   * @param interval - lease renewal interval
+   * @param renewal - renews the lease, returns {@code false} if the job is no longer leased by this instance
+   * @return {@link Lease} that must be closed when the job is completed
+   */
+  public Lease start(UUID jobId, Duration interval, BooleanSupplier renewal) {
+    var context = (FolioExecutionContext) folioExecutionContext.getInstance();
+    var lease = new Lease(jobId, renewal);
+    lease.heartbeat = taskScheduler.scheduleAtFixedRate(() -> {
+      try (var ignored = new FolioExecutionContextSetter(context)) {
+        lease.renew();
+      } catch (Exception e) {
+        log.warn("Failed to renew job lease: jobId = {}", jobId, e);
+      }
+    }, Instant.now().plus(interval), interval);
+    return lease;
+  }
+
+  /**
+   * Lease of a running job.
+   */
+  public static final class Lease implements AutoCloseable {
+
+    private final UUID jobId;
+    private final BooleanSupplier renewal;
+    private volatile boolean lost;
+    private volatile ScheduledFuture<?> heartbeat;
+
+    Lease(UUID jobId, BooleanSupplier renewal) {
+      this.jobId = jobId;
+      this.renewal = renewal;
+    }
+
+    /**
+     * Renews the lease, e.g. when a batch is completed.
+     *
+     * @return {@code true} if the job is still leased by this instance, {@code false} otherwise
+     */
+    public boolean renew() {
+      if (!lost && !renewal.getAsBoolean()) {
+        lost = true;
+        log.warn("Job lease is lost, the job is completed or claimed by another module instance: jobId = {}", jobId);
+      }
+      return !lost;
+    }
+
+    public boolean isLost() {
+      return lost;
+    }
+
+    /**
+     * Stops renewing the lease.
+     */
+    @Override
+    public void close() {
+      var future = heartbeat;
+      if (future != null) {
+        future.cancel(false);
+      }
+    }
+  }
+}
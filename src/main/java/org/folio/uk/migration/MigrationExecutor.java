@@ -0,0 +1,87 @@
+package org.folio.uk.migration;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.uk.migration.properties.MigrationExecutorProperties;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs migration jobs and their batches on the shared virtual thread executor.
+ *
+ * <p>Batches are submitted lazily: a new batch is started only when the tenant has a free slot, so the number of
+ * batches talking to Keycloak concurrently is limited per tenant, regardless of how many migrations are running.</p>
+ */
+@Component
+public class MigrationExecutor {
+
+  private final Map<String, Semaphore> tenantPermits = new ConcurrentHashMap<>();
+  private final FolioExecutionContext folioExecutionContext;
+  private final MigrationExecutorProperties executorProperties;
+  private final Executor virtualTaskExecutor;
+
+  public MigrationExecutor(FolioExecutionContext folioExecutionContext,
+    MigrationExecutorProperties executorProperties,
+    @Qualifier("virtualTaskExecutor") Executor virtualTaskExecutor) {
+    this.folioExecutionContext = folioExecutionContext;
+    this.executorProperties = executorProperties;
+    this.virtualTaskExecutor = virtualTaskExecutor;
+  }
+
+  /**
+   * Runs a migration job asynchronously within the current folio execution context.
+   *
+   * @param job - migration job
+   * @return {@link CompletableFuture} completed when the job is finished
+   */
+  public CompletableFuture<Void> runAsync(Runnable job) {
+    return CompletableFuture.runAsync(job, virtualTaskExecutor);
+  }
+
+  /**
+   * Processes batches concurrently within the current folio execution context and waits for their completion.
+   *
+   * <p>A failed batch does not stop the remaining ones, all batches are processed and the failure is rethrown once
+   * they are completed.</p>
+   *
+   * @param batches - batches to process
+   * @param batchProcessor - batch processor
+   * @param <T> - batch type
+   */
+  public <T> void runAll(Iterable<T> batches, Consumer<T> batchProcessor) {
+    var permits = tenantPermits.computeIfAbsent(folioExecutionContext.getTenantId(),
+      tenant -> new Semaphore(executorProperties.getMaxConcurrentBatchesPerTenant()));
+    var startedBatches = new ArrayList<CompletableFuture<Void>>();
+    for (var batch : batches) {
+      acquire(permits);
+      startedBatches.add(startBatch(permits, () -> batchProcessor.accept(batch)));
+    }
+
+    CompletableFuture.allOf(startedBatches.toArray(CompletableFuture[]::new)).join();
+  }
+
+  private CompletableFuture<Void> startBatch(Semaphore permits, Runnable batch) {
+    try {
+      return CompletableFuture.runAsync(batch, virtualTaskExecutor)
+        .whenComplete((result, error) -> permits.release());
+    } catch (RuntimeException e) {
+      permits.release();
+      throw e;
+    }
+  }
+
+  private static void acquire(Semaphore permits) {
+    try {
+      permits.acquire();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Migration has been interrupted", e);
+    }
+  }
+}
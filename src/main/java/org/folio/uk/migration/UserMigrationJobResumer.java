@@ -0,0 +1,62 @@
+package org.folio.uk.migration;
+
+import static org.folio.common.utils.OkapiHeaders.URL;
+import static org.folio.spring.integration.XOkapiHeaders.TENANT;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.uk.integration.configuration.OkapiConfigurationProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically looks for abandoned user migration and reconciliation jobs in all tenant schemas and resumes them from
+ * the last checkpoint. The first check is performed on module startup.
+ */
+@Log4j2
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "application.migration.resume-enabled", havingValue = "true", matchIfMissing = true)
+public class UserMigrationJobResumer {
+
+  private static final String TENANT_SCHEMAS_SQL =
+    "SELECT schema_name FROM information_schema.schemata WHERE schema_name LIKE ?";
+
+  private final JdbcTemplate jdbcTemplate;
+  private final FolioModuleMetadata moduleMetadata;
+  private final OkapiConfigurationProperties okapiProperties;
+  private final UserMigrationService userMigrationService;
+  private final UserReconciliationService userReconciliationService;
+
+  /**
+   * Resumes abandoned user migration and reconciliation jobs of all tenants.
+   */
+  @Scheduled(fixedDelayString = "${application.migration.resume-check-interval:1m}")
+  public void resumeStaleMigrations() {
+    for (var tenant : findTenants()) {
+      Map<String, Collection<String>> headers = Map.of(TENANT, List.of(tenant), URL, List.of(okapiProperties.getUrl()));
+      try (var ignored = new FolioExecutionContextSetter(moduleMetadata, headers)) {
+        userMigrationService.resumeStaleMigrations();
+        userReconciliationService.resumeStaleReconciliations();
+      } catch (Exception e) {
+        log.warn("Failed to resume user migration or reconciliation jobs: tenant = {}", tenant, e);
+      }
+    }
+  }
+
+  private List<String> findTenants() {
+    var schemaSuffix = StringUtils.removeStart(moduleMetadata.getDBSchemaName("tenant"), "tenant");
+    var schemaPattern = "%" + schemaSuffix.replace("_", "\\_");
+    return jdbcTemplate.queryForList(TENANT_SCHEMAS_SQL, String.class, schemaPattern).stream()
+      .map(schema -> StringUtils.removeEnd(schema, schemaSuffix))
+      .toList();
+  }
+}
@@ -5,38 +5,46 @@ import static java.util.Objects.nonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.stream.Collectors.toList;
-import static org.apache.commons.collections4.CollectionUtils.isEmpty;
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import static org.apache.commons.collections4.ListUtils.partition;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 import static org.folio.common.utils.CollectionUtils.toStream;
-import static org.folio.spring.scope.FolioExecutionScopeExecutionContextManager.getRunnableWithCurrentFolioContext;
+import static org.folio.uk.utils.AsyncUtils.unwrapCompletionError;
+import static org.folio.uk.utils.PagingUtils.forEachPage;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.CompletableFuture;
 import java.util.function.BiConsumer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.Strings;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.data.OffsetRequest;
 import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.uk.domain.UserMigrationJobItemRepository;
 import org.folio.uk.domain.UserMigrationJobRepository;
 import org.folio.uk.domain.dto.User;
 import org.folio.uk.domain.dto.UserMigrationJob;
 import org.folio.uk.domain.dto.UserMigrationJobStatus;
 import org.folio.uk.domain.dto.UserMigrationJobs;
 import org.folio.uk.domain.dto.UserTenant;
+import org.folio.uk.domain.entity.EntityUserMigrationJobItemStatus;
 import org.folio.uk.domain.entity.EntityUserMigrationJobStatus;
 import org.folio.uk.domain.entity.UserMigrationJobEntity;
+import org.folio.uk.domain.model.UserMigrationJobItem;
 import org.folio.uk.exception.RequestValidationException;
+import org.folio.uk.integration.keycloak.KeycloakException;
 import org.folio.uk.integration.keycloak.KeycloakService;
+import org.folio.uk.integration.keycloak.KeycloakUnavailableException;
+import org.folio.uk.integration.keycloak.model.KeycloakUserImport;
+import org.folio.uk.integration.keycloak.model.PartialImportResults.PartialImportResult;
 import org.folio.uk.integration.permission.PermissionService;
 import org.folio.uk.integration.users.UserTenantsClient;
 import org.folio.uk.integration.users.UsersClient;
@@ -44,6 +52,8 @@ import org.folio.uk.mapper.UserMigrationMapper;
 import org.folio.uk.migration.properties.UserMigrationProperties;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.client.RestClientResponseException;
 
 @Log4j2
@@ -53,22 +63,27 @@ import org.springframework.web.client.RestClientResponseException;
 public class UserMigrationService {
 
   private static final String INVALID_EMAIL_ERROR_MESSAGE = "Invalid email address.";
-  private static final String TYPE_SHADOW = "type==shadow";
+  private static final String TYPE_SHADOW = "type==shadow sortBy id";
+  private static final int PENDING_USERS_PAGE_BATCHES = 50;
+  private static final int LEASE_RENEWALS_PER_TIMEOUT = 4;
 
   private final PermissionService permissionService;
   private final UserMigrationProperties migrationProperties;
   private final UserMigrationJobRepository repository;
+  private final UserMigrationJobItemRepository itemRepository;
   private final KeycloakService keycloakService;
   private final UsersClient usersClient;
   private final UserMigrationMapper mapper;
   private final FolioExecutionContext folioContext;
   private final UserTenantsClient userTenantsClient;
+  private final MigrationExecutor migrationExecutor;
+  private final JobHeartbeat jobHeartbeat;
 
   @Transactional(readOnly = true)
   public UserMigrationJob getMigrationById(UUID id) {
     var entity = repository.findById(id)
       .orElseThrow(() -> new EntityNotFoundException("Migration is not found: id = " + id));
-    return mapper.toDto(entity);
+    return withProgress(mapper.toDto(entity));
   }
 
   @Transactional(readOnly = true)
@@ -79,7 +94,9 @@ public class UserMigrationService {
       ? repository.findAll(offsetReq)
       : repository.findByCql(query, offsetReq);
 
-    return mapper.toDtoCollection(page);
+    var migrations = mapper.toDtoCollection(page);
+    migrations.getMigrations().forEach(this::withProgress);
+    return migrations;
   }
 
   public void deleteMigrationById(UUID id) {
@@ -87,53 +104,177 @@ public class UserMigrationService {
   }
 
   public UserMigrationJob createMigration() {
+    validateRunningMigrations();
     var migration = buildUserMigrationsEntity();
-    var combinedUserIds = getCombinedUserIds();
-
-    validateRunningMigrations(combinedUserIds);
-    migration.setTotalRecords(combinedUserIds.size());
     repository.save(migration);
     repository.flush();
 
-    startMigration(combinedUserIds, migration);
+    var totalRecords = savePendingUsers(migration.getId());
+    if (totalRecords == 0) {
+      throw new RequestValidationException("Nothing to migrate, there are no users");
+    }
+    // collecting users can take longer than the stale job timeout, so the checkpoint is set once it is done
+    migration.setTotalRecords(totalRecords);
+    migration.setUpdatedAt(Instant.now());
+    repository.save(migration);
 
-    return mapper.toDto(migration);
-  }
+    runAfterCommit(() -> startMigration(migration, migration.getLeaseToken()));
 
-  private List<String> getCombinedUserIds() {
-    var userIds = permissionService.findUsersIdsWithPermissions();
-    addShadowUsers(userIds);
-    return userIds.stream().toList();
+    return withProgress(mapper.toDto(migration));
   }
 
-  private void addShadowUsers(Set<String> userIds) {
-    var shadowUsers = usersClient.query(TYPE_SHADOW, Integer.MAX_VALUE);
-    if (Objects.isNull(shadowUsers) || CollectionUtils.isEmpty(shadowUsers.getUsers())) {
-      return;
+  /**
+   * Resumes in-progress migration jobs of the current tenant that have no recent checkpoints, e.g. because the
+   * module instance running them was restarted. Only users that are still pending are processed.
+   */
+  public void resumeStaleMigrations() {
+    var staleBefore = Instant.now().minus(migrationProperties.getStaleJobTimeout());
+    for (var job : repository.findAllByStatus(EntityUserMigrationJobStatus.IN_PROGRESS)) {
+      var leaseToken = UUID.randomUUID();
+      if (repository.claimStaleJob(job.getId(), staleBefore, Instant.now(), leaseToken) == 0) {
+        continue;
+      }
+
+      if (itemRepository.count(job.getId()) == 0) {
+        log.warn("User Migration cannot be resumed, it has no checkpoint data. Id: {}", job.getId());
+        repository.completeJob(job.getId(), leaseToken, EntityUserMigrationJobStatus.FAILED, Instant.now());
+        continue;
+      }
+
+      log.info("Resuming User Migration from the last checkpoint. Id: {}", job.getId());
+      runAfterCommit(() -> startMigration(job, leaseToken));
     }
-    var shadowUserIds = shadowUsers.getUsers().stream()
+  }
+
+  /**
+   * Saves users with permissions and shadow users as pending job items page by page, duplicates are skipped.
+   *
+   * @return number of users to migrate
+   */
+  private int savePendingUsers(UUID jobId) {
+    var pageSize = migrationProperties.getPageSize();
+    var permissionUsers = permissionService.findUsersIdsWithPermissions(pageSize,
+      userIds -> itemRepository.savePending(jobId, toUuids(userIds)));
+    log.info("Added user ids with permissions: {}", permissionUsers);
+
+    var shadowUsers = forEachPage(this::findShadowUsers, pageSize,
+      users -> itemRepository.savePending(jobId, toUserIds(users)));
+    log.info("Added shadow user ids: {}", shadowUsers);
+
+    return itemRepository.count(jobId);
+  }
+
+  private List<User> findShadowUsers(Integer offset, Integer limit) {
+    var shadowUsers = usersClient.query(TYPE_SHADOW, limit, offset);
+    return Objects.isNull(shadowUsers) ? List.of() : shadowUsers.getUsers();
+  }
+
+  private static List<UUID> toUserIds(List<User> users) {
+    return users.stream()
       .filter(Objects::nonNull)
       .map(User::getId)
       .filter(Objects::nonNull)
-      .map(UUID::toString)
-      .distinct()
       .toList();
-    userIds.addAll(shadowUserIds);
-    log.info("Added shadow user ids: {}", shadowUserIds.size());
   }
 
-  private void startMigration(List<String> userIds, UserMigrationJobEntity job) {
-    var partitions = partition(userIds, migrationProperties.getBatchSize());
-    CompletableFuture.allOf(partitions.stream()
-        .map(part -> CompletableFuture.runAsync(getRunnableWithCurrentFolioContext(() -> findThenCreateUsers(part))))
-        .toArray(CompletableFuture[]::new))
-      .whenComplete(migrationCompleteHandler(job, (FolioExecutionContext) folioContext.getInstance()));
+  private static List<UUID> toUuids(List<String> userIds) {
+    return userIds.stream()
+      .filter(Objects::nonNull)
+      .map(UUID::fromString)
+      .toList();
+  }
+
+  private UserMigrationJob withProgress(UserMigrationJob migration) {
+    var counts = itemRepository.countByStatus(migration.getId());
+    var failed = counts.getOrDefault(EntityUserMigrationJobItemStatus.FAILED, 0);
+    var migrated = counts.getOrDefault(EntityUserMigrationJobItemStatus.MIGRATED, 0);
+    return migration.processedRecords(migrated + failed).failedRecords(failed);
+  }
+
+  private static void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * Starts processing of a job leased with the given token. The lease is renewed in the background while the job is
+   * running, so the job is not resumed by other instances, even if a batch takes longer than the stale job timeout.
+   */
+  private void startMigration(UserMigrationJobEntity job, UUID leaseToken) {
+    var renewalInterval = migrationProperties.getStaleJobTimeout().dividedBy(LEASE_RENEWALS_PER_TIMEOUT);
+    var lease = jobHeartbeat.start(job.getId(), renewalInterval,
+      () -> repository.renewLease(job.getId(), leaseToken, Instant.now()) > 0);
+    try {
+      migrationExecutor.runAsync(() -> migratePendingUsers(job.getId(), lease))
+        .whenComplete(migrationCompleteHandler(job, leaseToken, lease,
+          (FolioExecutionContext) folioContext.getInstance()));
+    } catch (RuntimeException e) {
+      lease.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Migrates pending users of the job page by page, each batch result is stored as a checkpoint. Processing is
+   * stopped if the job lease is lost.
+   */
+  private void migratePendingUsers(UUID jobId, JobHeartbeat.Lease lease) {
+    var batchSize = migrationProperties.getBatchSize();
+    var pageSize = batchSize * PENDING_USERS_PAGE_BATCHES;
+    var userIds = itemRepository.findPendingUserIds(jobId, null, pageSize);
+    while (!userIds.isEmpty()) {
+      migrationExecutor.runAll(partition(userIds, batchSize), part -> migrateUsers(jobId, part, lease));
+      if (lease.isLost()) {
+        return;
+      }
+
+      userIds = itemRepository.findPendingUserIds(jobId, userIds.getLast(), pageSize);
+    }
+  }
+
+  /**
+   * Migrates a batch of users. If Keycloak rejects a call because it is unavailable, the results collected so far are
+   * stored and the remaining users of the batch are left pending for the resumed job.
+   */
+  private void migrateUsers(UUID jobId, List<UUID> userIds, JobHeartbeat.Lease lease) {
+    if (lease.isLost()) {
+      return;
+    }
+
+    var items = new ArrayList<UserMigrationJobItem>(userIds.size());
+    try {
+      findThenCreateUsers(userIds, items);
+    } finally {
+      itemRepository.updateStatuses(jobId, items);
+    }
+    lease.renew();
   }
 
-  private BiConsumer<Void, ? super Throwable> migrationCompleteHandler(UserMigrationJobEntity job,
-    FolioExecutionContext context) {
+  private BiConsumer<Void, ? super Throwable> migrationCompleteHandler(UserMigrationJobEntity job, UUID leaseToken,
+    JobHeartbeat.Lease lease, FolioExecutionContext context) {
     return (result, ex) -> {
+      lease.close();
       try (var ignored = new FolioExecutionContextSetter(context)) {
+        if (lease.isLost()) {
+          log.warn("User Migration is stopped, it has been claimed by another module instance. Id: {}", job.getId());
+          return;
+        }
+
+        if (unwrapCompletionError(ex) instanceof KeycloakUnavailableException e) {
+          log.warn("User Migration is suspended, Keycloak is unavailable, pending users will be migrated when the "
+            + "job is resumed. Id: {}, retryAfter: {}", job.getId(), e.getRetryAfter());
+          return;
+        }
+
         EntityUserMigrationJobStatus status;
         if (ex != null) {
           status = EntityUserMigrationJobStatus.FAILED;
@@ -143,12 +284,10 @@ public class UserMigrationService {
           log.info("User Migration was successfully finished. Id: {} Total Records: {}",
             job.getId(), job.getTotalRecords());
         }
-        repository.findById(job.getId())
-          .ifPresent(entity -> {
-            entity.setStatus(status);
-            entity.setFinishedAt(Instant.now());
-            repository.save(entity);
-          });
+        if (repository.completeJob(job.getId(), leaseToken, status, Instant.now()) == 0) {
+          log.warn("User Migration cannot be completed, it has been claimed by another module instance. Id: {}",
+            job.getId());
+        }
       }
     };
   }
@@ -157,28 +296,100 @@ public class UserMigrationService {
     var migration = new UserMigrationJobEntity();
     migration.setId(UUID.randomUUID());
     migration.setStatus(EntityUserMigrationJobStatus.IN_PROGRESS);
-    migration.setStartedAt(Instant.now());
+    migration.setLeaseToken(UUID.randomUUID());
+    var now = Instant.now();
+    migration.setStartedAt(now);
+    migration.setUpdatedAt(now);
     return migration;
   }
 
-  private void validateRunningMigrations(List<String> userIds) {
+  private void validateRunningMigrations() {
     if (repository.existsByStatus(EntityUserMigrationJobStatus.IN_PROGRESS)) {
       throw new RequestValidationException("There is already exists active migration job", "status",
         UserMigrationJobStatus.IN_PROGRESS);
     }
-    if (isEmpty(userIds)) {
-      throw new RequestValidationException("Nothing to migrate, there are no users");
-    }
   }
 
-  private void findThenCreateUsers(List<String> userIds) {
+  private void findThenCreateUsers(List<UUID> userIds, List<UserMigrationJobItem> items) {
     var query = createSearchingUsersByIdsQuery(userIds);
     var users = usersClient.query(query, userIds.size());
-    if (isNull(users) || isEmpty(users.getUsers())) {
+    var foundUsers = isNull(users) ? List.<User>of() : emptyIfNull(users.getUsers());
+
+    var validUsers = new ArrayList<User>(foundUsers.size());
+    var foundUserIds = new HashSet<UUID>();
+    for (var user : foundUsers) {
+      foundUserIds.add(user.getId());
+      if (isNotValidUser(user)) {
+        items.add(UserMigrationJobItem.failed(user.getId(), "User has blank username"));
+      } else {
+        validUsers.add(user);
+      }
+    }
+
+    userIds.stream()
+      .filter(userId -> !foundUserIds.contains(userId))
+      .forEach(userId -> items.add(UserMigrationJobItem.failed(userId, "User is not found")));
+
+    if (migrationProperties.getBulkImport().isEnabled()) {
+      importUsers(validUsers, items);
+    } else {
+      createUsers(validUsers, items);
+    }
+  }
+
+  private void createUsers(List<User> users, List<UserMigrationJobItem> items) {
+    for (var user : users) {
+      items.add(createUserInKeycloakSafe(user, true)
+        .map(error -> UserMigrationJobItem.failed(user.getId(), error))
+        .orElseGet(() -> UserMigrationJobItem.migrated(user.getId())));
+    }
+  }
+
+  /**
+   * Imports users to Keycloak with a single partial import request. Keycloak rejects the whole request if any user
+   * is invalid, in this case users are created one by one, so the invalid ones are reported individually. A request
+   * rejected because Keycloak is unavailable is not retried user by user.
+   */
+  private void importUsers(List<User> users, List<UserMigrationJobItem> items) {
+    if (users.isEmpty()) {
+      return;
+    }
+
+    var userImports = users.stream()
+      .map(user -> new KeycloakUserImport(user, getMigrationPassword(user), fetchUserTenants(user.getId())))
+      .toList();
+
+    Map<UUID, PartialImportResult> results;
+    try {
+      results = keycloakService.importUsersForMigration(userImports, migrationProperties.getBulkImport()
+        .getIfResourceExists());
+    } catch (KeycloakUnavailableException e) {
+      throw e;
+    } catch (KeycloakException e) {
+      log.warn("Failed to import users to Keycloak, creating them one by one: count = {}, cause = {}",
+        users.size(), getErrorMessage(e));
+      createUsers(users, items);
       return;
     }
-    users.getUsers().removeIf(this::isNotValidUser);
-    users.getUsers().forEach(user -> createUserInKeycloakSafe(user, true));
+
+    for (var user : users) {
+      items.add(toUserMigrationJobItem(user.getId(), results.get(user.getId())));
+    }
+  }
+
+  private static UserMigrationJobItem toUserMigrationJobItem(UUID userId, PartialImportResult result) {
+    if (result == null || result.getAction() == null) {
+      return UserMigrationJobItem.failed(userId, "User is missing in Keycloak import results");
+    }
+
+    return switch (result.getAction()) {
+      case ADDED, OVERWRITTEN -> UserMigrationJobItem.migrated(userId);
+      case SKIPPED -> UserMigrationJobItem.failed(userId, "User already exists in Keycloak");
+    };
+  }
+
+  private String getMigrationPassword(User user) {
+    return migrationProperties.isDefaultPasswordsOnMigration() ? user.getUsername() : null;
   }
 
   private boolean isNotValidUser(User user) {
@@ -193,21 +404,22 @@ public class UserMigrationService {
   /**
    * Creates a user in Keycloak, with the given user object and sets the user's password to their username if
    * migration.default-passwords-on-migration property is set to true. If the creation fails, the method will log a
-   * warning and return an empty Optional. If the creation fails due to an invalid email, the method will try to create
-   * the user without an email and retry once if "retryIfEmailNotValid" is set to true.
+   * warning and return the failure reason. If the creation fails due to an invalid email, the method will try to
+   * create the user without an email and retry once if "retryIfEmailNotValid" is set to true.
    *
    * @param user the {@link User} object to be created in Keycloak
    * @param retryIfEmailNotValid a boolean value indicating whether to retry creating the user without an email if the
    *   email is invalid
-   * @return an Optional of the created user object if the creation is successful, otherwise an empty Optional
+   * @return an empty Optional if the creation is successful, otherwise an Optional of the failure reason
    */
-  private Optional<User> createUserInKeycloakSafe(User user, boolean retryIfEmailNotValid) {
-    var password = migrationProperties.isDefaultPasswordsOnMigration() ? user.getUsername() : null;
+  private Optional<String> createUserInKeycloakSafe(User user, boolean retryIfEmailNotValid) {
     try {
-      keycloakService.createUserForMigration(user, password, fetchUserTenants(user.getId()));
-      return of(user);
+      keycloakService.createUserForMigration(user, getMigrationPassword(user), fetchUserTenants(user.getId()));
+      return empty();
+    } catch (KeycloakUnavailableException e) {
+      throw e;
     } catch (Exception e) {
-      var message = e.getCause().getMessage();
+      var message = getErrorMessage(e);
       if (retryIfEmailNotValid && isEmailNotValidError(message)) {
         if (nonNull(user.getPersonal())) {
           log.warn("User email is not valid: username = {}, email = {}. Try to save user without email...",
@@ -219,10 +431,14 @@ public class UserMigrationService {
         log.warn("Cannot create user in Keycloak: username = {}, userId = {}, cause = {}", user.getUsername(),
           user.getId(), message);
       }
-      return empty();
+      return Optional.ofNullable(message).or(() -> of(e.getClass().getSimpleName()));
     }
   }
 
+  private static String getErrorMessage(Exception error) {
+    return error.getCause() != null ? error.getCause().getMessage() : error.getMessage();
+  }
+
   private List<String> fetchUserTenants(UUID userId) {
     try {
       var userTenantsList = userTenantsClient.lookupByUserId(userId);
@@ -240,7 +456,7 @@ public class UserMigrationService {
     return Strings.CS.contains(message, INVALID_EMAIL_ERROR_MESSAGE);
   }
 
-  private String createSearchingUsersByIdsQuery(List<String> userIds) {
+  private String createSearchingUsersByIdsQuery(List<UUID> userIds) {
     var stringBuilder = new StringBuilder("id=(");
     for (var i = 0; i < userIds.size(); i++) {
       stringBuilder.append(userIds.get(i));
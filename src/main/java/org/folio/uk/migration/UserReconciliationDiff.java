@@ -0,0 +1,119 @@
+package org.folio.uk.migration;
+
+import static org.folio.uk.integration.keycloak.model.KeycloakUser.USER_BARCODE_ATTR;
+import static org.folio.uk.integration.keycloak.model.KeycloakUser.USER_ID_ATTR;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiPredicate;
+import lombok.experimental.UtilityClass;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.CollectionUtils;
+import org.apache.commons.lang3.Strings;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.integration.keycloak.model.KeycloakUser;
+
+/**
+ * Compares mod-users users with Keycloak users.
+ *
+ * <p>The comparison follows the semantics of {@code KeycloakService#updateUser}: username and email are compared
+ * ignoring case, a {@code null} mod-users value is not written to Keycloak and is therefore not a difference, except
+ * for the barcode attribute that is replaced as a whole.</p>
+ */
+@Log4j2
+@UtilityClass
+public class UserReconciliationDiff {
+
+  public static final String USERNAME = "username";
+  public static final String EMAIL = "email";
+  public static final String FIRST_NAME = "firstName";
+  public static final String LAST_NAME = "lastName";
+  public static final String ENABLED = "enabled";
+  public static final String BARCODE = "barcode";
+
+  /**
+   * Finds the fields of a mod-users user that differ from the Keycloak user.
+   *
+   * @param user - mod-users user
+   * @param kcUser - Keycloak user state
+   * @return names of the changed fields, empty if Keycloak user is up to date
+   */
+  public static List<String> findChangedFields(User user, KeycloakUserState kcUser) {
+    var personal = user.getPersonal();
+    var changedFields = new ArrayList<String>();
+    addIfChanged(changedFields, USERNAME, user.getUsername(), kcUser.username(), Strings.CI::equals);
+    addIfChanged(changedFields, EMAIL, personal == null ? null : personal.getEmail(), kcUser.email(),
+      Strings.CI::equals);
+    addIfChanged(changedFields, FIRST_NAME, personal == null ? null : personal.getFirstName(), kcUser.firstName(),
+      Objects::equals);
+    addIfChanged(changedFields, LAST_NAME, personal == null ? null : personal.getLastName(), kcUser.lastName(),
+      Objects::equals);
+    addIfChanged(changedFields, ENABLED, user.getActive(), kcUser.enabled(), Objects::equals);
+    if (!Objects.equals(user.getBarcode(), kcUser.barcode())) {
+      changedFields.add(BARCODE);
+    }
+
+    return changedFields;
+  }
+
+  /**
+   * Extracts the compared fields of a Keycloak user linked to a FOLIO user with the {@code user_id} attribute.
+   *
+   * @param kcUser - Keycloak user, retrieved with attributes
+   * @return {@link Optional} of {@link KeycloakUserState}, {@link Optional#empty()} if user has no valid
+   *   {@code user_id} attribute
+   */
+  public static Optional<KeycloakUserState> toKeycloakUserState(KeycloakUser kcUser) {
+    var userId = getFirstAttribute(kcUser, USER_ID_ATTR);
+    if (userId == null) {
+      return Optional.empty();
+    }
+
+    try {
+      var barcode = getFirstAttribute(kcUser, USER_BARCODE_ATTR);
+      return Optional.of(new KeycloakUserState(UUID.fromString(userId), kcUser.getUserName(), kcUser.getEmail(),
+        kcUser.getFirstName(), kcUser.getLastName(), kcUser.getEnabled(), barcode));
+    } catch (IllegalArgumentException e) {
+      log.warn("Keycloak user has invalid '{}' attribute: id = {}, value = {}", USER_ID_ATTR, kcUser.getId(), userId);
+      return Optional.empty();
+    }
+  }
+
+  private static <T> void addIfChanged(List<String> changedFields, String field, T value, T kcValue,
+    BiPredicate<T, T> equality) {
+    if (value != null && !equality.test(value, kcValue)) {
+      changedFields.add(field);
+    }
+  }
+
+  private static String getFirstAttribute(KeycloakUser kcUser, String attribute) {
+    return Optional.ofNullable(kcUser.getAttributes())
+      .map(attributes -> attributes.get(attribute))
+      .filter(CollectionUtils::isNotEmpty)
+      .map(List::getFirst)
+      .orElse(null);
+  }
+
+  /**
+   * Fields of a Keycloak user compared with mod-users, kept instead of the full representation to limit the memory
+   * used by a reconciliation job.
+   *
+   * @param userId - FOLIO user identifier from the {@code user_id} attribute
+   * @param username - Keycloak username
+   * @param email - Keycloak email
+   * @param firstName - Keycloak first name
+   * @param lastName - Keycloak last name
+   * @param enabled - defines if Keycloak user is enabled
+   * @param barcode - value of the {@code barcode} attribute
+   */
+  public record KeycloakUserState(UUID userId, String username, String email, String firstName, String lastName,
+    Boolean enabled, String barcode) {
+
+    boolean isEnabled() {
+      return !Boolean.FALSE.equals(enabled);
+    }
+  }
+}
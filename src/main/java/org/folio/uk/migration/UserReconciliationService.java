@@ -0,0 +1,468 @@
+package org.folio.uk.migration;
+
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.folio.uk.utils.PagingUtils.forEachPage;
+
+import jakarta.persistence.EntityNotFoundException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.spring.data.OffsetRequest;
+import org.folio.spring.scope.FolioExecutionContextSetter;
+import org.folio.uk.domain.UserReconciliationJobItemRepository;
+import org.folio.uk.domain.UserReconciliationJobRepository;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.domain.dto.UserReconciliationDiffCounts;
+import org.folio.uk.domain.dto.UserReconciliationItems;
+import org.folio.uk.domain.dto.UserReconciliationJob;
+import org.folio.uk.domain.dto.UserReconciliationJobStatus;
+import org.folio.uk.domain.dto.UserReconciliationJobs;
+import org.folio.uk.domain.entity.EntityUserReconciliationAction;
+import org.folio.uk.domain.entity.EntityUserReconciliationJobItemStatus;
+import org.folio.uk.domain.entity.EntityUserReconciliationJobStatus;
+import org.folio.uk.domain.entity.UserReconciliationJobEntity;
+import org.folio.uk.domain.model.UserReconciliationJobItem;
+import org.folio.uk.exception.RequestValidationException;
+import org.folio.uk.integration.keycloak.KeycloakService;
+import org.folio.uk.integration.keycloak.model.KeycloakUser;
+import org.folio.uk.integration.permission.PermissionService;
+import org.folio.uk.integration.users.UsersClient;
+import org.folio.uk.mapper.UserReconciliationMapper;
+import org.folio.uk.migration.UserReconciliationDiff.KeycloakUserState;
+import org.folio.uk.migration.properties.UserReconciliationProperties;
+import org.folio.uk.utils.QueryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Finds and repairs differences between mod-users and Keycloak users.
+ *
+ * <p>A reconciliation job has two phases. First, Keycloak users are compared page by page with mod-users users, then
+ * users having permissions or the shadow type but no Keycloak user are found, and every difference is stored as a
+ * pending job item. Then, unless the job is a dry run, pending items are applied to Keycloak in batches with
+ * {@link KeycloakService}: missing users are created, differing users are updated and enabled users missing in
+ * mod-users are disabled. Both phases store checkpoints, so an abandoned job is resumed by
+ * {@link UserMigrationJobResumer}: the first phase is restarted, the second one continues with the items that are
+ * still pending.</p>
+ */
+@Log4j2
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class UserReconciliationService {
+
+  private static final String TYPE_SHADOW = "type==shadow sortBy id";
+  private static final int PENDING_ITEMS_PAGE_BATCHES = 50;
+  private static final int LEASE_RENEWALS_PER_TIMEOUT = 4;
+
+  private final UserReconciliationProperties reconciliationProperties;
+  private final UserReconciliationJobRepository repository;
+  private final UserReconciliationJobItemRepository itemRepository;
+  private final KeycloakService keycloakService;
+  private final PermissionService permissionService;
+  private final UsersClient usersClient;
+  private final UserReconciliationMapper mapper;
+  private final FolioExecutionContext folioContext;
+  private final MigrationExecutor migrationExecutor;
+  private final JobHeartbeat jobHeartbeat;
+
+  @Transactional(readOnly = true)
+  public UserReconciliationJob getReconciliationById(UUID id) {
+    return withProgress(mapper.toDto(getReconciliationEntity(id)));
+  }
+
+  @Transactional(readOnly = true)
+  public UserReconciliationJobs getReconciliationsByQuery(String query, Integer offset, Integer limit) {
+    var offsetReq = OffsetRequest.of(offset, limit);
+
+    var page = isBlank(query)
+      ? repository.findAll(offsetReq)
+      : repository.findByCql(query, offsetReq);
+
+    var reconciliations = mapper.toDtoCollection(page);
+    reconciliations.getReconciliations().forEach(this::withProgress);
+    return reconciliations;
+  }
+
+  /**
+   * Retrieves a page of differences found by a reconciliation job, ordered by user identifier.
+   *
+   * @param id - user reconciliation job identifier
+   * @param offset - number of items to skip
+   * @param limit - page size
+   * @return {@link UserReconciliationItems} with found differences and their outcomes
+   */
+  @Transactional(readOnly = true)
+  public UserReconciliationItems getReconciliationItems(UUID id, Integer offset, Integer limit) {
+    var job = getReconciliationEntity(id);
+    var items = itemRepository.findAll(job.getId(), offset, limit);
+    return mapper.toItemsCollection(items, itemRepository.count(job.getId()));
+  }
+
+  public void deleteReconciliationById(UUID id) {
+    repository.findById(id).ifPresent(repository::delete);
+  }
+
+  /**
+   * Creates a reconciliation job and starts it after the transaction is committed.
+   *
+   * @param dryRun - defines if the differences are only reported, without applying them to Keycloak
+   * @return created {@link UserReconciliationJob}
+   */
+  public UserReconciliationJob createReconciliation(boolean dryRun) {
+    validateRunningReconciliations();
+    var reconciliation = buildUserReconciliationEntity(dryRun);
+    repository.save(reconciliation);
+    repository.flush();
+
+    runAfterCommit(() -> startReconciliation(reconciliation.getId(), reconciliation.getLeaseToken()));
+
+    return withProgress(mapper.toDto(reconciliation));
+  }
+
+  /**
+   * Resumes in-progress reconciliation jobs of the current tenant that have no recent checkpoints, e.g. because the
+   * module instance running them was restarted.
+   */
+  public void resumeStaleReconciliations() {
+    var staleBefore = Instant.now().minus(reconciliationProperties.getStaleJobTimeout());
+    for (var job : repository.findAllByStatus(EntityUserReconciliationJobStatus.IN_PROGRESS)) {
+      var leaseToken = UUID.randomUUID();
+      if (repository.claimStaleJob(job.getId(), staleBefore, Instant.now(), leaseToken) == 0) {
+        continue;
+      }
+
+      log.info("Resuming User Reconciliation from the last checkpoint. Id: {}, diffCompleted: {}",
+        job.getId(), job.isDiffCompleted());
+      runAfterCommit(() -> startReconciliation(job.getId(), leaseToken));
+    }
+  }
+
+  private UserReconciliationJobEntity getReconciliationEntity(UUID id) {
+    return repository.findById(id)
+      .orElseThrow(() -> new EntityNotFoundException("Reconciliation is not found: id = " + id));
+  }
+
+  private UserReconciliationJob withProgress(UserReconciliationJob reconciliation) {
+    var statusCounts = itemRepository.countByStatus(reconciliation.getId());
+    var failed = statusCounts.getOrDefault(EntityUserReconciliationJobItemStatus.FAILED, 0);
+    var skipped = statusCounts.getOrDefault(EntityUserReconciliationJobItemStatus.SKIPPED, 0);
+    var applied = statusCounts.getOrDefault(EntityUserReconciliationJobItemStatus.APPLIED, 0);
+    var pending = statusCounts.getOrDefault(EntityUserReconciliationJobItemStatus.PENDING, 0);
+
+    var actionCounts = itemRepository.countByAction(reconciliation.getId());
+    var differences = new UserReconciliationDiffCounts()
+      .create(actionCounts.getOrDefault(EntityUserReconciliationAction.CREATE, 0))
+      .update(actionCounts.getOrDefault(EntityUserReconciliationAction.UPDATE, 0))
+      .disable(actionCounts.getOrDefault(EntityUserReconciliationAction.DISABLE, 0));
+
+    return reconciliation
+      .totalRecords(pending + applied + failed + skipped)
+      .processedRecords(applied + failed + skipped)
+      .failedRecords(failed)
+      .skippedRecords(skipped)
+      .differences(differences);
+  }
+
+  private static void runAfterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  /**
+   * Starts processing of a job leased with the given token. The lease is renewed in the background while the job is
+   * running, so the job is not resumed by other instances, even if a page takes longer than the stale job timeout.
+   */
+  private void startReconciliation(UUID jobId, UUID leaseToken) {
+    var renewalInterval = reconciliationProperties.getStaleJobTimeout().dividedBy(LEASE_RENEWALS_PER_TIMEOUT);
+    var lease = jobHeartbeat.start(jobId, renewalInterval,
+      () -> repository.renewLease(jobId, leaseToken, Instant.now()) > 0);
+    try {
+      migrationExecutor.runAsync(() -> reconcile(jobId, leaseToken, lease))
+        .whenComplete(reconciliationCompleteHandler(jobId, leaseToken, lease,
+          (FolioExecutionContext) folioContext.getInstance()));
+    } catch (RuntimeException e) {
+      lease.close();
+      throw e;
+    }
+  }
+
+  private void reconcile(UUID jobId, UUID leaseToken, JobHeartbeat.Lease lease) {
+    var job = getReconciliationEntity(jobId);
+    if (!job.isDiffCompleted()) {
+      collectDifferences(jobId, lease);
+      if (lease.isLost() || repository.completeDiff(jobId, leaseToken, Instant.now()) == 0) {
+        return;
+      }
+    }
+
+    if (!job.isDryRun()) {
+      applyPendingItems(jobId, lease);
+    }
+  }
+
+  /**
+   * Compares Keycloak users with mod-users users and stores the differences as pending items. Items of an
+   * interrupted previous run are removed first, because users could have been changed since then.
+   *
+   * <p>Keycloak users are compared page by page, only identifiers of the compared users are kept to find users with
+   * permissions or the shadow type that have no Keycloak user. A checkpoint is stored for every loaded page, and
+   * loading is stopped if the job lease is lost.</p>
+   */
+  private void collectDifferences(UUID jobId, JobHeartbeat.Lease lease) {
+    itemRepository.deleteAll(jobId);
+
+    var pageSize = reconciliationProperties.getPageSize();
+    var keycloakUserIds = new HashSet<UUID>();
+    BiFunction<Integer, Integer, List<KeycloakUser>> keycloakUsersLoader =
+      (offset, limit) -> lease.isLost() ? List.of() : keycloakService.findUsers(offset, limit);
+    forEachPage(keycloakUsersLoader, pageSize, page -> {
+      var kcUsers = new LinkedHashMap<UUID, KeycloakUserState>();
+      page.stream()
+        .map(UserReconciliationDiff::toKeycloakUserState)
+        .flatMap(Optional::stream)
+        .filter(kcUser -> keycloakUserIds.add(kcUser.userId()))
+        .forEach(kcUser -> kcUsers.put(kcUser.userId(), kcUser));
+      compareAndSavePending(jobId, kcUsers.keySet(), kcUsers, lease);
+    });
+
+    var userIdsWithoutKeycloakUser = new TreeSet<UUID>();
+    Consumer<UUID> userIdConsumer = userId -> {
+      if (!keycloakUserIds.contains(userId)) {
+        userIdsWithoutKeycloakUser.add(userId);
+      }
+    };
+
+    var permissionUsers = permissionService.findUsersIdsWithPermissions(pageSize, ids -> {
+      ids.stream().filter(Objects::nonNull).map(UUID::fromString).forEach(userIdConsumer);
+      lease.renew();
+    });
+    var shadowUsers = forEachPage(this::findShadowUsers, pageSize, users -> {
+      users.stream().map(User::getId).filter(Objects::nonNull).forEach(userIdConsumer);
+      lease.renew();
+    });
+    log.info("Comparing users without Keycloak user: jobId = {}, keycloakUsers = {}, usersWithPermissions = {}, "
+      + "shadowUsers = {}, usersWithoutKeycloakUser = {}", jobId, keycloakUserIds.size(), permissionUsers,
+      shadowUsers, userIdsWithoutKeycloakUser.size());
+
+    compareAndSavePending(jobId, userIdsWithoutKeycloakUser, Map.of(), lease);
+  }
+
+  /**
+   * Compares users in batches and stores the differences as pending items. The lease is renewed before the items of a
+   * batch are saved, so items are not added to a job that has been claimed and restarted by another instance.
+   */
+  private void compareAndSavePending(UUID jobId, Collection<UUID> userIds, Map<UUID, KeycloakUserState> kcUsers,
+    JobHeartbeat.Lease lease) {
+    var batches = partition(new ArrayList<>(userIds), reconciliationProperties.getBatchSize());
+    migrationExecutor.runAll(batches, batch -> {
+      if (lease.isLost()) {
+        return;
+      }
+
+      var items = compareUsers(batch, kcUsers);
+      if (lease.renew()) {
+        itemRepository.savePending(jobId, items);
+      }
+    });
+  }
+
+  private List<UserReconciliationJobItem> compareUsers(List<UUID> userIds, Map<UUID, KeycloakUserState> kcUsers) {
+    var usersById = findUsersByIds(userIds);
+    var items = new ArrayList<UserReconciliationJobItem>();
+    for (var userId : userIds) {
+      var user = usersById.get(userId);
+      var kcUser = kcUsers.get(userId);
+      if (user == null) {
+        if (kcUser != null && kcUser.isEnabled()) {
+          items.add(UserReconciliationJobItem.pending(userId, EntityUserReconciliationAction.DISABLE, List.of()));
+        }
+      } else if (kcUser == null) {
+        if (isBlank(user.getUsername())) {
+          log.info("User has been filtered by blank username: userId = {}", userId);
+        } else {
+          items.add(UserReconciliationJobItem.pending(userId, EntityUserReconciliationAction.CREATE, List.of()));
+        }
+      } else {
+        var changedFields = UserReconciliationDiff.findChangedFields(user, kcUser);
+        if (!changedFields.isEmpty()) {
+          items.add(UserReconciliationJobItem.pending(userId, EntityUserReconciliationAction.UPDATE, changedFields));
+        }
+      }
+    }
+
+    return items;
+  }
+
+  /**
+   * Applies pending items of the job page by page, each batch result is stored as a checkpoint. Processing is stopped
+   * if the job lease is lost.
+   */
+  private void applyPendingItems(UUID jobId, JobHeartbeat.Lease lease) {
+    var batchSize = reconciliationProperties.getBatchSize();
+    var pageSize = batchSize * PENDING_ITEMS_PAGE_BATCHES;
+    var items = itemRepository.findPending(jobId, null, pageSize);
+    while (!items.isEmpty()) {
+      migrationExecutor.runAll(partition(items, batchSize), batch -> applyItems(jobId, batch, lease));
+      if (lease.isLost()) {
+        return;
+      }
+
+      items = itemRepository.findPending(jobId, items.getLast().userId(), pageSize);
+    }
+  }
+
+  private void applyItems(UUID jobId, List<UserReconciliationJobItem> items, JobHeartbeat.Lease lease) {
+    if (lease.isLost()) {
+      return;
+    }
+
+    var usersById = findUsersByIds(items.stream().map(UserReconciliationJobItem::userId).toList());
+    var results = items.stream()
+      .map(item -> applyItem(item, usersById.get(item.userId())))
+      .toList();
+
+    itemRepository.updateStatuses(jobId, results);
+    lease.renew();
+    pause(reconciliationProperties.getBatchDelay());
+  }
+
+  /**
+   * Applies a single difference to Keycloak. Differences that are no longer present, e.g. because the user has been
+   * deleted or created since the comparison, are skipped.
+   */
+  private UserReconciliationJobItem applyItem(UserReconciliationJobItem item, User user) {
+    var userId = item.userId();
+    var action = item.action();
+    try {
+      return switch (action) {
+        case CREATE -> user == null
+          ? UserReconciliationJobItem.skipped(userId, action, "User is not found")
+          : applied(item, () -> keycloakService.upsertUser(user, null));
+        case UPDATE -> {
+          if (user == null) {
+            yield UserReconciliationJobItem.skipped(userId, action, "User is not found");
+          }
+          yield keycloakService.updateUserIfExists(userId, user)
+            ? UserReconciliationJobItem.applied(userId, action)
+            : UserReconciliationJobItem.skipped(userId, action, "Keycloak user is not found");
+        }
+        case DISABLE -> user != null
+          ? UserReconciliationJobItem.skipped(userId, action, "User exists in mod-users")
+          : applied(item, () -> keycloakService.disableUser(userId));
+      };
+    } catch (Exception e) {
+      var message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+      log.warn("Cannot reconcile user in Keycloak: userId = {}, action = {}, cause = {}", userId, action, message);
+      return UserReconciliationJobItem.failed(userId, action,
+        Objects.requireNonNullElse(message, e.getClass().getSimpleName()));
+    }
+  }
+
+  private static UserReconciliationJobItem applied(UserReconciliationJobItem item, Runnable operation) {
+    operation.run();
+    return UserReconciliationJobItem.applied(item.userId(), item.action());
+  }
+
+  private Map<UUID, User> findUsersByIds(Collection<UUID> userIds) {
+    var query = QueryUtils.convertFieldListToCqlQuery(userIds, "id", true);
+    var users = usersClient.query(query, userIds.size());
+    var result = new HashMap<UUID, User>();
+    for (var user : users == null ? List.<User>of() : emptyIfNull(users.getUsers())) {
+      result.put(user.getId(), user);
+    }
+    return result;
+  }
+
+  private List<User> findShadowUsers(Integer offset, Integer limit) {
+    var shadowUsers = usersClient.query(TYPE_SHADOW, limit, offset);
+    return shadowUsers == null ? List.of() : shadowUsers.getUsers();
+  }
+
+  private BiConsumer<Void, ? super Throwable> reconciliationCompleteHandler(UUID jobId, UUID leaseToken,
+    JobHeartbeat.Lease lease, FolioExecutionContext context) {
+    return (result, ex) -> {
+      lease.close();
+      try (var ignored = new FolioExecutionContextSetter(context)) {
+        if (lease.isLost()) {
+          log.warn("User Reconciliation is stopped, it has been claimed by another module instance. Id: {}", jobId);
+          return;
+        }
+
+        EntityUserReconciliationJobStatus status;
+        if (ex != null) {
+          status = EntityUserReconciliationJobStatus.FAILED;
+          log.error("User Reconciliation was failed. Id: {}", jobId, ex);
+        } else {
+          status = EntityUserReconciliationJobStatus.FINISHED;
+          log.info("User Reconciliation was successfully finished. Id: {}", jobId);
+        }
+        if (repository.completeJob(jobId, leaseToken, status, Instant.now()) == 0) {
+          log.warn("User Reconciliation cannot be completed, it has been claimed by another module instance. Id: {}",
+            jobId);
+        }
+      }
+    };
+  }
+
+  private static UserReconciliationJobEntity buildUserReconciliationEntity(boolean dryRun) {
+    var reconciliation = new UserReconciliationJobEntity();
+    reconciliation.setId(UUID.randomUUID());
+    reconciliation.setStatus(EntityUserReconciliationJobStatus.IN_PROGRESS);
+    reconciliation.setDryRun(dryRun);
+    reconciliation.setLeaseToken(UUID.randomUUID());
+    var now = Instant.now();
+    reconciliation.setStartedAt(now);
+    reconciliation.setUpdatedAt(now);
+    return reconciliation;
+  }
+
+  private void validateRunningReconciliations() {
+    if (repository.existsByStatus(EntityUserReconciliationJobStatus.IN_PROGRESS)) {
+      throw new RequestValidationException("There is already an active reconciliation job", "status",
+        UserReconciliationJobStatus.IN_PROGRESS);
+    }
+  }
+
+  private static void pause(Duration delay) {
+    if (delay.isZero() || delay.isNegative()) {
+      return;
+    }
+
+    try {
+      Thread.sleep(delay);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Reconciliation has been interrupted", e);
+    }
+  }
+}
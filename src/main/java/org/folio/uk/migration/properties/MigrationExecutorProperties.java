@@ -0,0 +1,20 @@
+package org.folio.uk.migration.properties;
+
+import jakarta.validation.constraints.Min;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "application.migration.executor")
+public class MigrationExecutorProperties {
+
+  /**
+   * Maximum number of migration batches processed concurrently for a single tenant.
+   */
+  @Min(1)
+  private int maxConcurrentBatchesPerTenant = 4;
+}
@@ -1,8 +1,12 @@
 package org.folio.uk.migration.properties;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import lombok.Data;
+import org.folio.uk.integration.keycloak.model.PartialImportPolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.validation.annotation.Validated;
@@ -17,4 +21,37 @@ public class UserMigrationProperties {
   @Max(value = 50)
   private Integer batchSize;
   private boolean defaultPasswordsOnMigration;
+
+  /**
+   * Number of users requested per page when collecting users to migrate.
+   */
+  @NotNull
+  @Min(value = 1)
+  private Integer pageSize = 1000;
+
+  /**
+   * Period without lease renewals after which an in-progress migration job is considered abandoned and resumed, the
+   * lease of a running job is renewed four times per period.
+   */
+  @NotNull
+  private Duration staleJobTimeout = Duration.ofMinutes(2);
+
+  @Valid
+  @NotNull
+  private BulkImport bulkImport = new BulkImport();
+
+  @Data
+  public static class BulkImport {
+
+    /**
+     * Defines if users are created with Keycloak partial import requests, one request per batch.
+     */
+    private boolean enabled;
+
+    /**
+     * Policy for users that already exist in Keycloak.
+     */
+    @NotNull
+    private PartialImportPolicy ifResourceExists = PartialImportPolicy.SKIP;
+  }
 }
@@ -0,0 +1,45 @@
+package org.folio.uk.migration.properties;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+@Data
+@Component
+@Validated
+@ConfigurationProperties(prefix = "application.reconciliation")
+public class UserReconciliationProperties {
+
+  /**
+   * Number of users compared or repaired per batch, a single mod-users request is made per batch.
+   */
+  @NotNull
+  @Min(value = 1)
+  @Max(value = 50)
+  private Integer batchSize = 20;
+
+  /**
+   * Number of users requested per page when loading Keycloak users, users with permissions and shadow users.
+   */
+  @NotNull
+  @Min(value = 1)
+  private Integer pageSize = 500;
+
+  /**
+   * Pause after each repaired batch, limits the rate of Keycloak updates made by a reconciliation job.
+   */
+  @NotNull
+  private Duration batchDelay = Duration.ZERO;
+
+  /**
+   * Period without lease renewals after which an in-progress reconciliation job is considered abandoned and resumed,
+   * the lease of a running job is renewed four times per period.
+   */
+  @NotNull
+  private Duration staleJobTimeout = Duration.ofMinutes(2);
+}
@@ -0,0 +1,128 @@
+package org.folio.uk.service;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.log4j.Log4j2;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.uk.configuration.CacheProperties;
+import org.folio.uk.domain.dto.ServicePointUser;
+import org.folio.uk.domain.dto.User;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Short-living cache of the parts of a composite user returned by the {@code /users-keycloak/_self} endpoint, keyed
+ * by tenant and user id.
+ *
+ * <p>The cache is disabled by default, in this case all values are loaded on each call. Entries are evicted on
+ * user update and delete events, permissions and service points rely on their own ttl.</p>
+ */
+@Log4j2
+@Component
+public class CompositeUserCache {
+
+  public static final String USER_CACHE = "composite-user";
+  public static final String PERMISSIONS_CACHE = "composite-user-permissions";
+  public static final String SERVICE_POINTS_CACHE = "composite-user-service-points";
+
+  private final FolioExecutionContext folioExecutionContext;
+  private final boolean enabled;
+  private final Cache userCache;
+  private final Cache permissionsCache;
+  private final Cache servicePointsCache;
+
+  public CompositeUserCache(CacheManager cacheManager, CacheProperties cacheProperties,
+    FolioExecutionContext folioExecutionContext) {
+    this.folioExecutionContext = folioExecutionContext;
+    var compositeUserSpec = cacheProperties.compositeUser();
+    this.enabled = compositeUserSpec != null && compositeUserSpec.enabled();
+    this.userCache = enabled ? getCache(cacheManager, USER_CACHE) : null;
+    this.permissionsCache = enabled ? getCache(cacheManager, PERMISSIONS_CACHE) : null;
+    this.servicePointsCache = enabled ? getCache(cacheManager, SERVICE_POINTS_CACHE) : null;
+  }
+
+  /**
+   * Retrieves a user of the current tenant, only found users are cached.
+   *
+   * @param userId - user identifier
+   * @param loader - user loader
+   * @return {@link Optional} of {@link User}
+   */
+  public Optional<User> getUser(UUID userId, Function<UUID, Optional<User>> loader) {
+    return Optional.ofNullable(get(userCache, User.class, userId, id -> loader.apply(id).orElse(null)));
+  }
+
+  /**
+   * Retrieves names of user permissions in the current tenant.
+   *
+   * @param userId - user identifier
+   * @param loader - permission names loader
+   * @return list of permission names
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> getPermissions(UUID userId, Function<UUID, List<String>> loader) {
+    return get(permissionsCache, List.class, userId, loader);
+  }
+
+  /**
+   * Retrieves service points user with its service points in the current tenant, {@code null} values are not
+   * cached.
+   *
+   * @param userId - user identifier
+   * @param loader - service points user loader
+   * @return {@link ServicePointUser} object, nullable
+   */
+  public ServicePointUser getServicePointUser(UUID userId, Function<UUID, ServicePointUser> loader) {
+    return get(servicePointsCache, ServicePointUser.class, userId, loader);
+  }
+
+  /**
+   * Removes all cached values of the user.
+   *
+   * @param tenant - tenant identifier
+   * @param userId - user identifier
+   */
+  public void evict(String tenant, UUID userId) {
+    if (!enabled || userId == null) {
+      return;
+    }
+
+    log.debug("Evicting cached composite user: tenant = {}, userId = {}", tenant, userId);
+    var key = key(tenant, userId);
+    userCache.evict(key);
+    permissionsCache.evict(key);
+    servicePointsCache.evict(key);
+  }
+
+  private <T> T get(Cache cache, Class<T> type, UUID userId, Function<UUID, ? extends T> loader) {
+    if (!enabled) {
+      return loader.apply(userId);
+    }
+
+    var key = key(folioExecutionContext.getTenantId(), userId);
+    var cachedValue = cache.get(key, type);
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+
+    var value = loader.apply(userId);
+    if (value != null) {
+      cache.put(key, value);
+    }
+
+    return value;
+  }
+
+  private static Cache getCache(CacheManager cacheManager, String name) {
+    return requireNonNull(cacheManager.getCache(name), "Cache is not configured: " + name);
+  }
+
+  private static String key(String tenant, UUID userId) {
+    return tenant + ":" + userId;
+  }
+}
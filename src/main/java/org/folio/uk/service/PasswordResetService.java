@@ -5,6 +5,7 @@ import static org.folio.uk.domain.dto.ErrorCode.LINK_EXPIRED;
 import static org.folio.uk.domain.dto.ErrorCode.LINK_INVALID;
 import static org.folio.uk.domain.dto.ErrorCode.USER_ABSENT_USERNAME;
 import static org.folio.uk.domain.dto.ErrorCode.USER_NOT_FOUND;
+import static org.folio.uk.utils.AsyncUtils.await;
 import static org.folio.uk.utils.DateConversionUtils.convertDateToMillisecondsOrElseThrow;
 
 import java.time.Instant;
@@ -12,7 +13,10 @@ import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
 import org.apache.commons.lang3.StringUtils;
@@ -27,6 +31,7 @@ import org.folio.uk.integration.login.model.PasswordResetAction;
 import org.folio.uk.integration.notify.NotificationService;
 import org.folio.uk.integration.settings.SettingsService;
 import org.folio.uk.integration.users.UsersClient;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
@@ -59,23 +64,38 @@ public class PasswordResetService {
   private final LoginService loginService;
   private final FolioExecutionContext folioExecutionContext;
   private final SettingsService settingsService;
+  @Qualifier("virtualTaskExecutor")
+  private final Executor virtualTaskExecutor;
 
   @Value("${reset-password.ui-path.default:/reset-password}")
   private String resetPasswordUiPathDefault;
 
+  /**
+   * Generates a password reset link and queues its notification to the user.
+   *
+   * <p>Configuration, base URL and user lookups are performed concurrently, then the password reset action is
+   * created together with the reset token. The notification is sent asynchronously, so the link is returned without
+   * waiting for mod-notify.</p>
+   *
+   * @param userId - user identifier
+   * @return generated password reset link
+   */
   public String sendPasswordRestLink(UUID userId) {
-    var configMap =
-      configurationService.getAllModuleConfigsValidated(MODULE_NAME, GENERATE_LINK_REQUIRED_CONFIGURATION);
-    var user = lookupAndValidateUser(userId);
+    var configMapFuture = supplyAsync(
+      () -> configurationService.getAllModuleConfigsValidated(MODULE_NAME, GENERATE_LINK_REQUIRED_CONFIGURATION));
+    var baseUrlFuture = supplyAsync(this::getBaseUrl);
+    var userFuture = supplyAsync(() -> lookupAndValidateUser(userId));
 
+    var configMap = await(configMapFuture);
+    var user = await(userFuture);
     ExpirationTimeRecord etr = getExpirationTime(configMap);
 
     var passwordResetActionId = UUID.randomUUID().toString();
+    var tokenFuture = supplyAsync(() -> resetTokenService.generateResetToken(passwordResetActionId));
     var actionResponse = actionService.createPasswordResetAction(userId, etr.expirationTime(), passwordResetActionId);
-    var tokenResponse = resetTokenService.generateResetToken(passwordResetActionId);
-    var token = tokenResponse.getAccessToken();
+    var token = await(tokenFuture).getAccessToken();
 
-    var generatedLink = getGeneratedLink(configMap, token);
+    var generatedLink = getGeneratedLink(configMap, await(baseUrlFuture), token);
 
     var eventConfigName = Boolean.TRUE.equals(actionResponse.getPasswordExists())
       ? RESET_PASSWORD_EVENT_CONFIG_NAME
@@ -108,8 +128,7 @@ public class PasswordResetService {
       });
   }
 
-  private String getGeneratedLink(Map<String, String> configMap, String token) {
-    var baseUrl = getBaseUrl();
+  private String getGeneratedLink(Map<String, String> configMap, String baseUrl, String token) {
     var linkPath = configMap.getOrDefault(UI_PATH_CONFIG_KEY, resetPasswordUiPathDefault);
     var putTokenInQueryParams = parseBoolean(configMap.getOrDefault(PUT_TOKEN_IN_QUERY_PARAMS_CONFIG_KEY, "false"));
     var tenantId = folioExecutionContext.getTenantId();
@@ -150,6 +169,10 @@ public class PasswordResetService {
     });
   }
 
+  private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+    return CompletableFuture.supplyAsync(supplier, virtualTaskExecutor);
+  }
+
   private static PasswordResetService.ExpirationTimeRecord getExpirationTime(Map<String, String> configMap) {
     var expirationTimeFromConfig =
       configMap.getOrDefault(LINK_EXPIRATION_TIME_CONFIG_KEY, LINK_EXPIRATION_TIME_DEFAULT);
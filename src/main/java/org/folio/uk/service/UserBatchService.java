@@ -0,0 +1,162 @@
+package org.folio.uk.service;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import lombok.extern.log4j.Log4j2;
+import org.folio.uk.configuration.UserBatchProperties;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.domain.dto.UserBatchItemResult;
+import org.folio.uk.domain.dto.UserBatchItemStatus;
+import org.folio.uk.domain.dto.UserBatchResponse;
+import org.folio.uk.exception.RequestValidationException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+/**
+ * Creates users in bulk on virtual threads.
+ *
+ * <p>Every user is created with {@link UserService#createUserSafeWithResult(User, String, boolean)}, so a user that
+ * already exists is reported as existing instead of failing the batch. At most
+ * {@link UserBatchProperties#getMaxConcurrency()} users of a batch are created at the same time.</p>
+ */
+@Log4j2
+@Service
+public class UserBatchService {
+
+  private final UserService userService;
+  private final UserBatchProperties batchProperties;
+  private final Executor virtualTaskExecutor;
+
+  public UserBatchService(UserService userService, UserBatchProperties batchProperties,
+    @Qualifier("virtualTaskExecutor") Executor virtualTaskExecutor) {
+    this.userService = userService;
+    this.batchProperties = batchProperties;
+    this.virtualTaskExecutor = virtualTaskExecutor;
+  }
+
+  /**
+   * Creates users and waits for all of them to be processed.
+   *
+   * @param users - users to create
+   * @param keycloakOnly - defines if only Keycloak users are created
+   * @return {@link UserBatchResponse} with results in the order of the given users
+   */
+  public UserBatchResponse createUsers(List<User> users, boolean keycloakOnly) {
+    var results = new UserBatchItemResult[users.size()];
+    try (var resultStream = createUsersStreaming(users, keycloakOnly)) {
+      resultStream.forEach(result -> results[result.getIndex()] = result);
+    }
+
+    var response = new UserBatchResponse().created(0).existing(0).failed(0).totalRecords(results.length);
+    for (var result : results) {
+      response.addResultsItem(result);
+      switch (result.getStatus()) {
+        case CREATED -> response.setCreated(response.getCreated() + 1);
+        case EXISTING -> response.setExisting(response.getExisting() + 1);
+        case FAILED -> response.setFailed(response.getFailed() + 1);
+      }
+    }
+
+    return response;
+  }
+
+  /**
+   * Starts creating users and returns their results in completion order.
+   *
+   * <p>Users are created within the current folio execution context, so the stream can be consumed by another
+   * thread, e.g. while writing a streamed response.</p>
+   *
+   * @param users - users to create
+   * @param keycloakOnly - defines if only Keycloak users are created
+   * @return {@link Stream} of results, ending when all users are processed
+   */
+  public Stream<UserBatchItemResult> createUsersStreaming(List<User> users, boolean keycloakOnly) {
+    validateBatchSize(users);
+    var results = new LinkedBlockingQueue<UserBatchItemResult>();
+    virtualTaskExecutor.execute(() -> submitAll(users, keycloakOnly, results));
+
+    return Stream.generate(() -> take(results)).limit(users.size());
+  }
+
+  private void submitAll(List<User> users, boolean keycloakOnly, BlockingQueue<UserBatchItemResult> results) {
+    var permits = new Semaphore(batchProperties.getMaxConcurrency());
+    for (var index = 0; index < users.size(); index++) {
+      var user = users.get(index);
+      var userIndex = index;
+      try {
+        permits.acquire();
+        virtualTaskExecutor.execute(() -> {
+          try {
+            results.add(createUser(userIndex, user, keycloakOnly));
+          } finally {
+            permits.release();
+          }
+        });
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        failRemaining(users, userIndex, results, "User batch has been interrupted");
+        return;
+      } catch (RuntimeException e) {
+        permits.release();
+        results.add(failed(userIndex, user, e));
+      }
+    }
+  }
+
+  private UserBatchItemResult createUser(int index, User user, boolean keycloakOnly) {
+    try {
+      var result = userService.createUserSafeWithResult(user, null, keycloakOnly);
+      var createdUser = result.user();
+      return new UserBatchItemResult()
+        .index(index)
+        .userId(createdUser.getId())
+        .username(createdUser.getUsername())
+        .status(result.existing() ? UserBatchItemStatus.EXISTING : UserBatchItemStatus.CREATED);
+    } catch (Exception e) {
+      log.warn("Failed to create user in batch: username = {}, cause = {}", user.getUsername(), e.getMessage());
+      return failed(index, user, e);
+    }
+  }
+
+  private static void failRemaining(List<User> users, int fromIndex, BlockingQueue<UserBatchItemResult> results,
+    String message) {
+    for (var index = fromIndex; index < users.size(); index++) {
+      results.add(failed(index, users.get(index), message));
+    }
+  }
+
+  private static UserBatchItemResult failed(int index, User user, Exception exception) {
+    var cause = exception.getCause() != null ? exception.getCause() : exception;
+    var message = cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    return failed(index, user, message);
+  }
+
+  private static UserBatchItemResult failed(int index, User user, String message) {
+    return new UserBatchItemResult()
+      .index(index)
+      .userId(user.getId())
+      .username(user.getUsername())
+      .status(UserBatchItemStatus.FAILED)
+      .errorMessage(message);
+  }
+
+  private void validateBatchSize(List<User> users) {
+    if (users.size() > batchProperties.getMaxSize()) {
+      throw new RequestValidationException("Too many users in batch, maximum is " + batchProperties.getMaxSize(),
+        "users", users.size());
+    }
+  }
+
+  private static UserBatchItemResult take(BlockingQueue<UserBatchItemResult> results) {
+    try {
+      return results.take();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("User batch has been interrupted", e);
+    }
+  }
+}
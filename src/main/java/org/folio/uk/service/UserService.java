@@ -7,19 +7,25 @@ import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.ListUtils.emptyIfNull;
 import static org.folio.common.utils.CollectionUtils.toStream;
 import static org.folio.spring.utils.FolioExecutionContextUtils.prepareContextForTenant;
+import static org.folio.uk.utils.AsyncUtils.await;
+import static org.folio.uk.utils.QueryUtils.convertFieldListToCqlQuery;
 import static org.folio.uk.utils.UserUtils.getOriginalTenantIdOptional;
 
 import jakarta.persistence.EntityNotFoundException;
 import java.util.Base64;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.apache.commons.collections4.ListUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
@@ -27,9 +33,11 @@ import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.folio.uk.domain.dto.CompositeUser;
 import org.folio.uk.domain.dto.IncludedField;
 import org.folio.uk.domain.dto.PermissionUser;
+import org.folio.uk.domain.dto.ServicePoint;
 import org.folio.uk.domain.dto.ServicePointUser;
 import org.folio.uk.domain.dto.User;
 import org.folio.uk.domain.dto.Users;
+import org.folio.uk.domain.model.UserCreationResult;
 import org.folio.uk.domain.model.UserType;
 import org.folio.uk.integration.inventory.ServicePointsClient;
 import org.folio.uk.integration.inventory.ServicePointsUserClient;
@@ -43,6 +51,7 @@ import org.folio.uk.integration.users.UsersClient;
 import org.folio.util.StringUtil;
 import org.json.JSONException;
 import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -56,6 +65,7 @@ import org.springframework.web.client.RestClientResponseException;
 public class UserService {
 
   public static final String PERMISSION_NAME_FIELD = "permissionName";
+  private static final int SERVICE_POINTS_QUERY_SIZE = 50;
 
   private final UsersClient usersClient;
   private final ServicePointsUserClient servicePointsUserClient;
@@ -67,6 +77,9 @@ public class UserService {
   private final RolesKeycloakConfigurationProperties rolesKeycloakConfiguration;
   private final KeycloakFederatedAuthProperties keycloakFederatedAuthProperties;
   private final CapabilitiesService capabilitiesService;
+  private final CompositeUserCache compositeUserCache;
+  @Qualifier("virtualTaskExecutor")
+  private final Executor virtualTaskExecutor;
 
   public User createUser(User user, boolean keycloakOnly) {
     return createUser(user, null, keycloakOnly);
@@ -88,12 +101,25 @@ public class UserService {
     retryFor = {RestClientResponseException.class, KeycloakException.class},
     listeners = "methodLoggingRetryListener")
   public User createUserSafe(User user, String password, boolean keycloakOnly) {
-    if (!keycloakOnly) {
-      findUserIdKcAttribute(user).ifPresent(user::setId);
-    }
+    return createUserSafePrivate(user, password, keycloakOnly).user();
+  }
 
-    return createUserPrivate(user, keycloakOnly, this::createUserInUserServiceSafe,
-      createdUser -> createUserInKeycloakSafe(createdUser, password));
+  /**
+   * Creates a user with the {@link #createUserSafe(User, String, boolean)} semantics, reporting if the user already
+   * existed.
+   *
+   * @param user - user to create
+   * @param password - user password, {@code null} if user is created without credentials
+   * @param keycloakOnly - defines if only the Keycloak user is created
+   * @return {@link UserCreationResult} with created or found user
+   */
+  @Retryable(
+    maxAttemptsExpression = "#{@systemUserConfigurationProperties.retryAttempts}",
+    backoff = @Backoff(delayExpression = "#{@systemUserConfigurationProperties.retryDelay}"),
+    retryFor = {RestClientResponseException.class, KeycloakException.class},
+    listeners = "methodLoggingRetryListener")
+  public UserCreationResult createUserSafeWithResult(User user, String password, boolean keycloakOnly) {
+    return createUserSafePrivate(user, password, keycloakOnly);
   }
 
   public Users findUsers(String query, int limit) {
@@ -112,7 +138,7 @@ public class UserService {
       () -> StringUtils.join(emptyIfNull(include), ", "), () -> expandPermissions);
 
     var userId = getUserId();
-    var user = usersClient.lookupUserById(userId)
+    var user = compositeUserCache.getUser(userId, usersClient::lookupUserById)
       .orElseThrow(() -> new EntityNotFoundException("User was Not Found with: id = " + userId));
 
     // When overrideUser is set to true the shadow user will be used to retrieve the real user
@@ -124,19 +150,14 @@ public class UserService {
       }
     }
 
-    return new CompositeUser().user(user)
-      .permissions(fetchPermissionUser(userId, expandPermissions))
-      .servicePointsUser(fetchServicePointUser(userId));
+    return withPermissionsAndServicePoints(new CompositeUser().user(user), userId, expandPermissions);
   }
 
   public void updateUser(UUID id, User user) {
     log.debug("Updating user: id = {}", id);
 
     usersClient.updateUser(id, user);
-    var kcUser = keycloakService.findKeycloakUserWithUserIdAttr(id);
-    if (kcUser.isPresent()) {
-      keycloakService.updateUser(id, user);
-    } else {
+    if (!keycloakService.updateUserIfExists(id, user)) {
       log.info("User was not found in keycloak by user_id attribute: id = {}", id);
       keycloakService.upsertUser(user, null);
     }
@@ -160,20 +181,20 @@ public class UserService {
     }
 
     if (TRUE.equals(newValue.getActive())) {
-      keycloakService.enableUser(newValue.getId());
+      keycloakService.enableUser(newValue.getId(), newValue.getUsername());
     } else {
-      keycloakService.disableUser(newValue.getId());
+      keycloakService.disableUser(newValue.getId(), newValue.getUsername());
     }
   }
 
   public void deleteUser(UUID id) {
     log.debug("Deleting user with: id = {}", id);
 
-    usersClient.lookupUserById(id)
-      .ifPresentOrElse(user -> removeUserWithLinkedResources(id),
-        () -> log.debug("Can not delete user cause user does not exist: userId = {}", id));
+    var user = usersClient.lookupUserById(id);
+    user.ifPresentOrElse(found -> removeUserWithLinkedResources(id),
+      () -> log.debug("Can not delete user cause user does not exist: userId = {}", id));
 
-    keycloakService.deleteUser(id);
+    keycloakService.deleteUser(id, user.map(User::getUsername).orElse(null));
   }
 
   public void deleteUserById(UUID id) {
@@ -200,17 +221,31 @@ public class UserService {
 
     try (var ignored = new FolioExecutionContextSetter(
       prepareContextForTenant(originalTenantId, folioModuleMetadata, folioExecutionContext))) {
-      var realUser = usersClient.lookupUserById(userId)
+      var realUser = compositeUserCache.getUser(userId, usersClient::lookupUserById)
         .filter(foundUser -> Objects.nonNull(foundUser.getId()))
         .orElseThrow(() -> new EntityNotFoundException("User was Not Found with: userId = " + userId));
 
-      return new CompositeUser().user(realUser)
-        .originalTenantId(originalTenantId)
-        .permissions(fetchPermissionUser(realUser.getId(), expandPermissions))
-        .servicePointsUser(fetchServicePointUser(realUser.getId()));
+      var compositeUser = new CompositeUser().user(realUser).originalTenantId(originalTenantId);
+      return withPermissionsAndServicePoints(compositeUser, realUser.getId(), expandPermissions);
     }
   }
 
+  /**
+   * Fetches permissions and service points of the user concurrently, both lookups are performed in the current
+   * folio execution context.
+   */
+  private CompositeUser withPermissionsAndServicePoints(CompositeUser compositeUser, UUID userId,
+    boolean expandPermissions) {
+    var servicePointUser = CompletableFuture.supplyAsync(
+      () -> compositeUserCache.getServicePointUser(userId, this::fetchServicePointUser), virtualTaskExecutor);
+    var permissionUser = CompletableFuture.supplyAsync(
+      () -> fetchPermissionUser(userId, expandPermissions), virtualTaskExecutor);
+
+    return compositeUser
+      .permissions(await(permissionUser))
+      .servicePointsUser(await(servicePointUser));
+  }
+
   private void removeUserWithLinkedResources(UUID id) {
     usersClient.deleteUser(id);
     capabilitiesService.unassignAll(id);
@@ -247,23 +282,38 @@ public class UserService {
       return null;
     }
 
-    var servicePoints = toStream(servicePointUsers.getServicePointsUsers())
+    var servicePointIds = toStream(servicePointUsers.getServicePointsUsers())
       .flatMap(servicePointUser -> toStream(servicePointUser.getServicePointsIds()))
-      .map(spId -> servicePointsClient.getServicePoint(fromString(spId)))
-      .filter(Optional::isPresent)
-      .map(Optional::get)
+      .map(UUID::fromString)
+      .distinct()
       .toList();
 
     var servicePointUser = servicePointUsers.getServicePointsUsers().getFirst();
-    servicePointUser.setServicePoints(servicePoints);
+    servicePointUser.setServicePoints(fetchServicePoints(servicePointIds));
     return servicePointUser;
   }
 
+  /**
+   * Retrieves service points with batched CQL queries, service points are returned in the order of identifiers and
+   * not found ones are omitted.
+   */
+  private List<ServicePoint> fetchServicePoints(List<UUID> servicePointIds) {
+    var servicePointsById = new HashMap<String, ServicePoint>();
+    for (var ids : ListUtils.partition(servicePointIds, SERVICE_POINTS_QUERY_SIZE)) {
+      var query = convertFieldListToCqlQuery(ids, "id", true);
+      var servicePointCollection = servicePointsClient.queryServicePoints(query, ids.size());
+      toStream(servicePointCollection.getServicepoints())
+        .forEach(servicePoint -> servicePointsById.put(servicePoint.getId(), servicePoint));
+    }
+
+    return servicePointIds.stream()
+      .map(id -> servicePointsById.get(id.toString()))
+      .filter(Objects::nonNull)
+      .toList();
+  }
+
   private PermissionUser fetchPermissionUser(UUID userId, boolean expandPermissions) {
-    var includeOnlyVisiblePermissions = rolesKeycloakConfiguration.isIncludeOnlyVisiblePermissions();
-    var userPermissions = userPermissionsClient.getPermissionsForUser(
-      userId, includeOnlyVisiblePermissions, null, true);
-    var permissionsList = emptyIfNull(userPermissions.getPermissions());
+    var permissionsList = compositeUserCache.getPermissions(userId, this::fetchPermissionNames);
 
     return new PermissionUser()
       .permissions(
@@ -275,6 +325,13 @@ public class UserService {
           .toList()).userId(userId.toString());
   }
 
+  private List<String> fetchPermissionNames(UUID userId) {
+    var includeOnlyVisiblePermissions = rolesKeycloakConfiguration.isIncludeOnlyVisiblePermissions();
+    var userPermissions = userPermissionsClient.getPermissionsForUser(
+      userId, includeOnlyVisiblePermissions, null, true);
+    return emptyIfNull(userPermissions.getPermissions());
+  }
+
   private UUID extractUserId(String token) {
     JSONObject payload = parseTokenPayload(token);
     if (payload == null) {
@@ -315,28 +372,50 @@ public class UserService {
     return created;
   }
 
+  private UserCreationResult createUserSafePrivate(User user, String password, boolean keycloakOnly) {
+    log.debug("Creating user: id = {}, username = {}", user.getId(), user.getUsername());
+    if (keycloakOnly) {
+      return new UserCreationResult(user, createUserInKeycloakSafe(user, password));
+    }
+
+    findUserIdKcAttribute(user).ifPresent(user::setId);
+    var result = createOrFindUserInUserService(user);
+    createUserInKeycloakSafe(result.user(), password);
+    return result;
+  }
+
   private User createUserInUserServiceSafe(User user) {
+    return createOrFindUserInUserService(user).user();
+  }
+
+  private UserCreationResult createOrFindUserInUserService(User user) {
     try {
-      return usersClient.createUser(user);
+      return new UserCreationResult(usersClient.createUser(user), false);
     } catch (HttpClientErrorException e) {
       if (e.getStatusCode() != HttpStatus.UNPROCESSABLE_CONTENT) {
         throw e;
       }
       var username = user.getUsername();
       log.info("User already exists: username = {}, message = {}", username, e.getMessage());
-      return findUserByUsername(username);
+      return new UserCreationResult(findUserByUsername(username), true);
     }
   }
 
-  private void createUserInKeycloakSafe(User user, String password) {
+  /**
+   * Creates or updates a Keycloak user, ignoring a conflict with an existing one.
+   *
+   * @return true if the Keycloak user already exists, false otherwise
+   */
+  private boolean createUserInKeycloakSafe(User user, String password) {
     try {
       keycloakService.upsertUser(user, password);
+      return false;
     } catch (KeycloakException exception) {
       if (exception.getCause() instanceof HttpClientErrorException.Conflict) {
         log.warn("System user is already created: username = {}, service = keycloak", user.getUsername());
-      } else {
-        throw exception;
+        return true;
       }
+      throw exception;
     }
   }
 
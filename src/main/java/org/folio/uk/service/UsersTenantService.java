@@ -1,5 +1,13 @@
 package org.folio.uk.service;
 
+import static org.folio.uk.utils.AsyncUtils.awaitAll;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.log4j.Log4j2;
+import org.apache.commons.lang3.StringUtils;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.liquibase.FolioSpringLiquibase;
 import org.folio.spring.service.TenantService;
@@ -8,16 +16,33 @@ import org.folio.uk.integration.kafka.KafkaAdminService;
 import org.folio.uk.integration.keycloak.KeycloakRealmManagementService;
 import org.folio.uk.integration.keycloak.SystemUserService;
 import org.folio.uk.integration.keycloak.TokenService;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
+/**
+ * Initializes and cleans up module resources of a tenant.
+ *
+ * <p>After the admin token is renewed, the system user and the password reset realm permissions are processed
+ * concurrently. Kafka listeners are rebalanced only after both phases succeed, so that events of the tenant are not
+ * consumed before its system user and realm are ready. Every phase is timed with the {@value #TENANT_INIT_METRIC}
+ * metric, tagged with tenant, phase and outcome.</p>
+ */
+@Log4j2
 @Service
 public class UsersTenantService extends TenantService {
 
+  public static final String TENANT_INIT_METRIC = "folio.tenant.init";
+
+  private static final String UNKNOWN = "none";
+
   private final SystemUserService systemUserService;
   private final TokenService tokenService;
   private final KafkaAdminService kafkaAdminService;
   private final KeycloakRealmManagementService realmService;
+  private final MeterRegistry meterRegistry;
+  private final FolioExecutionContext folioExecutionContext;
+  private final Executor virtualTaskExecutor;
 
   public UsersTenantService(
     JdbcTemplate jdbcTemplate,
@@ -26,20 +51,28 @@ public class UsersTenantService extends TenantService {
     SystemUserService systemUserService,
     TokenService tokenService,
     KafkaAdminService kafkaAdmin,
-    KeycloakRealmManagementService realmService) {
+    KeycloakRealmManagementService realmService,
+    MeterRegistry meterRegistry,
+    @Qualifier("virtualTaskExecutor") Executor virtualTaskExecutor) {
     super(jdbcTemplate, context, folioSpringLiquibase);
     this.systemUserService = systemUserService;
     this.tokenService = tokenService;
     this.kafkaAdminService = kafkaAdmin;
     this.realmService = realmService;
+    this.meterRegistry = meterRegistry;
+    this.folioExecutionContext = context;
+    this.virtualTaskExecutor = virtualTaskExecutor;
   }
 
   @Override
   protected void afterTenantUpdate(TenantAttributes tenantAttributes) {
-    tokenService.renewToken();
-    systemUserService.create();
-    realmService.setupRealm();
-    kafkaAdminService.restartEventListeners();
+    timed("total", () -> {
+      timed("token", tokenService::renewToken);
+      awaitAll(
+        runAsync("system-user", systemUserService::create),
+        runAsync("realm", realmService::setupRealm));
+      timed("kafka-listeners", kafkaAdminService::rebalanceEventListeners);
+    });
   }
 
   @Override
@@ -47,4 +80,26 @@ public class UsersTenantService extends TenantService {
     systemUserService.delete();
     realmService.cleanupRealm();
   }
+
+  private CompletableFuture<Void> runAsync(String phase, Runnable runnable) {
+    return CompletableFuture.runAsync(() -> timed(phase, runnable), virtualTaskExecutor);
+  }
+
+  private void timed(String phase, Runnable runnable) {
+    var sample = Timer.start(meterRegistry);
+    var outcome = "failure";
+    try {
+      runnable.run();
+      outcome = "success";
+    } finally {
+      var duration = sample.stop(Timer.builder(TENANT_INIT_METRIC)
+        .description("Duration of tenant initialization phases")
+        .tag("tenant", StringUtils.defaultIfBlank(folioExecutionContext.getTenantId(), UNKNOWN))
+        .tag("phase", phase)
+        .tag("outcome", outcome)
+        .register(meterRegistry));
+      log.info("Tenant initialization phase finished: phase = {}, outcome = {}, duration = {} ms",
+        phase, outcome, duration / 1_000_000);
+    }
+  }
 }
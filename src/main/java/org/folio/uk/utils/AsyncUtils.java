@@ -0,0 +1,60 @@
+package org.folio.uk.utils;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class AsyncUtils {
+
+  /**
+   * Waits for the future to complete and returns its result, a {@link RuntimeException} the future is failed with is
+   * rethrown as is instead of being wrapped into a {@link CompletionException}.
+   *
+   * @param future - future to wait for
+   * @param <T> - result type
+   * @return future result
+   */
+  public static <T> T await(CompletableFuture<T> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      throw unwrap(e);
+    }
+  }
+
+  /**
+   * Waits for all futures to complete, the first {@link RuntimeException} a future is failed with is rethrown as is
+   * instead of being wrapped into a {@link CompletionException}.
+   *
+   * @param futures - futures to wait for
+   */
+  public static void awaitAll(CompletableFuture<?>... futures) {
+    await(CompletableFuture.allOf(futures));
+  }
+
+  /**
+   * Waits for all futures to complete, the first {@link RuntimeException} a future is failed with is rethrown as is
+   * instead of being wrapped into a {@link CompletionException}.
+   *
+   * @param futures - futures to wait for
+   */
+  public static void awaitAll(Collection<? extends CompletableFuture<?>> futures) {
+    awaitAll(futures.toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * Returns the cause of a {@link CompletionException} if it is present, the error itself otherwise.
+   *
+   * @param error - error a future is completed with
+   * @return unwrapped error
+   */
+  public static Throwable unwrapCompletionError(Throwable error) {
+    return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+  }
+
+  private static RuntimeException unwrap(CompletionException error) {
+    return error.getCause() instanceof RuntimeException cause ? cause : error;
+  }
+}
@@ -0,0 +1,38 @@
+package org.folio.uk.utils;
+
+import static org.apache.commons.collections4.ListUtils.emptyIfNull;
+
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class PagingUtils {
+
+  /**
+   * Loads records with offset paging and passes every non-empty page to the consumer, so only a single page is kept
+   * in memory. Loading stops at the first page having fewer records than the page size.
+   *
+   * @param pageLoader - loads a page of records by offset and limit
+   * @param pageSize - page size
+   * @param pageConsumer - consumer of loaded pages
+   * @param <T> - record type
+   * @return total number of loaded records
+   */
+  public static <T> int forEachPage(BiFunction<Integer, Integer, List<T>> pageLoader, int pageSize,
+    Consumer<List<T>> pageConsumer) {
+    var offset = 0;
+    while (true) {
+      var page = emptyIfNull(pageLoader.apply(offset, pageSize));
+      if (!page.isEmpty()) {
+        pageConsumer.accept(page);
+      }
+
+      offset += page.size();
+      if (page.size() < pageSize) {
+        return offset;
+      }
+    }
+  }
+}
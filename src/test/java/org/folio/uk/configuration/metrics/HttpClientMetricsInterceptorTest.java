@@ -0,0 +1,135 @@
+package org.folio.uk.configuration.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.uk.configuration.metrics.HttpClientMetricsInterceptor.ERRORS_METRIC;
+import static org.folio.uk.configuration.metrics.HttpClientMetricsInterceptor.REQUESTS_METRIC;
+import static org.folio.uk.configuration.metrics.HttpClientMetricsInterceptor.URI_TEMPLATE_ATTRIBUTE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withNoContent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.util.UUID;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.integration.roles.UserRolesClient;
+import org.folio.uk.integration.users.UsersClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class HttpClientMetricsInterceptorTest {
+
+  private static final String TENANT = "test";
+  private static final String USER_PATH = "/users/d3958402-2f80-421b-a527-9933245a3556";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private HttpClientMetricsInterceptor interceptor;
+
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private ClientHttpRequestExecution execution;
+
+  @BeforeEach
+  void setUp() {
+    interceptor = new HttpClientMetricsInterceptor(meterRegistry, folioExecutionContext);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+  }
+
+  @Test
+  void intercept_positive() throws IOException {
+    var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://okapi" + USER_PATH));
+    request.getAttributes().put(URI_TEMPLATE_ATTRIBUTE, "users/{id}");
+    when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+    interceptor.intercept(request, new byte[0], execution);
+
+    var timer = meterRegistry.get(REQUESTS_METRIC)
+      .tags("client", "users", "method", "GET", "uri", "/users/{id}", "status", "200", "tenant", TENANT)
+      .timer();
+    assertThat(timer.count()).isEqualTo(1);
+    assertThat(meterRegistry.find(ERRORS_METRIC).counter()).isNull();
+  }
+
+  @Test
+  void intercept_positive_withoutUriTemplate() throws IOException {
+    var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://okapi" + USER_PATH));
+    when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+
+    interceptor.intercept(request, new byte[0], execution);
+
+    var timer = meterRegistry.get(REQUESTS_METRIC).tags("client", "users", "uri", "none").timer();
+    assertThat(timer.count()).isEqualTo(1);
+  }
+
+  @Test
+  void intercept_negative_errorStatus() throws IOException {
+    var request = new MockClientHttpRequest(HttpMethod.GET, URI.create("http://okapi" + USER_PATH));
+    when(execution.execute(any(), any())).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.NOT_FOUND));
+
+    interceptor.intercept(request, new byte[0], execution);
+
+    var counter = meterRegistry.get(ERRORS_METRIC).tags("client", "users", "status", "404").counter();
+    assertThat(counter.count()).isEqualTo(1);
+  }
+
+  @Test
+  void intercept_negative_ioError() throws IOException {
+    var request = new MockClientHttpRequest(HttpMethod.POST, URI.create("http://okapi/users"));
+    request.getAttributes().put(URI_TEMPLATE_ATTRIBUTE, "users");
+    when(execution.execute(any(), any())).thenThrow(new IOException("Connection refused"));
+
+    assertThatThrownBy(() -> interceptor.intercept(request, new byte[0], execution)).isInstanceOf(IOException.class);
+
+    var counter = meterRegistry.get(ERRORS_METRIC).tags("client", "users", "uri", "/users", "status", "IO_ERROR")
+      .counter();
+    assertThat(counter.count()).isEqualTo(1);
+  }
+
+  @Test
+  void intercept_positive_httpExchangeClients() {
+    var restClientBuilder = RestClient.builder().baseUrl("http://okapi");
+    var customizer = new HttpClientMetricsConfiguration().httpClientMetricsRestClientCustomizer(interceptor);
+    customizer.customize(restClientBuilder);
+    var server = MockRestServiceServer.bindTo(restClientBuilder).build();
+    var factory = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(restClientBuilder.build())).build();
+    var userId = UUID.randomUUID();
+    server.expect(requestTo("http://okapi/users/" + userId)).andRespond(withNoContent());
+    server.expect(requestTo("http://okapi/roles/users/" + userId)).andRespond(withNoContent());
+
+    factory.createClient(UsersClient.class).deleteUser(userId);
+    factory.createClient(UserRolesClient.class).deleteUserRoles(userId);
+
+    server.verify();
+    assertThat(meterRegistry.get(REQUESTS_METRIC)
+      .tags("client", "users", "method", "DELETE", "uri", "/users/{id}", "status", "204").timer().count())
+      .isEqualTo(1);
+    assertThat(meterRegistry.get(REQUESTS_METRIC)
+      .tags("client", "roles", "method", "DELETE", "uri", "/roles/users/{id}", "status", "204").timer().count())
+      .isEqualTo(1);
+  }
+
+  @Test
+  void getUriTemplate_positive() {
+    assertThat(HttpClientMetricsInterceptor.getUriTemplate("/admin/realms/{realm}/clients?clientId={clientId}"))
+      .isEqualTo("/admin/realms/{realm}/clients");
+    assertThat(HttpClientMetricsInterceptor.getUriTemplate("users/{id}")).isEqualTo("/users/{id}");
+    assertThat(HttpClientMetricsInterceptor.getUriTemplate(null)).isEqualTo("none");
+  }
+}
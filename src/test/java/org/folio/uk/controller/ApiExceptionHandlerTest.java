@@ -6,11 +6,13 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.startsWith;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.HttpHeaders.CACHE_CONTROL;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.TEXT_PLAIN;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -19,6 +21,7 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
+import java.time.Duration;
 import java.util.UUID;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +30,7 @@ import org.folio.uk.domain.dto.ErrorCode;
 import org.folio.uk.exception.RequestValidationException;
 import org.folio.uk.exception.UnprocessableEntityException;
 import org.folio.uk.integration.keycloak.KeycloakException;
+import org.folio.uk.integration.keycloak.KeycloakUnavailableException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
@@ -111,6 +115,19 @@ class ApiExceptionHandlerTest {
       .andExpect(jsonPath("$.errors[0].parameters[0].value", is("404 Not Found")));
   }
 
+  @Test
+  void handleKeycloakUnavailableException_positive() throws Exception {
+    var exception = new KeycloakUnavailableException("Keycloak circuit breaker is open", Duration.ofMillis(12500));
+    when(testService.getTestValue()).thenThrow(exception);
+    mockMvc.perform(get("/tests").queryParam("query", "cql.allRecords=1").contentType(APPLICATION_JSON))
+      .andExpect(status().isServiceUnavailable())
+      .andExpect(header().string(RETRY_AFTER, "13"))
+      .andExpect(jsonPath("$.total_records", is(1)))
+      .andExpect(jsonPath("$.errors[0].message", is("Keycloak circuit breaker is open")))
+      .andExpect(jsonPath("$.errors[0].type", is("KeycloakUnavailableException")))
+      .andExpect(jsonPath("$.errors[0].code", is("service_error")));
+  }
+
   @Test
   void handleEntityNotFoundException_positive() throws Exception {
     when(testService.getTestValue()).thenThrow(new EntityNotFoundException("Entity not found"));
@@ -13,7 +13,6 @@ import java.util.UUID;
 import org.folio.test.types.UnitTest;
 import org.folio.uk.domain.dto.User;
 import org.folio.uk.integration.keycloak.KeycloakService;
-import org.folio.uk.integration.keycloak.model.KeycloakUser;
 import org.folio.uk.service.UserService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -27,6 +26,8 @@ import org.springframework.test.web.servlet.MockMvc;
 @Import({AuthUserController.class})
 class AuthUserControllerTest {
 
+  private static final String KC_USER_ID = UUID.randomUUID().toString();
+
   @Autowired private MockMvc mockMvc;
   @MockitoBean private KeycloakService keycloakService;
   @MockitoBean private UserService userService;
@@ -34,21 +35,21 @@ class AuthUserControllerTest {
   @Test
   void checkAuthUserExistence_nonExistentUser() throws Exception {
     UUID userId = UUID.randomUUID();
-    when(keycloakService.findKeycloakUserWithUserIdAttr(userId)).thenReturn(Optional.empty());
+    when(keycloakService.findKeycloakUserId(userId)).thenReturn(Optional.empty());
     mockMvc.perform(get("/users-keycloak/auth-users/" + userId)).andExpect(status().isNotFound());
   }
 
   @Test
   void checkAuthUserExistence_existingUser() throws Exception {
     UUID userId = UUID.randomUUID();
-    when(keycloakService.findKeycloakUserWithUserIdAttr(userId)).thenReturn(Optional.of(new KeycloakUser()));
+    when(keycloakService.findKeycloakUserId(userId)).thenReturn(Optional.of(KC_USER_ID));
     mockMvc.perform(get("/users-keycloak/auth-users/" + userId)).andExpect(status().isNoContent());
   }
 
   @Test
   void createAuthUser_alreadyExists() throws Exception {
     UUID userId = UUID.randomUUID();
-    when(keycloakService.findKeycloakUserWithUserIdAttr(userId)).thenReturn(Optional.of(new KeycloakUser()));
+    when(keycloakService.findKeycloakUserId(userId)).thenReturn(Optional.of(KC_USER_ID));
     mockMvc.perform(post("/users-keycloak/auth-users/" + userId)).andExpect(status().isNoContent());
   }
 
@@ -57,7 +58,7 @@ class AuthUserControllerTest {
     UUID userId = UUID.randomUUID();
     User user = mock(User.class);
     when(user.getUsername()).thenReturn("not blank");
-    when(keycloakService.findKeycloakUserWithUserIdAttr(userId)).thenReturn(Optional.empty());
+    when(keycloakService.findKeycloakUserId(userId)).thenReturn(Optional.empty());
     when(userService.getUser(userId)).thenReturn(Optional.of(user));
     mockMvc.perform(post("/users-keycloak/auth-users/" + userId)).andExpect(status().isCreated());
     verify(userService, times(1)).createUser(user, true);
@@ -68,7 +69,7 @@ class AuthUserControllerTest {
     UUID userId = UUID.randomUUID();
     User user = mock(User.class);
     when(user.getUsername()).thenReturn(null);
-    when(keycloakService.findKeycloakUserWithUserIdAttr(userId)).thenReturn(Optional.empty());
+    when(keycloakService.findKeycloakUserId(userId)).thenReturn(Optional.empty());
     when(userService.getUser(userId)).thenReturn(Optional.of(user));
     mockMvc.perform(post("/users-keycloak/auth-users/" + userId)).andExpect(status().isBadRequest());
   }
@@ -23,6 +23,7 @@ import org.folio.uk.domain.dto.PasswordReset;
 import org.folio.uk.domain.dto.User;
 import org.folio.uk.integration.configuration.ConfigurationClient;
 import org.folio.uk.integration.configuration.ConfigurationService;
+import org.folio.uk.integration.configuration.ModuleConfigurationCache;
 import org.folio.uk.integration.keycloak.KeycloakClient;
 import org.folio.uk.integration.keycloak.PasswordResetTokenService;
 import org.folio.uk.integration.keycloak.RealmConfigurationProvider;
@@ -41,9 +42,14 @@ import org.folio.uk.integration.users.UsersClient;
 import org.folio.uk.service.PasswordResetService;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.MediaType;
+import org.springframework.retry.support.RetryTemplate;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -51,7 +57,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @WebMvcTest(PasswordResetController.class)
 @Import({ControllerTestConfiguration.class, PasswordResetController.class, PasswordResetService.class,
   PasswordResetTokenService.class, NotificationService.class, PasswordValidationService.class,
-  ConfigurationService.class, LoginService.class})
+  ConfigurationService.class, LoginService.class, PasswordResetControllerTest.TestContextConfiguration.class})
 class PasswordResetControllerTest {
 
   private static final String PASSWORD_RESET_ACTION_ID = "5ac3b82d-a7d4-43a0-8285-104e84e01274";
@@ -72,6 +78,9 @@ class PasswordResetControllerTest {
   @MockitoBean private KeycloakPasswordResetClientProperties resetPasswordClientProperties;
   @MockitoBean private RealmConfigurationProvider realmConfigurationProvider;
   @MockitoBean private SettingsService settingsService;
+  @MockitoBean private ModuleConfigurationCache moduleConfigurationCache;
+  @MockitoBean(name = "notificationTaskExecutor") private TaskExecutor notificationTaskExecutor;
+  @MockitoBean(name = "notificationRetryTemplate") private RetryTemplate notificationRetryTemplate;
 
   @Test
   public void postPasswordResetValidate() throws Exception {
@@ -251,4 +260,13 @@ class PasswordResetControllerTest {
     return String.format(JWT_TOKEN_PATTERN, JWT_TOKEN_HEADER, Base64.getEncoder().encodeToString(bytes),
       JWT_TOKEN_SIGNATURE);
   }
+
+  @TestConfiguration
+  static class TestContextConfiguration {
+
+    @Bean("virtualTaskExecutor")
+    TaskExecutor virtualTaskExecutor() {
+      return new SyncTaskExecutor();
+    }
+  }
 }
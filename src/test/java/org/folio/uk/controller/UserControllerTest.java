@@ -0,0 +1,114 @@
+package org.folio.uk.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import jakarta.servlet.AsyncContext;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.configuration.UserBatchProperties;
+import org.folio.uk.domain.dto.UserBatchItemResult;
+import org.folio.uk.domain.dto.UserBatchItemStatus;
+import org.folio.uk.domain.dto.UserBatchResponse;
+import org.folio.uk.service.UserBatchService;
+import org.folio.uk.service.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+@UnitTest
+@WebMvcTest(UserController.class)
+@Import({UserController.class, UserControllerTest.TestContextConfiguration.class})
+class UserControllerTest {
+
+  private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(5);
+
+  private static final String USER_BATCH_REQUEST = """
+    {"users": [{"username": "user1"}, {"username": "user2"}]}""";
+
+  @Autowired private MockMvc mockMvc;
+  @MockitoBean private UserService userService;
+  @MockitoBean private UserBatchService batchService;
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(userService, batchService);
+  }
+
+  @Test
+  void createUsers_positive_withoutAcceptHeader() throws Exception {
+    when(batchService.createUsers(anyList(), eq(false)))
+      .thenReturn(new UserBatchResponse().created(2).existing(0).failed(0).totalRecords(2));
+
+    mockMvc.perform(post("/users-keycloak/users/batch").contentType(APPLICATION_JSON).content(USER_BATCH_REQUEST))
+      .andExpect(status().isOk())
+      .andExpect(content().contentTypeCompatibleWith(APPLICATION_JSON))
+      .andExpect(jsonPath("$.created").value(2))
+      .andExpect(jsonPath("$.totalRecords").value(2));
+
+    verify(batchService).createUsers(anyList(), eq(false));
+  }
+
+  @Test
+  void createUsersStreaming_positive() throws Exception {
+    var result = new UserBatchItemResult().index(1).userId(UUID.randomUUID()).username("user2")
+      .status(UserBatchItemStatus.CREATED);
+    when(batchService.createUsersStreaming(anyList(), eq(true)))
+      .thenReturn(Stream.of(result));
+
+    var mvcResult = mockMvc.perform(post("/users-keycloak/users/batch/stream")
+        .queryParam("keycloak-only", "true")
+        .contentType(APPLICATION_JSON)
+        .content(USER_BATCH_REQUEST))
+      .andExpect(request().asyncStarted())
+      .andReturn();
+    assertThat(mvcResult.getRequest().getAsyncContext()).isNotNull()
+      .extracting(AsyncContext::getTimeout).isEqualTo(STREAM_TIMEOUT.toMillis());
+
+    mockMvc.perform(asyncDispatch(mvcResult))
+      .andExpect(status().isOk())
+      .andExpect(content().contentTypeCompatibleWith(APPLICATION_NDJSON))
+      .andExpect(jsonPath("$.username").value("user2"))
+      .andExpect(jsonPath("$.status").value("created"));
+
+    verify(batchService).createUsersStreaming(anyList(), eq(true));
+  }
+
+  @TestConfiguration
+  static class TestContextConfiguration {
+
+    @Bean("virtualTaskExecutor")
+    TaskExecutor virtualTaskExecutor() {
+      return new SyncTaskExecutor();
+    }
+
+    @Bean
+    UserBatchProperties userBatchProperties() {
+      var properties = new UserBatchProperties();
+      properties.setStreamTimeout(STREAM_TIMEOUT);
+      return properties;
+    }
+  }
+}
@@ -0,0 +1,130 @@
+package org.folio.uk.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.domain.entity.EntityUserMigrationJobItemStatus;
+import org.folio.uk.domain.model.UserMigrationJobItem;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class UserMigrationJobItemRepositoryTest {
+
+  private static final UUID JOB_ID = UUID.randomUUID();
+  private static final UUID USER_ID = UUID.randomUUID();
+
+  @InjectMocks private UserMigrationJobItemRepository repository;
+  @Mock private JdbcTemplate jdbcTemplate;
+  @Captor private ArgumentCaptor<String> sqlCaptor;
+  @Captor private ArgumentCaptor<ParameterizedPreparedStatementSetter<UUID>> pendingSetterCaptor;
+  @Captor private ArgumentCaptor<ParameterizedPreparedStatementSetter<UserMigrationJobItem>> statusSetterCaptor;
+
+  @Test
+  void savePending_positive() throws Exception {
+    var userIds = List.of(USER_ID);
+    var statement = mock(PreparedStatement.class);
+
+    repository.savePending(JOB_ID, userIds);
+
+    verify(jdbcTemplate).batchUpdate(sqlCaptor.capture(), eq(userIds), eq(1000), pendingSetterCaptor.capture());
+    assertThat(sqlCaptor.getValue()).contains("'PENDING'", "ON CONFLICT DO NOTHING");
+    pendingSetterCaptor.getValue().setValues(statement, USER_ID);
+    verify(statement).setObject(1, JOB_ID);
+    verify(statement).setObject(2, USER_ID);
+  }
+
+  @Test
+  void updateStatuses_positive() throws Exception {
+    var items = List.of(UserMigrationJobItem.failed(USER_ID, "Invalid email address."));
+    var statement = mock(PreparedStatement.class);
+
+    repository.updateStatuses(JOB_ID, items);
+
+    verify(jdbcTemplate).batchUpdate(sqlCaptor.capture(), eq(items), eq(1000), statusSetterCaptor.capture());
+    assertThat(sqlCaptor.getValue()).contains("AND status = 'PENDING'");
+    statusSetterCaptor.getValue().setValues(statement, items.getFirst());
+    verify(statement).setString(1, "FAILED");
+    verify(statement).setString(2, "Invalid email address.");
+    verify(statement).setObject(3, JOB_ID);
+    verify(statement).setObject(4, USER_ID);
+  }
+
+  @Test
+  void findPendingUserIds_positive_firstPage() {
+    when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(JOB_ID), eq(10))).thenReturn(List.of(USER_ID));
+
+    var result = repository.findPendingUserIds(JOB_ID, null, 10);
+
+    assertThat(result).containsExactly(USER_ID);
+    verify(jdbcTemplate).queryForList(sqlCaptor.capture(), eq(UUID.class), eq(JOB_ID), eq(10));
+    assertThat(sqlCaptor.getValue()).contains("status = 'PENDING'", "ORDER BY user_id").doesNotContain("user_id >");
+  }
+
+  @Test
+  void findPendingUserIds_positive_nextPage() {
+    var afterUserId = UUID.randomUUID();
+    when(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(JOB_ID), eq(afterUserId), eq(10)))
+      .thenReturn(List.of(USER_ID));
+
+    var result = repository.findPendingUserIds(JOB_ID, afterUserId, 10);
+
+    assertThat(result).containsExactly(USER_ID);
+    verify(jdbcTemplate).queryForList(sqlCaptor.capture(), eq(UUID.class), eq(JOB_ID), eq(afterUserId), eq(10));
+    assertThat(sqlCaptor.getValue()).contains("user_id > ?", "ORDER BY user_id");
+  }
+
+  @Test
+  void count_positive() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(JOB_ID))).thenReturn(3);
+
+    assertThat(repository.count(JOB_ID)).isEqualTo(3);
+  }
+
+  @Test
+  void count_positive_nullCount() {
+    when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq(JOB_ID))).thenReturn(null);
+
+    assertThat(repository.count(JOB_ID)).isZero();
+  }
+
+  @Test
+  void countByStatus_positive() throws Exception {
+    var resultSet = mock(ResultSet.class);
+    when(resultSet.getString("status")).thenReturn("MIGRATED", "FAILED");
+    when(resultSet.getInt("total")).thenReturn(7, 2);
+    doAnswer(inv -> {
+      var handler = inv.<RowCallbackHandler>getArgument(1);
+      handler.processRow(resultSet);
+      handler.processRow(resultSet);
+      return null;
+    }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(JOB_ID));
+
+    var result = repository.countByStatus(JOB_ID);
+
+    assertThat(result).isEqualTo(Map.of(
+      EntityUserMigrationJobItemStatus.MIGRATED, 7,
+      EntityUserMigrationJobItemStatus.FAILED, 2));
+  }
+}
@@ -11,16 +11,18 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import org.folio.test.types.UnitTest;
+import org.folio.uk.configuration.CacheProperties;
 import org.folio.uk.domain.dto.ErrorCode;
 import org.folio.uk.exception.UnprocessableEntityException;
 import org.folio.uk.exception.UnprocessableEntityMessage;
 import org.folio.uk.integration.configuration.model.Config;
 import org.folio.uk.integration.configuration.model.Configurations;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
@@ -28,8 +30,16 @@ class ConfigurationServiceTest {
 
   private static final String MODULE_NAME = "TESTMODULE";
 
-  @InjectMocks private ConfigurationService configurationService;
   @Mock private ConfigurationClient configurationClient;
+  private ConfigurationService configurationService;
+
+  @BeforeEach
+  void setUp() {
+    var cacheProperties = new CacheProperties(null, null, null, null, null, null);
+    var moduleConfigurationCache =
+      new ModuleConfigurationCache(new ConcurrentMapCacheManager(), cacheProperties, null, null);
+    configurationService = new ConfigurationService(configurationClient, moduleConfigurationCache);
+  }
 
   @Test
   void getAllModuleConfigsValidated_positive() {
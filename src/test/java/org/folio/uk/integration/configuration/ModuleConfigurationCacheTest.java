@@ -0,0 +1,120 @@
+package org.folio.uk.integration.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.awaitility.Durations.FIVE_SECONDS;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.configuration.CacheProperties;
+import org.folio.uk.configuration.CacheProperties.RefreshingCacheSpec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class ModuleConfigurationCacheTest {
+
+  private static final String TENANT = "test";
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+  private static final Duration REFRESH_AFTER_WRITE = Duration.ofMinutes(5);
+
+  @Mock private FolioExecutionContext folioExecutionContext;
+  private final AtomicInteger loadCount = new AtomicInteger();
+  private final SimpleAsyncTaskExecutor refreshExecutor = new SimpleAsyncTaskExecutor();
+
+  @AfterEach
+  void tearDown() {
+    refreshExecutor.close();
+  }
+
+  @Test
+  void get_positive_valueIsCached() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    var cacheManager = new ConcurrentMapCacheManager(ModuleConfigurationCache.CACHE_NAME);
+    var cache = moduleConfigurationCache(cacheManager, true, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    var first = cache.get("key", () -> load("value"));
+    var second = cache.get("key", () -> load("other"));
+
+    assertThat(first).isEqualTo("value");
+    assertThat(second).isEqualTo("value");
+    assertThat(loadCount).hasValue(1);
+  }
+
+  @Test
+  void get_positive_nullValueIsCached() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    var cacheManager = new ConcurrentMapCacheManager(ModuleConfigurationCache.CACHE_NAME);
+    var cache = moduleConfigurationCache(cacheManager, true, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    cache.get("key", () -> load(null));
+    var result = cache.get("key", () -> load("value"));
+
+    assertThat(result).isNull();
+    assertThat(loadCount).hasValue(1);
+  }
+
+  @Test
+  void get_positive_staleValueIsReturnedAndRefreshed() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    var cacheManager = new ConcurrentMapCacheManager(ModuleConfigurationCache.CACHE_NAME);
+    var writeCache = moduleConfigurationCache(cacheManager, true, Clock.fixed(NOW, ZoneOffset.UTC));
+    writeCache.get("key", () -> load("value"));
+
+    var cache =
+      moduleConfigurationCache(cacheManager, true, Clock.fixed(NOW.plus(REFRESH_AFTER_WRITE), ZoneOffset.UTC));
+    var staleValue = cache.get("key", () -> load("refreshed"));
+
+    assertThat(staleValue).isEqualTo("value");
+    await().atMost(FIVE_SECONDS).untilAsserted(() -> assertThat(loadCount).hasValue(2));
+  }
+
+  @Test
+  void evict_positive_onlyTenantValuesAreRemoved() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT, "other", TENANT, "other");
+    var cacheManager = new ConcurrentMapCacheManager(ModuleConfigurationCache.CACHE_NAME);
+    var cache = moduleConfigurationCache(cacheManager, true, Clock.fixed(NOW, ZoneOffset.UTC));
+    cache.get("key", () -> load("value"));
+    cache.get("key", () -> load("value"));
+
+    cache.evict(TENANT);
+    cache.get("key", () -> load("value"));
+    cache.get("key", () -> load("value"));
+
+    assertThat(loadCount).hasValue(3);
+  }
+
+  @Test
+  void get_positive_cacheIsDisabled() {
+    var cache = moduleConfigurationCache(new ConcurrentMapCacheManager(), false, Clock.fixed(NOW, ZoneOffset.UTC));
+
+    cache.get("key", () -> load("value"));
+    cache.get("key", () -> load("value"));
+
+    assertThat(loadCount).hasValue(2);
+  }
+
+  private ModuleConfigurationCache moduleConfigurationCache(ConcurrentMapCacheManager cacheManager, boolean enabled,
+    Clock clock) {
+    var spec = new RefreshingCacheSpec(enabled, Duration.ofHours(1), REFRESH_AFTER_WRITE, 100);
+    var cacheProperties = new CacheProperties(null, null, null, null, null, spec);
+    return new ModuleConfigurationCache(cacheManager, cacheProperties, folioExecutionContext, refreshExecutor, clock);
+  }
+
+  private <T> T load(T value) {
+    loadCount.incrementAndGet();
+    return value;
+  }
+}
@@ -0,0 +1,130 @@
+package org.folio.uk.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.uk.support.TestConstants.TENANT_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.integration.kafka.configuration.DeadLetterConfiguration;
+import org.folio.uk.integration.kafka.configuration.KafkaRetryTopicConfiguration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.support.KafkaHeaders;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+
+  private static final String TOPIC = "folio.testtenant.users.users";
+  private static final String DEAD_LETTER_TOPIC = TOPIC + "-dlt";
+  private static final String GROUP_ID = "mod-users-keycloak-dlt-replay-group";
+
+  private DeadLetterReplayService deadLetterReplayService;
+
+  @Mock private ConsumerFactory<String, byte[]> consumerFactory;
+  @Mock private Consumer<String, byte[]> consumer;
+  @Mock private KafkaOperations<String, Object> kafkaTemplate;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Captor private ArgumentCaptor<ProducerRecord<String, Object>> producerRecordCaptor;
+
+  @BeforeEach
+  void setUp() {
+    deadLetterReplayService = new DeadLetterReplayService(consumerFactory, kafkaTemplate,
+      new DeadLetterConfiguration(), new KafkaRetryTopicConfiguration(), folioExecutionContext);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(consumerFactory.createConsumer(eq(GROUP_ID), isNull(), isNull(), any(Properties.class))).thenReturn(consumer);
+  }
+
+  @Test
+  void replay_positive_recordsAreRepublishedToRetryTopic() {
+    when(consumer.listTopics(any(Duration.class))).thenReturn(Map.of(
+      TOPIC, List.of(), DEAD_LETTER_TOPIC, List.of(), "folio.othertenant.users.users-dlt", List.of()));
+    var deadLetterRecord = deadLetterRecord(5L);
+    when(consumer.poll(any(Duration.class)))
+      .thenReturn(consumerRecords(List.of(deadLetterRecord)))
+      .thenReturn(ConsumerRecords.empty());
+    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+    var result = deadLetterReplayService.replay(10);
+
+    assertThat(result.getTopics()).containsExactly(DEAD_LETTER_TOPIC);
+    assertThat(result.getReplayedRecords()).isEqualTo(1);
+    verify(consumer).subscribe(List.of(DEAD_LETTER_TOPIC));
+    verify(kafkaTemplate).send(producerRecordCaptor.capture());
+    var producerRecord = producerRecordCaptor.getValue();
+    assertThat(producerRecord.topic()).isEqualTo(TOPIC + "-retry");
+    assertThat(producerRecord.key()).isEqualTo("key");
+    assertThat(producerRecord.value()).isEqualTo(deadLetterRecord.value());
+    assertThat(producerRecord.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_FQCN)).isNull();
+    assertThat(producerRecord.headers().lastHeader(KafkaEventRecoverer.RETRY_ATTEMPT_HEADER)).isNull();
+    assertThat(new String(producerRecord.headers().lastHeader("x-okapi-tenant").value(), UTF_8))
+      .isEqualTo(TENANT_NAME);
+    assertThat(new String(producerRecord.headers().lastHeader(KafkaEventRecoverer.ORIGINAL_TOPIC_HEADER).value(),
+      UTF_8)).isEqualTo(TOPIC);
+    verify(consumer).commitSync(Map.of(new TopicPartition(DEAD_LETTER_TOPIC, 0), new OffsetAndMetadata(6L)));
+  }
+
+  @Test
+  void replay_positive_replayIsLimited() {
+    when(consumer.listTopics(any(Duration.class))).thenReturn(Map.of(DEAD_LETTER_TOPIC, List.of()));
+    when(consumer.poll(any(Duration.class)))
+      .thenReturn(consumerRecords(List.of(deadLetterRecord(0L), deadLetterRecord(1L), deadLetterRecord(2L))));
+    when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+    var result = deadLetterReplayService.replay(2);
+
+    assertThat(result.getReplayedRecords()).isEqualTo(2);
+    verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+    verify(consumer).commitSync(Map.of(new TopicPartition(DEAD_LETTER_TOPIC, 0), new OffsetAndMetadata(2L)));
+  }
+
+  @Test
+  void replay_positive_noDeadLetterTopics() {
+    when(consumer.listTopics(any(Duration.class))).thenReturn(Map.of(TOPIC, List.of()));
+
+    var result = deadLetterReplayService.replay(10);
+
+    assertThat(result.getTopics()).isEmpty();
+    assertThat(result.getReplayedRecords()).isZero();
+    verify(consumer, never()).subscribe(any(List.class));
+    verify(consumer).close();
+  }
+
+  private static ConsumerRecord<String, byte[]> deadLetterRecord(long offset) {
+    var deadLetterRecord = new ConsumerRecord<>(DEAD_LETTER_TOPIC, 0, offset, "key", "{}".getBytes(UTF_8));
+    deadLetterRecord.headers().add("x-okapi-tenant", TENANT_NAME.getBytes(UTF_8));
+    deadLetterRecord.headers().add(KafkaHeaders.DLT_EXCEPTION_FQCN, "java.lang.IllegalStateException".getBytes(UTF_8));
+    deadLetterRecord.headers().add(KafkaEventRecoverer.RETRY_ATTEMPT_HEADER, new byte[Long.BYTES]);
+    return deadLetterRecord;
+  }
+
+  private static ConsumerRecords<String, byte[]> consumerRecords(List<ConsumerRecord<String, byte[]>> records) {
+    return new ConsumerRecords<>(Map.of(new TopicPartition(DEAD_LETTER_TOPIC, 0), records));
+  }
+}
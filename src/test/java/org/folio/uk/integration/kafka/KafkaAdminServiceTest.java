@@ -0,0 +1,68 @@
+package org.folio.uk.integration.kafka;
+
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KafkaAdminServiceTest {
+
+  private static final String GROUP_ID = "folio-mod-users-keycloak-user-group";
+
+  @InjectMocks private KafkaAdminService kafkaAdminService;
+  @Mock private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  @Mock private KafkaRebalanceMetrics rebalanceMetrics;
+  @Mock private MessageListenerContainer container;
+
+  @Test
+  void rebalanceEventListeners_positive_runningContainerIsRebalanced() {
+    when(kafkaListenerEndpointRegistry.getAllListenerContainers()).thenReturn(List.of(container));
+    when(container.isAutoStartup()).thenReturn(true);
+    when(container.isRunning()).thenReturn(true);
+    when(container.getGroupId()).thenReturn(GROUP_ID);
+
+    kafkaAdminService.rebalanceEventListeners();
+
+    verify(rebalanceMetrics).rebalanceRequested(GROUP_ID);
+    verify(container).enforceRebalance();
+    verify(container, never()).stop();
+    verify(container, never()).start();
+  }
+
+  @Test
+  void rebalanceEventListeners_positive_stoppedContainerIsStarted() {
+    when(kafkaListenerEndpointRegistry.getAllListenerContainers()).thenReturn(List.of(container));
+    when(container.isAutoStartup()).thenReturn(true);
+    when(container.isRunning()).thenReturn(false);
+
+    kafkaAdminService.rebalanceEventListeners();
+
+    verify(container).start();
+    verify(container, never()).enforceRebalance();
+    verifyNoInteractions(rebalanceMetrics);
+  }
+
+  @Test
+  void rebalanceEventListeners_positive_disabledContainerIsSkipped() {
+    when(kafkaListenerEndpointRegistry.getAllListenerContainers()).thenReturn(List.of(container));
+    when(container.isAutoStartup()).thenReturn(false);
+
+    kafkaAdminService.rebalanceEventListeners();
+
+    verify(container, never()).start();
+    verify(container, never()).enforceRebalance();
+    verifyNoInteractions(rebalanceMetrics);
+  }
+}
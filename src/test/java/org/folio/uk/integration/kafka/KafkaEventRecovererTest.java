@@ -0,0 +1,213 @@
+package org.folio.uk.integration.kafka;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.uk.integration.kafka.KafkaEventRecoverer.ORIGINAL_TOPIC_HEADER;
+import static org.folio.uk.integration.kafka.KafkaEventRecoverer.RETRY_ATTEMPT_HEADER;
+import static org.folio.uk.integration.kafka.KafkaEventRecoverer.RETRY_DUE_AT_HEADER;
+import static org.folio.uk.integration.kafka.model.RawValueRetainingDeserializer.RAW_VALUE_HEADER;
+import static org.folio.uk.support.TestConstants.TENANT_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.folio.integration.kafka.consumer.filter.TenantIsDisabledException;
+import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.integration.kafka.configuration.DeadLetterConfiguration;
+import org.folio.uk.integration.kafka.configuration.KafkaRetryTopicConfiguration;
+import org.folio.uk.integration.kafka.model.UserEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KafkaEventRecovererTest {
+
+  private static final String TOPIC = "folio.testtenant.users.users";
+  private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+  private final DeadLetterConfiguration deadLetterConfiguration = new DeadLetterConfiguration();
+  private final KafkaRetryTopicConfiguration retryTopicConfiguration = new KafkaRetryTopicConfiguration();
+  private KafkaEventRecoverer recoverer;
+
+  @Mock private KafkaOperations<String, Object> kafkaTemplate;
+  @Mock private ProducerFactory<String, Object> producerFactory;
+  @Captor private ArgumentCaptor<ProducerRecord<String, Object>> producerRecordCaptor;
+
+  @BeforeEach
+  void setUp() {
+    deadLetterConfiguration.setEnabled(true);
+    retryTopicConfiguration.setEnabled(true);
+    retryTopicConfiguration.setMaxAttempts(3);
+    recoverer = new KafkaEventRecoverer(kafkaTemplate, deadLetterConfiguration, retryTopicConfiguration,
+      Clock.fixed(NOW, ZoneOffset.UTC));
+  }
+
+  @Test
+  void accept_positive_tenantDisabledEventIsPublishedToRetryTopic() {
+    givenSuccessfulSend();
+    var consumerRecord = consumerRecord(TOPIC);
+
+    recoverer.accept(consumerRecord, tenantDisabledException());
+
+    verify(kafkaTemplate).send(producerRecordCaptor.capture());
+    var producerRecord = producerRecordCaptor.getValue();
+    assertThat(producerRecord.topic()).isEqualTo(TOPIC + "-retry");
+    assertThat(producerRecord.key()).isEqualTo("key");
+    assertThat(producerRecord.value()).isSameAs(consumerRecord.value());
+    assertThat(stringHeader(producerRecord, ORIGINAL_TOPIC_HEADER)).isEqualTo(TOPIC);
+    assertThat(longHeader(producerRecord, RETRY_ATTEMPT_HEADER)).isEqualTo(1L);
+    assertThat(longHeader(producerRecord, RETRY_DUE_AT_HEADER)).isEqualTo(NOW.plusSeconds(1).toEpochMilli());
+  }
+
+  @Test
+  void accept_positive_retryTopicEventIsPublishedWithNextAttempt() {
+    givenSuccessfulSend();
+    var consumerRecord = consumerRecord(TOPIC + "-retry");
+    consumerRecord.headers().add(ORIGINAL_TOPIC_HEADER, TOPIC.getBytes(UTF_8));
+    consumerRecord.headers().add(RETRY_ATTEMPT_HEADER, longBytes(2));
+
+    recoverer.accept(consumerRecord, tenantDisabledException());
+
+    verify(kafkaTemplate).send(producerRecordCaptor.capture());
+    var producerRecord = producerRecordCaptor.getValue();
+    assertThat(producerRecord.topic()).isEqualTo(TOPIC + "-retry");
+    assertThat(producerRecord.headers().headers(RETRY_ATTEMPT_HEADER)).hasSize(1);
+    assertThat(longHeader(producerRecord, RETRY_ATTEMPT_HEADER)).isEqualTo(3L);
+    assertThat(longHeader(producerRecord, RETRY_DUE_AT_HEADER)).isEqualTo(NOW.plusSeconds(4).toEpochMilli());
+  }
+
+  @Test
+  void accept_positive_exhaustedRetryIsPublishedToDeadLetterTopic() {
+    givenSuccessfulSend();
+    var consumerRecord = consumerRecord(TOPIC + "-retry");
+    consumerRecord.headers().add(ORIGINAL_TOPIC_HEADER, TOPIC.getBytes(UTF_8));
+    consumerRecord.headers().add(RETRY_ATTEMPT_HEADER, longBytes(3));
+
+    recoverer.accept(consumerRecord, mock(TenantIsDisabledException.class));
+
+    verify(kafkaTemplate).send(producerRecordCaptor.capture());
+    assertThat(producerRecordCaptor.getValue().topic()).isEqualTo(TOPIC + "-dlt");
+  }
+
+  @Test
+  void accept_positive_failedEventIsPublishedToDeadLetterTopic() {
+    givenSuccessfulSend();
+    var consumerRecord = consumerRecord(TOPIC);
+
+    recoverer.accept(consumerRecord, new IllegalStateException("Keycloak is not available"));
+
+    verify(kafkaTemplate).send(producerRecordCaptor.capture());
+    var producerRecord = producerRecordCaptor.getValue();
+    assertThat(producerRecord.topic()).isEqualTo(TOPIC + "-dlt");
+    assertThat(producerRecord.partition()).isNull();
+    assertThat(producerRecord.value()).isSameAs(consumerRecord.value());
+    assertThat(stringHeader(producerRecord, KafkaHeaders.DLT_EXCEPTION_FQCN))
+      .isEqualTo(IllegalStateException.class.getName());
+    assertThat(stringHeader(producerRecord, KafkaHeaders.DLT_EXCEPTION_MESSAGE)).isEqualTo("Keycloak is not available");
+  }
+
+  @Test
+  void accept_positive_rawValueIsPublishedToDeadLetterTopic() {
+    givenSuccessfulSend();
+    var rawValue = "{\"type\":\"UPDATED\",\"data\":{\"new\":{\"barcode\":\"123\"}}}".getBytes(UTF_8);
+    var consumerRecord = consumerRecord(TOPIC);
+    consumerRecord.headers().add(RAW_VALUE_HEADER, rawValue);
+
+    recoverer.accept(consumerRecord, new IllegalStateException("Keycloak is not available"));
+
+    verify(kafkaTemplate).send(producerRecordCaptor.capture());
+    var producerRecord = producerRecordCaptor.getValue();
+    assertThat(producerRecord.topic()).isEqualTo(TOPIC + "-dlt");
+    assertThat(producerRecord.value()).isEqualTo(rawValue);
+    assertThat(producerRecord.headers().lastHeader(RAW_VALUE_HEADER)).isNull();
+  }
+
+  @Test
+  void accept_positive_rawValueIsPublishedToRetryTopic() {
+    givenSuccessfulSend();
+    var rawValue = "{\"type\":\"UPDATED\"}".getBytes(UTF_8);
+    var consumerRecord = consumerRecord(TOPIC);
+    consumerRecord.headers().add(RAW_VALUE_HEADER, rawValue);
+
+    recoverer.accept(consumerRecord, tenantDisabledException());
+
+    verify(kafkaTemplate).send(producerRecordCaptor.capture());
+    var producerRecord = producerRecordCaptor.getValue();
+    assertThat(producerRecord.topic()).isEqualTo(TOPIC + "-retry");
+    assertThat(producerRecord.value()).isEqualTo(rawValue);
+    assertThat(producerRecord.headers().lastHeader(RAW_VALUE_HEADER)).isNull();
+  }
+
+  @Test
+  void accept_positive_failedEventIsSkippedIfDeadLetterTopicIsDisabled() {
+    deadLetterConfiguration.setEnabled(false);
+
+    recoverer.accept(consumerRecord(TOPIC), new IllegalStateException("Keycloak is not available"));
+
+    verifyNoInteractions(kafkaTemplate);
+  }
+
+  @Test
+  void getRetryDelay_positive_exponentialWithMaxDelay() {
+    retryTopicConfiguration.setMaxDelay(Duration.ofSeconds(10));
+
+    assertThat(recoverer.getRetryDelay(1)).isEqualTo(Duration.ofSeconds(1));
+    assertThat(recoverer.getRetryDelay(2)).isEqualTo(Duration.ofSeconds(2));
+    assertThat(recoverer.getRetryDelay(4)).isEqualTo(Duration.ofSeconds(8));
+    assertThat(recoverer.getRetryDelay(5)).isEqualTo(Duration.ofSeconds(10));
+  }
+
+  private void givenSuccessfulSend() {
+    lenient().when(kafkaTemplate.getProducerFactory()).thenReturn(producerFactory);
+    lenient().when(producerFactory.getConfigurationProperties()).thenReturn(Map.of());
+    var metadata = new RecordMetadata(new TopicPartition(TOPIC, 0), 0L, 0, 0L, 0, 0);
+    when(kafkaTemplate.send(any(ProducerRecord.class))).thenAnswer(invocation ->
+      CompletableFuture.completedFuture(new SendResult<>(invocation.getArgument(0), metadata)));
+  }
+
+  private static ConsumerRecord<String, UserEvent> consumerRecord(String topic) {
+    var event = UserEvent.builder().type(ResourceEventType.UPDATE).tenant(TENANT_NAME).build();
+    return new ConsumerRecord<>(topic, 0, 10L, "key", event);
+  }
+
+  private static Exception tenantDisabledException() {
+    return new RuntimeException("Listener failed", mock(TenantIsDisabledException.class));
+  }
+
+  private static String stringHeader(ProducerRecord<?, ?> producerRecord, String name) {
+    return new String(producerRecord.headers().lastHeader(name).value(), UTF_8);
+  }
+
+  private static long longHeader(ProducerRecord<?, ?> producerRecord, String name) {
+    return ByteBuffer.wrap(producerRecord.headers().lastHeader(name).value()).getLong();
+  }
+
+  private static byte[] longBytes(long value) {
+    return ByteBuffer.allocate(Long.BYTES).putLong(value).array();
+  }
+}
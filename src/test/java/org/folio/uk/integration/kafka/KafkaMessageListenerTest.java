@@ -1,42 +1,75 @@
 package org.folio.uk.integration.kafka;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.uk.integration.kafka.KafkaListenerMetrics.EVENTS_METRIC;
+import static org.folio.uk.integration.kafka.KafkaListenerMetrics.LATENCY_METRIC;
+import static org.folio.uk.integration.kafka.KafkaListenerMetrics.PROCESSING_METRIC;
+import static org.folio.uk.integration.kafka.KafkaListenerMetrics.UNRECOVERED_EVENTS_METRIC;
 import static org.folio.uk.support.TestConstants.TENANT_NAME;
 import static org.folio.uk.support.TestConstants.USER_ID;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.folio.integration.kafka.model.ResourceEventType;
 import org.folio.test.types.UnitTest;
 import org.folio.uk.domain.dto.User;
 import org.folio.uk.integration.configuration.OkapiConfigurationProperties;
+import org.folio.uk.integration.kafka.configuration.UserEventBatchConfiguration;
 import org.folio.uk.integration.kafka.model.SystemUser;
 import org.folio.uk.integration.kafka.model.SystemUserEvent;
 import org.folio.uk.integration.kafka.model.UserEvent;
 import org.folio.uk.integration.keycloak.SystemUserService;
+import org.folio.uk.service.CompositeUserCache;
 import org.folio.uk.service.UserService;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.support.Acknowledgment;
 
 @UnitTest
 @ExtendWith(MockitoExtension.class)
 class KafkaMessageListenerTest {
 
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
   @Mock private SystemUserService systemUserService;
   @Mock private UserService userService;
   @Mock private OkapiConfigurationProperties okapiProperties;
+  @Mock private CompositeUserCache compositeUserCache;
+  @Spy private UserEventBatchConfiguration userEventBatchConfiguration = new UserEventBatchConfiguration();
+  @Spy private KeyOrderedExecutor keyOrderedExecutor = new KeyOrderedExecutor(Runnable::run, 10);
+  @Spy private Executor virtualTaskExecutor = new SyncTaskExecutor();
+  @Spy private KafkaListenerMetrics listenerMetrics = new KafkaListenerMetrics(meterRegistry);
+  @Mock private KafkaEventRecoverer kafkaEventRecoverer;
+  @Mock private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+  @Mock private MessageListenerContainer container;
+  @Mock private Acknowledgment acknowledgment;
   @InjectMocks private KafkaMessageListener kafkaMessageListener;
 
   @AfterEach
   void tearDown() {
-    verifyNoMoreInteractions(systemUserService, userService);
+    verifyNoMoreInteractions(systemUserService, userService, compositeUserCache);
   }
 
   @Test
@@ -105,7 +138,31 @@ class KafkaMessageListenerTest {
 
     kafkaMessageListener.handleUserEvent(event);
 
+    verify(compositeUserCache).evict(TENANT_NAME, USER_ID);
+    verify(userService).updateUserOnEvent(newValue, oldValue);
+  }
+
+  @Test
+  void handleUserEvent_positive_metricsAreRecorded() {
+    givenOkapiUrl();
+    var newValue = user(true);
+    var oldValue = user(false);
+    var event = UserEvent.builder()
+      .type(ResourceEventType.UPDATE)
+      .tenant(TENANT_NAME)
+      .newValue(newValue)
+      .oldValue(oldValue)
+      .timestamp(System.currentTimeMillis())
+      .build();
+
+    kafkaMessageListener.handleUserEvent(event);
+
+    verify(compositeUserCache).evict(TENANT_NAME, USER_ID);
     verify(userService).updateUserOnEvent(newValue, oldValue);
+    var tags = new String[] {"listener", "user-event-listener", "tenant", TENANT_NAME, "type", "UPDATE"};
+    assertThat(meterRegistry.get(EVENTS_METRIC).tags(tags).tag("outcome", "success").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(PROCESSING_METRIC).tags(tags).tag("outcome", "success").timer().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(LATENCY_METRIC).tags(tags).timer().count()).isEqualTo(1);
   }
 
   @Test
@@ -124,7 +181,7 @@ class KafkaMessageListenerTest {
   }
 
   @Test
-  void handleUserEvent_positive_deleteEventIsIgnored() {
+  void handleUserEvent_positive_deleteEvent() {
     givenOkapiUrl();
     var event = UserEvent.builder()
       .type(ResourceEventType.DELETE)
@@ -135,6 +192,7 @@ class KafkaMessageListenerTest {
 
     kafkaMessageListener.handleUserEvent(event);
 
+    verify(compositeUserCache).evict(TENANT_NAME, USER_ID);
     verifyNoInteractions(userService);
   }
 
@@ -160,6 +218,175 @@ class KafkaMessageListenerTest {
       .hasMessageContaining("Event type must not be null");
   }
 
+  @Test
+  void handleUserEventInParallel_positive_updateEvent() {
+    givenOkapiUrl();
+    var newValue = user(true);
+    var oldValue = user(false);
+    var consumerRecord = consumerRecords(userEvent(ResourceEventType.UPDATE, newValue, oldValue)).getFirst();
+
+    kafkaMessageListener.handleUserEventInParallel(consumerRecord, acknowledgment);
+
+    verify(compositeUserCache).evict(TENANT_NAME, USER_ID);
+    verify(userService).updateUserOnEvent(newValue, oldValue);
+    verify(acknowledgment).acknowledge();
+    verifyNoInteractions(kafkaEventRecoverer);
+  }
+
+  @Test
+  void handleUserEventInParallel_negative_failedEventIsRecovered() {
+    givenOkapiUrl();
+    var newValue = user(false);
+    var oldValue = user(true);
+    var consumerRecord = consumerRecords(userEvent(ResourceEventType.UPDATE, newValue, oldValue)).getFirst();
+    var error = new IllegalStateException("Keycloak is not available");
+    doThrow(error).when(userService).updateUserOnEvent(newValue, oldValue);
+
+    kafkaMessageListener.handleUserEventInParallel(consumerRecord, acknowledgment);
+
+    verify(compositeUserCache).evict(TENANT_NAME, USER_ID);
+    verify(userService).updateUserOnEvent(newValue, oldValue);
+    verify(kafkaEventRecoverer).accept(consumerRecord, error);
+    verify(acknowledgment).acknowledge();
+  }
+
+  @Test
+  void handleUserEventInParallel_negative_notRecoveredEventIsSkipped() {
+    givenOkapiUrl();
+    var newValue = user(false);
+    var oldValue = user(true);
+    var consumerRecord = consumerRecords(userEvent(ResourceEventType.UPDATE, newValue, oldValue)).getFirst();
+    var error = new IllegalStateException("Keycloak is not available");
+    doThrow(error).when(userService).updateUserOnEvent(newValue, oldValue);
+    doThrow(new IllegalStateException("Kafka is not available")).when(kafkaEventRecoverer)
+      .accept(consumerRecord, error);
+
+    kafkaMessageListener.handleUserEventInParallel(consumerRecord, acknowledgment);
+
+    verify(compositeUserCache).evict(TENANT_NAME, USER_ID);
+    verify(userService).updateUserOnEvent(newValue, oldValue);
+    verify(acknowledgment).acknowledge();
+    assertThat(meterRegistry.get(UNRECOVERED_EVENTS_METRIC).tag("listener", "user-event-parallel-listener")
+      .tag("topic", consumerRecord.topic()).counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void handleUserEventInParallel_positive_containerIsPausedWhenLimitIsReached() {
+    givenOkapiUrl();
+    var consumerRecord = consumerRecords(userEvent(ResourceEventType.CREATE, user(true), null)).getFirst();
+    when(keyOrderedExecutor.hasCapacity()).thenReturn(false);
+    when(kafkaListenerEndpointRegistry.getListenerContainer("user-event-parallel-listener")).thenReturn(container);
+
+    kafkaMessageListener.handleUserEventInParallel(consumerRecord, acknowledgment);
+
+    verify(container).pause();
+    verify(container, never()).resume();
+    verify(acknowledgment).acknowledge();
+  }
+
+  @Test
+  void handleUserEventInParallel_positive_containerIsResumedWhenCapacityIsAvailable() {
+    givenOkapiUrl();
+    var consumerRecord = consumerRecords(userEvent(ResourceEventType.CREATE, user(true), null)).getFirst();
+    when(keyOrderedExecutor.hasCapacity()).thenReturn(false, false, true);
+    when(kafkaListenerEndpointRegistry.getListenerContainer("user-event-parallel-listener")).thenReturn(container);
+    when(container.isPauseRequested()).thenReturn(true);
+
+    kafkaMessageListener.handleUserEventInParallel(consumerRecord, acknowledgment);
+
+    verify(container).pause();
+    verify(container).resume();
+  }
+
+  @Test
+  void handleUserEvents_positive_latestTransitionPerUser() {
+    givenOkapiUrl();
+    var otherUserId = UUID.randomUUID();
+    var records = consumerRecords(
+      userEvent(ResourceEventType.UPDATE, user(USER_ID, false), user(USER_ID, true)),
+      userEvent(ResourceEventType.UPDATE, user(otherUserId, true), user(otherUserId, true)),
+      userEvent(ResourceEventType.UPDATE, user(USER_ID, true), user(USER_ID, false)),
+      userEvent(ResourceEventType.UPDATE, user(USER_ID, true), user(USER_ID, true)));
+
+    kafkaMessageListener.handleUserEvents(records);
+
+    verify(compositeUserCache).evict(TENANT_NAME, USER_ID);
+    verify(compositeUserCache).evict(TENANT_NAME, otherUserId);
+    verify(userService).updateUserOnEvent(user(USER_ID, true), user(USER_ID, false));
+  }
+
+  @Test
+  void handleUserEvents_positive_createEventsAreIgnored() {
+    var records = consumerRecords(userEvent(ResourceEventType.CREATE, user(true), null));
+
+    kafkaMessageListener.handleUserEvents(records);
+
+    verifyNoInteractions(userService, compositeUserCache);
+  }
+
+  @Test
+  void handleUserEvents_negative_userUpdateFailed() {
+    givenOkapiUrl();
+    var newValue = user(false);
+    var oldValue = user(true);
+    var records = consumerRecords(userEvent(ResourceEventType.UPDATE, newValue, oldValue));
+    doThrow(new IllegalStateException("Keycloak is not available")).when(userService)
+      .updateUserOnEvent(newValue, oldValue);
+
+    assertThatThrownBy(() -> kafkaMessageListener.handleUserEvents(records))
+      .isInstanceOf(BatchListenerFailedException.class)
+      .hasCauseInstanceOf(IllegalStateException.class)
+      .hasRootCauseMessage("Keycloak is not available")
+      .satisfies(error -> assertThat(((BatchListenerFailedException) error).getRecord()).isSameAs(records.getFirst()));
+    assertThat(meterRegistry.get(EVENTS_METRIC).tag("listener", "user-event-batch-listener")
+      .tag("outcome", "failure").counter().count()).isEqualTo(1);
+
+    verify(compositeUserCache).evict(TENANT_NAME, USER_ID);
+    verify(userService).updateUserOnEvent(newValue, oldValue);
+  }
+
+  @Test
+  void handleUserEvents_negative_onlyFailedUserRecordIsReported() {
+    givenOkapiUrl();
+    var firstUserId = UUID.randomUUID();
+    var lastUserId = UUID.randomUUID();
+    var records = consumerRecords(
+      userEvent(ResourceEventType.UPDATE, user(firstUserId, true), user(firstUserId, false)),
+      userEvent(ResourceEventType.UPDATE, user(USER_ID, false), user(USER_ID, true)),
+      userEvent(ResourceEventType.UPDATE, user(lastUserId, false), user(lastUserId, true)),
+      userEvent(ResourceEventType.UPDATE, user(USER_ID, true), user(USER_ID, true)));
+    lenient().doThrow(new IllegalStateException("Keycloak is not available")).when(userService)
+      .updateUserOnEvent(user(USER_ID, false), user(USER_ID, true));
+
+    assertThatThrownBy(() -> kafkaMessageListener.handleUserEvents(records))
+      .isInstanceOf(BatchListenerFailedException.class)
+      .hasRootCauseMessage("Keycloak is not available")
+      .satisfies(error -> assertThat(((BatchListenerFailedException) error).getRecord()).isSameAs(records.get(1)));
+    assertThat(meterRegistry.get(EVENTS_METRIC).tag("listener", "user-event-batch-listener")
+      .tag("outcome", "failure").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get(EVENTS_METRIC).tag("listener", "user-event-batch-listener")
+      .tag("outcome", "success").counter().count()).isEqualTo(2);
+
+    verify(compositeUserCache).evict(TENANT_NAME, firstUserId);
+    verify(compositeUserCache).evict(TENANT_NAME, USER_ID);
+    verify(compositeUserCache).evict(TENANT_NAME, lastUserId);
+    verify(userService).updateUserOnEvent(user(firstUserId, true), user(firstUserId, false));
+    verify(userService).updateUserOnEvent(user(USER_ID, false), user(USER_ID, true));
+    verify(userService).updateUserOnEvent(user(lastUserId, false), user(lastUserId, true));
+  }
+
+  @Test
+  void handleUserEvents_negative_unsupportedEventType() {
+    var records = consumerRecords(
+      userEvent(ResourceEventType.UPDATE, user(true), user(true)),
+      UserEvent.builder().type(ResourceEventType.DELETE_ALL).tenant(TENANT_NAME).build());
+
+    assertThatThrownBy(() -> kafkaMessageListener.handleUserEvents(records))
+      .isInstanceOf(BatchListenerFailedException.class)
+      .hasMessageContaining("Received user event with unsupported type: DELETE_ALL")
+      .satisfies(error -> assertThat(((BatchListenerFailedException) error).getRecord()).isSameAs(records.get(1)));
+  }
+
   private void givenOkapiUrl() {
     when(okapiProperties.getUrl()).thenReturn("dummy");
   }
@@ -169,6 +396,22 @@ class KafkaMessageListenerTest {
   }
 
   private static User user(boolean active) {
-    return new User().id(USER_ID).active(active);
+    return user(USER_ID, active);
+  }
+
+  private static User user(UUID id, boolean active) {
+    return new User().id(id).active(active);
+  }
+
+  private static List<ConsumerRecord<String, UserEvent>> consumerRecords(UserEvent... events) {
+    var records = new ArrayList<ConsumerRecord<String, UserEvent>>(events.length);
+    for (var event : events) {
+      records.add(new ConsumerRecord<>("folio.test.users.users", 0, records.size(), "key", event));
+    }
+    return records;
+  }
+
+  private static UserEvent userEvent(ResourceEventType type, User newValue, User oldValue) {
+    return UserEvent.builder().type(type).tenant(TENANT_NAME).newValue(newValue).oldValue(oldValue).build();
   }
 }
@@ -0,0 +1,67 @@
+package org.folio.uk.integration.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.uk.integration.kafka.KafkaRebalanceMetrics.REBALANCE_METRIC;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerGroupMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KafkaRebalanceMetricsTest {
+
+  private static final String GROUP_ID = "folio-mod-users-keycloak-user-group";
+  private static final List<TopicPartition> PARTITIONS = List.of(new TopicPartition("folio.test.users.users", 0));
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private KafkaRebalanceMetrics rebalanceMetrics;
+
+  @Mock private Consumer<?, ?> consumer;
+
+  @BeforeEach
+  void setUp() {
+    rebalanceMetrics = new KafkaRebalanceMetrics(meterRegistry);
+    when(consumer.groupMetadata()).thenReturn(new ConsumerGroupMetadata(GROUP_ID));
+  }
+
+  @Test
+  void onPartitionsAssigned_positive_enforcedRebalanceIsRecorded() {
+    rebalanceMetrics.rebalanceRequested(GROUP_ID);
+    rebalanceMetrics.onPartitionsRevokedBeforeCommit(consumer, PARTITIONS);
+    rebalanceMetrics.onPartitionsAssigned(consumer, PARTITIONS);
+
+    assertThat(rebalanceCount("enforced")).isEqualTo(1L);
+    assertThat(rebalanceCount("revoked")).isZero();
+  }
+
+  @Test
+  void onPartitionsAssigned_positive_revokedRebalanceIsRecorded() {
+    rebalanceMetrics.onPartitionsRevokedBeforeCommit(consumer, PARTITIONS);
+    rebalanceMetrics.onPartitionsAssigned(consumer, PARTITIONS);
+    rebalanceMetrics.onPartitionsAssigned(consumer, PARTITIONS);
+
+    assertThat(rebalanceCount("revoked")).isEqualTo(1L);
+  }
+
+  @Test
+  void onPartitionsAssigned_positive_initialAssignmentIsNotRecorded() {
+    rebalanceMetrics.onPartitionsAssigned(consumer, PARTITIONS);
+
+    assertThat(meterRegistry.find(REBALANCE_METRIC).timers()).isEmpty();
+  }
+
+  private long rebalanceCount(String trigger) {
+    var timer = meterRegistry.find(REBALANCE_METRIC).tags("group", GROUP_ID, "trigger", trigger).timer();
+    return timer == null ? 0L : timer.count();
+  }
+}
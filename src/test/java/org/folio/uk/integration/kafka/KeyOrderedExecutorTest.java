@@ -0,0 +1,83 @@
+package org.folio.uk.integration.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class KeyOrderedExecutorTest {
+
+  private final KeyOrderedExecutor keyOrderedExecutor =
+    new KeyOrderedExecutor(Executors.newVirtualThreadPerTaskExecutor(), 100);
+
+  @Test
+  void submit_positive_tasksWithSameKeyAreOrdered() {
+    var executed = Collections.synchronizedList(new ArrayList<Integer>());
+    var futures = new ArrayList<CompletableFuture<Void>>();
+    for (int i = 0; i < 50; i++) {
+      var value = i;
+      futures.add(keyOrderedExecutor.submit("key", () -> {
+        sleep(value % 3);
+        executed.add(value);
+      }));
+    }
+
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    assertThat(executed).isSorted().hasSize(50);
+  }
+
+  @Test
+  void submit_positive_tasksWithDifferentKeysAreConcurrent() throws InterruptedException {
+    var firstTaskStarted = new CountDownLatch(1);
+    var firstTaskReleased = new CountDownLatch(1);
+
+    var first = keyOrderedExecutor.submit("key1", () -> {
+      firstTaskStarted.countDown();
+      await(firstTaskReleased);
+    });
+    firstTaskStarted.await();
+    var second = keyOrderedExecutor.submit("key2", () -> { });
+
+    second.join();
+    assertThat(first).isNotDone();
+
+    firstTaskReleased.countDown();
+    first.join();
+  }
+
+  @Test
+  void submit_positive_failedTaskDoesNotBlockKey() {
+    var failed = keyOrderedExecutor.submit("key", () -> {
+      throw new IllegalStateException("Failed");
+    });
+    var next = keyOrderedExecutor.submit("key", () -> { });
+
+    next.join();
+    assertThat(failed).isCompletedExceptionally();
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,82 @@
+package org.folio.uk.integration.kafka;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.uk.integration.kafka.KafkaListenerMetrics.FILTERED_RECORDS_METRIC;
+import static org.folio.uk.support.TestConstants.TENANT_NAME;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.integration.kafka.model.UserEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.adapter.RecordFilterStrategy;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class MeteredRecordFilterStrategyTest {
+
+  private static final String TOPIC = "folio.testtenant.users.users";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private MeteredRecordFilterStrategy<String, UserEvent> filterStrategy;
+
+  @Mock private RecordFilterStrategy<String, UserEvent> delegate;
+
+  @BeforeEach
+  void setUp() {
+    filterStrategy = new MeteredRecordFilterStrategy<>(delegate, new KafkaListenerMetrics(meterRegistry));
+  }
+
+  @Test
+  void filter_positive_discardedRecordIsCounted() {
+    var consumerRecord = consumerRecord(0);
+    when(delegate.filter(consumerRecord)).thenReturn(true);
+
+    var result = filterStrategy.filter(consumerRecord);
+
+    assertThat(result).isTrue();
+    assertThat(filteredRecordsCount()).isEqualTo(1d);
+  }
+
+  @Test
+  void filter_positive_acceptedRecordIsNotCounted() {
+    var consumerRecord = consumerRecord(0);
+    when(delegate.filter(consumerRecord)).thenReturn(false);
+
+    var result = filterStrategy.filter(consumerRecord);
+
+    assertThat(result).isFalse();
+    assertThat(meterRegistry.find(FILTERED_RECORDS_METRIC).counter()).isNull();
+  }
+
+  @Test
+  void filterBatch_positive_discardedRecordsAreCounted() {
+    var first = consumerRecord(0);
+    var second = consumerRecord(1);
+    var third = consumerRecord(2);
+    var records = new ArrayList<>(List.of(first, second, third));
+    when(delegate.filterBatch(records)).thenReturn(List.of(second));
+
+    var result = filterStrategy.filterBatch(records);
+
+    assertThat(result).containsExactly(second);
+    assertThat(filteredRecordsCount()).isEqualTo(2d);
+  }
+
+  private double filteredRecordsCount() {
+    return meterRegistry.get(FILTERED_RECORDS_METRIC).tags("topic", TOPIC, "tenant", TENANT_NAME).counter().count();
+  }
+
+  private static ConsumerRecord<String, UserEvent> consumerRecord(long offset) {
+    var event = UserEvent.builder().type(ResourceEventType.UPDATE).tenant(TENANT_NAME).build();
+    return new ConsumerRecord<>(TOPIC, 0, offset, "key", event);
+  }
+}
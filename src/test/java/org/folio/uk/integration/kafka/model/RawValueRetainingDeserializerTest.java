@@ -0,0 +1,42 @@
+package org.folio.uk.integration.kafka.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.uk.integration.kafka.model.RawValueRetainingDeserializer.RAW_VALUE_HEADER;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+@UnitTest
+class RawValueRetainingDeserializerTest {
+
+  private final RawValueRetainingDeserializer<UserEvent> deserializer =
+    new RawValueRetainingDeserializer<>(new StreamingUserEventDeserializer(new JsonMapper()));
+
+  @Test
+  void deserialize_positive_rawValueIsKeptInHeader() {
+    var data = """
+      {"type": "UPDATED", "data": {"new": {"username": "user1", "barcode": "123", "personal": {"lastName": "Doe"}}}}
+      """.getBytes(StandardCharsets.UTF_8);
+    var headers = new RecordHeaders();
+    headers.add(RAW_VALUE_HEADER, new byte[] {1});
+
+    var result = deserializer.deserialize("topic", headers, data);
+
+    assertThat(result.getNewValue().getUsername()).isEqualTo("user1");
+    assertThat(headers.headers(RAW_VALUE_HEADER)).hasSize(1);
+    assertThat(headers.lastHeader(RAW_VALUE_HEADER).value()).isEqualTo(data);
+  }
+
+  @Test
+  void deserialize_positive_nullData() {
+    var headers = new RecordHeaders();
+
+    var result = deserializer.deserialize("topic", headers, null);
+
+    assertThat(result).isNull();
+    assertThat(headers.lastHeader(RAW_VALUE_HEADER)).isNull();
+  }
+}
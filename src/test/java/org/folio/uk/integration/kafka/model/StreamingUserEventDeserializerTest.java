@@ -0,0 +1,146 @@
+package org.folio.uk.integration.kafka.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.uk.support.TestConstants.TENANT_NAME;
+import static org.folio.uk.support.TestConstants.USER_ID;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.apache.kafka.common.errors.SerializationException;
+import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.domain.dto.User;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+@UnitTest
+class StreamingUserEventDeserializerTest {
+
+  private static final String EVENT_ID = "event-id-1";
+  private static final long TIMESTAMP = 1700000000000L;
+
+  private final StreamingUserEventDeserializer deserializer = new StreamingUserEventDeserializer(new JsonMapper());
+
+  @Test
+  void deserialize_positive_nullData() {
+    var result = deserializer.deserialize("topic", null);
+
+    assertThat(result).isNull();
+  }
+
+  @Test
+  void deserialize_positive_updateEvent() {
+    var json = """
+      {
+        "id": "%s",
+        "data": {
+          "old": {
+            "id": "%s",
+            "personal": {"lastName": "Bailey", "addresses": [{"city": "Springfield", "primaryAddress": true}]},
+            "customFields": {"field1": {"nested": ["value"]}, "field2": null},
+            "username": "user1",
+            "active": true,
+            "type": "staff"
+          },
+          "new": {"id": "%s", "departments": [], "username": "user1", "active": false, "type": "staff"}
+        },
+        "tenant": "%s",
+        "timestamp": %d,
+        "type": "UPDATED"
+      }
+      """.formatted(EVENT_ID, USER_ID, USER_ID, TENANT_NAME, TIMESTAMP);
+
+    var result = deserializer.deserialize("topic", bytes(json));
+
+    assertThat(result).isNotNull();
+    assertThat(result.getId()).isEqualTo(EVENT_ID);
+    assertThat(result.getTenant()).isEqualTo(TENANT_NAME);
+    assertThat(result.getTimestamp()).isEqualTo(TIMESTAMP);
+    assertThat(result.getType()).isEqualTo(ResourceEventType.UPDATE);
+    assertThat(result.getOldValue()).isEqualTo(user(true));
+    assertThat(result.getNewValue()).isEqualTo(user(false));
+  }
+
+  @Test
+  void deserialize_positive_createdType() {
+    var json = """
+      {"id": "%s", "tenant": "%s", "timestamp": %d, "type": "CREATED", "data": {"new": {"id": "%s"}, "old": null}}
+      """.formatted(EVENT_ID, TENANT_NAME, TIMESTAMP, USER_ID);
+
+    var result = deserializer.deserialize("topic", bytes(json));
+
+    assertThat(result).isNotNull();
+    assertThat(result.getType()).isEqualTo(ResourceEventType.CREATE);
+    assertThat(result.getNewValue()).isEqualTo(new User().id(UUID.fromString(USER_ID)));
+    assertThat(result.getOldValue()).isNull();
+  }
+
+  @Test
+  void deserialize_positive_deletedType() {
+    var json = """
+      {"id": "%s", "tenant": "%s", "timestamp": %d, "type": "DELETED", "data": {"old": {"id": "%s"}}}
+      """.formatted(EVENT_ID, TENANT_NAME, TIMESTAMP, USER_ID);
+
+    var result = deserializer.deserialize("topic", bytes(json));
+
+    assertThat(result).isNotNull();
+    assertThat(result.getType()).isEqualTo(ResourceEventType.DELETE);
+    assertThat(result.getNewValue()).isNull();
+    assertThat(result.getOldValue()).isNotNull();
+  }
+
+  @Test
+  void deserialize_positive_noDataField() {
+    var json = """
+      {"id": "%s", "tenant": "%s", "timestamp": %d, "type": "UPDATED"}
+      """.formatted(EVENT_ID, TENANT_NAME, TIMESTAMP);
+
+    var result = deserializer.deserialize("topic", bytes(json));
+
+    assertThat(result).isNotNull();
+    assertThat(result.getNewValue()).isNull();
+    assertThat(result.getOldValue()).isNull();
+  }
+
+  @Test
+  void deserialize_negative_unknownEventType() {
+    var json = """
+      {"id": "%s", "tenant": "%s", "timestamp": %d, "type": "UNKNOWN"}
+      """.formatted(EVENT_ID, TENANT_NAME, TIMESTAMP);
+    var bytes = bytes(json);
+
+    assertThatThrownBy(() -> deserializer.deserialize("topic", bytes))
+      .isInstanceOf(SerializationException.class)
+      .hasMessageContaining("Failed to deserialize User Event from message");
+  }
+
+  @Test
+  void deserialize_negative_malformedJson() {
+    var bytes = bytes("not-json{");
+    assertThatThrownBy(() -> deserializer.deserialize("topic", bytes))
+      .isInstanceOf(SerializationException.class)
+      .hasMessageContaining("Failed to deserialize User Event from message")
+      .hasMessageContaining("not-json{");
+  }
+
+  @Test
+  void deserialize_negative_userValueIsNotObject() {
+    var json = """
+      {"id": "%s", "tenant": "%s", "timestamp": %d, "type": "UPDATED", "data": {"new": "%s"}}
+      """.formatted(EVENT_ID, TENANT_NAME, TIMESTAMP, USER_ID);
+    var bytes = bytes(json);
+
+    assertThatThrownBy(() -> deserializer.deserialize("topic", bytes))
+      .isInstanceOf(SerializationException.class)
+      .hasMessageContaining("Failed to deserialize User Event from message");
+  }
+
+  private static User user(boolean active) {
+    return new User().id(UUID.fromString(USER_ID)).username("user1").active(active).type("staff");
+  }
+
+  private static byte[] bytes(String json) {
+    return json.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,61 @@
+package org.folio.uk.integration.kafka.model;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.uk.support.TestConstants.TENANT_NAME;
+import static org.folio.uk.support.TestConstants.USER_ID;
+
+import org.folio.integration.kafka.model.ResourceEventType;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.domain.dto.User;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+@UnitTest
+class UserEventSerializerTest {
+
+  private static final String EVENT_ID = "event-id-1";
+  private static final long TIMESTAMP = 1700000000000L;
+
+  private final JsonMapper jsonMapper = new JsonMapper();
+  private final UserEventSerializer serializer = new UserEventSerializer(jsonMapper);
+  private final UserEventDeserializer deserializer = new UserEventDeserializer(jsonMapper);
+
+  @Test
+  void serialize_positive_nullEvent() {
+    var result = serializer.serialize("topic", null);
+
+    assertThat(result).isNull();
+  }
+
+  @Test
+  void serialize_positive_updateEventIsReadableByDeserializer() {
+    var event = UserEvent.builder()
+      .id(EVENT_ID)
+      .type(ResourceEventType.UPDATE)
+      .tenant(TENANT_NAME)
+      .timestamp(TIMESTAMP)
+      .newValue(new User().id(USER_ID).username("user1").active(false))
+      .oldValue(new User().id(USER_ID).username("user1").active(true))
+      .build();
+
+    var result = deserializer.deserialize("topic", serializer.serialize("topic", event));
+
+    assertThat(result).isEqualTo(event);
+  }
+
+  @Test
+  void serialize_positive_deleteEventWithoutNewValue() {
+    var event = UserEvent.builder()
+      .id(EVENT_ID)
+      .type(ResourceEventType.DELETE)
+      .tenant(TENANT_NAME)
+      .timestamp(TIMESTAMP)
+      .oldValue(new User().id(USER_ID).username("user1"))
+      .build();
+
+    var result = deserializer.deserialize("topic", serializer.serialize("topic", event));
+
+    assertThat(result).isEqualTo(event);
+    assertThat(result.getNewValue()).isNull();
+  }
+}
@@ -0,0 +1,209 @@
+package org.folio.uk.integration.keycloak;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.uk.integration.keycloak.KeycloakCallGuard.AVAILABLE_CALLS_METRIC;
+import static org.folio.uk.integration.keycloak.KeycloakCallGuard.REJECTED_CALLS_METRIC;
+import static org.folio.uk.integration.keycloak.KeycloakCallGuard.STATE_METRIC;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import org.apache.hc.client5.http.ConnectionRequestTimeoutException;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.integration.keycloak.config.KeycloakHttpClientProperties;
+import org.folio.uk.integration.keycloak.config.KeycloakResilienceProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class KeycloakCallGuardTest {
+
+  private static final String REALM = "test";
+  private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final KeycloakResilienceProperties properties = new KeycloakResilienceProperties();
+  private final KeycloakHttpClientProperties httpClientProperties = new KeycloakHttpClientProperties();
+  private KeycloakCallGuard keycloakCallGuard;
+
+  @Mock private Clock clock;
+
+  @BeforeEach
+  void setUp() {
+    properties.setFailureThreshold(2);
+    properties.setOpenDuration(Duration.ofSeconds(30));
+    properties.setMaxConcurrentCalls(1);
+    properties.setMaxWaitDuration(Duration.ZERO);
+    keycloakCallGuard = new KeycloakCallGuard(properties, httpClientProperties, meterRegistry, clock);
+  }
+
+  @Test
+  void execute_positive() throws Exception {
+    var result = keycloakCallGuard.execute(REALM, () -> "value");
+
+    assertThat(result).isEqualTo("value");
+    assertThat(stateGauge("closed")).isEqualTo(1d);
+  }
+
+  @Test
+  void execute_negative_circuitBreakerIsOpened() {
+    when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(10));
+
+    failCall(new ResourceAccessException("Connection refused"));
+    failCall(HttpServerErrorException.create(SERVICE_UNAVAILABLE, "Unavailable", HttpHeaders.EMPTY, null, UTF_8));
+
+    assertThatThrownBy(() -> keycloakCallGuard.execute(REALM, () -> "value"))
+      .isInstanceOf(KeycloakUnavailableException.class)
+      .hasMessage("Keycloak circuit breaker is open: realm = test")
+      .extracting("retryAfter").isEqualTo(Duration.ofSeconds(20));
+    assertThat(stateGauge("open")).isEqualTo(1d);
+    assertThat(meterRegistry.get(REJECTED_CALLS_METRIC).tags("realm", REALM, "reason", "circuit_open").counter()
+      .count()).isEqualTo(1d);
+  }
+
+  @Test
+  void execute_positive_clientErrorIsNotCountedAsFailure() throws Exception {
+    failCall(HttpClientErrorException.create(NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, UTF_8));
+    failCall(HttpClientErrorException.create(NOT_FOUND, "Not Found", HttpHeaders.EMPTY, null, UTF_8));
+
+    assertThat(keycloakCallGuard.execute(REALM, () -> "value")).isEqualTo("value");
+    assertThat(stateGauge("closed")).isEqualTo(1d);
+  }
+
+  @Test
+  void execute_positive_connectionRequestTimeoutIsNotCountedAsFailure() throws Exception {
+    var poolTimeout = new ConnectionRequestTimeoutException("Timeout deadline: 10000 MILLISECONDS");
+    failCall(new ResourceAccessException("I/O error", poolTimeout));
+    failCall(new ResourceAccessException("I/O error", poolTimeout));
+
+    assertThat(keycloakCallGuard.execute(REALM, () -> "value")).isEqualTo("value");
+    assertThat(stateGauge("closed")).isEqualTo(1d);
+  }
+
+  @Test
+  void execute_positive_circuitBreakerIsClosedAfterTrialCall() throws Exception {
+    when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(30));
+
+    failCall(new ResourceAccessException("Connection refused"));
+    failCall(new ResourceAccessException("Connection refused"));
+    var result = keycloakCallGuard.execute(REALM, () -> "value");
+
+    assertThat(result).isEqualTo("value");
+    assertThat(stateGauge("closed")).isEqualTo(1d);
+  }
+
+  @Test
+  void execute_negative_circuitBreakerIsReopenedAfterFailedTrialCall() {
+    when(clock.instant()).thenReturn(NOW, NOW.plusSeconds(30), NOW.plusSeconds(30), NOW.plusSeconds(40));
+
+    failCall(new ResourceAccessException("Connection refused"));
+    failCall(new ResourceAccessException("Connection refused"));
+    failCall(new ResourceAccessException("Connection refused"));
+
+    assertThatThrownBy(() -> keycloakCallGuard.execute(REALM, () -> "value"))
+      .isInstanceOf(KeycloakUnavailableException.class)
+      .extracting("retryAfter").isEqualTo(Duration.ofSeconds(20));
+    assertThat(stateGauge("open")).isEqualTo(1d);
+  }
+
+  @Test
+  void execute_negative_bulkheadIsFull() throws Exception {
+    var callStarted = new CountDownLatch(1);
+    var callReleased = new CountDownLatch(1);
+
+    try (var executor = Executors.newSingleThreadExecutor()) {
+      var inProgressCall = executor.submit(() -> keycloakCallGuard.execute(REALM, () -> {
+        callStarted.countDown();
+        callReleased.await();
+        return "value";
+      }));
+
+      callStarted.await();
+      assertThatThrownBy(() -> keycloakCallGuard.execute(REALM, () -> "value"))
+        .isInstanceOf(KeycloakUnavailableException.class)
+        .hasMessage("Too many concurrent Keycloak calls: realm = test");
+
+      callReleased.countDown();
+      assertThat(inProgressCall.get()).isEqualTo("value");
+    }
+
+    assertThat(meterRegistry.get(REJECTED_CALLS_METRIC).tags("realm", REALM, "reason", "bulkhead_full").counter()
+      .count()).isEqualTo(1d);
+  }
+
+  @Test
+  void execute_negative_connectionPoolIsSharedByRealms() throws Exception {
+    properties.setMaxConcurrentCalls(10);
+    httpClientProperties.setMaxConnectionsPerRoute(1);
+    keycloakCallGuard = new KeycloakCallGuard(properties, httpClientProperties, meterRegistry, clock);
+    var callStarted = new CountDownLatch(1);
+    var callReleased = new CountDownLatch(1);
+
+    try (var executor = Executors.newSingleThreadExecutor()) {
+      var inProgressCall = executor.submit(() -> keycloakCallGuard.execute(REALM, () -> {
+        callStarted.countDown();
+        callReleased.await();
+        return "value";
+      }));
+
+      callStarted.await();
+      assertThatThrownBy(() -> keycloakCallGuard.execute("other", () -> "value"))
+        .isInstanceOf(KeycloakUnavailableException.class)
+        .hasMessage("Too many concurrent Keycloak calls: realm = other");
+
+      callReleased.countDown();
+      assertThat(inProgressCall.get()).isEqualTo("value");
+    }
+
+    assertThat(keycloakCallGuard.execute("other", () -> "value")).isEqualTo("value");
+    assertThat(meterRegistry.get(AVAILABLE_CALLS_METRIC).tags("realm", REALM).gauge().value()).isEqualTo(1d);
+  }
+
+  @Test
+  void execute_positive_poolIsDisabled() throws Exception {
+    properties.setMaxConcurrentCalls(10);
+    httpClientProperties.setPoolEnabled(false);
+    httpClientProperties.setMaxConnectionsPerRoute(1);
+    keycloakCallGuard = new KeycloakCallGuard(properties, httpClientProperties, meterRegistry, clock);
+
+    keycloakCallGuard.execute(REALM, () -> "value");
+
+    assertThat(meterRegistry.get(AVAILABLE_CALLS_METRIC).tags("realm", REALM).gauge().value()).isEqualTo(10d);
+  }
+
+  @Test
+  void execute_positive_disabled() throws Exception {
+    properties.setEnabled(false);
+
+    var result = keycloakCallGuard.execute(REALM, () -> "value");
+
+    assertThat(result).isEqualTo("value");
+    assertThat(meterRegistry.find(STATE_METRIC).gauge()).isNull();
+  }
+
+  private void failCall(Exception exception) {
+    assertThatThrownBy(() -> keycloakCallGuard.execute(REALM, () -> {
+      throw exception;
+    })).isSameAs(exception);
+  }
+
+  private double stateGauge(String state) {
+    return meterRegistry.get(STATE_METRIC).tags("realm", REALM, "state", state).gauge().value();
+  }
+}
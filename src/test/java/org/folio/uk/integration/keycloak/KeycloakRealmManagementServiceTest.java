@@ -32,13 +32,12 @@ class KeycloakRealmManagementServiceTest {
   @Test
   void setupRealm_positive() {
     service.setupRealm();
-    verify(keycloakService).createScopePermission(POLICY, ENDPOINT1, SCOPES);
-    verify(keycloakService).createScopePermission(POLICY, ENDPOINT2, SCOPES);
+    verify(keycloakService).createScopePermissions(POLICY, List.of(ENDPOINT1, ENDPOINT2), SCOPES);
   }
 
   @Test
   void setupRealm_negative_exception() {
-    doThrow(restClientFailure()).when(keycloakService).createScopePermission(any(), any(), any());
+    doThrow(restClientFailure()).when(keycloakService).createScopePermissions(any(), any(), any());
     assertThatThrownBy(() -> service.setupRealm())
       .isInstanceOf(RestClientResponseException.class);
   }
@@ -11,28 +11,44 @@ import static org.folio.uk.support.TestConstants.TENANT_NAME;
 import static org.folio.uk.support.TestConstants.USER_ID;
 import static org.folio.uk.support.TestConstants.USER_NAME;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.ws.rs.NotFoundException;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.assertj.core.util.Lists;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.test.types.UnitTest;
+import org.folio.uk.domain.dto.Personal;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.integration.keycloak.config.KeycloakHttpClientProperties;
 import org.folio.uk.integration.keycloak.config.KeycloakLoginClientProperties;
+import org.folio.uk.integration.keycloak.config.KeycloakResilienceProperties;
 import org.folio.uk.integration.keycloak.model.Client;
 import org.folio.uk.integration.keycloak.model.KeycloakRole;
 import org.folio.uk.integration.keycloak.model.KeycloakUser;
+import org.folio.uk.integration.keycloak.model.KeycloakUserImport;
+import org.folio.uk.integration.keycloak.model.PartialImportPolicy;
+import org.folio.uk.integration.keycloak.model.PartialImportResults;
+import org.folio.uk.integration.keycloak.model.PartialImportResults.Action;
+import org.folio.uk.integration.keycloak.model.PartialImportResults.PartialImportResult;
 import org.folio.uk.integration.keycloak.model.ScopePermission;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.client.HttpClientErrorException;
@@ -47,18 +63,35 @@ class KeycloakServiceTest {
   private static final String LOGIN_CLIENT = TENANT_NAME + "-login-applications";
   private static final UUID LOGIN_CLIENT_KC_ID = UUID.randomUUID();
   private static final String LOGIN_CLIENT_SUFFIX = "-login-applications";
+  private static final int FAILURE_THRESHOLD = new KeycloakResilienceProperties().getFailureThreshold();
 
-  @InjectMocks private KeycloakService keycloakService;
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private KeycloakService keycloakService;
   @Mock private TokenService tokenService;
   @Mock private KeycloakClient keycloakClient;
+  @Mock private KeycloakUserIdCache keycloakUserIdCache;
   @Mock private FolioExecutionContext folioExecutionContext;
   @Mock private KeycloakLoginClientProperties loginClientProperties;
 
+  @BeforeEach
+  void setUp() {
+    keycloakService = keycloakService(new KeycloakResilienceProperties());
+  }
+
   @AfterEach
   void tearDown() {
     verifyNoMoreInteractions(this);
   }
 
+  @Test
+  void userLookupCounters_positive_registeredOnCreation() {
+    assertThat(meterRegistry.get(KeycloakService.USER_LOOKUP_METRIC).counters()).hasSize(4);
+    assertThat(userLookupCount("username", "hit")).isZero();
+    assertThat(userLookupCount("username", "miss")).isZero();
+    assertThat(userLookupCount("attribute", "hit")).isZero();
+    assertThat(userLookupCount("attribute", "miss")).isZero();
+  }
+
   @Test
   void findUserByUsername_positive() {
     var keycloakUsers = singletonList(keycloakUser());
@@ -214,6 +247,44 @@ class KeycloakServiceTest {
     verify(keycloakClient).createScopePermission(TENANT_NAME, LOGIN_CLIENT_KC_ID, permission, AUTH_TOKEN);
   }
 
+  @Test
+  void createScopePermissions_positive_clientIsFoundOnce() {
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(loginClientProperties.getClientNameSuffix()).thenReturn(LOGIN_CLIENT_SUFFIX);
+
+    when(keycloakClient.findClientsByClientId(TENANT_NAME, LOGIN_CLIENT, AUTH_TOKEN)).thenReturn(
+      List.of(keycloakClient()));
+    var permission = scopePermission();
+    when(keycloakClient.createScopePermission(any(), any(), any(), any())).thenReturn(permission);
+
+    keycloakService.createScopePermissions("policy", List.of("/foo/bar", "/foo/baz"), List.of("POST"));
+
+    var otherPermission = scopePermission();
+    otherPermission.setName("[POST] access for 'policy' to '/foo/baz'");
+    otherPermission.setResources(List.of("/foo/baz"));
+    verify(keycloakClient).findClientsByClientId(TENANT_NAME, LOGIN_CLIENT, AUTH_TOKEN);
+    verify(keycloakClient).createScopePermission(TENANT_NAME, LOGIN_CLIENT_KC_ID, permission, AUTH_TOKEN);
+    verify(keycloakClient).createScopePermission(TENANT_NAME, LOGIN_CLIENT_KC_ID, otherPermission, AUTH_TOKEN);
+  }
+
+  @Test
+  void createScopePermissions_negative_permissionCreationFailed() {
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(loginClientProperties.getClientNameSuffix()).thenReturn(LOGIN_CLIENT_SUFFIX);
+
+    var clients = List.of(keycloakClient());
+    when(keycloakClient.findClientsByClientId(TENANT_NAME, LOGIN_CLIENT, AUTH_TOKEN)).thenReturn(clients);
+    doThrow(restClientFailure()).when(keycloakClient).createScopePermission(any(), any(), any(), any());
+
+    var resources = List.of("/foo/bar");
+    var scopes = List.of("POST");
+    assertThatThrownBy(() -> keycloakService.createScopePermissions("policy", resources, scopes))
+      .isInstanceOf(KeycloakException.class)
+      .hasMessage("Failed to create a permission [resource: [/foo/bar], policies: [policy]]");
+  }
+
   @Test
   void createScopePermission_negative_clientIsNotFound() {
     when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
@@ -250,6 +321,30 @@ class KeycloakServiceTest {
 
     when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
+    when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
+      .thenReturn(singletonList(kcUser));
+
+    keycloakService.disableUser(USER_ID);
+
+    kcUser.setEnabled(false);
+    verify(keycloakClient).updateUser(TENANT_NAME, kcUserId, kcUser, AUTH_TOKEN);
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
+  }
+
+  @Test
+  void disableUser_positive_nestedLookupIsNotGuardedAgain() {
+    var resilienceProperties = new KeycloakResilienceProperties();
+    resilienceProperties.setMaxConcurrentCalls(1);
+    resilienceProperties.setMaxWaitDuration(Duration.ZERO);
+    keycloakService = keycloakService(resilienceProperties);
+
+    var kcUserId = UUID.randomUUID().toString();
+    var kcUser = keycloakUserWithId(kcUserId);
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
     when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
       .thenReturn(singletonList(kcUser));
 
@@ -257,16 +352,20 @@ class KeycloakServiceTest {
 
     kcUser.setEnabled(false);
     verify(keycloakClient).updateUser(TENANT_NAME, kcUserId, kcUser, AUTH_TOKEN);
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
   }
 
   @Test
   void disableUser_positive_userNotFound() {
     when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
     when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
       .thenReturn(emptyList());
 
     keycloakService.disableUser(USER_ID);
+
+    verify(keycloakUserIdCache).evict(TENANT_NAME, USER_ID);
   }
 
   @Test
@@ -276,6 +375,7 @@ class KeycloakServiceTest {
 
     when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
     when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
       .thenReturn(singletonList(kcUser));
     doThrow(restClientFailure()).when(keycloakClient).updateUser(any(), any(), any(), any());
@@ -283,6 +383,7 @@ class KeycloakServiceTest {
     assertThatThrownBy(() -> keycloakService.disableUser(USER_ID))
       .isInstanceOf(KeycloakException.class)
       .hasMessageContaining("Failed to disable keycloak user");
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
   }
 
   @Test
@@ -292,6 +393,7 @@ class KeycloakServiceTest {
 
     when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
     when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
       .thenReturn(singletonList(kcUser));
 
@@ -299,16 +401,20 @@ class KeycloakServiceTest {
 
     kcUser.setEnabled(true);
     verify(keycloakClient).updateUser(TENANT_NAME, kcUserId, kcUser, AUTH_TOKEN);
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
   }
 
   @Test
   void enableUser_positive_userNotFound() {
     when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
     when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
       .thenReturn(emptyList());
 
     keycloakService.enableUser(USER_ID);
+
+    verify(keycloakUserIdCache).evict(TENANT_NAME, USER_ID);
   }
 
   @Test
@@ -318,6 +424,7 @@ class KeycloakServiceTest {
 
     when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
     when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
     when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
       .thenReturn(singletonList(kcUser));
     doThrow(restClientFailure()).when(keycloakClient).updateUser(any(), any(), any(), any());
@@ -325,6 +432,311 @@ class KeycloakServiceTest {
     assertThatThrownBy(() -> keycloakService.enableUser(USER_ID))
       .isInstanceOf(KeycloakException.class)
       .hasMessageContaining("Failed to enable keycloak user");
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
+  }
+
+  @Test
+  void disableUser_positive_cachedUserId() {
+    var kcUserId = UUID.randomUUID().toString();
+    var kcUser = keycloakUserWithId(kcUserId);
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.of(kcUserId));
+    when(keycloakClient.getUser(TENANT_NAME, kcUserId, AUTH_TOKEN)).thenReturn(kcUser);
+
+    keycloakService.disableUser(USER_ID);
+
+    kcUser.setEnabled(false);
+    verify(keycloakClient).updateUser(TENANT_NAME, kcUserId, kcUser, AUTH_TOKEN);
+  }
+
+  @Test
+  void updateUser_positive_cachedUserId() {
+    var kcUserId = UUID.randomUUID().toString();
+    var user = new User().id(USER_ID).username(USER_NAME).active(true);
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.of(kcUserId));
+    when(keycloakClient.getUser(TENANT_NAME, kcUserId, AUTH_TOKEN)).thenReturn(keycloakUserWithId(kcUserId));
+
+    keycloakService.updateUser(USER_ID, user);
+
+    var expectedKcUser = keycloakService.toKeycloakUser(user);
+    expectedKcUser.setId(kcUserId);
+    verify(keycloakClient).updateUser(TENANT_NAME, kcUserId, expectedKcUser, AUTH_TOKEN);
+  }
+
+  @Test
+  void updateUser_positive_upToDateUserIsNotUpdated() {
+    var kcUserId = UUID.randomUUID().toString();
+    var user = new User().id(USER_ID).username(USER_NAME).active(true).barcode("12345")
+      .personal(new Personal().firstName("John").lastName("Doe").email("John.Doe@example.org"));
+    var existingKcUser = keycloakService.toKeycloakUser(user);
+    existingKcUser.setId(kcUserId);
+    existingKcUser.setUserName(USER_NAME.toLowerCase());
+    existingKcUser.setEmail("john.doe@example.org");
+    existingKcUser.setUserTenantAttr(List.of(TENANT_NAME));
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.of(kcUserId));
+    when(keycloakClient.getUser(TENANT_NAME, kcUserId, AUTH_TOKEN)).thenReturn(existingKcUser);
+
+    keycloakService.updateUser(USER_ID, user.patronGroup(UUID.randomUUID()));
+
+    verify(keycloakClient, never()).updateUser(any(), any(), any(), any());
+  }
+
+  @Test
+  void updateUser_positive_removedBarcodeIsUpdated() {
+    var kcUserId = UUID.randomUUID().toString();
+    var user = new User().id(USER_ID).username(USER_NAME).active(true);
+    var existingKcUser = keycloakService.toKeycloakUser(user.barcode("12345"));
+    existingKcUser.setId(kcUserId);
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.of(kcUserId));
+    when(keycloakClient.getUser(TENANT_NAME, kcUserId, AUTH_TOKEN)).thenReturn(existingKcUser);
+
+    keycloakService.updateUser(USER_ID, user.barcode(null));
+
+    var expectedKcUser = keycloakService.toKeycloakUser(user);
+    expectedKcUser.setId(kcUserId);
+    verify(keycloakClient).updateUser(TENANT_NAME, kcUserId, expectedKcUser, AUTH_TOKEN);
+  }
+
+  @Test
+  void updateUser_positive_staleCachedUserId() {
+    var staleKcUserId = UUID.randomUUID().toString();
+    var kcUserId = UUID.randomUUID().toString();
+    var user = new User().id(USER_ID).username(USER_NAME).active(true);
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.of(staleKcUserId));
+    when(keycloakClient.getUser(TENANT_NAME, staleKcUserId, AUTH_TOKEN)).thenThrow(notFound());
+    when(keycloakClient.findUsersByUsername(TENANT_NAME, USER_NAME, false, AUTH_TOKEN)).thenReturn(emptyList());
+    when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
+      .thenReturn(singletonList(keycloakUserWithId(kcUserId)));
+    when(keycloakClient.getUser(TENANT_NAME, kcUserId, AUTH_TOKEN)).thenReturn(keycloakUserWithId(kcUserId));
+
+    keycloakService.updateUser(USER_ID, user);
+
+    var expectedKcUser = keycloakService.toKeycloakUser(user);
+    expectedKcUser.setId(kcUserId);
+    verify(keycloakClient).updateUser(TENANT_NAME, kcUserId, expectedKcUser, AUTH_TOKEN);
+    verify(keycloakUserIdCache).evict(TENANT_NAME, USER_ID);
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
+  }
+
+  @Test
+  void updateUser_positive_upToDateUserFoundByAttributeIsNotUpdated() {
+    var kcUserId = UUID.randomUUID().toString();
+    var user = new User().id(USER_ID).username(USER_NAME).active(true).barcode("12345")
+      .personal(new Personal().firstName("John").lastName("Doe"));
+    var briefKcUser = keycloakUserWithId(kcUserId);
+    briefKcUser.setUserName(USER_NAME);
+    var fullKcUser = keycloakService.toKeycloakUser(user);
+    fullKcUser.setId(kcUserId);
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
+    when(keycloakClient.findUsersByUsername(TENANT_NAME, USER_NAME, false, AUTH_TOKEN)).thenReturn(emptyList());
+    when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
+      .thenReturn(singletonList(briefKcUser));
+    when(keycloakClient.getUser(TENANT_NAME, kcUserId, AUTH_TOKEN)).thenReturn(fullKcUser);
+
+    keycloakService.updateUser(USER_ID, user);
+
+    verify(keycloakClient).getUser(TENANT_NAME, kcUserId, AUTH_TOKEN);
+    verify(keycloakClient, never()).updateUser(any(), any(), any(), any());
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
+  }
+
+  @Test
+  void updateUser_positive_userFoundByUsername() {
+    var kcUserId = UUID.randomUUID().toString();
+    var user = new User().id(USER_ID).username(USER_NAME).active(true);
+    var existingKcUser = keycloakUserWithId(kcUserId);
+    existingKcUser.setUserIdAttr(USER_ID);
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
+    when(keycloakClient.findUsersByUsername(TENANT_NAME, USER_NAME, false, AUTH_TOKEN))
+      .thenReturn(List.of(existingKcUser));
+
+    keycloakService.updateUser(USER_ID, user);
+
+    var expectedKcUser = keycloakService.toKeycloakUser(user);
+    expectedKcUser.setId(kcUserId);
+    verify(keycloakClient).updateUser(TENANT_NAME, kcUserId, expectedKcUser, AUTH_TOKEN);
+    verify(keycloakClient, never()).getUsersWithAttrs(any(), any(), any(Boolean.class), any());
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
+    assertThat(userLookupCount("username", "hit")).isEqualTo(1d);
+  }
+
+  @Test
+  void enableUser_positive_userIdAttributeMismatch() {
+    var kcUserId = UUID.randomUUID().toString();
+    var otherKcUser = keycloakUserWithId(UUID.randomUUID().toString());
+    otherKcUser.setUserIdAttr(UUID.randomUUID());
+    var kcUser = keycloakUserWithId(kcUserId);
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
+    when(keycloakClient.findUsersByUsername(TENANT_NAME, USER_NAME, false, AUTH_TOKEN))
+      .thenReturn(List.of(otherKcUser));
+    when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
+      .thenReturn(singletonList(kcUser));
+
+    keycloakService.enableUser(USER_ID, USER_NAME);
+
+    verify(keycloakClient).updateUser(TENANT_NAME, kcUserId, kcUser, AUTH_TOKEN);
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
+    assertThat(userLookupCount("username", "miss")).isEqualTo(1d);
+    assertThat(userLookupCount("attribute", "hit")).isEqualTo(1d);
+  }
+
+  @Test
+  void deleteUser_positive_userFoundByUsername() {
+    var kcUserId = UUID.randomUUID().toString();
+    var kcUser = keycloakUserWithId(kcUserId);
+    kcUser.setUserIdAttr(USER_ID);
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
+    when(keycloakClient.findUsersByUsername(TENANT_NAME, USER_NAME, false, AUTH_TOKEN)).thenReturn(List.of(kcUser));
+
+    keycloakService.deleteUser(USER_ID, USER_NAME);
+
+    verify(keycloakClient).deleteUser(TENANT_NAME, kcUserId, AUTH_TOKEN);
+    verify(keycloakClient, never()).getUsersWithAttrs(any(), any(), any(Boolean.class), any());
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
+    verify(keycloakUserIdCache).evict(TENANT_NAME, USER_ID);
+  }
+
+  @Test
+  void deleteUser_positive_cachedUserId() {
+    var kcUserId = UUID.randomUUID().toString();
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.of(kcUserId));
+
+    keycloakService.deleteUser(USER_ID);
+
+    verify(keycloakClient).deleteUser(TENANT_NAME, kcUserId, AUTH_TOKEN);
+    verify(keycloakUserIdCache).evict(TENANT_NAME, USER_ID);
+  }
+
+  @Test
+  void findKeycloakUserId_positive_cachedUserId() {
+    var kcUserId = UUID.randomUUID().toString();
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.of(kcUserId));
+    when(keycloakClient.getUser(TENANT_NAME, kcUserId, AUTH_TOKEN)).thenReturn(keycloakUserWithId(kcUserId));
+
+    var result = keycloakService.findKeycloakUserId(USER_ID);
+
+    assertThat(result).contains(kcUserId);
+  }
+
+  @Test
+  void findKeycloakUserId_positive_staleCachedUserId() {
+    var staleKcUserId = UUID.randomUUID().toString();
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.of(staleKcUserId));
+    when(keycloakClient.getUser(TENANT_NAME, staleKcUserId, AUTH_TOKEN)).thenThrow(notFound());
+    when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
+      .thenReturn(emptyList());
+
+    var result = keycloakService.findKeycloakUserId(USER_ID);
+
+    assertThat(result).isEmpty();
+    verify(keycloakUserIdCache, times(2)).evict(TENANT_NAME, USER_ID);
+  }
+
+  @Test
+  void findKeycloakUserId_positive_notCached() {
+    var kcUserId = UUID.randomUUID().toString();
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakUserIdCache.get(TENANT_NAME, USER_ID)).thenReturn(Optional.empty());
+    when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
+      .thenReturn(singletonList(keycloakUserWithId(kcUserId)));
+
+    var result = keycloakService.findKeycloakUserId(USER_ID);
+
+    assertThat(result).contains(kcUserId);
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
+  }
+
+  @Test
+  void findKeycloakUserWithUserIdAttr_negative_circuitBreakerIsOpen() {
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(keycloakClient.getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN))
+      .thenThrow(restClientFailure());
+
+    for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+      assertThatThrownBy(() -> keycloakService.findKeycloakUserWithUserIdAttr(TENANT_NAME, USER_ID))
+        .isInstanceOf(RestClientResponseException.class);
+    }
+
+    assertThatThrownBy(() -> keycloakService.findKeycloakUserWithUserIdAttr(TENANT_NAME, USER_ID))
+      .isInstanceOf(KeycloakUnavailableException.class);
+    verify(keycloakClient, times(FAILURE_THRESHOLD))
+      .getUsersWithAttrs(TENANT_NAME, "user_id:" + USER_ID, true, AUTH_TOKEN);
+  }
+
+  @Test
+  void importUsersForMigration_positive() {
+    var kcUserId = UUID.randomUUID().toString();
+    var skippedUserId = UUID.randomUUID();
+    var user = new User().id(USER_ID).username("Test-User").active(true);
+    var skippedUser = new User().id(skippedUserId).username("existing-user").active(true);
+    var userImports = List.of(new KeycloakUserImport(user, null, List.of(TENANT_NAME)),
+      new KeycloakUserImport(skippedUser, null, List.of(TENANT_NAME)));
+
+    var importResults = new PartialImportResults();
+    importResults.setResults(List.of(importResult("test-user", kcUserId, Action.ADDED),
+      importResult("existing-user", null, Action.SKIPPED)));
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakClient.partialImport(eq(TENANT_NAME), any(), eq(AUTH_TOKEN))).thenReturn(importResults);
+
+    var result = keycloakService.importUsersForMigration(userImports, PartialImportPolicy.SKIP);
+
+    assertThat(result).hasSize(2);
+    assertThat(result.get(USER_ID).getAction()).isEqualTo(Action.ADDED);
+    assertThat(result.get(skippedUserId).getAction()).isEqualTo(Action.SKIPPED);
+    verify(keycloakUserIdCache).put(TENANT_NAME, USER_ID, kcUserId);
+  }
+
+  @Test
+  void importUsersForMigration_negative_importFailed() {
+    var userImports = List.of(new KeycloakUserImport(new User().id(USER_ID).username(USER_NAME), null, null));
+
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT_NAME);
+    when(keycloakClient.partialImport(eq(TENANT_NAME), any(), eq(AUTH_TOKEN)))
+      .thenThrow(restClientFailure());
+
+    assertThatThrownBy(() -> keycloakService.importUsersForMigration(userImports, PartialImportPolicy.SKIP))
+      .isInstanceOf(KeycloakException.class)
+      .hasMessage("Failed to import keycloak users: count = 1");
   }
 
   @Test
@@ -388,6 +800,35 @@ class KeycloakServiceTest {
       .hasMessage(format("Failed to find a keycloak client with clientId: %s", LOGIN_CLIENT));
   }
 
+  @Test
+  void findClientWithClientId_negative_circuitBreakerIsOpen() {
+    when(tokenService.issueToken()).thenReturn(AUTH_TOKEN);
+    when(keycloakClient.findClientsByClientId(TENANT_NAME, LOGIN_CLIENT, AUTH_TOKEN))
+      .thenThrow(restClientFailure());
+
+    for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+      assertThatThrownBy(() -> keycloakService.findClientWithClientId(TENANT_NAME, LOGIN_CLIENT))
+        .isInstanceOf(KeycloakException.class)
+        .hasMessage(format("Failed to find a keycloak client with clientId: %s", LOGIN_CLIENT));
+    }
+
+    assertThatThrownBy(() -> keycloakService.findClientWithClientId(TENANT_NAME, LOGIN_CLIENT))
+      .isInstanceOf(KeycloakUnavailableException.class);
+    verify(keycloakClient, times(FAILURE_THRESHOLD)).findClientsByClientId(TENANT_NAME, LOGIN_CLIENT, AUTH_TOKEN);
+  }
+
+  private KeycloakService keycloakService(KeycloakResilienceProperties resilienceProperties) {
+    var keycloakCallGuard = new KeycloakCallGuard(resilienceProperties, new KeycloakHttpClientProperties(),
+      new SimpleMeterRegistry());
+    return new KeycloakService(null, keycloakClient, keycloakCallGuard, tokenService, keycloakUserIdCache,
+      null, null, folioExecutionContext, loginClientProperties, null, meterRegistry, new SyncTaskExecutor());
+  }
+
+  private double userLookupCount(String path, String outcome) {
+    return meterRegistry.get(KeycloakService.USER_LOOKUP_METRIC).tags("path", path, "outcome", outcome)
+      .counter().count();
+  }
+
   private static ScopePermission scopePermission() {
     var permission = new ScopePermission();
     permission.setName("[POST] access for 'policy' to '/foo/bar'");
@@ -420,11 +861,25 @@ class KeycloakServiceTest {
     return keycloakUser;
   }
 
+  private static PartialImportResult importResult(String username, String kcUserId, Action action) {
+    var result = new PartialImportResult();
+    result.setResourceType(PartialImportResult.RESOURCE_TYPE_USER);
+    result.setResourceName(username);
+    result.setId(kcUserId);
+    result.setAction(action);
+    return result;
+  }
+
   private static HttpClientErrorException.Conflict conflict() {
     return (HttpClientErrorException.Conflict) HttpClientErrorException.create(HttpStatus.CONFLICT,
       "Conflict", HttpHeaders.EMPTY, null, UTF_8);
   }
 
+  private static HttpClientErrorException.NotFound notFound() {
+    return (HttpClientErrorException.NotFound) HttpClientErrorException.create(HttpStatus.NOT_FOUND,
+      "Not Found", HttpHeaders.EMPTY, null, UTF_8);
+  }
+
   private static RestClientResponseException restClientFailure() {
     return new RestClientResponseException("Request failed", 500, "Internal Server Error",
       HttpHeaders.EMPTY, null, UTF_8);
@@ -0,0 +1,204 @@
+package org.folio.uk.integration.keycloak;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.folio.test.TestUtils.verifyNoMoreInteractions;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.configuration.CacheProperties;
+import org.folio.uk.configuration.CacheProperties.CacheSpec;
+import org.folio.uk.integration.keycloak.config.KeycloakProperties;
+import org.folio.uk.integration.keycloak.model.KeycloakRealmConfiguration;
+import org.folio.uk.integration.keycloak.model.TokenResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.RestClientResponseException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+  private static final String CLIENT_ID = "folio-backend-admin-client";
+  private static final Duration CACHE_TTL = Duration.ofSeconds(300);
+
+  private final TestClock clock = new TestClock(Instant.parse("2026-01-01T00:00:00Z"));
+  private TokenService tokenService;
+
+  @Mock private KeycloakClient keycloakClient;
+  @Mock private RealmConfigurationProvider realmConfigurationProvider;
+
+  @BeforeEach
+  void setUp() {
+    var keycloakProperties = new KeycloakProperties();
+    keycloakProperties.setClientId(CLIENT_ID);
+    keycloakProperties.setGrantType("client_credentials");
+    keycloakProperties.setAdminTokenRefreshMargin(Duration.ofSeconds(10));
+
+    var cacheProperties = new CacheProperties(null, null, new CacheSpec(CACHE_TTL, 10), null, null, null);
+    tokenService = new TokenService(keycloakClient, keycloakProperties, realmConfigurationProvider,
+      new SyncTaskExecutor(), new ConcurrentMapCacheManager("token"), cacheProperties, clock);
+  }
+
+  @AfterEach
+  void tearDown() {
+    verifyNoMoreInteractions(this);
+  }
+
+  @Test
+  void issueToken_positive_tokenIsCached() {
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(realmConfiguration());
+    when(keycloakClient.login(any())).thenReturn(tokenResponse("token1", 60L));
+
+    var firstToken = tokenService.issueToken();
+    clock.advance(Duration.ofSeconds(30));
+    var secondToken = tokenService.issueToken();
+
+    assertThat(firstToken).isEqualTo("Bearer token1");
+    assertThat(secondToken).isEqualTo(firstToken);
+  }
+
+  @Test
+  void issueToken_positive_tokenIsRefreshedBeforeExpiration() {
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(realmConfiguration());
+    when(keycloakClient.login(any())).thenReturn(tokenResponse("token1", 60L), tokenResponse("token2", 60L));
+
+    tokenService.issueToken();
+    clock.advance(Duration.ofSeconds(55));
+    var tokenInRefreshWindow = tokenService.issueToken();
+    var refreshedToken = tokenService.issueToken();
+
+    assertThat(tokenInRefreshWindow).isEqualTo("Bearer token1");
+    assertThat(refreshedToken).isEqualTo("Bearer token2");
+    verify(keycloakClient, times(2)).login(any());
+  }
+
+  @Test
+  void issueToken_positive_expiredTokenIsReplaced() {
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(realmConfiguration());
+    when(keycloakClient.login(any())).thenReturn(tokenResponse("token1", 30L), tokenResponse("token2", 30L));
+
+    tokenService.issueToken();
+    clock.advance(Duration.ofSeconds(31));
+    var result = tokenService.issueToken();
+
+    assertThat(result).isEqualTo("Bearer token2");
+    verify(keycloakClient, times(2)).login(any());
+  }
+
+  @Test
+  void issueToken_positive_lifetimeIsLimitedByCacheTtl() {
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(realmConfiguration());
+    when(keycloakClient.login(any())).thenReturn(tokenResponse("token1", 3600L), tokenResponse("token2", 3600L));
+
+    tokenService.issueToken();
+    clock.advance(CACHE_TTL);
+    var result = tokenService.issueToken();
+
+    assertThat(result).isEqualTo("Bearer token2");
+    verify(keycloakClient, times(2)).login(any());
+  }
+
+  @Test
+  void issueToken_negative_loginFailed() {
+    var error = new RestClientResponseException("Unauthorized", 401, "Unauthorized", HttpHeaders.EMPTY, null, UTF_8);
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(realmConfiguration());
+    when(keycloakClient.login(any())).thenThrow(error);
+
+    assertThatThrownBy(() -> tokenService.issueToken()).isSameAs(error);
+  }
+
+  @Test
+  void invalidateToken_positive() {
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(realmConfiguration());
+    when(keycloakClient.login(any())).thenReturn(tokenResponse("token1", 60L), tokenResponse("token2", 60L));
+
+    var rejectedToken = tokenService.issueToken();
+    tokenService.invalidateToken(rejectedToken);
+    var result = tokenService.issueToken();
+
+    assertThat(result).isEqualTo("Bearer token2");
+    verify(keycloakClient, times(2)).login(any());
+  }
+
+  @Test
+  void invalidateToken_positive_outdatedTokenIsIgnored() {
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(realmConfiguration());
+    when(keycloakClient.login(any())).thenReturn(tokenResponse("token1", 60L));
+
+    var token = tokenService.issueToken();
+    tokenService.invalidateToken("Bearer outdated");
+    var result = tokenService.issueToken();
+
+    assertThat(result).isEqualTo(token);
+  }
+
+  @Test
+  void renewToken_positive() {
+    when(realmConfigurationProvider.getRealmConfiguration()).thenReturn(realmConfiguration());
+    when(keycloakClient.login(any())).thenReturn(tokenResponse("token1", 60L), tokenResponse("token2", 60L));
+
+    tokenService.issueToken();
+    var renewedToken = tokenService.renewToken();
+
+    assertThat(renewedToken).isEqualTo("Bearer token2");
+    assertThat(tokenService.issueToken()).isEqualTo(renewedToken);
+    verify(keycloakClient, times(2)).login(any());
+  }
+
+  private static KeycloakRealmConfiguration realmConfiguration() {
+    return new KeycloakRealmConfiguration().clientId(CLIENT_ID).clientSecret("secret");
+  }
+
+  private static TokenResponse tokenResponse(String accessToken, Long expiresIn) {
+    var tokenResponse = new TokenResponse();
+    tokenResponse.setTokenType("Bearer");
+    tokenResponse.setAccessToken(accessToken);
+    tokenResponse.setExpiresIn(expiresIn);
+    return tokenResponse;
+  }
+
+  private static final class TestClock extends Clock {
+
+    private Instant instant;
+
+    TestClock(Instant instant) {
+      this.instant = instant;
+    }
+
+    void advance(Duration duration) {
+      instant = instant.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return instant;
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package org.folio.uk.integration.keycloak.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.folio.common.configuration.properties.TlsProperties;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.integration.keycloak.KeycloakClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+@UnitTest
+class KeycloakClientConfigTest {
+
+  private static final String POOL_TOTAL_MAX_METRIC = "httpcomponents.httpclient.pool.total.max";
+  private static final String POOL_ROUTE_MAX_METRIC = "httpcomponents.httpclient.pool.route.max.default";
+
+  private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+    .withUserConfiguration(KeycloakClientConfig.class)
+    .withBean(KeycloakHttpClientProperties.class, KeycloakClientConfigTest::httpClientProperties)
+    .withBean(FolioExecutionContext.class, () -> mock(FolioExecutionContext.class))
+    .withBean(MeterRegistry.class, SimpleMeterRegistry::new);
+
+  @Test
+  void keycloakHttpClient_positive_poolSettings() {
+    contextRunner
+      .withBean(KeycloakProperties.class, () -> keycloakProperties(tls(false, null)))
+      .run(context -> {
+        assertThat(context).hasSingleBean(CloseableHttpClient.class).hasSingleBean(KeycloakClient.class);
+
+        var meterRegistry = context.getBean(MeterRegistry.class);
+        assertThat(meterRegistry.get(POOL_TOTAL_MAX_METRIC).tag("httpclient", "keycloak").gauge().value())
+          .isEqualTo(20);
+        assertThat(meterRegistry.get(POOL_ROUTE_MAX_METRIC).tag("httpclient", "keycloak").gauge().value())
+          .isEqualTo(10);
+      });
+  }
+
+  @Test
+  void keycloakHttpClient_positive_trustStore() {
+    contextRunner
+      .withBean(KeycloakProperties.class, () -> keycloakProperties(tls(true, "secretpassword")))
+      .run(context -> assertThat(context).hasNotFailed().hasSingleBean(CloseableHttpClient.class));
+  }
+
+  @Test
+  void keycloakHttpClient_negative_invalidTrustStorePassword() {
+    contextRunner
+      .withBean(KeycloakProperties.class, () -> keycloakProperties(tls(true, "invalid")))
+      .run(context -> assertThat(context).hasFailed().getFailure()
+        .hasStackTraceContaining("Failed to create SSL context for Keycloak client"));
+  }
+
+  @Test
+  void keycloakHttpClient_positive_poolDisabled() {
+    contextRunner
+      .withPropertyValues("application.keycloak.http-client.pool-enabled=false")
+      .withBean(KeycloakProperties.class, () -> keycloakProperties(tls(false, null)))
+      .run(context -> assertThat(context)
+        .doesNotHaveBean(CloseableHttpClient.class)
+        .hasSingleBean(KeycloakClient.class));
+  }
+
+  private static KeycloakHttpClientProperties httpClientProperties() {
+    var properties = new KeycloakHttpClientProperties();
+    properties.setMaxConnections(20);
+    properties.setMaxConnectionsPerRoute(10);
+    return properties;
+  }
+
+  private static KeycloakProperties keycloakProperties(TlsProperties tls) {
+    var properties = new KeycloakProperties();
+    properties.setUrl("http://keycloak:8080");
+    properties.setTls(tls);
+    return properties;
+  }
+
+  private static TlsProperties tls(boolean enabled, String trustStorePassword) {
+    var tls = new TlsProperties();
+    tls.setEnabled(enabled);
+    if (enabled) {
+      tls.setTrustStorePath("classpath:certificates/test.truststore.jks");
+      tls.setTrustStorePassword(trustStorePassword);
+      tls.setTrustStoreType("JKS");
+    }
+    return tls;
+  }
+}
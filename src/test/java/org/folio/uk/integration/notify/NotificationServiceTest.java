@@ -0,0 +1,158 @@
+package org.folio.uk.integration.notify;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.UUID;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.configuration.RetryConfiguration;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.integration.notify.model.Notification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+  private static final int RETRY_ATTEMPTS = 3;
+  private static final User USER = new User().id(UUID.randomUUID()).username("test");
+  private static final String EVENT_CONFIG_NAME = "RESET_PASSWORD_EVENT";
+
+  private NotificationService notificationService;
+  @Mock private NotificationClient client;
+  @Mock private TaskExecutor notificationTaskExecutor;
+  @Captor private ArgumentCaptor<Runnable> taskCaptor;
+  @Captor private ArgumentCaptor<Notification> notificationCaptor;
+
+  @BeforeEach
+  void setUp() {
+    notificationService = notificationService(new SyncTaskExecutor());
+  }
+
+  @Test
+  void sendResetLinkNotification_positive_notificationIsQueued() {
+    notificationService = notificationService(notificationTaskExecutor);
+
+    sendResetLinkNotification();
+
+    verify(notificationTaskExecutor).execute(taskCaptor.capture());
+    verifyNoInteractions(client);
+
+    taskCaptor.getValue().run();
+    verify(client).sendNotification(notificationCaptor.capture());
+    var notification = notificationCaptor.getValue();
+    assertThat(notification.getEventConfigName()).isEqualTo(EVENT_CONFIG_NAME);
+    assertThat(notification.getRecipientId()).isEqualTo(USER.getId());
+    assertThat(notification.getContext().getAdditionalProperties()).containsEntry("link", "http://link");
+  }
+
+  @Test
+  void sendResetLinkNotification_positive_sentSynchronouslyWhenQueueIsFull() {
+    notificationService = notificationService(notificationTaskExecutor);
+    doThrow(new TaskRejectedException("Queue is full")).when(notificationTaskExecutor).execute(any());
+
+    sendResetLinkNotification();
+
+    verify(client).sendNotification(any(Notification.class));
+  }
+
+  @Test
+  void sendResetLinkNotification_positive_retriedWhenNotReceived() {
+    doThrow(serviceUnavailable())
+      .doThrow(new ResourceAccessException("I/O error", new ConnectException("Connection refused")))
+      .doNothing().when(client).sendNotification(any(Notification.class));
+
+    sendResetLinkNotification();
+
+    verify(client, times(RETRY_ATTEMPTS)).sendNotification(any(Notification.class));
+  }
+
+  @Test
+  void sendResetLinkNotification_negative_readTimeoutIsNotRetried() {
+    doThrow(new ResourceAccessException("I/O error", new SocketTimeoutException("Read timed out")))
+      .when(client).sendNotification(any(Notification.class));
+
+    sendResetLinkNotification();
+
+    verify(client).sendNotification(any(Notification.class));
+  }
+
+  @Test
+  void sendResetLinkNotification_negative_serverErrorIsNotRetried() {
+    doThrow(HttpServerErrorException.create(INTERNAL_SERVER_ERROR, "Internal Server Error", HttpHeaders.EMPTY, null,
+      UTF_8)).when(client).sendNotification(any(Notification.class));
+
+    sendResetLinkNotification();
+
+    verify(client).sendNotification(any(Notification.class));
+  }
+
+  @Test
+  void sendResetLinkNotification_negative_failureIsSwallowedAfterRetries() {
+    doThrow(serviceUnavailable()).when(client).sendNotification(any(Notification.class));
+
+    sendResetLinkNotification();
+
+    verify(client, times(RETRY_ATTEMPTS)).sendNotification(any(Notification.class));
+  }
+
+  @Test
+  void sendResetLinkNotification_negative_clientErrorIsNotRetried() {
+    doThrow(HttpClientErrorException.create(BAD_REQUEST, "Bad Request", HttpHeaders.EMPTY, null, UTF_8))
+      .when(client).sendNotification(any(Notification.class));
+
+    sendResetLinkNotification();
+
+    verify(client).sendNotification(any(Notification.class));
+  }
+
+  @Test
+  void sendLocateUserNotification_positive_sentSynchronously() {
+    doNothing().when(client).sendNotification(notificationCaptor.capture());
+
+    notificationService.sendLocateUserNotification(USER);
+
+    assertThat(notificationCaptor.getValue().getEventConfigName()).isEqualTo("USERNAME_LOCATED_EVENT");
+  }
+
+  private void sendResetLinkNotification() {
+    notificationService.sendResetLinkNotification(USER, "http://link", EVENT_CONFIG_NAME, "24", "hours");
+  }
+
+  private NotificationService notificationService(TaskExecutor executor) {
+    var properties = new NotificationProperties();
+    properties.setRetryAttempts(RETRY_ATTEMPTS);
+    properties.setRetryDelay(Duration.ofMillis(1));
+    var retryTemplate = new RetryConfiguration().notificationRetryTemplate(properties);
+    return new NotificationService(client, executor, retryTemplate);
+  }
+
+  private static HttpServerErrorException serviceUnavailable() {
+    return HttpServerErrorException.create(SERVICE_UNAVAILABLE, "Service Unavailable", HttpHeaders.EMPTY, null, UTF_8);
+  }
+}
@@ -1,10 +1,12 @@
 package org.folio.uk.it;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.folio.test.TestUtils.asJsonString;
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -13,6 +15,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.util.UUID;
 import lombok.SneakyThrows;
 import org.apache.commons.lang3.StringUtils;
@@ -20,6 +24,7 @@ import org.folio.spring.integration.XOkapiHeaders;
 import org.folio.test.extensions.WireMockStub;
 import org.folio.test.types.IntegrationTest;
 import org.folio.uk.base.BaseIntegrationTest;
+import org.folio.uk.configuration.metrics.HttpClientMetricsInterceptor;
 import org.folio.uk.domain.dto.GenerateLinkRequest;
 import org.folio.uk.domain.dto.User;
 import org.folio.uk.integration.keycloak.KeycloakClient;
@@ -32,6 +37,7 @@ import org.folio.uk.integration.notify.model.Notification;
 import org.folio.uk.support.TestConstants;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
@@ -51,6 +57,7 @@ class GeneratePasswordResetLinkIT extends BaseIntegrationTest {
   public static final User TEST_USER = new User().id(TEST_USER_ID).username("diku_admin").active(true);
   private static final GenerateLinkRequest GENERATE_LINK_REQUEST = new GenerateLinkRequest().userId(TEST_USER_ID);
   private static final String TEST_TENANT = "diku";
+  private static final long NOTIFICATION_TIMEOUT_MS = 5000;
   private static final String EXPIRATION_TIME_MINUTES = "15";
   private static final String EXPIRATION_TIME_HOURS = "24";
   private static final String EXPIRATION_TIME_DAYS = "2";
@@ -67,6 +74,7 @@ class GeneratePasswordResetLinkIT extends BaseIntegrationTest {
   @MockitoBean private KeycloakClient keycloakClient;
   @MockitoBean private RealmConfigurationProvider realmConfigurationProvider;
   @MockitoSpyBean private NotificationClient notificationClient;
+  @Autowired private MeterRegistry meterRegistry;
 
   @BeforeEach
   void setup() {
@@ -101,7 +109,7 @@ class GeneratePasswordResetLinkIT extends BaseIntegrationTest {
       .withLang(NOTIFICATION_LANG)
       .withText(StringUtils.EMPTY);
 
-    verify(notificationClient).sendNotification(eq(expectedNotification));
+    verify(notificationClient, timeout(NOTIFICATION_TIMEOUT_MS)).sendNotification(eq(expectedNotification));
   }
 
   @Test
@@ -117,7 +125,7 @@ class GeneratePasswordResetLinkIT extends BaseIntegrationTest {
       .andExpectAll(status().isOk(),
         jsonPath("$.link", is(expectedLink)));
 
-    verify(notificationClient).sendNotification(any());
+    verify(notificationClient, timeout(NOTIFICATION_TIMEOUT_MS)).sendNotification(any());
   }
 
   @Test
@@ -135,7 +143,7 @@ class GeneratePasswordResetLinkIT extends BaseIntegrationTest {
       .andExpectAll(status().isOk(),
         jsonPath("$.link", is(expectedLink)));
 
-    verify(notificationClient).sendNotification(any());
+    verify(notificationClient, timeout(NOTIFICATION_TIMEOUT_MS)).sendNotification(any());
   }
 
   @Test
@@ -212,7 +220,22 @@ class GeneratePasswordResetLinkIT extends BaseIntegrationTest {
       .andExpectAll(status().isOk(),
         jsonPath("$.link", is(expectedLink)));
 
-    verify(notificationClient).sendNotification(any());
+    verify(notificationClient, timeout(NOTIFICATION_TIMEOUT_MS)).sendNotification(any());
+  }
+
+  @Test
+  @WireMockStub(scripts = "/wiremock/stubs/config/get-configs-empty-response.json")
+  @WireMockStub(scripts = "/wiremock/stubs/settings/get-base-url.json")
+  @WireMockStub(scripts = "/wiremock/stubs/users/get-diku-user.json")
+  @WireMockStub(scripts = "/wiremock/stubs/login/reset-existing-password.json")
+  @WireMockStub(scripts = "/wiremock/stubs/notify/create-password-reset-notification.json")
+  void generatePasswordResetLink_positive_httpClientMetricsAreTaggedWithUriTemplate() throws Exception {
+    callGeneratePasswordResetLink().andExpect(status().isOk());
+
+    assertThat(getRequestsTimer("users", "/users/{id}").count()).isPositive();
+    assertThat(getRequestsTimer("configurations", "/configurations/entries").count()).isPositive();
+    assertThat(getRequestsTimer("authn", "/authn/password-reset-action").count()).isPositive();
+    verify(notificationClient, timeout(NOTIFICATION_TIMEOUT_MS)).sendNotification(any());
   }
 
   @SneakyThrows
@@ -235,7 +258,13 @@ class GeneratePasswordResetLinkIT extends BaseIntegrationTest {
       .withLang(NOTIFICATION_LANG)
       .withText(StringUtils.EMPTY);
 
-    verify(notificationClient).sendNotification(eq(expectedNotification));
+    verify(notificationClient, timeout(NOTIFICATION_TIMEOUT_MS)).sendNotification(eq(expectedNotification));
+  }
+
+  private Timer getRequestsTimer(String client, String uriTemplate) {
+    return meterRegistry.get(HttpClientMetricsInterceptor.REQUESTS_METRIC)
+      .tags("client", client, "uri", uriTemplate, "tenant", TEST_TENANT)
+      .timer();
   }
 
   private static String getExpectedPasswordResetLink() {
@@ -2,6 +2,7 @@ package org.folio.uk.it;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.folio.spring.integration.XOkapiHeaders.TENANT;
 import static org.folio.test.TestUtils.parseResponse;
 import static org.folio.uk.support.TestConstants.TENANT_NAME;
 import static org.folio.uk.support.TestValues.readValue;
@@ -15,19 +16,30 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
+import org.folio.spring.FolioModuleMetadata;
+import org.folio.spring.scope.FolioExecutionContextSetter;
 import org.folio.test.extensions.WireMockStub;
 import org.folio.test.types.IntegrationTest;
 import org.folio.uk.base.BaseIntegrationTest;
+import org.folio.uk.domain.UserMigrationJobRepository;
 import org.folio.uk.domain.dto.UserMigrationJob;
 import org.folio.uk.domain.dto.UserMigrationJobStatus;
 import org.folio.uk.domain.dto.Users;
+import org.folio.uk.domain.entity.EntityUserMigrationJobStatus;
+import org.folio.uk.domain.entity.UserMigrationJobEntity;
 import org.folio.uk.integration.keycloak.KeycloakService;
 import org.folio.uk.migration.properties.UserMigrationProperties;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.context.jdbc.Sql;
 
@@ -38,6 +50,8 @@ class UserMigrationIT extends BaseIntegrationTest {
 
   @MockitoSpyBean private KeycloakService keycloakService;
   @MockitoSpyBean private UserMigrationProperties userMigrationProperties;
+  @Autowired private UserMigrationJobRepository userMigrationJobRepository;
+  @Autowired private FolioModuleMetadata moduleMetadata;
 
   @BeforeAll
   static void beforeAll() {
@@ -70,6 +84,10 @@ class UserMigrationIT extends BaseIntegrationTest {
       .until(() -> getJobStatusById(resp.getId()), equalTo(UserMigrationJobStatus.FINISHED));
     assertThat(status).isEqualTo(UserMigrationJobStatus.FINISHED);
 
+    var finishedJob = getJobById(resp.getId());
+    assertThat(finishedJob.getProcessedRecords()).isEqualTo(21);
+    assertThat(finishedJob.getFailedRecords()).isEqualTo(19);
+
     var passwordCaptor = ArgumentCaptor.forClass(String.class);
     verify(keycloakService, times(2)).createUserForMigration(any(), passwordCaptor.capture(), any());
     assertThat(passwordCaptor.getValue()).isNull();
@@ -227,8 +245,85 @@ class UserMigrationIT extends BaseIntegrationTest {
       .andExpect(jsonPath("$.totalRecords", is(1)));
   }
 
+  @Test
+  @Sql("classpath:/sql/truncate-migration.sql")
+  void claimStaleJob_negative_newJobWithoutCheckpoint() {
+    var job = saveInProgressJob(Instant.now(), null);
+
+    assertThat(claimStaleJob(job.getId())).isZero();
+  }
+
+  @Test
+  @Sql("classpath:/sql/truncate-migration.sql")
+  void claimStaleJob_negative_recentCheckpoint() {
+    var job = saveInProgressJob(Instant.now().minus(Duration.ofHours(1)), Instant.now());
+
+    assertThat(claimStaleJob(job.getId())).isZero();
+  }
+
+  @Test
+  @Sql("classpath:/sql/truncate-migration.sql")
+  void claimStaleJob_positive_staleJobWithoutCheckpoint() {
+    var job = saveInProgressJob(Instant.now().minus(Duration.ofHours(1)), null);
+
+    assertThat(claimStaleJob(job.getId())).isEqualTo(1);
+    assertThat(claimStaleJob(job.getId())).isZero();
+  }
+
+  @Test
+  @Sql("classpath:/sql/truncate-migration.sql")
+  void claimStaleJob_positive_staleCheckpoint() {
+    var job = saveInProgressJob(Instant.now().minus(Duration.ofHours(1)), Instant.now().minus(Duration.ofMinutes(30)));
+
+    assertThat(claimStaleJob(job.getId())).isEqualTo(1);
+  }
+
+  @Test
+  @Sql("classpath:/sql/truncate-migration.sql")
+  void claimStaleJob_positive_previousLeaseIsRevoked() {
+    var job = saveInProgressJob(Instant.now().minus(Duration.ofHours(1)), Instant.now().minus(Duration.ofMinutes(30)));
+    var newLeaseToken = UUID.randomUUID();
+    var staleBefore = Instant.now().minus(Duration.ofMinutes(5));
+
+    assertThat(inTenantContext(() ->
+      userMigrationJobRepository.claimStaleJob(job.getId(), staleBefore, Instant.now(), newLeaseToken))).isEqualTo(1);
+    assertThat(renewLease(job.getId(), job.getLeaseToken())).isZero();
+    assertThat(renewLease(job.getId(), newLeaseToken)).isEqualTo(1);
+  }
+
+  private UserMigrationJobEntity saveInProgressJob(Instant startedAt, Instant updatedAt) {
+    var job = new UserMigrationJobEntity();
+    job.setId(UUID.randomUUID());
+    job.setStatus(EntityUserMigrationJobStatus.IN_PROGRESS);
+    job.setTotalRecords(1);
+    job.setStartedAt(startedAt);
+    job.setUpdatedAt(updatedAt);
+    job.setLeaseToken(UUID.randomUUID());
+    return inTenantContext(() -> userMigrationJobRepository.save(job));
+  }
+
+  private int claimStaleJob(UUID jobId) {
+    var staleBefore = Instant.now().minus(Duration.ofMinutes(5));
+    return inTenantContext(() ->
+      userMigrationJobRepository.claimStaleJob(jobId, staleBefore, Instant.now(), UUID.randomUUID()));
+  }
+
+  private int renewLease(UUID jobId, UUID leaseToken) {
+    return inTenantContext(() -> userMigrationJobRepository.renewLease(jobId, leaseToken, Instant.now()));
+  }
+
+  private <T> T inTenantContext(Supplier<T> action) {
+    Map<String, Collection<String>> headers = Map.of(TENANT, List.of(TENANT_NAME));
+    try (var ignored = new FolioExecutionContextSetter(moduleMetadata, headers)) {
+      return action.get();
+    }
+  }
+
   private UserMigrationJobStatus getJobStatusById(UUID id) throws Exception {
-    return parseResponse(doGet("/users-keycloak/migrations/" + id).andReturn(), UserMigrationJob.class)
-      .getStatus();
+    return getJobById(id).getStatus();
+  }
+
+  private UserMigrationJob getJobById(UUID id) throws Exception {
+    return parseResponse(doGet("/users-keycloak/migrations/" + id).andReturn(), UserMigrationJob.class);
   }
 }
@@ -0,0 +1,90 @@
+package org.folio.uk.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class JobHeartbeatTest {
+
+  private static final UUID JOB_ID = UUID.randomUUID();
+  private static final Duration INTERVAL = Duration.ofSeconds(30);
+
+  @InjectMocks private JobHeartbeat jobHeartbeat;
+  @Mock private TaskScheduler taskScheduler;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private ScheduledFuture<?> heartbeat;
+  @Captor private ArgumentCaptor<Runnable> heartbeatCaptor;
+
+  @BeforeEach
+  void setUp() {
+    when(folioExecutionContext.getInstance()).thenReturn(folioExecutionContext);
+    doReturn(heartbeat).when(taskScheduler).scheduleAtFixedRate(heartbeatCaptor.capture(), any(), eq(INTERVAL));
+  }
+
+  @Test
+  void start_positive_leaseIsRenewed() {
+    var renewals = new AtomicInteger();
+    var lease = jobHeartbeat.start(JOB_ID, INTERVAL, () -> renewals.incrementAndGet() > 0);
+
+    heartbeatCaptor.getValue().run();
+    heartbeatCaptor.getValue().run();
+
+    assertThat(renewals).hasValue(2);
+    assertThat(lease.isLost()).isFalse();
+  }
+
+  @Test
+  void start_negative_leaseIsLost() {
+    var renewals = new AtomicInteger();
+    var lease = jobHeartbeat.start(JOB_ID, INTERVAL, () -> renewals.incrementAndGet() < 0);
+
+    heartbeatCaptor.getValue().run();
+
+    assertThat(lease.isLost()).isTrue();
+    assertThat(lease.renew()).isFalse();
+    assertThat(renewals).hasValue(1);
+  }
+
+  @Test
+  void start_positive_renewalFailureIsIgnored() {
+    BooleanSupplier renewal = () -> {
+      throw new IllegalStateException("Database is not available");
+    };
+    var lease = jobHeartbeat.start(JOB_ID, INTERVAL, renewal);
+
+    heartbeatCaptor.getValue().run();
+
+    assertThat(lease.isLost()).isFalse();
+  }
+
+  @Test
+  void close_positive_heartbeatIsCancelled() {
+    var lease = jobHeartbeat.start(JOB_ID, INTERVAL, () -> true);
+
+    lease.close();
+
+    verify(heartbeat).cancel(false);
+  }
+}
@@ -0,0 +1,87 @@
+package org.folio.uk.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.migration.properties.MigrationExecutorProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class MigrationExecutorTest {
+
+  private static final int MAX_CONCURRENT_BATCHES = 2;
+
+  private final SimpleAsyncTaskExecutor virtualTaskExecutor = new SimpleAsyncTaskExecutor();
+  private MigrationExecutor migrationExecutor;
+  @Mock private FolioExecutionContext folioExecutionContext;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new MigrationExecutorProperties();
+    properties.setMaxConcurrentBatchesPerTenant(MAX_CONCURRENT_BATCHES);
+    virtualTaskExecutor.setVirtualThreads(true);
+    migrationExecutor = new MigrationExecutor(folioExecutionContext, properties, virtualTaskExecutor);
+    when(folioExecutionContext.getTenantId()).thenReturn("test");
+  }
+
+  @AfterEach
+  void tearDown() {
+    virtualTaskExecutor.close();
+  }
+
+  @Test
+  void runAll_positive_concurrencyIsLimited() {
+    var running = new AtomicInteger();
+    var maxRunning = new AtomicInteger();
+    var processed = new CopyOnWriteArrayList<Integer>();
+
+    migrationExecutor.runAll(IntStream.range(0, 10).boxed().toList(), batch -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      sleep();
+      processed.add(batch);
+      running.decrementAndGet();
+    });
+
+    assertThat(processed).hasSize(10);
+    assertThat(maxRunning.get()).isLessThanOrEqualTo(MAX_CONCURRENT_BATCHES);
+  }
+
+  @Test
+  void runAll_negative_remainingBatchesAreProcessedAfterFailure() {
+    var processed = new CopyOnWriteArrayList<Integer>();
+    var batches = List.of(1, 2, 3, 4, 5, 6);
+
+    assertThatThrownBy(() -> migrationExecutor.runAll(batches, batch -> {
+      if (batch == 1) {
+        throw new IllegalStateException("Batch failed");
+      }
+      sleep();
+      processed.add(batch);
+    })).isInstanceOf(CompletionException.class).hasRootCauseMessage("Batch failed");
+
+    assertThat(processed).containsExactlyInAnyOrder(2, 3, 4, 5, 6);
+  }
+
+  private static void sleep() {
+    try {
+      Thread.sleep(50);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
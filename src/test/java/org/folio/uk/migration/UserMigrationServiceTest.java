@@ -0,0 +1,212 @@
+package org.folio.uk.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.domain.UserMigrationJobItemRepository;
+import org.folio.uk.domain.UserMigrationJobRepository;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.domain.dto.UserMigrationJob;
+import org.folio.uk.domain.dto.UserTenantCollection;
+import org.folio.uk.domain.dto.Users;
+import org.folio.uk.domain.entity.EntityUserMigrationJobStatus;
+import org.folio.uk.domain.entity.UserMigrationJobEntity;
+import org.folio.uk.domain.model.UserMigrationJobItem;
+import org.folio.uk.integration.keycloak.KeycloakService;
+import org.folio.uk.integration.keycloak.KeycloakUnavailableException;
+import org.folio.uk.integration.permission.PermissionService;
+import org.folio.uk.integration.users.UserTenantsClient;
+import org.folio.uk.integration.users.UsersClient;
+import org.folio.uk.mapper.UserMigrationMapper;
+import org.folio.uk.migration.properties.UserMigrationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class UserMigrationServiceTest {
+
+  private static final Duration STALE_JOB_TIMEOUT = Duration.ofMinutes(2);
+
+  private UserMigrationService service;
+  private UserMigrationProperties properties;
+  private final UserMigrationJobEntity job = new UserMigrationJobEntity();
+
+  @Mock private PermissionService permissionService;
+  @Mock private UserMigrationJobRepository repository;
+  @Mock private UserMigrationJobItemRepository itemRepository;
+  @Mock private KeycloakService keycloakService;
+  @Mock private UsersClient usersClient;
+  @Mock private UserMigrationMapper mapper;
+  @Mock private FolioExecutionContext folioContext;
+  @Mock private UserTenantsClient userTenantsClient;
+  @Mock private MigrationExecutor migrationExecutor;
+  @Mock private JobHeartbeat jobHeartbeat;
+
+  @BeforeEach
+  void setUp() {
+    properties = new UserMigrationProperties();
+    properties.setBatchSize(10);
+    properties.setStaleJobTimeout(STALE_JOB_TIMEOUT);
+    service = new UserMigrationService(permissionService, properties, repository, itemRepository, keycloakService,
+      usersClient, mapper, folioContext, userTenantsClient, migrationExecutor, jobHeartbeat);
+
+    job.setId(UUID.randomUUID());
+    job.setStatus(EntityUserMigrationJobStatus.IN_PROGRESS);
+    job.setStartedAt(Instant.now().minus(Duration.ofHours(1)));
+  }
+
+  @Test
+  void createMigration_positive_checkpointIsSetAfterPendingUsersAreSaved() {
+    var savedJob = ArgumentCaptor.forClass(UserMigrationJobEntity.class);
+    when(permissionService.findUsersIdsWithPermissions(anyInt(), any())).thenReturn(1);
+    when(itemRepository.count(any())).thenReturn(1);
+    when(mapper.toDto(any(UserMigrationJobEntity.class))).thenReturn(new UserMigrationJob());
+    when(folioContext.getInstance()).thenReturn(folioContext);
+    when(jobHeartbeat.start(any(), eq(STALE_JOB_TIMEOUT.dividedBy(4)), any())).thenReturn(lease(true));
+    when(migrationExecutor.runAsync(any())).thenReturn(new CompletableFuture<>());
+
+    service.createMigration();
+
+    verify(repository, times(2)).save(savedJob.capture());
+    var migration = savedJob.getValue();
+    assertThat(migration.getStartedAt()).isNotNull();
+    assertThat(migration.getUpdatedAt()).isAfterOrEqualTo(migration.getStartedAt());
+    assertThat(migration.getTotalRecords()).isEqualTo(1);
+    assertThat(migration.getLeaseToken()).isNotNull();
+  }
+
+  @Test
+  void resumeStaleMigrations_positive_staleJobIsResumed() {
+    var staleBefore = ArgumentCaptor.forClass(Instant.class);
+    when(repository.findAllByStatus(EntityUserMigrationJobStatus.IN_PROGRESS)).thenReturn(List.of(job));
+    var leaseToken = ArgumentCaptor.forClass(UUID.class);
+    when(repository.claimStaleJob(eq(job.getId()), staleBefore.capture(), any(), leaseToken.capture())).thenReturn(1);
+    when(itemRepository.count(job.getId())).thenReturn(5);
+    when(itemRepository.findPendingUserIds(job.getId(), null, 500)).thenReturn(List.of());
+    when(folioContext.getInstance()).thenReturn(folioContext);
+    when(jobHeartbeat.start(eq(job.getId()), any(), any())).thenReturn(lease(true));
+    when(migrationExecutor.runAsync(any())).thenAnswer(inv -> {
+      inv.<Runnable>getArgument(0).run();
+      return CompletableFuture.completedFuture(null);
+    });
+    when(repository.completeJob(any(), any(), any(), any())).thenReturn(1);
+
+    var startedAt = Instant.now();
+    service.resumeStaleMigrations();
+
+    assertThat(staleBefore.getValue()).isBetween(startedAt.minus(STALE_JOB_TIMEOUT), Instant.now());
+    verify(repository).completeJob(eq(job.getId()), eq(leaseToken.getValue()),
+      eq(EntityUserMigrationJobStatus.FINISHED), any());
+  }
+
+  @Test
+  void resumeStaleMigrations_negative_lostLeaseStopsProcessing() {
+    var user = new User().id(UUID.randomUUID()).username("user1");
+    mockStaleJobWithPendingUsers(lease(false), user);
+
+    service.resumeStaleMigrations();
+
+    verify(itemRepository).updateStatuses(job.getId(), List.of(UserMigrationJobItem.migrated(user.getId())));
+    verify(itemRepository, never()).findPendingUserIds(job.getId(), user.getId(), 500);
+    verify(repository, never()).completeJob(any(), any(), any(), any());
+  }
+
+  @Test
+  void resumeStaleMigrations_positive_jobClaimedByAnotherInstanceIsSkipped() {
+    when(repository.findAllByStatus(EntityUserMigrationJobStatus.IN_PROGRESS)).thenReturn(List.of(job));
+    when(repository.claimStaleJob(eq(job.getId()), any(), any(), any())).thenReturn(0);
+
+    service.resumeStaleMigrations();
+
+    verifyNoInteractions(itemRepository, migrationExecutor);
+    assertThat(job.getStatus()).isEqualTo(EntityUserMigrationJobStatus.IN_PROGRESS);
+  }
+
+  @Test
+  void resumeStaleMigrations_negative_jobWithoutCheckpointDataIsFailed() {
+    when(repository.findAllByStatus(EntityUserMigrationJobStatus.IN_PROGRESS)).thenReturn(List.of(job));
+    when(repository.claimStaleJob(eq(job.getId()), any(), any(), any())).thenReturn(1);
+    when(itemRepository.count(job.getId())).thenReturn(0);
+
+    service.resumeStaleMigrations();
+
+    verify(migrationExecutor, never()).runAsync(any());
+    verify(repository).completeJob(eq(job.getId()), any(), eq(EntityUserMigrationJobStatus.FAILED), any());
+  }
+
+  @Test
+  void resumeStaleMigrations_negative_keycloakUnavailableLeavesUsersPending() {
+    var user1 = new User().id(UUID.randomUUID()).username("user1");
+    var user2 = new User().id(UUID.randomUUID()).username("user2");
+    mockStaleJobWithPendingUsers(lease(true), user1, user2);
+    doThrow(new KeycloakUnavailableException("Circuit breaker is open", Duration.ofSeconds(30)))
+      .when(keycloakService).createUserForMigration(eq(user2), any(), any());
+
+    service.resumeStaleMigrations();
+
+    verify(keycloakService).createUserForMigration(eq(user1), any(), any());
+    verify(itemRepository).updateStatuses(job.getId(), List.of(UserMigrationJobItem.migrated(user1.getId())));
+    verify(repository, never()).completeJob(any(), any(), any(), any());
+  }
+
+  @Test
+  void resumeStaleMigrations_negative_keycloakUnavailableDuringImportIsNotRetriedUserByUser() {
+    var user = new User().id(UUID.randomUUID()).username("user1");
+    properties.getBulkImport().setEnabled(true);
+    mockStaleJobWithPendingUsers(lease(true), user);
+    when(keycloakService.importUsersForMigration(any(), any()))
+      .thenThrow(new KeycloakUnavailableException("Bulkhead is full", Duration.ofSeconds(1)));
+
+    service.resumeStaleMigrations();
+
+    verify(keycloakService, never()).createUserForMigration(any(), any(), any());
+    verify(itemRepository).updateStatuses(job.getId(), List.of());
+    verify(repository, never()).completeJob(any(), any(), any(), any());
+  }
+
+  private void mockStaleJobWithPendingUsers(JobHeartbeat.Lease lease, User... users) {
+    var userIds = Stream.of(users).map(User::getId).toList();
+    when(repository.findAllByStatus(EntityUserMigrationJobStatus.IN_PROGRESS)).thenReturn(List.of(job));
+    when(repository.claimStaleJob(eq(job.getId()), any(), any(), any())).thenReturn(1);
+    when(jobHeartbeat.start(eq(job.getId()), any(), any())).thenReturn(lease);
+    when(itemRepository.count(job.getId())).thenReturn(users.length);
+    when(itemRepository.findPendingUserIds(job.getId(), null, 500)).thenReturn(userIds);
+    when(usersClient.query(anyString(), eq(users.length))).thenReturn(new Users().users(List.of(users)));
+    when(userTenantsClient.lookupByUserId(any())).thenReturn(new UserTenantCollection());
+    when(folioContext.getInstance()).thenReturn(folioContext);
+    when(migrationExecutor.runAsync(any()))
+      .thenAnswer(inv -> CompletableFuture.runAsync(inv.getArgument(0), Runnable::run));
+    doAnswer(inv -> {
+      inv.<Iterable<List<UUID>>>getArgument(0).forEach(inv.<Consumer<List<UUID>>>getArgument(1));
+      return null;
+    }).when(migrationExecutor).runAll(any(), any());
+  }
+
+  private JobHeartbeat.Lease lease(boolean renewed) {
+    return new JobHeartbeat.Lease(job.getId(), () -> renewed);
+  }
+}
@@ -0,0 +1,77 @@
+package org.folio.uk.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.folio.uk.migration.UserReconciliationDiff.BARCODE;
+import static org.folio.uk.migration.UserReconciliationDiff.EMAIL;
+import static org.folio.uk.migration.UserReconciliationDiff.ENABLED;
+import static org.folio.uk.migration.UserReconciliationDiff.LAST_NAME;
+
+import java.util.HashMap;
+import java.util.UUID;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.domain.dto.Personal;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.integration.keycloak.model.KeycloakUser;
+import org.folio.uk.migration.UserReconciliationDiff.KeycloakUserState;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class UserReconciliationDiffTest {
+
+  private static final UUID USER_ID = UUID.randomUUID();
+
+  @Test
+  void findChangedFields_positive_upToDate() {
+    var kcUser = new KeycloakUserState(USER_ID, "jdoe", "john.doe@example.org", "John", "Doe", true, "12345");
+
+    var result = UserReconciliationDiff.findChangedFields(user(), kcUser);
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void findChangedFields_positive_changedFields() {
+    var kcUser = new KeycloakUserState(USER_ID, "JDOE", "old@example.org", "John", "Smith", false, null);
+
+    var result = UserReconciliationDiff.findChangedFields(user(), kcUser);
+
+    assertThat(result).containsExactly(EMAIL, LAST_NAME, ENABLED, BARCODE);
+  }
+
+  @Test
+  void findChangedFields_positive_nullValuesAreNotCompared() {
+    var user = new User().id(USER_ID).username("jdoe");
+    var kcUser = new KeycloakUserState(USER_ID, "jdoe", "john.doe@example.org", "John", "Doe", false, null);
+
+    var result = UserReconciliationDiff.findChangedFields(user, kcUser);
+
+    assertThat(result).isEmpty();
+  }
+
+  @Test
+  void toKeycloakUserState_positive() {
+    var kcUser = KeycloakUser.builder().id("kc-id").userName("jdoe").email("john.doe@example.org").firstName("John")
+      .lastName("Doe").enabled(true).attributes(new HashMap<>()).build();
+    kcUser.setUserIdAttr(USER_ID);
+    kcUser.setUserBarcodeAttr("12345");
+
+    var result = UserReconciliationDiff.toKeycloakUserState(kcUser);
+
+    assertThat(result).contains(
+      new KeycloakUserState(USER_ID, "jdoe", "john.doe@example.org", "John", "Doe", true, "12345"));
+  }
+
+  @Test
+  void toKeycloakUserState_positive_userIdAttributeIsMissing() {
+    var kcUser = KeycloakUser.builder().id("kc-id").userName("service-account-test").build();
+
+    var result = UserReconciliationDiff.toKeycloakUserState(kcUser);
+
+    assertThat(result).isEmpty();
+  }
+
+  private static User user() {
+    return new User().id(USER_ID).username("jdoe").active(true).barcode("12345")
+      .personal(new Personal().firstName("John").lastName("Doe").email("John.Doe@example.org"));
+  }
+}
@@ -0,0 +1,236 @@
+package org.folio.uk.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.domain.UserReconciliationJobItemRepository;
+import org.folio.uk.domain.UserReconciliationJobRepository;
+import org.folio.uk.domain.dto.Personal;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.domain.dto.UserReconciliationJob;
+import org.folio.uk.domain.dto.Users;
+import org.folio.uk.domain.entity.EntityUserReconciliationAction;
+import org.folio.uk.domain.entity.EntityUserReconciliationJobItemStatus;
+import org.folio.uk.domain.entity.EntityUserReconciliationJobStatus;
+import org.folio.uk.domain.entity.UserReconciliationJobEntity;
+import org.folio.uk.domain.model.UserReconciliationJobItem;
+import org.folio.uk.integration.keycloak.KeycloakService;
+import org.folio.uk.integration.keycloak.model.KeycloakUser;
+import org.folio.uk.integration.permission.PermissionService;
+import org.folio.uk.integration.users.UsersClient;
+import org.folio.uk.mapper.UserReconciliationMapper;
+import org.folio.uk.migration.properties.UserReconciliationProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class UserReconciliationServiceTest {
+
+  private static final UUID CREATED_USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private static final UUID UPDATED_USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+  private static final UUID DELETED_USER_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+  private static final Duration STALE_JOB_TIMEOUT = Duration.ofMinutes(2);
+
+  private UserReconciliationService service;
+  private final List<UserReconciliationJobItem> storedItems = new ArrayList<>();
+  private final UserReconciliationJobEntity job = new UserReconciliationJobEntity();
+
+  @Mock private UserReconciliationJobRepository repository;
+  @Mock private UserReconciliationJobItemRepository itemRepository;
+  @Mock private KeycloakService keycloakService;
+  @Mock private PermissionService permissionService;
+  @Mock private UsersClient usersClient;
+  @Mock private UserReconciliationMapper mapper;
+  @Mock private FolioExecutionContext folioContext;
+  @Mock private MigrationExecutor migrationExecutor;
+  @Mock private JobHeartbeat jobHeartbeat;
+  @Captor private ArgumentCaptor<Collection<UserReconciliationJobItem>> itemsCaptor;
+
+  @BeforeEach
+  void setUp() {
+    var properties = new UserReconciliationProperties();
+    properties.setPageSize(10);
+    properties.setStaleJobTimeout(STALE_JOB_TIMEOUT);
+    service = new UserReconciliationService(properties, repository, itemRepository, keycloakService,
+      permissionService, usersClient, mapper, folioContext, migrationExecutor, jobHeartbeat);
+
+    when(folioContext.getInstance()).thenReturn(folioContext);
+    lenient().when(mapper.toDto(any(UserReconciliationJobEntity.class))).thenReturn(new UserReconciliationJob());
+    when(jobHeartbeat.start(any(), eq(STALE_JOB_TIMEOUT.dividedBy(4)), any())).thenAnswer(
+      inv -> new JobHeartbeat.Lease(inv.getArgument(0), inv.getArgument(2)));
+    when(repository.renewLease(any(), any(), any())).thenReturn(1);
+    lenient().when(repository.completeDiff(any(), any(), any())).thenReturn(1);
+    lenient().when(repository.completeJob(any(), any(), any(), any())).thenAnswer(inv -> {
+      job.setStatus(inv.getArgument(2));
+      return 1;
+    });
+    when(migrationExecutor.runAsync(any())).thenAnswer(inv -> {
+      inv.<Runnable>getArgument(0).run();
+      return CompletableFuture.completedFuture(null);
+    });
+    doAnswer(inv -> {
+      inv.<Iterable<Object>>getArgument(0).forEach(inv.<Consumer<Object>>getArgument(1));
+      return null;
+    }).when(migrationExecutor).runAll(any(), any());
+    lenient().when(repository.save(any(UserReconciliationJobEntity.class))).thenAnswer(inv -> {
+      var entity = inv.<UserReconciliationJobEntity>getArgument(0);
+      job.setId(entity.getId());
+      job.setDryRun(entity.isDryRun());
+      job.setStatus(entity.getStatus());
+      job.setLeaseToken(entity.getLeaseToken());
+      return entity;
+    });
+    when(repository.findById(any())).thenAnswer(inv -> Optional.of(job));
+    lenient().doAnswer(inv -> storedItems.addAll(inv.getArgument(1))).when(itemRepository).savePending(any(), any());
+    when(permissionService.findUsersIdsWithPermissions(anyInt(), any())).thenAnswer(inv -> {
+      inv.<Consumer<List<String>>>getArgument(1).accept(List.of(CREATED_USER_ID.toString()));
+      return 1;
+    });
+
+    when(keycloakService.findUsers(0, 10)).thenReturn(List.of(
+      keycloakUser(UPDATED_USER_ID, "updated", "Old"),
+      keycloakUser(DELETED_USER_ID, "deleted", "Deleted")));
+    when(usersClient.query(eq("type==shadow sortBy id"), anyInt(), anyInt())).thenReturn(users());
+    when(usersClient.query(anyString(), anyInt())).thenReturn(users(user(CREATED_USER_ID, "created", "Created"),
+      user(UPDATED_USER_ID, "updated", "New")));
+  }
+
+  @Test
+  void createReconciliation_positive_dryRun() {
+    service.createReconciliation(true);
+
+    assertThat(storedItems).containsExactlyInAnyOrder(
+      UserReconciliationJobItem.pending(CREATED_USER_ID, EntityUserReconciliationAction.CREATE, List.of()),
+      UserReconciliationJobItem.pending(UPDATED_USER_ID, EntityUserReconciliationAction.UPDATE, List.of("lastName")),
+      UserReconciliationJobItem.pending(DELETED_USER_ID, EntityUserReconciliationAction.DISABLE, List.of()));
+    verify(repository).completeDiff(eq(job.getId()), eq(job.getLeaseToken()), any());
+    verify(itemRepository, never()).findPending(any(), any(), anyInt());
+    verify(repository).completeJob(eq(job.getId()), eq(job.getLeaseToken()),
+      eq(EntityUserReconciliationJobStatus.FINISHED), any());
+    assertThat(job.getStatus()).isEqualTo(EntityUserReconciliationJobStatus.FINISHED);
+  }
+
+  @Test
+  void createReconciliation_positive_checkpointsAreStoredWhileCollectingDifferences() {
+    var savedJob = ArgumentCaptor.forClass(UserReconciliationJobEntity.class);
+
+    service.createReconciliation(true);
+
+    verify(repository).save(savedJob.capture());
+    var createdJob = savedJob.getValue();
+    assertThat(createdJob.getUpdatedAt()).isNotNull().isEqualTo(createdJob.getStartedAt());
+    assertThat(createdJob.getLeaseToken()).isNotNull();
+    verify(keycloakService).findUsers(0, 10);
+    verify(usersClient).query("type==shadow sortBy id", 10, 0);
+    verify(repository, times(3)).renewLease(eq(job.getId()), eq(createdJob.getLeaseToken()), any());
+  }
+
+  @Test
+  void createReconciliation_negative_lostLeaseStopsCollectingDifferences() {
+    when(repository.renewLease(any(), any(), any())).thenReturn(0);
+
+    service.createReconciliation(true);
+
+    assertThat(storedItems).isEmpty();
+    verify(repository, never()).completeDiff(any(), any(), any());
+    verify(repository, never()).completeJob(any(), any(), any(), any());
+    assertThat(job.getStatus()).isEqualTo(EntityUserReconciliationJobStatus.IN_PROGRESS);
+  }
+
+  @Test
+  void resumeStaleReconciliations_positive_jobIsResumedWithNewLease() {
+    var leaseToken = ArgumentCaptor.forClass(UUID.class);
+    job.setId(UUID.randomUUID());
+    job.setStatus(EntityUserReconciliationJobStatus.IN_PROGRESS);
+    job.setDryRun(true);
+    job.setLeaseToken(UUID.randomUUID());
+    when(repository.findAllByStatus(EntityUserReconciliationJobStatus.IN_PROGRESS)).thenReturn(List.of(job));
+    when(repository.claimStaleJob(eq(job.getId()), any(), any(), leaseToken.capture())).thenReturn(1);
+
+    service.resumeStaleReconciliations();
+
+    assertThat(leaseToken.getValue()).isNotEqualTo(job.getLeaseToken());
+    verify(itemRepository).deleteAll(job.getId());
+    verify(repository, times(3)).renewLease(eq(job.getId()), eq(leaseToken.getValue()), any());
+    verify(repository).completeDiff(eq(job.getId()), eq(leaseToken.getValue()), any());
+    verify(repository).completeJob(eq(job.getId()), eq(leaseToken.getValue()),
+      eq(EntityUserReconciliationJobStatus.FINISHED), any());
+  }
+
+  @Test
+  void createReconciliation_positive_userWithKeycloakUserOnLaterPageIsNotCreated() {
+    var kcUsers = new ArrayList<KeycloakUser>();
+    for (int i = 0; i < 9; i++) {
+      kcUsers.add(keycloakUser(UUID.randomUUID(), "user" + i, "User"));
+    }
+    kcUsers.add(keycloakUser(UPDATED_USER_ID, "updated", "Old"));
+    when(keycloakService.findUsers(0, 10)).thenReturn(kcUsers);
+    when(keycloakService.findUsers(10, 10)).thenReturn(List.of(keycloakUser(CREATED_USER_ID, "created", "Created")));
+
+    service.createReconciliation(true);
+
+    assertThat(storedItems).doesNotContain(
+      UserReconciliationJobItem.pending(CREATED_USER_ID, EntityUserReconciliationAction.CREATE, List.of()));
+    assertThat(storedItems).contains(
+      UserReconciliationJobItem.pending(UPDATED_USER_ID, EntityUserReconciliationAction.UPDATE, List.of("lastName")));
+  }
+
+  @Test
+  void createReconciliation_positive_differencesAreApplied() {
+    when(itemRepository.findPending(any(), isNull(), anyInt())).thenAnswer(inv -> List.copyOf(storedItems));
+    when(itemRepository.findPending(any(), any(UUID.class), anyInt())).thenReturn(List.of());
+    when(keycloakService.updateUserIfExists(eq(UPDATED_USER_ID), any())).thenReturn(true);
+
+    service.createReconciliation(false);
+
+    verify(keycloakService).upsertUser(any(User.class), isNull());
+    verify(keycloakService).disableUser(DELETED_USER_ID);
+    verify(itemRepository).updateStatuses(eq(job.getId()), itemsCaptor.capture());
+    assertThat(itemsCaptor.getValue())
+      .extracting(UserReconciliationJobItem::status)
+      .containsOnly(EntityUserReconciliationJobItemStatus.APPLIED);
+    assertThat(job.getStatus()).isEqualTo(EntityUserReconciliationJobStatus.FINISHED);
+  }
+
+  private static KeycloakUser keycloakUser(UUID userId, String username, String lastName) {
+    var kcUser = KeycloakUser.builder().id(UUID.randomUUID().toString()).userName(username).lastName(lastName)
+      .enabled(true).attributes(new HashMap<>()).build();
+    kcUser.setUserIdAttr(userId);
+    return kcUser;
+  }
+
+  private static User user(UUID userId, String username, String lastName) {
+    return new User().id(userId).username(username).active(true).personal(new Personal().lastName(lastName));
+  }
+
+  private static Users users(User... users) {
+    return new Users().users(List.of(users)).totalRecords(users.length);
+  }
+}
@@ -0,0 +1,98 @@
+package org.folio.uk.service;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.configuration.CacheProperties;
+import org.folio.uk.configuration.CacheProperties.CacheSpec;
+import org.folio.uk.configuration.CacheProperties.CompositeUserCacheSpec;
+import org.folio.uk.domain.dto.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class CompositeUserCacheTest {
+
+  private static final String TENANT = "test";
+  private static final CacheSpec CACHE_SPEC = new CacheSpec(Duration.ofSeconds(30), 10);
+
+  @Mock private FolioExecutionContext folioExecutionContext;
+  private final AtomicInteger loadCount = new AtomicInteger();
+
+  @Test
+  void getUser_positive_valueIsCached() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    var cache = compositeUserCache(true);
+    var user = new User().id(randomUUID());
+
+    var first = cache.getUser(user.getId(), id -> load(Optional.of(user)));
+    var second = cache.getUser(user.getId(), id -> load(Optional.of(user)));
+
+    assertThat(first).contains(user);
+    assertThat(second).contains(user);
+    assertThat(loadCount).hasValue(1);
+  }
+
+  @Test
+  void getUser_positive_notFoundUserIsNotCached() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    var cache = compositeUserCache(true);
+    var userId = randomUUID();
+
+    cache.getUser(userId, id -> load(Optional.empty()));
+    var result = cache.getUser(userId, id -> load(Optional.empty()));
+
+    assertThat(result).isEmpty();
+    assertThat(loadCount).hasValue(2);
+  }
+
+  @Test
+  void getPermissions_positive_evictedOnUserEvent() {
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+    var cache = compositeUserCache(true);
+    var userId = randomUUID();
+
+    cache.getPermissions(userId, id -> load(List.of("perm1")));
+    cache.evict(TENANT, userId);
+    var result = cache.getPermissions(userId, id -> load(List.of("perm2")));
+
+    assertThat(result).containsExactly("perm2");
+    assertThat(loadCount).hasValue(2);
+  }
+
+  @Test
+  void getPermissions_positive_cacheDisabled() {
+    var cache = compositeUserCache(false);
+    var userId = randomUUID();
+
+    cache.getPermissions(userId, id -> load(List.of("perm1")));
+    var result = cache.getPermissions(userId, id -> load(List.of("perm1")));
+
+    assertThat(result).containsExactly("perm1");
+    assertThat(loadCount).hasValue(2);
+  }
+
+  private CompositeUserCache compositeUserCache(boolean enabled) {
+    var cacheManager = new ConcurrentMapCacheManager(CompositeUserCache.USER_CACHE,
+      CompositeUserCache.PERMISSIONS_CACHE, CompositeUserCache.SERVICE_POINTS_CACHE);
+    var compositeUserSpec = new CompositeUserCacheSpec(enabled, CACHE_SPEC, CACHE_SPEC, CACHE_SPEC);
+    var cacheProperties = new CacheProperties(null, null, null, null, compositeUserSpec, null);
+    return new CompositeUserCache(cacheManager, cacheProperties, folioExecutionContext);
+  }
+
+  private <T> T load(T value) {
+    loadCount.incrementAndGet();
+    return value;
+  }
+}
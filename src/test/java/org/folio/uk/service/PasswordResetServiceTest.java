@@ -0,0 +1,141 @@
+package org.folio.uk.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
+import static org.folio.uk.domain.dto.ErrorCode.USER_ABSENT_USERNAME;
+import static org.folio.uk.domain.dto.ErrorCode.USER_NOT_FOUND;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.folio.spring.FolioExecutionContext;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.exception.UnprocessableEntityException;
+import org.folio.uk.exception.UnprocessableEntityMessage;
+import org.folio.uk.integration.configuration.ConfigurationService;
+import org.folio.uk.integration.keycloak.PasswordResetTokenService;
+import org.folio.uk.integration.keycloak.model.TokenResponse;
+import org.folio.uk.integration.login.LoginService;
+import org.folio.uk.integration.login.model.PasswordResetActionCreated;
+import org.folio.uk.integration.notify.NotificationService;
+import org.folio.uk.integration.settings.SettingsService;
+import org.folio.uk.integration.users.UsersClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class PasswordResetServiceTest {
+
+  private static final String TENANT = "test";
+  private static final String MODULE_NAME = "USERSBL";
+  private static final User USER = new User().id(UUID.randomUUID()).username("test");
+
+  private final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+  private PasswordResetService passwordResetService;
+
+  @Mock private ConfigurationService configurationService;
+  @Mock private NotificationService notificationService;
+  @Mock private PasswordResetTokenService resetTokenService;
+  @Mock private LoginService loginService;
+  @Mock private UsersClient usersClient;
+  @Mock private FolioExecutionContext folioExecutionContext;
+  @Mock private SettingsService settingsService;
+
+  @BeforeEach
+  void setUp() {
+    executor.setVirtualThreads(true);
+    passwordResetService = new PasswordResetService(configurationService, notificationService, resetTokenService,
+      loginService, usersClient, loginService, folioExecutionContext, settingsService, executor);
+    ReflectionTestUtils.setField(passwordResetService, "resetPasswordUiPathDefault", "/reset-password");
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void sendPasswordRestLink_positive() {
+    when(configurationService.getAllModuleConfigsValidated(eq(MODULE_NAME), any())).thenReturn(Map.of());
+    when(settingsService.getBaseUrl()).thenReturn(Optional.of("http://folio"));
+    when(usersClient.lookupUserById(USER.getId())).thenReturn(Optional.of(USER));
+    when(resetTokenService.generateResetToken(anyString())).thenReturn(tokenResponse());
+    when(loginService.createPasswordResetAction(eq(USER.getId()), anyLong(), anyString()))
+      .thenReturn(passwordResetAction(true));
+    when(folioExecutionContext.getTenantId()).thenReturn(TENANT);
+
+    var link = passwordResetService.sendPasswordRestLink(USER.getId());
+
+    assertThat(link).isEqualTo("http://folio/reset-password/token?tenant=test");
+    verify(notificationService).sendResetLinkNotification(USER, link, "RESET_PASSWORD_EVENT", "24", "hours");
+  }
+
+  @Test
+  void sendPasswordRestLink_negative_userNotFound() {
+    when(configurationService.getAllModuleConfigsValidated(eq(MODULE_NAME), any())).thenReturn(Map.of());
+    when(usersClient.lookupUserById(USER.getId())).thenReturn(Optional.empty());
+
+    assertThatThrownBy(() -> passwordResetService.sendPasswordRestLink(USER.getId()))
+      .isInstanceOf(UnprocessableEntityException.class)
+      .extracting("errors").asInstanceOf(LIST)
+      .containsExactly(
+        new UnprocessableEntityMessage(USER_NOT_FOUND, "User with id '" + USER.getId() + "' not found"));
+
+    verifyNoInteractions(loginService, notificationService);
+  }
+
+  @Test
+  void sendPasswordRestLink_negative_userWithoutUsername() {
+    var user = new User().id(USER.getId());
+    when(configurationService.getAllModuleConfigsValidated(eq(MODULE_NAME), any())).thenReturn(Map.of());
+    when(usersClient.lookupUserById(USER.getId())).thenReturn(Optional.of(user));
+
+    assertThatThrownBy(() -> passwordResetService.sendPasswordRestLink(USER.getId()))
+      .isInstanceOf(UnprocessableEntityException.class)
+      .extracting("errors").asInstanceOf(LIST)
+      .containsExactly(
+        new UnprocessableEntityMessage(USER_ABSENT_USERNAME, "User without username cannot reset password"));
+
+    verifyNoInteractions(loginService, notificationService);
+  }
+
+  @Test
+  void sendPasswordRestLink_negative_configLookupFailed() {
+    var error = new IllegalStateException("Configuration is not available");
+    when(configurationService.getAllModuleConfigsValidated(eq(MODULE_NAME), any())).thenThrow(error);
+    lenient().when(usersClient.lookupUserById(USER.getId())).thenReturn(Optional.of(USER));
+
+    assertThatThrownBy(() -> passwordResetService.sendPasswordRestLink(USER.getId())).isSameAs(error);
+
+    verifyNoInteractions(loginService, notificationService);
+  }
+
+  private static TokenResponse tokenResponse() {
+    var tokenResponse = new TokenResponse();
+    tokenResponse.setAccessToken("token");
+    return tokenResponse;
+  }
+
+  private static PasswordResetActionCreated passwordResetAction(boolean passwordExists) {
+    var action = new PasswordResetActionCreated();
+    action.setPasswordExists(passwordExists);
+    return action;
+  }
+}
@@ -0,0 +1,96 @@
+package org.folio.uk.service;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.folio.test.types.UnitTest;
+import org.folio.uk.configuration.UserBatchProperties;
+import org.folio.uk.domain.dto.User;
+import org.folio.uk.domain.dto.UserBatchItemResult;
+import org.folio.uk.domain.dto.UserBatchItemStatus;
+import org.folio.uk.domain.model.UserCreationResult;
+import org.folio.uk.exception.RequestValidationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+@UnitTest
+@ExtendWith(MockitoExtension.class)
+class UserBatchServiceTest {
+
+  @Mock private UserService userService;
+  private final UserBatchProperties batchProperties = new UserBatchProperties();
+  private final SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+  private UserBatchService batchService;
+
+  @BeforeEach
+  void setUp() {
+    batchProperties.setMaxSize(3);
+    batchProperties.setMaxConcurrency(2);
+    executor.setVirtualThreads(true);
+    batchService = new UserBatchService(userService, batchProperties, executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.close();
+  }
+
+  @Test
+  void createUsers_positive_resultsInRequestOrder() {
+    var created = user("created");
+    var existing = user("existing");
+    var failed = user("failed");
+    when(userService.createUserSafeWithResult(created, null, false))
+      .thenReturn(new UserCreationResult(created, false));
+    when(userService.createUserSafeWithResult(existing, null, false))
+      .thenReturn(new UserCreationResult(existing, true));
+    when(userService.createUserSafeWithResult(failed, null, false)).thenThrow(new IllegalStateException("error"));
+
+    var result = batchService.createUsers(List.of(created, existing, failed), false);
+
+    assertThat(result.getTotalRecords()).isEqualTo(3);
+    assertThat(result.getCreated()).isEqualTo(1);
+    assertThat(result.getExisting()).isEqualTo(1);
+    assertThat(result.getFailed()).isEqualTo(1);
+    assertThat(result.getResults()).containsExactly(
+      new UserBatchItemResult().index(0).userId(created.getId()).username("created")
+        .status(UserBatchItemStatus.CREATED),
+      new UserBatchItemResult().index(1).userId(existing.getId()).username("existing")
+        .status(UserBatchItemStatus.EXISTING),
+      new UserBatchItemResult().index(2).userId(failed.getId()).username("failed")
+        .status(UserBatchItemStatus.FAILED).errorMessage("error"));
+  }
+
+  @Test
+  void createUsersStreaming_positive_keycloakOnly() {
+    var user = user("test");
+    when(userService.createUserSafeWithResult(user, null, true)).thenReturn(new UserCreationResult(user, false));
+
+    try (var results = batchService.createUsersStreaming(List.of(user), true)) {
+      assertThat(results).extracting(UserBatchItemResult::getStatus).containsExactly(UserBatchItemStatus.CREATED);
+    }
+  }
+
+  @Test
+  void createUsers_negative_tooManyUsers() {
+    var users = List.of(user("u1"), user("u2"), user("u3"), user("u4"));
+
+    assertThatThrownBy(() -> batchService.createUsers(users, false))
+      .isInstanceOf(RequestValidationException.class)
+      .hasMessage("Too many users in batch, maximum is 3");
+    verifyNoInteractions(userService);
+  }
+
+  private static User user(String username) {
+    return new User().id(randomUUID()).username(username);
+  }
+}
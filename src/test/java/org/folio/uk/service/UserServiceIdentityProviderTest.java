@@ -11,6 +11,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import jakarta.persistence.EntityNotFoundException;
 import java.util.HashMap;
 import java.util.List;
@@ -24,11 +25,14 @@ import org.folio.uk.domain.dto.User;
 import org.folio.uk.domain.dto.UserTenant;
 import org.folio.uk.domain.dto.UserTenantCollection;
 import org.folio.uk.domain.model.UserType;
+import org.folio.uk.integration.keycloak.KeycloakCallGuard;
 import org.folio.uk.integration.keycloak.KeycloakClient;
 import org.folio.uk.integration.keycloak.KeycloakService;
 import org.folio.uk.integration.keycloak.TokenService;
 import org.folio.uk.integration.keycloak.config.KeycloakFederatedAuthProperties;
+import org.folio.uk.integration.keycloak.config.KeycloakHttpClientProperties;
 import org.folio.uk.integration.keycloak.config.KeycloakLoginClientProperties;
+import org.folio.uk.integration.keycloak.config.KeycloakResilienceProperties;
 import org.folio.uk.integration.keycloak.model.FederatedIdentity;
 import org.folio.uk.integration.users.UserTenantsClient;
 import org.folio.uk.integration.users.UsersClient;
@@ -37,7 +41,6 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -64,11 +67,16 @@ class UserServiceIdentityProviderTest {
   @Mock private FolioModuleMetadata folioModuleMetadata;
   @Mock private KeycloakLoginClientProperties loginClientProperties;
   @Mock private KeycloakFederatedAuthProperties keycloakFederatedAuthProperties;
-  @InjectMocks private KeycloakService keycloakService;
   @Captor private ArgumentCaptor<FederatedIdentity> federatedIdentityCaptor;
+  private KeycloakService keycloakService;
 
   @BeforeEach
   void setUp() {
+    var keycloakCallGuard = new KeycloakCallGuard(new KeycloakResilienceProperties(),
+      new KeycloakHttpClientProperties(), new SimpleMeterRegistry());
+    keycloakService = new KeycloakService(usersClient, keycloakClient, keycloakCallGuard, tokenService,
+      null, userTenantsClient, folioModuleMetadata, folioExecutionContext, loginClientProperties,
+      keycloakFederatedAuthProperties, new SimpleMeterRegistry(), null);
     var headers = new HashMap<String, java.util.Collection<String>>();
     headers.put("x-okapi-tenant", List.of(CENTRAL_TENANT_NAME));
     lenient().when(folioExecutionContext.getOkapiHeaders()).thenReturn(headers);
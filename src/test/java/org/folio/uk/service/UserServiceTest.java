@@ -29,10 +29,15 @@ import java.util.UUID;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.FolioModuleMetadata;
 import org.folio.test.types.UnitTest;
+import org.folio.uk.configuration.CacheProperties;
+import org.folio.uk.domain.dto.ServicePoint;
+import org.folio.uk.domain.dto.ServicePointUser;
 import org.folio.uk.domain.dto.User;
 import org.folio.uk.domain.dto.Users;
+import org.folio.uk.domain.model.UserCreationResult;
 import org.folio.uk.integration.inventory.ServicePointsClient;
 import org.folio.uk.integration.inventory.ServicePointsUserClient;
+import org.folio.uk.integration.inventory.model.ServicePointCollection;
 import org.folio.uk.integration.inventory.model.ServicePointUserCollection;
 import org.folio.uk.integration.keycloak.KeycloakException;
 import org.folio.uk.integration.keycloak.KeycloakService;
@@ -52,6 +57,11 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
@@ -59,7 +69,8 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
 
 @UnitTest
-@SpringBootTest(classes = {UserService.class, RetryTestConfiguration.class}, webEnvironment = NONE)
+@SpringBootTest(classes = {UserService.class, CompositeUserCache.class, RetryTestConfiguration.class,
+  UserServiceTest.TestContextConfiguration.class}, webEnvironment = NONE)
 class UserServiceTest {
 
   private static final String PASSWORD = "dGVzdC1wYXNzd29yZA==";
@@ -80,6 +91,8 @@ class UserServiceTest {
   @MockitoBean private FolioExecutionContext folioExecutionContext;
   @MockitoBean private KeycloakFederatedAuthProperties keycloakFederatedAuthProperties;
   @MockitoBean private CapabilitiesService capabilitiesService;
+  @MockitoBean private CacheManager cacheManager;
+  @MockitoBean private CacheProperties cacheProperties;
 
   @AfterEach
   void tearDown() {
@@ -117,6 +130,23 @@ class UserServiceTest {
     verify(keycloakService).upsertUser(user, PASSWORD);
   }
 
+  @Test
+  void createUserSafeWithResult_positive_userAlreadyExistsInModUsers() {
+    var user = user();
+    var users = new Users().addUsersItem(user).totalRecords(1);
+
+    when(usersClient.createUser(user)).thenThrow(unprocessableContent());
+    when(usersClient.query("username==\"" + USERNAME + "\"", 1)).thenReturn(users);
+
+    var result = userService.createUserSafeWithResult(user, null, false);
+
+    assertThat(result).isEqualTo(new UserCreationResult(user, true));
+    verify(usersClient).createUser(user);
+    verify(usersClient).query("username==\"" + USERNAME + "\"", 1);
+    verify(keycloakService).findUserByUsername(USERNAME, false);
+    verify(keycloakService).upsertUser(user, null);
+  }
+
   @Test
   void createUserSafe_positive_userAlreadyExistsInKeycloak() {
     var user = user();
@@ -192,7 +222,7 @@ class UserServiceTest {
     collectionResponse.setTotalRecords(1);
 
     when(usersClient.lookupUserById(userId)).thenReturn(Optional.of(user));
-    doNothing().when(keycloakService).deleteUser(userId);
+    doNothing().when(keycloakService).deleteUser(userId, USERNAME);
     doNothing().when(usersClient).deleteUser(userId);
     doNothing().when(userRolesClient).deleteUserRoles(userId);
     doNothing().when(userCapabilitySetClient).deleteUserCapabilitySet(userId);
@@ -206,7 +236,7 @@ class UserServiceTest {
 
     verify(usersClient).lookupUserById(userId);
     verify(usersClient).deleteUser(userId);
-    verify(keycloakService).deleteUser(userId);
+    verify(keycloakService).deleteUser(userId, USERNAME);
     verify(capabilitiesService).unassignAll(userId);
   }
 
@@ -218,7 +248,7 @@ class UserServiceTest {
     collectionResponse.setTotalRecords(0);
 
     when(usersClient.lookupUserById(userId)).thenReturn(Optional.of(user));
-    doNothing().when(keycloakService).deleteUser(userId);
+    doNothing().when(keycloakService).deleteUser(userId, USERNAME);
     doNothing().when(usersClient).deleteUser(userId);
     doNothing().when(userRolesClient).deleteUserRoles(userId);
     doNothing().when(userCapabilitySetClient).deleteUserCapabilitySet(userId);
@@ -232,7 +262,7 @@ class UserServiceTest {
 
     verify(usersClient).lookupUserById(userId);
     verify(usersClient).deleteUser(userId);
-    verify(keycloakService).deleteUser(userId);
+    verify(keycloakService).deleteUser(userId, USERNAME);
     verify(userRolesClient, times(0)).deleteUserRoles(userId);
     verify(userCapabilitySetClient, times(0)).deleteUserCapabilitySet(userId);
     verify(userCapabilitiesClient, times(0)).deleteUserCapabilities(userId);
@@ -245,13 +275,13 @@ class UserServiceTest {
     var userId = user.getId();
 
     when(usersClient.lookupUserById(userId)).thenReturn(Optional.empty());
-    doNothing().when(keycloakService).deleteUser(userId);
+    doNothing().when(keycloakService).deleteUser(userId, null);
 
     userService.deleteUser(userId);
 
     verify(usersClient).lookupUserById(userId);
     verify(usersClient, times(0)).deleteUser(userId);
-    verify(keycloakService).deleteUser(userId);
+    verify(keycloakService).deleteUser(userId, null);
   }
 
   @Test
@@ -402,26 +432,58 @@ class UserServiceTest {
       Map.of(PERMISSION_NAME_FIELD, "some.permission"));
   }
 
+  @Test
+  void getUserBySelfReference_positive_servicePoints() {
+    var userId = randomUUID();
+    var servicePoint1 = new ServicePoint().id(randomUUID().toString());
+    var servicePoint2 = new ServicePoint().id(randomUUID().toString());
+    var servicePointUser = new ServicePointUser().userId(userId.toString())
+      .servicePointsIds(List.of(servicePoint1.getId(), servicePoint2.getId(), servicePoint1.getId()));
+    var servicePointUsers = new ServicePointUserCollection();
+    servicePointUsers.setServicePointsUsers(List.of(servicePointUser));
+    servicePointUsers.setTotalRecords(1);
+    var servicePoints = new ServicePointCollection();
+    servicePoints.setServicepoints(List.of(servicePoint1, servicePoint2));
+    servicePoints.setTotalRecords(2);
+    var query = String.format("id==(%s or %s)", servicePoint1.getId(), servicePoint2.getId());
+
+    when(folioExecutionContext.getUserId()).thenReturn(userId);
+    when(folioExecutionContext.getToken()).thenReturn("");
+    when(usersClient.lookupUserById(userId)).thenReturn(Optional.of(new User().id(userId)));
+    when(servicePointsUserClient.getServicePointsUser(userId)).thenReturn(servicePointUsers);
+    when(servicePointsClient.queryServicePoints(query, 2)).thenReturn(servicePoints);
+    when(userPermissionsClient.getPermissionsForUser(eq(userId), any(), any(), any()))
+      .thenReturn(new UserPermissions());
+
+    var result = userService.getUserBySelfReference(List.of(), false, false);
+
+    assertThat(result.getServicePointsUser().getServicePoints()).containsExactly(servicePoint1, servicePoint2);
+    verify(usersClient).lookupUserById(userId);
+    verify(userPermissionsClient).getPermissionsForUser(userId, false, null, true);
+    verify(servicePointsUserClient).getServicePointsUser(userId);
+    verify(servicePointsClient).queryServicePoints(query, 2);
+  }
+
   @Test
   void updateUserOnEvent_positive_deactivateUser() {
     var userId = randomUUID();
-    var newValue = new User().id(userId).active(false);
-    var oldValue = new User().id(userId).active(true);
+    var newValue = new User().id(userId).username(USERNAME).active(false);
+    var oldValue = new User().id(userId).username(USERNAME).active(true);
 
     userService.updateUserOnEvent(newValue, oldValue);
 
-    verify(keycloakService).disableUser(userId);
+    verify(keycloakService).disableUser(userId, USERNAME);
   }
 
   @Test
   void updateUserOnEvent_positive_activateUser() {
     var userId = randomUUID();
-    var newValue = new User().id(userId).active(true);
-    var oldValue = new User().id(userId).active(false);
+    var newValue = new User().id(userId).username(USERNAME).active(true);
+    var oldValue = new User().id(userId).username(USERNAME).active(false);
 
     userService.updateUserOnEvent(newValue, oldValue);
 
-    verify(keycloakService).enableUser(userId);
+    verify(keycloakService).enableUser(userId, USERNAME);
   }
 
   @Test
@@ -516,4 +578,13 @@ class UserServiceTest {
     return HttpClientErrorException.create(
       HttpStatus.UNPROCESSABLE_CONTENT, "Unprocessable Content", HttpHeaders.EMPTY, null, UTF_8);
   }
+
+  @TestConfiguration
+  static class TestContextConfiguration {
+
+    @Bean("virtualTaskExecutor")
+    TaskExecutor virtualTaskExecutor() {
+      return new SyncTaskExecutor();
+    }
+  }
 }
@@ -1,10 +1,16 @@
 package org.folio.uk.service;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.Executor;
 import org.folio.spring.FolioExecutionContext;
 import org.folio.spring.liquibase.FolioSpringLiquibase;
 import org.folio.tenant.domain.dto.TenantAttributes;
@@ -17,7 +23,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.jdbc.core.JdbcTemplate;
 
 @UnitTest
@@ -35,6 +43,8 @@ class UsersTenantServiceTest {
   @Mock private KeycloakRealmManagementService realmService;
 
   @Mock private KafkaAdminService kafkaAdminService;
+  @Spy private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+  @Spy private Executor virtualTaskExecutor = new SyncTaskExecutor();
 
   @InjectMocks private UsersTenantService service;
 
@@ -45,7 +55,34 @@ class UsersTenantServiceTest {
     verify(tokenService).renewToken();
     verify(systemUserService).create();
     verify(realmService).setupRealm();
-    verify(kafkaAdminService).restartEventListeners();
+    verify(kafkaAdminService).rebalanceEventListeners();
+    assertThat(meterRegistry.find(UsersTenantService.TENANT_INIT_METRIC).timers())
+      .extracting(timer -> timer.getId().getTag("phase"))
+      .containsExactlyInAnyOrder("total", "token", "system-user", "realm", "kafka-listeners");
+  }
+
+  @Test
+  void afterTenantUpdate_negative_systemUserCreationFailed() {
+    doThrow(new IllegalStateException("Failure")).when(systemUserService).create();
+
+    assertThatThrownBy(() -> service.afterTenantUpdate(TENANT_ATTRIBUTES))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("Failure");
+
+    verify(realmService).setupRealm();
+    verify(kafkaAdminService, never()).rebalanceEventListeners();
+  }
+
+  @Test
+  void afterTenantUpdate_positive_kafkaListenersAreRebalancedLast() {
+    service.afterTenantUpdate(TENANT_ATTRIBUTES);
+
+    var systemUserOrder = inOrder(systemUserService, kafkaAdminService);
+    systemUserOrder.verify(systemUserService).create();
+    systemUserOrder.verify(kafkaAdminService).rebalanceEventListeners();
+    var realmOrder = inOrder(realmService, kafkaAdminService);
+    realmOrder.verify(realmService).setupRealm();
+    realmOrder.verify(kafkaAdminService).rebalanceEventListeners();
   }
 
   @Test
@@ -0,0 +1,46 @@
+package org.folio.uk.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.folio.test.types.UnitTest;
+import org.junit.jupiter.api.Test;
+
+@UnitTest
+class PagingUtilsTest {
+
+  private static final List<Integer> RECORDS = IntStream.range(0, 7).boxed().toList();
+
+  @Test
+  void testForEachPage() {
+    var pages = new ArrayList<List<Integer>>();
+    var total = PagingUtils.forEachPage(PagingUtilsTest::loadPage, 3, pages::add);
+
+    assertEquals(7, total);
+    assertEquals(List.of(List.of(0, 1, 2), List.of(3, 4, 5), List.of(6)), pages);
+  }
+
+  @Test
+  void testForEachPageLastPageIsFull() {
+    var pages = new ArrayList<List<Integer>>();
+    var total = PagingUtils.forEachPage(PagingUtilsTest::loadPage, 7, pages::add);
+
+    assertEquals(7, total);
+    assertEquals(List.of(RECORDS), pages);
+  }
+
+  @Test
+  void testForEachPageNoRecords() {
+    var pages = new ArrayList<List<Integer>>();
+    var total = PagingUtils.forEachPage((offset, limit) -> null, 3, pages::add);
+
+    assertEquals(0, total);
+    assertEquals(List.of(), pages);
+  }
+
+  private static List<Integer> loadPage(Integer offset, Integer limit) {
+    return RECORDS.subList(Math.min(offset, RECORDS.size()), Math.min(offset + limit, RECORDS.size()));
+  }
+}